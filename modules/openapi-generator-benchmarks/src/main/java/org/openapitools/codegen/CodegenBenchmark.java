@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.benchmarks.SyntheticSpecs;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.NameCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of the schemas, properties and operations of a (flattened) specification into their codegen
+ * counterparts, as done by the generators before rendering the templates.
+ * <p>
+ * In the package of the generator, to flatten the specification as done before a generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodegenBenchmark {
+    @Param({"java", "typescript-fetch", "python", "go"})
+    public String generatorName;
+
+    @Param({"100", "1000", "20000"})
+    public int schemaCount;
+
+    private OpenAPI openAPI;
+    private Map<String, Schema> schemas;
+    private DefaultCodegen codegen;
+
+    @Setup(Level.Trial)
+    public void setUpSpec() {
+        openAPI = SyntheticSpecs.openAPI(schemaCount);
+        new InlineModelResolver().flatten(openAPI);
+        schemas = ModelUtils.getSchemas(openAPI);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpGenerator() {
+        // a new generator per iteration, the generators caching some of the results (e.g. the models of the schemas)
+        codegen = (DefaultCodegen) CodegenConfigLoader.forName(generatorName);
+        codegen.processOpts();
+        codegen.setOpenAPI(openAPI);
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        try (NameCache.Scope ignored = NameCache.forSpec(openAPI).activate()) {
+            schemas.forEach((name, schema) -> blackhole.consume(codegen.fromModel(name, schema)));
+        }
+    }
+
+    @Benchmark
+    public void fromProperty(Blackhole blackhole) {
+        try (NameCache.Scope ignored = NameCache.forSpec(openAPI).activate()) {
+            for (Schema<?> schema : schemas.values()) {
+                if (schema.getProperties() != null) {
+                    schema.getProperties().forEach((name, property) -> blackhole.consume(codegen.fromProperty(name, property)));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole blackhole) {
+        try (NameCache.Scope ignored = NameCache.forSpec(openAPI).activate()) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation : path.getValue().readOperationsMap().entrySet()) {
+                    blackhole.consume(codegen.fromOperation(path.getKey(), operation.getKey().name().toLowerCase(Locale.ROOT),
+                            operation.getValue(), null));
+                }
+            }
+        }
+    }
+}
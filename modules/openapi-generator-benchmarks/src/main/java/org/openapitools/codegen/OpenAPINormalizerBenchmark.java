@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openapitools.codegen.benchmarks.SyntheticSpecs;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code OpenAPINormalizer.normalize} with its default rules or with all of them enabled, on OpenAPI 3.0
+ * specifications and on OpenAPI 3.1 ones, whose schemas are parsed as JSON schemas (see
+ * {@link SyntheticSpecs#openAPI31Document(int)}).
+ * <p>
+ * In the package of the generator, the normalization not being part of its public API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenAPINormalizerBenchmark {
+    @Param({"1000", "20000"})
+    public int schemaCount;
+
+    @Param({"3.0", "3.1"})
+    public String specVersion;
+
+    @Param({"default", "all"})
+    public String rules;
+
+    private String document;
+    private Map<String, String> inputRules;
+    private OpenAPI openAPI;
+
+    @Setup
+    public void setUpDocument() {
+        if ("3.1".equals(specVersion)) {
+            document = SyntheticSpecs.openAPI31Document(schemaCount);
+        }
+        if ("all".equals(rules)) {
+            inputRules = new HashMap<>();
+            for (String rule : new String[]{"REF_AS_PARENT_IN_ALLOF", "REMOVE_ANYOF_ONEOF_AND_KEEP_PROPERTIES_ONLY",
+                    "SIMPLIFY_ANYOF_STRING_AND_ENUM_STRING", "SIMPLIFY_ONEOF_ANYOF", "SIMPLIFY_BOOLEAN_ENUM",
+                    "ADD_UNSIGNED_TO_INTEGER_WITH_INVALID_MAX_VALUE", "REFACTOR_ALLOF_WITH_PROPERTIES_ONLY",
+                    "NORMALIZE_31SPEC", "REMOVE_X_INTERNAL"}) {
+                inputRules.put(rule, "true");
+            }
+            inputRules.put("SET_CONTAINER_TO_NULLABLE", "array|set|map");
+            inputRules.put("SET_PRIMITIVE_TYPES_TO_NULLABLE", "string|integer|number|boolean");
+        } else {
+            inputRules = Collections.emptyMap();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        // the normalization updates the specification in place
+        if (document == null) {
+            openAPI = SyntheticSpecs.openAPI(schemaCount);
+        } else {
+            ParseOptions options = new ParseOptions();
+            options.setResolve(true);
+            openAPI = new OpenAPIParser().readContents(document, null, options).getOpenAPI();
+        }
+    }
+
+    @Benchmark
+    public OpenAPI normalize() {
+        OpenAPINormalizer.createNormalizer(openAPI, inputRules).normalize();
+        return openAPI;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.benchmarks.SyntheticSpecs;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the transformations applied to a specification before its models and operations are processed: the
+ * normalization, the flattening of the inline schemas and the resolution of the aliases.
+ * <p>
+ * In the package of the generator, the transformations not being part of its public API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenAPITransformsBenchmark {
+    @Param({"100", "1000", "20000"})
+    public int schemaCount;
+
+    private OpenAPI openAPI;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        // both transformations update the specification in place
+        openAPI = SyntheticSpecs.openAPI(schemaCount);
+    }
+
+    @Benchmark
+    public OpenAPI normalize() {
+        OpenAPINormalizer.createNormalizer(openAPI, Collections.emptyMap()).normalize();
+        return openAPI;
+    }
+
+    @Benchmark
+    public OpenAPI flatten() {
+        new InlineModelResolver().flatten(openAPI);
+        return openAPI;
+    }
+
+    @Benchmark
+    public void unaliasSchema(Blackhole blackhole) {
+        for (Schema<?> schema : ModelUtils.getSchemas(openAPI).values()) {
+            blackhole.consume(ModelUtils.unaliasSchema(openAPI, schema));
+            if (schema.getProperties() != null) {
+                for (Schema<?> property : schema.getProperties().values()) {
+                    blackhole.consume(ModelUtils.unaliasSchema(openAPI, property));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.CodegenProperty;
+import org.openapitools.codegen.DefaultCodegen;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the detection of the circular references between models (see
+ * {@link DefaultCodegen#setCircularReferences(Map)}), against a baseline searching the dependency graph once per
+ * property, on a randomly (but reproducibly) interlinked graph of models.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CircularReferencesBenchmark {
+    @Param({"1000", "10000"})
+    public int modelCount;
+
+    @Param({"3"})
+    public int propertiesPerModel;
+
+    private final DefaultCodegen codegen = new DefaultCodegen();
+    private Map<String, CodegenModel> models;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        models = new HashMap<>();
+        for (int i = 0; i < modelCount; i++) {
+            List<CodegenProperty> vars = new ArrayList<>();
+            for (int j = 0; j < propertiesPerModel; j++) {
+                CodegenProperty property = new CodegenProperty();
+                property.baseName = "property" + j;
+                // mostly references to the models defined later, so that cycles are long
+                int target = random.nextInt(10) == 0 ? random.nextInt(modelCount) : Math.min(modelCount - 1, i + 1 + random.nextInt(50));
+                if (j % 2 == 0) {
+                    property.dataType = SyntheticSpecs.name(target);
+                } else {
+                    property.isContainer = true;
+                    property.dataType = "List<" + SyntheticSpecs.name(target) + ">";
+                    property.items = new CodegenProperty();
+                    property.items.dataType = SyntheticSpecs.name(target);
+                }
+                vars.add(property);
+            }
+            CodegenModel model = new CodegenModel();
+            model.setAllVars(vars);
+            model.setVars(vars);
+            models.put(SyntheticSpecs.name(i), model);
+        }
+    }
+
+    @Benchmark
+    public Map<String, CodegenModel> stronglyConnectedComponents() {
+        codegen.setCircularReferences(models);
+        return models;
+    }
+
+    @Benchmark
+    public Map<String, CodegenModel> searchPerProperty() {
+        Map<String, List<CodegenProperty>> dependencyMap = new HashMap<>();
+        models.forEach((name, model) -> dependencyMap.put(name, model.getAllVars()));
+        // once for allVars, once for vars
+        for (int pass = 0; pass < 2; pass++) {
+            for (String root : models.keySet()) {
+                for (CodegenProperty prop : dependencyMap.get(root)) {
+                    List<String> unvisited = new ArrayList<>(Collections.singletonList(dependencyName(prop)));
+                    prop.isCircularReference = isCircularReference(root, new HashSet<>(), unvisited, dependencyMap);
+                }
+            }
+        }
+        return models;
+    }
+
+    private static boolean isCircularReference(String root, Set<String> visited, List<String> unvisited,
+                                               Map<String, List<CodegenProperty>> dependencyMap) {
+        for (int i = 0; i < unvisited.size(); i++) {
+            String next = unvisited.get(i);
+            if (!visited.contains(next)) {
+                if (next.equals(root)) {
+                    return true;
+                }
+                dependencyMap.getOrDefault(next, Collections.emptyList())
+                        .forEach(prop -> unvisited.add(dependencyName(prop)));
+                visited.add(next);
+            }
+        }
+        return false;
+    }
+
+    private static String dependencyName(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.examples.ExampleCache;
+import org.openapitools.codegen.examples.ExampleGenerator;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the examples of operations sharing the same response model (the root of a group of
+ * {@value SyntheticSpecs#GROUP_SIZE} schemas, see {@link SyntheticSpecs}), in JSON and XML, each operation having its
+ * own {@link ExampleGenerator} as in {@code DefaultCodegen.fromOperation}: serialized for each operation, or once for
+ * all of them (see {@link ExampleCache}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExampleGeneratorBenchmark {
+    @Param({"100", "1000"})
+    public int operationCount;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private OpenAPI openAPI;
+    private Map<String, Schema> schemas;
+    private final Set<String> mediaTypes = new TreeSet<>(Arrays.asList("application/json", "application/xml"));
+    private final Schema<?> responseSchema = new ArraySchema().items(new Schema<>().$ref("#/components/schemas/Model0"));
+
+    @Setup
+    public void setUp() {
+        openAPI = SyntheticSpecs.openAPI(SyntheticSpecs.GROUP_SIZE);
+        schemas = ModelUtils.getSchemas(openAPI);
+        // as done before the conversion of the operations
+        schemas.forEach((name, schema) -> schema.setName(name));
+    }
+
+    @Benchmark
+    public void examples(Blackhole blackhole) {
+        ExampleCache cache = cached ? new ExampleCache() : null;
+        for (int i = 0; i < operationCount; i++) {
+            ExampleGenerator generator = new ExampleGenerator(schemas, openAPI, cache);
+            blackhole.consume(generator.generateFromResponseSchema("200", responseSchema, mediaTypes));
+            blackhole.consume(generator.generate(null, Arrays.asList("application/json", "application/xml"), "Model0"));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete generations (parsing, processing, rendering and writing) of a specification, each into a new
+ * output directory.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class GenerateBenchmark {
+    @Param({"java", "typescript-fetch", "python", "go"})
+    public String generatorName;
+
+    @Param({"100", "1000", "20000"})
+    public int schemaCount;
+
+    private Path inputSpec;
+    private Path outputDir;
+
+    @Setup(Level.Trial)
+    public void writeSpec() throws IOException {
+        inputSpec = Files.createTempFile("benchmark", ".json");
+        Files.write(inputSpec, Json.pretty(SyntheticSpecs.openAPI(schemaCount)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSpec() throws IOException {
+        Files.deleteIfExists(inputSpec);
+    }
+
+    @Setup(Level.Invocation)
+    public void createOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("benchmark");
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteOutputDir() throws IOException {
+        FileUtils.deleteDirectory(outputDir.toFile());
+        GlobalSettings.reset();
+    }
+
+    @Benchmark
+    public List<File> generate() {
+        ClientOptInput input = new CodegenConfigurator()
+                .setGeneratorName(generatorName)
+                .setInputSpec(inputSpec.toString())
+                .setOutputDir(outputDir.toString())
+                .toClientOptInput();
+        return new DefaultGenerator().opts(input).generate();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.SchemaReferenceIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the queries on the schemas referenced by a specification, as done before the generation of the models.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelUtilsBenchmark {
+    @Param({"1000", "20000"})
+    public int schemaCount;
+
+    private OpenAPI openAPI;
+
+    @Setup
+    public void setUp() {
+        openAPI = SyntheticSpecs.openAPI(schemaCount);
+    }
+
+    @Benchmark
+    public List<String> getAllUsedSchemas() {
+        return ModelUtils.getAllUsedSchemas(openAPI);
+    }
+
+    @Benchmark
+    public List<String> getUnusedSchemas() {
+        return ModelUtils.getUnusedSchemas(openAPI);
+    }
+
+    @Benchmark
+    public List<String> getSchemasUsedOnlyInFormParam() {
+        return ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
+    }
+
+    @Benchmark
+    public int schemaReferenceIndex() {
+        // all queries answered from a single traversal
+        SchemaReferenceIndex index = new SchemaReferenceIndex(openAPI);
+        return index.getAllUsedSchemas().size() + index.getUnusedSchemas().size()
+                + index.getSchemasUsedOnlyInFormParam().size() + index.getReferrers(SyntheticSpecs.name(1)).size();
+    }
+}
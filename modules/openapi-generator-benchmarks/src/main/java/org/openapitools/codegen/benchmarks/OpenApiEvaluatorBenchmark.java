@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.validation.ValidationResult;
+import org.openapitools.codegen.validations.oas.OpenApiEvaluator;
+import org.openapitools.codegen.validations.oas.RuleConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of a specification with all the recommendations enabled, as done by the validate command,
+ * evaluating the rules on the calling thread or on several workers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenApiEvaluatorBenchmark {
+    @Param({"1000", "20000"})
+    public int schemaCount;
+
+    @Param({"1", "4"})
+    public int workers;
+
+    private OpenAPI openAPI;
+    private OpenApiEvaluator evaluator;
+
+    @Setup
+    public void setUp() {
+        openAPI = SyntheticSpecs.openAPI(schemaCount);
+        RuleConfiguration ruleConfiguration = new RuleConfiguration();
+        ruleConfiguration.setEnableRecommendations(true);
+        evaluator = new OpenApiEvaluator(ruleConfiguration);
+        evaluator.setWorkers(workers);
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        return evaluator.validate(openAPI);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.SchemaFingerprint;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the signatures used by the {@code InlineModelResolver} to reuse the inline schemas with the same structure:
+ * the canonical JSON documents of the schemas against their fingerprints (see {@link SchemaFingerprint}). Each
+ * schema of the specification and each of its inline object properties is looked up, then registered when not found
+ * (the schemas with the same fingerprint being compared).
+ * Run with {@code -prof gc} to compare the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaSignatureBenchmark {
+    @Param({"1000", "20000"})
+    public int schemaCount;
+
+    private final ObjectMapper structureMapper = Json.mapper().copy()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+    private final List<Schema<?>> schemas = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        for (Schema<?> schema : ModelUtils.getSchemas(SyntheticSpecs.openAPI(schemaCount)).values()) {
+            schemas.add(schema);
+            if (schema.getProperties() != null) {
+                for (Schema<?> property : schema.getProperties().values()) {
+                    if (property.getProperties() != null) {
+                        schemas.add(property);
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> json() throws IOException {
+        Map<String, String> signatures = new HashMap<>();
+        for (int i = 0; i < schemas.size(); i++) {
+            String json = structureMapper.writeValueAsString(schemas.get(i));
+            if (!signatures.containsKey(json)) {
+                signatures.put(json, "Schema" + i);
+            }
+        }
+        return signatures;
+    }
+
+    @Benchmark
+    public Map<SchemaFingerprint, Integer> fingerprint() throws IOException {
+        Map<SchemaFingerprint, Integer> signatures = new HashMap<>();
+        for (int i = 0; i < schemas.size(); i++) {
+            SchemaFingerprint fingerprint = SchemaFingerprint.of(schemas.get(i));
+            Integer existing = signatures.get(fingerprint);
+            // the schemas with the same fingerprint are compared, as the resolver does
+            if (existing == null || !schemas.get(existing).equals(schemas.get(i))) {
+                signatures.put(fingerprint, i);
+            }
+        }
+        return signatures;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.*;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.io.UncheckedIOException;
+import java.util.Collections;
+
+/**
+ * Builds synthetic specifications of an arbitrary size, shaped like the large real world ones.
+ * <p>
+ * The schemas are split in groups of {@value #GROUP_SIZE}. Each group is a tree of objects, whose root is referenced
+ * from an operation, the other schemas being referenced through properties and array items. The second schema of a
+ * group is a base schema with a discriminator, extended (allOf) by a few schemas of the group. The last schema of a
+ * full group is an alias of a string, referenced by the other schemas of the group, and one schema out of eight has an
+ * inline object property. One group out of ten isn't referenced from any operation, one out of five is only used in
+ * form requests.
+ */
+public final class SyntheticSpecs {
+    static final int GROUP_SIZE = 64;
+
+    private SyntheticSpecs() {
+    }
+
+    /**
+     * @param schemaCount the number of schemas in the 'components/schemas' section
+     * @return a new specification
+     */
+    public static OpenAPI openAPI(int schemaCount) {
+        Components components = new Components();
+        Paths paths = new Paths();
+        for (int offset = 0; offset < schemaCount; offset += GROUP_SIZE) {
+            int end = Math.min(offset + GROUP_SIZE, schemaCount);
+            for (int i = offset; i < end; i++) {
+                components.addSchemas(name(i), schema(i, offset, end));
+            }
+
+            int group = offset / GROUP_SIZE;
+            if (group % 10 != 9) {
+                paths.addPathItem("/group" + group, pathItem(group, name(offset)));
+            }
+        }
+        return new OpenAPI()
+                .info(new Info().title("Synthetic").version("1.0.0"))
+                .components(components)
+                .paths(paths);
+    }
+
+    /**
+     * @param schemaCount the number of schemas in the 'components/schemas' section
+     * @return the specification built by {@link #openAPI(int)}, as an OpenAPI 3.1 document (JSON) whose string
+     * properties are nullable (their types being 'string' and 'null')
+     */
+    public static String openAPI31Document(int schemaCount) {
+        OpenAPI openAPI = openAPI(schemaCount).openapi("3.1.0");
+        try {
+            return Json.mapper().writeValueAsString(openAPI)
+                    .replace("{\"type\":\"string\"}", "{\"type\":[\"string\",\"null\"]}");
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String name(int index) {
+        return "Model" + index;
+    }
+
+    private static Schema<?> schema(int index, int offset, int end) {
+        int local = index - offset;
+        boolean fullGroup = end - offset == GROUP_SIZE;
+        if (fullGroup && local == GROUP_SIZE - 1) {
+            return new StringSchema().format("uuid").maxLength(36);
+        }
+        Schema<?> schema = new ObjectSchema()
+                .addProperty("id", new IntegerSchema().format("int64"))
+                .addProperty("name", new StringSchema())
+                .addProperty("createdAt", new DateTimeSchema());
+        if (fullGroup) {
+            schema.addProperty("code", ref(end - 1));
+        }
+        if (local % 8 == 5) {
+            schema.addProperty("metadata", new ObjectSchema()
+                    .addProperty("key", new StringSchema())
+                    .addProperty("value", new StringSchema()));
+        }
+        if (offset + 2 * local + 1 < end) {
+            schema.addProperty("first", ref(offset + 2 * local + 1));
+        }
+        if (offset + 2 * local + 2 < end) {
+            schema.addProperty("items", new ArraySchema().items(ref(offset + 2 * local + 2)));
+        }
+        if (local == 1) {
+            return schema.addProperty("kind", new StringSchema())
+                    .discriminator(new Discriminator().propertyName("kind"));
+        }
+        if (local >= 3 && local < 7 && offset + 1 < end) {
+            return new ComposedSchema().addAllOfItem(ref(offset + 1)).addAllOfItem(schema);
+        }
+        return schema;
+    }
+
+    private static PathItem pathItem(int group, String root) {
+        boolean form = group % 5 == 4;
+        Operation operation = new Operation()
+                .operationId("operation" + group)
+                .addParametersItem(new QueryParameter().name("limit").schema(new IntegerSchema().format("int32")))
+                .requestBody(new RequestBody().content(new Content().addMediaType(
+                        form ? "application/x-www-form-urlencoded" : "application/json",
+                        new MediaType().schema(new Schema<>().$ref(root)))))
+                .responses(new ApiResponses().addApiResponse("200", form
+                        ? new ApiResponse().description("OK")
+                        : new ApiResponse().description("OK").content(new Content().addMediaType("application/json",
+                        new MediaType().schema(new ArraySchema().items(new Schema<>().$ref(root))))))
+                );
+        operation.setTags(Collections.singletonList("group" + group % 100));
+        return new PathItem().post(operation);
+    }
+
+    private static Schema<?> ref(int index) {
+        return new Schema<>().$ref("#/components/schemas/" + name(index));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.benchmarks;
+
+import org.openapitools.codegen.model.LayeredMap;
+import org.openapitools.codegen.model.ModelsMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the template data of the models, each one holding a copy of the additional properties against
+ * each one reading through a shared copy of them (see {@link LayeredMap}), and looking up some of their entries as the
+ * templates do. Run with {@code -prof gc} to compare the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateDataBenchmark {
+    @Param({"100", "2000"})
+    public int additionalPropertyCount;
+
+    @Param({"1000", "20000"})
+    public int modelCount;
+
+    private Map<String, Object> additionalProperties;
+    // the keys looked up in each model
+    private final List<String> keys = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        additionalProperties = new HashMap<>();
+        for (int i = 0; i < additionalPropertyCount; i++) {
+            additionalProperties.put("property" + i, i % 2 == 0 ? "value" + i : Boolean.TRUE);
+        }
+        for (int i = 0; i < 20; i++) {
+            keys.add("property" + i * 7 % additionalPropertyCount);
+        }
+        keys.add("classname");
+        keys.add("missing");
+    }
+
+    @Benchmark
+    public List<ModelsMap> copy() {
+        List<ModelsMap> models = new ArrayList<>(modelCount);
+        for (int i = 0; i < modelCount; i++) {
+            ModelsMap model = model(i);
+            model.putAll(additionalProperties);
+            models.add(lookUp(model));
+        }
+        return models;
+    }
+
+    @Benchmark
+    public List<ModelsMap> layer() {
+        List<ModelsMap> models = new ArrayList<>(modelCount);
+        Map<String, Object> shared = null;
+        for (int i = 0; i < modelCount; i++) {
+            ModelsMap model = model(i);
+            // as DefaultGenerator, checking that the additional properties weren't updated since the last model
+            shared = LayeredMap.sharedCopy(shared, additionalProperties);
+            model.putAllShared(shared);
+            models.add(lookUp(model));
+        }
+        return models;
+    }
+
+    private static ModelsMap model(int i) {
+        ModelsMap model = new ModelsMap();
+        model.put("classname", SyntheticSpecs.name(i));
+        model.setModels(new ArrayList<>());
+        model.setImports(new ArrayList<>());
+        return model;
+    }
+
+    private ModelsMap lookUp(ModelsMap model) {
+        for (String key : keys) {
+            if (model.containsKey(key)) {
+                model.get(key);
+            }
+        }
+        return model;
+    }
+}
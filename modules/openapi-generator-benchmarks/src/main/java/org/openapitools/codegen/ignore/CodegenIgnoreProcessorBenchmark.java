@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the evaluation of the files of a generated client against an ignore file: each rule evaluated in turn
+ * against the rules compiled once with their decisions memoized per directory (see
+ * {@code org.openapitools.codegen.ignore.rules.RuleMatcher}). A new processor is loaded for each run, as for each
+ * generation.
+ * <p>
+ * In the package of the processor, the evaluation of each rule not being part of its public API.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodegenIgnoreProcessorBenchmark {
+    @Param({"1000", "10000"})
+    public int fileCount;
+
+    @Param({"20", "200"})
+    public int ruleCount;
+
+    private File directory;
+    private final List<File> files = new ArrayList<>();
+    private final List<String> relativePaths = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("ignore").toFile();
+        directory.deleteOnExit();
+        File ignoreFile = new File(directory, ".openapi-generator-ignore");
+        ignoreFile.deleteOnExit();
+        Files.write(ignoreFile.toPath(), rules(ruleCount), StandardCharsets.UTF_8);
+
+        String[] folders = {"src/main/java/org/openapitools/client/model/", "src/main/java/org/openapitools/client/api/",
+                "src/test/java/org/openapitools/client/model/", "docs/"};
+        String[] extensions = {".java", ".java", ".java", ".md"};
+        for (int i = 0; i < fileCount; i++) {
+            String relativePath = folders[i % folders.length] + "Model" + (i / folders.length) + extensions[i % folders.length];
+            relativePaths.add(relativePath);
+            files.add(new File(directory, relativePath));
+        }
+    }
+
+    private static List<String> rules(int ruleCount) {
+        List<String> rules = new ArrayList<>();
+        rules.add("# generated rules");
+        rules.add("**/*.bak");
+        rules.add("docs/*.md");
+        rules.add("!docs/Model1.md");
+        rules.add("src/test/");
+        rules.add("!src/test/java/org/openapitools/client/model/");
+        rules.add("/build.sh");
+        for (int i = 0; rules.size() < ruleCount; i++) {
+            switch (i % 4) {
+                case 0:
+                    rules.add(String.format(Locale.ROOT, "src/main/java/org/openapitools/client/model/Model%d.java", i));
+                    break;
+                case 1:
+                    rules.add(String.format(Locale.ROOT, "**/api/Model%d*.java", i));
+                    break;
+                case 2:
+                    rules.add(String.format(Locale.ROOT, "generated%d/", i));
+                    break;
+                default:
+                    rules.add(String.format(Locale.ROOT, "!src/main/java/org/openapitools/client/model/Model%d.java", i - 3));
+                    break;
+            }
+        }
+        return rules;
+    }
+
+    @Benchmark
+    public int eachRule() {
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(directory.getPath());
+        int allowed = 0;
+        for (String relativePath : relativePaths) {
+            if (processor.evaluateRules(relativePath)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Benchmark
+    public int compiled() {
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(directory.getPath());
+        int allowed = 0;
+        for (File file : files) {
+            if (processor.allowsFile(file)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+}
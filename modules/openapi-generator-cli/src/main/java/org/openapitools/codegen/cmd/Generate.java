@@ -331,6 +331,28 @@ public class Generate extends OpenApiGeneratorCommand {
             description = "Only write output files that have changed.")
     private Boolean minimalUpdate;
 
+    @Option(name = {"--render-workers"},
+            title = "render workers",
+            description = "Number of threads used to render the model and api files (default: 1, i.e. sequentially).")
+    private Integer renderWorkers;
+
+    @Option(name = {"--process-workers"},
+            title = "process workers",
+            description = "Number of threads used to convert the schemas to models and the operations, for the generators supporting it (default: 1, i.e. sequentially).")
+    private Integer processWorkers;
+
+    @Option(name = {"--incremental-generation"},
+            title = "incremental generation",
+            description = "Only render the models and apis whose inputs have changed since the previous generation, "
+                    + "based on the fingerprints stored in .openapi-generator/FINGERPRINTS of the output directory.")
+    private Boolean incrementalGeneration;
+
+    @Option(name = {"--report-metrics"},
+            title = "report metrics",
+            description = "Write the time spent in each phase of the generation, the files rendered per template and "
+                    + "the cache hit rates to .openapi-generator/METRICS.json of the output directory.")
+    private Boolean reportMetrics;
+
     @Override
     public void execute() {
         if (StringUtils.isNotBlank(inputSpecRootDirectory)) {
@@ -498,6 +520,22 @@ public class Generate extends OpenApiGeneratorCommand {
             configurator.setEnableMinimalUpdate(minimalUpdate);
         }
 
+        if (renderWorkers != null) {
+            configurator.setRenderWorkers(renderWorkers);
+        }
+
+        if (processWorkers != null) {
+            configurator.setProcessWorkers(processWorkers);
+        }
+
+        if (incrementalGeneration != null) {
+            configurator.setIncrementalGeneration(incrementalGeneration);
+        }
+
+        if (reportMetrics != null) {
+            configurator.setReportMetrics(reportMetrics);
+        }
+
         if (strictSpecBehavior != null) {
             configurator.setStrictSpecBehavior(strictSpecBehavior);
         }
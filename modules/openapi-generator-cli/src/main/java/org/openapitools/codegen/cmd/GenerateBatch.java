@@ -34,6 +34,7 @@ import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.DefaultGenerator;
 import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.config.ParsedSpecCache;
 import org.openapitools.codegen.config.DynamicSettings;
 import org.openapitools.codegen.config.GlobalSettings;
 import org.slf4j.Logger;
@@ -138,6 +139,9 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         // That is, this allows us to create a wrapper config for generatorName, inputSpec, outputDir, etc.
         SimpleModule module = getCustomDeserializationModel(includesDir);
         List<CodegenConfigurator> configurators = configs.stream().map(config -> CodegenConfigurator.fromFile(config, module)).collect(Collectors.toList());
+        // the configs pointing at the same inputSpec parse it once, and normalize it once per normalization settings
+        ParsedSpecCache specCache = ParsedSpecCache.getDefault();
+        configurators.forEach(configurator -> configurator.setSpecCache(specCache));
 
         // it doesn't make sense to interleave INFO level logs, so limit these to only ERROR.
         LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
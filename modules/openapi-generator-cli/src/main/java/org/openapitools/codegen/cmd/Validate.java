@@ -29,9 +29,11 @@ import org.openapitools.codegen.auth.AuthParser;
 import org.openapitools.codegen.validation.ValidationResult;
 import org.openapitools.codegen.validations.oas.OpenApiEvaluator;
 import org.openapitools.codegen.validations.oas.RuleConfiguration;
+import org.openapitools.codegen.validations.oas.RuleTimings;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 
 @SuppressWarnings({"unused", "java:S106"})
@@ -52,6 +54,18 @@ public class Validate extends OpenApiGeneratorCommand {
                     + "Pass in a URL-encoded string of name:header with a comma separating multiple values")
     private String auth;
 
+    @Option(name = {"--workers"}, title = "workers",
+            description = "Number of threads used to evaluate the rules (default: 1, i.e. sequentially).")
+    private Integer workers;
+
+    @Option(name = {"--fail-fast"}, title = "fail fast",
+            description = "Stop at the first error, skipping the rules when the spec could not be parsed without errors.")
+    private Boolean failFast;
+
+    @Option(name = {"--report-timings"}, title = "report timings",
+            description = "Print the time spent in each rule.")
+    private Boolean reportTimings;
+
     @Override
     public void execute() {
         System.out.println("Validating spec (" + spec + ")");
@@ -72,12 +86,26 @@ public class Validate extends OpenApiGeneratorCommand {
         else ruleConfiguration.setEnableRecommendations(false);
 
         OpenApiEvaluator evaluator = new OpenApiEvaluator(ruleConfiguration);
-        ValidationResult validationResult = evaluator.validate(specification);
+        if (workers != null) evaluator.setWorkers(workers);
+        evaluator.setFailFast(Boolean.TRUE.equals(failFast));
+
+        if (!Boolean.TRUE.equals(failFast) || errors.isEmpty()) {
+            ValidationResult validationResult = evaluator.validate(specification);
 
-        // TODO: We could also provide description here along with getMessage. getMessage is either a "generic" message or specific (e.g. Model 'Cat' has issues).
-        //       This would require that we parse the messageList coming from swagger-parser into a better structure.
-        validationResult.getWarnings().forEach(invalid -> warnings.add(invalid.getMessage()));
-        validationResult.getErrors().forEach(invalid -> errors.add(invalid.getMessage()));
+            // TODO: We could also provide description here along with getMessage. getMessage is either a "generic" message or specific (e.g. Model 'Cat' has issues).
+            //       This would require that we parse the messageList coming from swagger-parser into a better structure.
+            validationResult.getWarnings().forEach(invalid -> warnings.add(invalid.getMessage()));
+            validationResult.getErrors().forEach(invalid -> errors.add(invalid.getMessage()));
+        }
+
+        List<RuleTimings.Timing> timings = evaluator.getRuleTimings().getTimings();
+        if (Boolean.TRUE.equals(reportTimings) && !timings.isEmpty()) {
+            sb.append("Rule timings:").append(System.lineSeparator());
+            timings.forEach(timing ->
+                    sb.append(String.format(Locale.ROOT, "\t- %10.3f ms %8d x  %s", timing.getNanos() / 1e6, timing.getEvaluations(), timing.getRule()))
+                            .append(System.lineSeparator())
+            );
+        }
 
         if (!errors.isEmpty()) {
             sb.append("Errors:").append(System.lineSeparator());
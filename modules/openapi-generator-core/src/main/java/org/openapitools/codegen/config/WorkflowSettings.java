@@ -46,6 +46,10 @@ public class WorkflowSettings {
     public static final boolean DEFAULT_ENABLE_MINIMAL_UPDATE = false;
     public static final boolean DEFAULT_STRICT_SPEC_BEHAVIOR = true;
     public static final boolean DEFAULT_GENERATE_ALIAS_AS_MODEL = false;
+    public static final int DEFAULT_RENDER_WORKERS = 1;
+    public static final int DEFAULT_PROCESS_WORKERS = 1;
+    public static final boolean DEFAULT_INCREMENTAL_GENERATION = false;
+    public static final boolean DEFAULT_REPORT_METRICS = false;
     public static final String DEFAULT_TEMPLATING_ENGINE_NAME = null; // this is set by the generator
     public static final Map<String, String> DEFAULT_GLOBAL_PROPERTIES = Collections.unmodifiableMap(new HashMap<>());
 
@@ -61,6 +65,10 @@ public class WorkflowSettings {
     private boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
     private boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
     private boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
+    private int renderWorkers = DEFAULT_RENDER_WORKERS;
+    private int processWorkers = DEFAULT_PROCESS_WORKERS;
+    private boolean incrementalGeneration = DEFAULT_INCREMENTAL_GENERATION;
+    private boolean reportMetrics = DEFAULT_REPORT_METRICS;
     private String templateDir;
     private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
     private String ignoreFileOverride;
@@ -83,6 +91,10 @@ public class WorkflowSettings {
         this.ignoreFileOverride = builder.ignoreFileOverride;
         this.globalProperties = Collections.unmodifiableMap(builder.globalProperties);
         this.generateAliasAsModel = builder.generateAliasAsModel;
+        this.renderWorkers = builder.renderWorkers;
+        this.processWorkers = builder.processWorkers;
+        this.incrementalGeneration = builder.incrementalGeneration;
+        this.reportMetrics = builder.reportMetrics;
     }
 
     /**
@@ -111,6 +123,10 @@ public class WorkflowSettings {
         builder.enableMinimalUpdate = copy.isEnableMinimalUpdate();
         builder.generateAliasAsModel = copy.isGenerateAliasAsModel();
         builder.strictSpecBehavior = copy.isStrictSpecBehavior();
+        builder.renderWorkers = copy.getRenderWorkers();
+        builder.processWorkers = copy.getProcessWorkers();
+        builder.incrementalGeneration = copy.isIncrementalGeneration();
+        builder.reportMetrics = copy.isReportMetrics();
         builder.templatingEngineName = copy.getTemplatingEngineName();
         builder.ignoreFileOverride = copy.getIgnoreFileOverride();
 
@@ -246,6 +262,48 @@ public class WorkflowSettings {
         return strictSpecBehavior;
     }
 
+    /**
+     * Gets the number of workers used to render and write the model and API files. With more than one worker, the files
+     * of distinct models (or API tags) are rendered concurrently; the list of generated files remains in the same order.
+     *
+     * @return the number of render workers, <code>1</code> (the default) to render all files on the calling thread.
+     */
+    public int getRenderWorkers() {
+        return renderWorkers;
+    }
+
+    /**
+     * Gets the number of workers used to convert the schemas to models and the operations. With more than one worker,
+     * the models and the operations are converted concurrently by the generators supporting it, then post-processed in
+     * the same order as with a single worker.
+     *
+     * @return the number of process workers, <code>1</code> (the default) to convert them all on the calling thread.
+     */
+    public int getProcessWorkers() {
+        return processWorkers;
+    }
+
+    /**
+     * Indicates whether only the models and APIs whose inputs changed since the previous generation are rendered. The
+     * fingerprints of the inputs are persisted in the .openapi-generator directory of the output directory, the files
+     * of the unchanged models and APIs are left untouched.
+     *
+     * @return <code>true</code> if incremental generation is enabled, <code>false</code> (the default) otherwise.
+     */
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    /**
+     * Indicates whether a report of the time spent in each phase of the generation, the files rendered per template and
+     * the cache hit rates is written as JSON to the .openapi-generator directory of the output directory.
+     *
+     * @return <code>true</code> if the metrics report is written, <code>false</code> (the default) otherwise.
+     */
+    public boolean isReportMetrics() {
+        return reportMetrics;
+    }
+
     /**
      * Gets the directory holding templates used in generation. This option allows users to extend or modify built-in templates, or to write their own.
      *
@@ -309,6 +367,10 @@ public class WorkflowSettings {
         private Boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
         private Boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
         private Boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
+        private Integer renderWorkers = DEFAULT_RENDER_WORKERS;
+        private Integer processWorkers = DEFAULT_PROCESS_WORKERS;
+        private Boolean incrementalGeneration = DEFAULT_INCREMENTAL_GENERATION;
+        private Boolean reportMetrics = DEFAULT_REPORT_METRICS;
         private String templateDir;
         private String templatingEngineName = DEFAULT_TEMPLATING_ENGINE_NAME;
         private String ignoreFileOverride;
@@ -459,6 +521,50 @@ public class WorkflowSettings {
             return this;
         }
 
+        /**
+         * Sets the {@code renderWorkers} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param renderWorkers the {@code renderWorkers} to set, values lower than <code>1</code> fall back to the default
+         * @return a reference to this Builder
+         */
+        public Builder withRenderWorkers(Integer renderWorkers) {
+            this.renderWorkers = renderWorkers != null && renderWorkers > 0 ? renderWorkers : Integer.valueOf(DEFAULT_RENDER_WORKERS);
+            return this;
+        }
+
+        /**
+         * Sets the {@code processWorkers} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param processWorkers the {@code processWorkers} to set, values lower than <code>1</code> fall back to the default
+         * @return a reference to this Builder
+         */
+        public Builder withProcessWorkers(Integer processWorkers) {
+            this.processWorkers = processWorkers != null && processWorkers > 0 ? processWorkers : Integer.valueOf(DEFAULT_PROCESS_WORKERS);
+            return this;
+        }
+
+        /**
+         * Sets the {@code incrementalGeneration} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param incrementalGeneration the {@code incrementalGeneration} to set
+         * @return a reference to this Builder
+         */
+        public Builder withIncrementalGeneration(Boolean incrementalGeneration) {
+            this.incrementalGeneration = incrementalGeneration != null ? incrementalGeneration : Boolean.valueOf(DEFAULT_INCREMENTAL_GENERATION);
+            return this;
+        }
+
+        /**
+         * Sets the {@code reportMetrics} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param reportMetrics the {@code reportMetrics} to set
+         * @return a reference to this Builder
+         */
+        public Builder withReportMetrics(Boolean reportMetrics) {
+            this.reportMetrics = reportMetrics != null ? reportMetrics : Boolean.valueOf(DEFAULT_REPORT_METRICS);
+            return this;
+        }
+
         /**
          * Sets the {@code templateDir} and returns a reference to this Builder so that the methods can be chained together.
          *
@@ -586,6 +692,10 @@ public class WorkflowSettings {
                 ", ignoreFileOverride='" + ignoreFileOverride + '\'' +
                 ", globalProperties=" + globalProperties +
                 ", generateAliasAsModel=" + generateAliasAsModel +
+                ", renderWorkers=" + renderWorkers +
+                ", processWorkers=" + processWorkers +
+                ", incrementalGeneration=" + incrementalGeneration +
+                ", reportMetrics=" + reportMetrics +
                 '}';
     }
 
@@ -604,6 +714,10 @@ public class WorkflowSettings {
                 isEnableMinimalUpdate() == that.isEnableMinimalUpdate() &&
                 isStrictSpecBehavior() == that.isStrictSpecBehavior() &&
                 isGenerateAliasAsModel() == that.isGenerateAliasAsModel() &&
+                getRenderWorkers() == that.getRenderWorkers() &&
+                getProcessWorkers() == that.getProcessWorkers() &&
+                isIncrementalGeneration() == that.isIncrementalGeneration() &&
+                isReportMetrics() == that.isReportMetrics() &&
                 Objects.equals(getInputSpec(), that.getInputSpec()) &&
                 Objects.equals(getOutputDir(), that.getOutputDir()) &&
                 Objects.equals(getTemplateDir(), that.getTemplateDir()) &&
@@ -627,6 +741,10 @@ public class WorkflowSettings {
                 isEnablePostProcessFile(),
                 isEnableMinimalUpdate(),
                 isStrictSpecBehavior(),
+                getRenderWorkers(),
+                getProcessWorkers(),
+                isIncrementalGeneration(),
+                isReportMetrics(),
                 getTemplateDir(),
                 getTemplatingEngineName(),
                 getIgnoreFileOverride(),
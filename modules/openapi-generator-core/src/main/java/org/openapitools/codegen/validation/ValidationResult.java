@@ -18,14 +18,20 @@ package org.openapitools.codegen.validation;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Encapsulates details about the result of a validation test.
  */
 public final class ValidationResult {
+    private static final int INDEX_THRESHOLD = 16;
+
     private final List<Validated> validations;
+    // guarded by validations, the validations once there are many of them, to skip the ones already added in constant time
+    private Set<Validated> index;
 
     /**
      * Constructs a new {@link ValidationResult} instance, backed by the provided validations (useful for testing).
@@ -95,8 +101,11 @@ public final class ValidationResult {
     public void addResult(Validated validated) {
         synchronized (validations) {
             ValidationRule rule = validated.getRule();
-            if (rule != null && !rule.equals(ValidationRule.empty()) && !validations.contains(validated)) {
+            if (rule != null && !rule.equals(ValidationRule.empty()) && !contains(validated)) {
                 validations.add(validated);
+                if (index != null) {
+                    index.add(validated);
+                }
             }
         }
     }
@@ -104,7 +113,20 @@ public final class ValidationResult {
     public ValidationResult consume(ValidationResult other) {
         synchronized (validations) {
             validations.addAll(other.validations);
+            if (index != null) {
+                index.addAll(other.validations);
+            }
         }
         return this;
     }
+
+    private boolean contains(Validated validated) {
+        if (index == null) {
+            if (validations.size() < INDEX_THRESHOLD) {
+                return validations.contains(validated);
+            }
+            index = new HashSet<>(validations);
+        }
+        return index.contains(validated);
+    }
 }
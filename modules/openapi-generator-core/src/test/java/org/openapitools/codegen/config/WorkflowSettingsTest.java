@@ -36,6 +36,10 @@ public class WorkflowSettingsTest {
                 .withEnablePostProcessFile(null)
                 .withEnableMinimalUpdate(null)
                 .withStrictSpecBehavior(null)
+                .withRenderWorkers(null)
+                .withProcessWorkers(null)
+                .withIncrementalGeneration(null)
+                .withReportMetrics(null)
                 .build();
 
         assertEquals(settings.getOutputDir(), ".");
@@ -47,6 +51,10 @@ public class WorkflowSettingsTest {
         assertFalse(settings.isEnablePostProcessFile());
         assertFalse(settings.isEnableMinimalUpdate());
         assertTrue(settings.isStrictSpecBehavior());
+        assertEquals(settings.getRenderWorkers(), 1);
+        assertEquals(settings.getProcessWorkers(), 1);
+        assertFalse(settings.isIncrementalGeneration());
+        assertFalse(settings.isReportMetrics());
     }
 
     @Test
@@ -79,6 +87,10 @@ public class WorkflowSettingsTest {
                 .withEnablePostProcessFile(true)
                 .withEnableMinimalUpdate(true)
                 .withStrictSpecBehavior(false)
+                .withRenderWorkers(8)
+                .withProcessWorkers(4)
+                .withIncrementalGeneration(true)
+                .withReportMetrics(true)
                 .build();
 
         assertNotEquals(defaultSettings.getOutputDir(), newSettings.getOutputDir());
@@ -107,6 +119,18 @@ public class WorkflowSettingsTest {
 
         assertNotEquals(defaultSettings.isStrictSpecBehavior(), newSettings.isStrictSpecBehavior());
         assertFalse(newSettings.isStrictSpecBehavior());
+
+        assertNotEquals(defaultSettings.getRenderWorkers(), newSettings.getRenderWorkers());
+        assertEquals(newSettings.getRenderWorkers(), 8);
+
+        assertNotEquals(defaultSettings.getProcessWorkers(), newSettings.getProcessWorkers());
+        assertEquals(newSettings.getProcessWorkers(), 4);
+
+        assertNotEquals(defaultSettings.isIncrementalGeneration(), newSettings.isIncrementalGeneration());
+        assertTrue(newSettings.isIncrementalGeneration());
+
+        assertNotEquals(defaultSettings.isReportMetrics(), newSettings.isReportMetrics());
+        assertTrue(newSettings.isReportMetrics());
     }
 
     @Test
@@ -151,6 +151,10 @@ class OpenApiGeneratorPlugin : Plugin<Project> {
                     enablePostProcessFile.set(generate.enablePostProcessFile)
                     skipValidateSpec.set(generate.skipValidateSpec)
                     generateAliasAsModel.set(generate.generateAliasAsModel)
+                    renderWorkers.set(generate.renderWorkers)
+                    processWorkers.set(generate.processWorkers)
+                    incrementalGeneration.set(generate.incrementalGeneration)
+                    reportMetrics.set(generate.reportMetrics)
                     engine.set(generate.engine)
                     cleanupOutput.set(generate.cleanupOutput)
                     dryRun.set(generate.dryRun)
@@ -386,6 +386,26 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
      */
     val generateAliasAsModel = project.objects.property<Boolean>()
 
+    /**
+     * Number of threads used to render the model and api files. Defaults to 1, i.e. files are rendered sequentially.
+     */
+    val renderWorkers = project.objects.property<Int>()
+
+    /**
+     * Number of threads used to convert the schemas to models and the operations, for the generators supporting it. Defaults to 1, i.e. they are converted sequentially.
+     */
+    val processWorkers = project.objects.property<Int>()
+
+    /**
+     * Only render the models and apis whose inputs have changed since the previous generation.
+     */
+    val incrementalGeneration = project.objects.property<Boolean>()
+
+    /**
+     * Write a report of the time spent in each phase of the generation to .openapi-generator/METRICS.json.
+     */
+    val reportMetrics = project.objects.property<Boolean>()
+
     /**
      * A map of options specific to a generator.
      */
@@ -569,6 +569,34 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
     @Input
     val generateAliasAsModel = project.objects.property<Boolean>()
 
+    /**
+     * Number of threads used to render the model and api files. Defaults to 1, i.e. files are rendered sequentially.
+     */
+    @Optional
+    @Input
+    val renderWorkers = project.objects.property<Int>()
+
+    /**
+     * Number of threads used to convert the schemas to models and the operations, for the generators supporting it. Defaults to 1, i.e. they are converted sequentially.
+     */
+    @Optional
+    @Input
+    val processWorkers = project.objects.property<Int>()
+
+    /**
+     * Only render the models and apis whose inputs have changed since the previous generation.
+     */
+    @Optional
+    @Input
+    val incrementalGeneration = project.objects.property<Boolean>()
+
+    /**
+     * Write a report of the time spent in each phase of the generation to .openapi-generator/METRICS.json.
+     */
+    @Optional
+    @Input
+    val reportMetrics = project.objects.property<Boolean>()
+
     /**
      * A dynamic map of options specific to a generator.
      */
@@ -843,6 +871,22 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
                 configurator.setGenerateAliasAsModel(value)
             }
 
+            renderWorkers.ifNotEmpty { value ->
+                configurator.setRenderWorkers(value)
+            }
+
+            processWorkers.ifNotEmpty { value ->
+                configurator.setProcessWorkers(value)
+            }
+
+            incrementalGeneration.ifNotEmpty { value ->
+                configurator.setIncrementalGeneration(value)
+            }
+
+            reportMetrics.ifNotEmpty { value ->
+                configurator.setReportMetrics(value)
+            }
+
             engine.ifNotEmpty { value ->
                 if ("handlebars".equals(value, ignoreCase = true)) {
                     configurator.setTemplatingEngineName("handlebars")
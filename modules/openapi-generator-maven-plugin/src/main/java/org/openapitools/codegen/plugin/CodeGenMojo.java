@@ -321,6 +321,30 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "generateAliasAsModel", property = "openapi.generator.maven.plugin.generateAliasAsModel")
     private Boolean generateAliasAsModel;
 
+    /**
+     * Number of threads used to render the model and api files
+     */
+    @Parameter(name = "renderWorkers", property = "openapi.generator.maven.plugin.renderWorkers")
+    private Integer renderWorkers;
+
+    /**
+     * Number of threads used to convert the schemas to models and the operations, for the generators supporting it
+     */
+    @Parameter(name = "processWorkers", property = "openapi.generator.maven.plugin.processWorkers")
+    private Integer processWorkers;
+
+    /**
+     * Only render the models and apis whose inputs have changed since the previous generation
+     */
+    @Parameter(name = "incrementalGeneration", property = "openapi.generator.maven.plugin.incrementalGeneration")
+    private Boolean incrementalGeneration;
+
+    /**
+     * Write a report of the time spent in each phase of the generation to .openapi-generator/METRICS.json
+     */
+    @Parameter(name = "reportMetrics", property = "openapi.generator.maven.plugin.reportMetrics")
+    private Boolean reportMetrics;
+
     /**
      * A map of language-specific parameters as passed with the -c option to the command line
      */
@@ -698,6 +722,22 @@ public class CodeGenMojo extends AbstractMojo {
                 configurator.setGenerateAliasAsModel(generateAliasAsModel);
             }
 
+            if (renderWorkers != null) {
+                configurator.setRenderWorkers(renderWorkers);
+            }
+
+            if (processWorkers != null) {
+                configurator.setProcessWorkers(processWorkers);
+            }
+
+            if (incrementalGeneration != null) {
+                configurator.setIncrementalGeneration(incrementalGeneration);
+            }
+
+            if (reportMetrics != null) {
+                configurator.setReportMetrics(reportMetrics);
+            }
+
             if (isNotEmpty(generatorName)) {
                 configurator.setGeneratorName(generatorName);
             } else {
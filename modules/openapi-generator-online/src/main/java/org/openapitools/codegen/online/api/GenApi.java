@@ -25,6 +25,7 @@ package org.openapitools.codegen.online.api;
 import io.swagger.annotations.*;
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -83,6 +84,17 @@ public interface GenApi {
     }
 
 
+    @ApiOperation(value = "Returns the status of a generation job", nickname = "getJobStatus", notes = "A valid `jobId` is returned by the `/jobs/clients/{language}` or `/jobs/servers/{framework}` POST operations. The job is forgotten once its files are downloaded, or once it expired.", response = JobStatus.class, tags = {"clients", "servers",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "successful operation", response = JobStatus.class),
+            @ApiResponse(code = 404, message = "unknown job")})
+    @RequestMapping(value = "/gen/jobs/{jobId}",
+            produces = {"application/json"},
+            method = RequestMethod.GET)
+    default ResponseEntity<JobStatus> getJobStatus(@ApiParam(value = "", required = true) @PathVariable("jobId") String jobId) {
+        return getDelegate().getJobStatus(jobId);
+    }
+
     @ApiOperation(value = "Returns options for a client library", nickname = "getClientOptions", notes = "", tags = {"clients",})
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "successful operation")})
@@ -105,6 +117,26 @@ public interface GenApi {
     }
 
 
+    @ApiOperation(value = "Queues the generation of a client library", nickname = "submitClientJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The status of the returned job is polled with the `/jobs/{jobId}` GET operation, and its `id` is the `fileId` of the generated files once it succeeded.", response = JobStatus.class, tags = {"clients",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "successful operation", response = JobStatus.class),
+            @ApiResponse(code = 429, message = "too many generations are queued")})
+    @RequestMapping(value = "/gen/jobs/clients/{language}",
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitClientJob(@ApiParam(value = "The target language for the client library", required = true) @PathVariable("language") String language, @ApiParam(value = "Configuration for building the client library", required = true) @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitClientJob(language, generatorInput);
+    }
+
+    @ApiOperation(value = "Queues the generation of a server library", nickname = "submitServerJob", notes = "Accepts a `GeneratorInput` options map for spec location and generation options. The status of the returned job is polled with the `/jobs/{jobId}` GET operation, and its `id` is the `fileId` of the generated files once it succeeded.", response = JobStatus.class, tags = {"servers",})
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "successful operation", response = JobStatus.class),
+            @ApiResponse(code = 429, message = "too many generations are queued")})
+    @RequestMapping(value = "/gen/jobs/servers/{framework}",
+            method = RequestMethod.POST)
+    default ResponseEntity<JobStatus> submitServerJob(@ApiParam(value = "framework", required = true) @PathVariable("framework") String framework, @ApiParam(value = "parameters", required = true) @Valid @RequestBody GeneratorInput generatorInput) {
+        return getDelegate().submitServerJob(framework, generatorInput);
+    }
+
     @ApiOperation(value = "Gets languages supported by the server generator", nickname = "serverOptions", notes = "", response = String.class, responseContainer = "List", tags = {"servers",})
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "successful operation", response = String.class, responseContainer = "List")})
@@ -19,6 +19,7 @@ package org.openapitools.codegen.online.api;
 
 import org.openapitools.codegen.CliOption;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
@@ -108,6 +109,15 @@ public interface GenApiDelegate {
 
     }
 
+    /**
+     * @param jobId The unique id of the job, provided in a {@link JobStatus} response.
+     * @return A {@link ResponseEntity} of the {@link JobStatus} of the job.
+     * @see GenApi#getJobStatus
+     */
+    default ResponseEntity<JobStatus> getJobStatus(String jobId) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+    }
+
     /**
      * @param language The target generator (language is a misnomer here, but kept for API consistency).
      * @return A {@link ResponseEntity} of {@link CliOption}, grouped by language (generator name).
@@ -128,6 +138,26 @@ public interface GenApiDelegate {
 
     }
 
+    /**
+     * @param language       The target generator (language is a misnomer here, but kept for API consistency).
+     * @param generatorInput The configuration settings to be used during client generation.
+     * @return A {@link ResponseEntity} of the {@link JobStatus} of the queued generation.
+     * @see GenApi#submitClientJob
+     */
+    default ResponseEntity<JobStatus> submitClientJob(String language, GeneratorInput generatorInput) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+    }
+
+    /**
+     * @param framework      The target generator name (framework is a slight misnomer here, as we may have a framework like Spring implemented in multiple languages).
+     * @param generatorInput The configuration settings to be used during server generation.
+     * @return A {@link ResponseEntity} of the {@link JobStatus} of the queued generation.
+     * @see GenApi#submitServerJob
+     */
+    default ResponseEntity<JobStatus> submitServerJob(String framework, GeneratorInput generatorInput) {
+        return new ResponseEntity<>(HttpStatus.NOT_IMPLEMENTED);
+    }
+
     /**
      * @return A {@link ResponseEntity} listing options for the target server generator.
      * @see GenApi#serverOptions
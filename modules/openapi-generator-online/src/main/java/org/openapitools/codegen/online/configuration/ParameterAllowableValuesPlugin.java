@@ -1,8 +1,8 @@
 package org.openapitools.codegen.online.configuration;
 
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
+import org.openapitools.codegen.GeneratorIndex;
 import org.springframework.stereotype.Component;
 import springfox.documentation.service.AllowableListValues;
 import springfox.documentation.spi.DocumentationType;
@@ -19,12 +19,12 @@ public class ParameterAllowableValuesPlugin implements ParameterBuilderPlugin {
     private static List<String> servers = new ArrayList<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
+        List<GeneratorIndex.Entry> extensions = CodegenConfigLoader.getAllEntries();
+        for (GeneratorIndex.Entry config : extensions) {
+            if (config.getTag() == CodegenType.CLIENT
+                    || config.getTag() == CodegenType.DOCUMENTATION) {
                 clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
+            } else if (config.getTag() == CodegenType.SERVER) {
                 servers.add(config.getName());
             }
         }
@@ -23,6 +23,7 @@ import lombok.Setter;
 @Getter
 @Setter
 public class Generated {
-    private String filename;
+    // the generated files, in a ZIP archive
+    private byte[] archive;
     private String friendlyName;
 }
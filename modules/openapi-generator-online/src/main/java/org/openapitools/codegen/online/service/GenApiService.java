@@ -17,16 +17,18 @@
 
 package org.openapitools.codegen.online.service;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CliOption;
-import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
+import org.openapitools.codegen.GeneratorIndex;
 import org.openapitools.codegen.online.api.GenApiDelegate;
 import org.openapitools.codegen.online.model.Generated;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.online.model.JobStatus;
 import org.openapitools.codegen.online.model.ResponseCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
@@ -39,28 +41,22 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 
 @Service
 public class GenApiService implements GenApiDelegate {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenApiService.class);
 
     private static List<String> clients = new ArrayList<>();
     private static List<String> servers = new ArrayList<>();
-    private static Map<String, Generated> fileMap = new HashMap<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
+        List<GeneratorIndex.Entry> extensions = CodegenConfigLoader.getAllEntries();
+        for (GeneratorIndex.Entry config : extensions) {
+            if (config.getTag() == CodegenType.CLIENT
+                    || config.getTag() == CodegenType.DOCUMENTATION) {
                 clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
+            } else if (config.getTag() == CodegenType.SERVER) {
                 servers.add(config.getName());
             }
         }
@@ -72,6 +68,9 @@ public class GenApiService implements GenApiDelegate {
     @Autowired
     private NativeWebRequest request;
 
+    @Autowired
+    private GenerationJobs jobs;
+
     @Override
     public Optional<NativeWebRequest> getRequest() {
         return Optional.ofNullable(request);
@@ -79,25 +78,15 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<Resource> downloadFile(String fileId) {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-
-        File file = new File(g.getFilename());
-        Path path = Paths.get(file.getAbsolutePath());
-        ByteArrayResource resource;
-        try {
-            resource = new ByteArrayResource(Files.readAllBytes(path));
-        } catch (FileNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
-        }
-        try {
-            FileUtils.deleteDirectory(file.getParentFile());
-        } catch (IOException e) {
-            System.out.println("failed to delete file " + file.getAbsolutePath());
+        LOGGER.debug("looking for fileId {}", fileId);
+        // the archive is only downloaded once
+        Generated g = jobs.download(fileId);
+        if (g == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found");
         }
+
+        // the response is written from the archive kept by the job, without copying it
+        ByteArrayResource resource = new ByteArrayResource(g.getArchive());
         return ResponseEntity
                 .ok()
                 .contentType(MediaType.valueOf("application/zip"))
@@ -110,8 +99,8 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<ResponseCode> generateClient(String language, GeneratorInput generatorInput) {
-        String filename = Generator.generateClient(language, generatorInput);
-        return getResponse(filename, language + "-client");
+        GenerationJobs.Job job = jobs.submit(language + "-client", () -> Generator.generateClient(language, generatorInput));
+        return getResponse(job);
     }
 
     @Override
@@ -151,13 +140,51 @@ public class GenApiService implements GenApiDelegate {
         if (framework == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
         }
-        String filename = Generator.generateServer(framework, generatorInput);
-        System.out.println("generated name: " + filename);
+        GenerationJobs.Job job = jobs.submit(framework + "-server", () -> Generator.generateServer(framework, generatorInput));
+        return getResponse(job);
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> submitClientJob(String language, GeneratorInput generatorInput) {
+        GenerationJobs.Job job = jobs.submit(language + "-client", () -> Generator.generateClient(language, generatorInput));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(getStatus(job));
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> submitServerJob(String framework, GeneratorInput generatorInput) {
+        GenerationJobs.Job job = jobs.submit(framework + "-server", () -> Generator.generateServer(framework, generatorInput));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(getStatus(job));
+    }
+
+    @Override
+    public ResponseEntity<JobStatus> getJobStatus(String jobId) {
+        GenerationJobs.Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Job not found");
+        }
+        return ResponseEntity.ok().body(getStatus(job));
+    }
 
-        return getResponse(filename, framework + "-server");
+    private JobStatus getStatus(GenerationJobs.Job job) {
+        String link = job.getStatus() == JobStatus.Status.SUCCEEDED ? getDownloadLink(job.getId()) : null;
+        return new JobStatus(job.getId(), job.getStatus(), job.getMessage(), link);
     }
 
-    private ResponseEntity<ResponseCode> getResponse(String filename, String friendlyName) {
+    private ResponseEntity<ResponseCode> getResponse(GenerationJobs.Job job) {
+        // the generation runs on a worker, so that the number of concurrent generations is bounded
+        try {
+            job.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while generating");
+        }
+        if (job.getStatus() != JobStatus.Status.SUCCEEDED) {
+            throw new ResponseStatusException(job.getFailure(), job.getMessage());
+        }
+        return ResponseEntity.ok().body(new ResponseCode(job.getId(), getDownloadLink(job.getId())));
+    }
+
+    private String getDownloadLink(String code) {
         String host = System.getenv("GENERATOR_HOST");
 
         UriComponentsBuilder uriBuilder;
@@ -166,19 +193,7 @@ public class GenApiService implements GenApiDelegate {
         } else {
             uriBuilder = ServletUriComponentsBuilder.fromCurrentContextPath();
         }
-
-        if (filename != null) {
-            String code = UUID.randomUUID().toString();
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(friendlyName);
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = uriBuilder.path("/api/gen/download/").path(code).toUriString();
-            return ResponseEntity.ok().body(new ResponseCode(code, link));
-        } else {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+        return uriBuilder.path("/api/gen/download/").path(code).toUriString();
     }
 
 }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import org.openapitools.codegen.online.model.Generated;
+import org.openapitools.codegen.online.model.JobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.annotation.PreDestroy;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the generations on a bounded pool of workers, and keeps their archives until they are downloaded or expire.
+ * <p>
+ * The generations are queued when all the workers are busy, and rejected with a 429 status once the queue is full, so
+ * that bursts of requests don't exhaust the memory of the service. A running generation is interrupted once it exceeds
+ * its timeout and reported as failed; the generator stops at the next of its phases, an external step (e.g. fetching
+ * the specification) still running until it completes. The finished jobs are evicted once their time to live has
+ * elapsed, whether downloaded or not, and the archives of the oldest jobs are dropped early once the archives kept
+ * exceed their maximum size.
+ */
+@Service
+public class GenerationJobs {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationJobs.class);
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService scheduler;
+    private final long timeoutMillis;
+    private final long ttlMillis;
+    private final long maxArchiveBytes;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // guarded by this, the size of the archives of the succeeded jobs kept
+    private long archiveBytes;
+
+    /**
+     * @param workers       The number of concurrent generations, or 0 for the number of processors
+     * @param queueCapacity The number of generations waiting for a worker, before new ones are rejected
+     * @param timeout       The number of seconds a generation may run
+     * @param ttl             The number of seconds a finished job is kept
+     * @param maxArchiveBytes The total size of the archives kept, before the archives of the oldest jobs are dropped
+     */
+    @Autowired
+    public GenerationJobs(@Value("${generator.jobs.workers:0}") int workers,
+                          @Value("${generator.jobs.queue-capacity:100}") int queueCapacity,
+                          @Value("${generator.jobs.timeout:300}") long timeout,
+                          @Value("${generator.jobs.ttl:600}") long ttl,
+                          @Value("${generator.jobs.max-archive-bytes:536870912}") long maxArchiveBytes) {
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory("generator-worker-"));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory("generator-jobs-"));
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeout);
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttl);
+        this.maxArchiveBytes = maxArchiveBytes;
+        long evictionPeriod = Math.max(1, ttlMillis / 10);
+        scheduler.scheduleWithFixedDelay(this::evictExpired, evictionPeriod, evictionPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Queues a generation.
+     *
+     * @param friendlyName The name of the generated archive
+     * @param generation   Generates the files in a ZIP archive
+     * @return The queued job
+     * @throws ResponseStatusException with a 429 status when the queue is full
+     */
+    public Job submit(String friendlyName, Supplier<byte[]> generation) {
+        Job job = new Job(UUID.randomUUID().toString(), friendlyName);
+        jobs.put(job.getId(), job);
+        try {
+            job.future = workers.submit(() -> run(job, generation));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many generations are queued, retry later");
+        }
+        return job;
+    }
+
+    private void run(Job job, Supplier<byte[]> generation) {
+        if (!job.start()) {
+            return;
+        }
+        ScheduledFuture<?> timer = scheduler.schedule(() -> timeOut(job), timeoutMillis, TimeUnit.MILLISECONDS);
+        try {
+            Generated generated = new Generated();
+            generated.setArchive(generation.get());
+            generated.setFriendlyName(job.friendlyName);
+            // counted before the job is reported as succeeded, making room for it
+            keepArchive(job, generated.getArchive().length);
+            if (!job.finish(JobStatus.Status.SUCCEEDED, generated, null, null)) {
+                keepArchive(job, 0);
+            }
+        } catch (ResponseStatusException e) {
+            job.finish(JobStatus.Status.FAILED, null, e.getStatus(), e.getReason());
+        } catch (RuntimeException e) {
+            LOGGER.error("Unable to generate {}", job.friendlyName, e);
+            job.finish(JobStatus.Status.FAILED, null, HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        } finally {
+            timer.cancel(false);
+            // no-op unless the generation threw an error
+            job.finish(JobStatus.Status.FAILED, null, HttpStatus.INTERNAL_SERVER_ERROR, "The generation failed");
+        }
+    }
+
+    private void timeOut(Job job) {
+        if (job.finish(JobStatus.Status.FAILED, null, HttpStatus.SERVICE_UNAVAILABLE,
+                "The generation timed out after " + TimeUnit.MILLISECONDS.toSeconds(timeoutMillis) + " seconds")) {
+            LOGGER.warn("The generation of {} timed out", job.friendlyName);
+            Future<?> future = job.future;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * @param id The id of a job
+     * @return The job, or null if it's unknown, expired or already downloaded
+     */
+    public Job get(String id) {
+        return jobs.get(id);
+    }
+
+    /**
+     * Removes a succeeded job, its archive can only be downloaded once.
+     *
+     * @param id The id of a job
+     * @return The generated archive, or null if the job is unknown, expired, already downloaded or didn't succeed
+     */
+    public Generated download(String id) {
+        Job job = jobs.get(id);
+        if (job == null || job.getStatus() != JobStatus.Status.SUCCEEDED || !remove(job)) {
+            return null;
+        }
+        return job.generated;
+    }
+
+    void evictExpired() {
+        long now = System.nanoTime();
+        for (Job job : jobs.values()) {
+            if (job.isFinished() && TimeUnit.NANOSECONDS.toMillis(now - job.finishedAt) >= ttlMillis) {
+                remove(job);
+            }
+        }
+    }
+
+    private synchronized void keepArchive(Job job, long bytes) {
+        if (!jobs.containsKey(job.getId())) {
+            return;
+        }
+        archiveBytes += bytes - job.archiveBytes;
+        job.archiveBytes = bytes;
+        if (archiveBytes <= maxArchiveBytes) {
+            return;
+        }
+        // the archive of the job finishing is kept, even if it exceeds the maximum size on its own
+        List<Job> oldest = jobs.values().stream()
+                .filter(kept -> kept != job && kept.getStatus() == JobStatus.Status.SUCCEEDED)
+                .sorted(Comparator.comparingLong(kept -> kept.finishedAt))
+                .collect(Collectors.toList());
+        for (Job kept : oldest) {
+            if (archiveBytes <= maxArchiveBytes) {
+                break;
+            }
+            if (remove(kept)) {
+                LOGGER.warn("Dropped the archive of {} to keep the archives under {} bytes", kept.friendlyName, maxArchiveBytes);
+            }
+        }
+    }
+
+    private synchronized boolean remove(Job job) {
+        if (!jobs.remove(job.getId(), job)) {
+            return false;
+        }
+        archiveBytes -= job.archiveBytes;
+        return true;
+    }
+
+    /**
+     * @return The total size of the archives kept
+     */
+    synchronized long getArchiveBytes() {
+        return archiveBytes;
+    }
+
+    /**
+     * @return The number of generations waiting for a worker
+     */
+    public int getQueuedCount() {
+        return workers.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * A queued, running or finished generation.
+     */
+    public static class Job {
+        private final String id;
+        private final String friendlyName;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Future<?> future;
+        private volatile JobStatus.Status status = JobStatus.Status.QUEUED;
+        private volatile Generated generated;
+        private volatile HttpStatus failure;
+        private volatile String message;
+        // the System.nanoTime() the job finished at
+        private volatile long finishedAt;
+        // guarded by the GenerationJobs, the size of the archive once counted in the archives kept
+        private long archiveBytes;
+
+        Job(String id, String friendlyName) {
+            this.id = id;
+            this.friendlyName = friendlyName;
+        }
+
+        private synchronized boolean start() {
+            if (status != JobStatus.Status.QUEUED) {
+                return false;
+            }
+            status = JobStatus.Status.RUNNING;
+            return true;
+        }
+
+        private synchronized boolean finish(JobStatus.Status status, Generated generated, HttpStatus failure, String message) {
+            if (isFinished()) {
+                return false;
+            }
+            this.generated = generated;
+            this.failure = failure;
+            this.message = message;
+            this.finishedAt = System.nanoTime();
+            this.status = status;
+            done.countDown();
+            return true;
+        }
+
+        private boolean isFinished() {
+            return status == JobStatus.Status.SUCCEEDED || status == JobStatus.Status.FAILED;
+        }
+
+        /**
+         * Waits for the job to succeed or fail.
+         *
+         * @throws InterruptedException if the current thread is interrupted while waiting
+         */
+        public void await() throws InterruptedException {
+            done.await();
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public JobStatus.Status getStatus() {
+            return status;
+        }
+
+        /**
+         * @return The status of the response reporting the failure of the job, or null
+         */
+        public HttpStatus getFailure() {
+            return failure;
+        }
+
+        /**
+         * @return The reason of the failure of the job, or null
+         */
+        public String getMessage() {
+            return message;
+        }
+    }
+}
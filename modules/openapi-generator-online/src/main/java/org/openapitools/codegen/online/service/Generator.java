@@ -23,14 +23,19 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import org.openapitools.codegen.*;
+import org.openapitools.codegen.config.ParsedSpecCache;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.templating.ZipOutputSink;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class Generator {
@@ -65,15 +70,21 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) {
+    public static byte[] generateClient(String language, GeneratorInput opts) {
         return generate(language, opts, Type.CLIENT);
     }
 
-    public static String generateServer(String language, GeneratorInput opts) {
+    public static byte[] generateServer(String language, GeneratorInput opts) {
         return generate(language, opts, Type.SERVER);
     }
 
-    private static String generate(String language, GeneratorInput opts, Type type) {
+    /**
+     * Generates the files of a client or server in a ZIP archive. The files are compressed into a temporary file as
+     * they are generated, then the archive is read in memory.
+     *
+     * @return The ZIP archive
+     */
+    private static byte[] generate(String language, GeneratorInput opts, Type type) {
         LOGGER.debug(String.format(Locale.ROOT, "generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No options were supplied");
@@ -101,10 +112,10 @@ public class Generator {
         } else if (opts.getAuthorizationValue() != null) {
             List<AuthorizationValue> authorizationValues = new ArrayList<>();
             authorizationValues.add(opts.getAuthorizationValue());
-            openapi = new OpenAPIParser().readContents(node.toString(), authorizationValues, parseOptions).getOpenAPI();
+            openapi = ParsedSpecCache.getDefault().readContents(node.toString(), authorizationValues, parseOptions).getOpenAPI();
 
         } else {
-            openapi = new OpenAPIParser().readContents(node.toString(), null, parseOptions).getOpenAPI();
+            openapi = ParsedSpecCache.getDefault().readContents(node.toString(), null, parseOptions).getOpenAPI();
         }
         if (openapi == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The OpenAPI specification supplied was not valid");
@@ -112,12 +123,12 @@ public class Generator {
 
 
         // do not use opts.getOptions().get("outputFolder") as the input can contain ../../
-        // to access other folders in the server
+        // to access other folders in the server. The files are archived under this folder, without being written to disk.
         String destPath = language + "-" + type.getTypeName();
 
         ClientOptInput clientOptInput = new ClientOptInput();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
+        Path root = Paths.get(System.getProperty("java.io.tmpdir"), "codegen-" + UUID.randomUUID()).toAbsolutePath();
+        String outputFolder = root.resolve(destPath).toString();
 
         clientOptInput.openAPI(openapi);
 
@@ -147,44 +158,36 @@ public class Generator {
 
         clientOptInput.config(codegenConfig);
 
+        Path archive = null;
         try {
-            List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<>();
-                LOGGER.debug("adding to {}", outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                        "A target generation was attempted, but no files were created!");
-            }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath(), e);
+            archive = Files.createTempFile("codegen-", ".zip");
+            try (ZipOutputSink sink = new ZipOutputSink(root, archive)) {
+                clientOptInput.outputSink(sink);
+                List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
+                if (files.isEmpty()) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "A target generation was attempted, but no files were created!");
                 }
             }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder, e);
-            }
+            // read at its size, without the copies of a growing buffer
+            return Files.readAllBytes(archive);
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
+        } finally {
+            deleteArchive(archive);
         }
-        return outputFilename;
     }
 
-    private static File getTmpFolder() {
+    private static void deleteArchive(Path archive) {
+        if (archive == null) {
+            return;
+        }
         try {
-            File outputFolder = Files.createTempDirectory("codegen-tmp").toFile();
-            outputFolder.deleteOnExit();
-            return outputFolder;
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new RuntimeException("Cannot access tmp folder");
+            Files.deleteIfExists(archive);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to delete the archive {}", archive, e);
         }
     }
 }
@@ -12,6 +12,12 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.util.Assert;
 
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.text.MatchesPattern.matchesPattern;
@@ -162,4 +168,94 @@ public class GenApiControllerTest {
         Assert.isTrue(lengthOfNormalized <= lengthOfNotNormalized, "Using the normalizer should result in a smaller or equal file size");
 
     }
+
+    @Test
+    public void generateFromSpecAndDownloadOnce() throws Exception {
+        String spec = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Ping\",\"version\":\"1.0\"},"
+                + "\"paths\":{\"/ping\":{\"get\":{\"operationId\":\"ping\",\"responses\":{\"200\":{\"description\":\"OK\","
+                + "\"content\":{\"application/json\":{\"schema\":{\"$ref\":\"#/components/schemas/Pong\"}}}}}}}},"
+                + "\"components\":{\"schemas\":{\"Pong\":{\"type\":\"object\",\"properties\":{\"message\":{\"type\":\"string\"}}}}}}";
+        String result = mockMvc.perform(post("http://test.com:1234/api/gen/clients/java")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"spec\": " + spec + "}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String code = new ObjectMapper().readValue(result, ResponseCode.class).getCode();
+
+        byte[] archive = mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"java-client-generated.zip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Set<String> entries = new HashSet<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+            }
+        }
+        Assert.isTrue(entries.contains("java-client/src/main/java/org/openapitools/client/model/Pong.java"), "The model should be archived");
+        Assert.isTrue(entries.contains("java-client/src/main/java/org/openapitools/client/api/DefaultApi.java"), "The api should be archived");
+        Assert.isTrue(entries.contains("java-client/.openapi-generator/FILES"), "The metadata should be archived");
+
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + code))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void submitJobAndPollItsStatus() throws Exception {
+        String spec = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Ping\",\"version\":\"1.0\"},"
+                + "\"paths\":{\"/ping\":{\"get\":{\"operationId\":\"ping\",\"responses\":{\"200\":{\"description\":\"OK\"}}}}}}";
+        String result = mockMvc.perform(post("http://test.com:1234/api/gen/jobs/servers/spring")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"spec\": " + spec + "}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(matchesPattern(UUID_REGEX)))
+                .andReturn().getResponse().getContentAsString();
+
+        String id = new ObjectMapper().readTree(result).get("id").asText();
+
+        String status = null;
+        for (int i = 0; i < 600 && !"SUCCEEDED".equals(status) && !"FAILED".equals(status); i++) {
+            Thread.sleep(100);
+            status = new ObjectMapper().readTree(mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString()).get("status").asText();
+        }
+        Assert.isTrue("SUCCEEDED".equals(status), "The job should succeed, but was " + status);
+
+        mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + id))
+                .andExpect(jsonPath("$.link").value("http://test.com:1234/api/gen/download/" + id));
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"spring-server-generated.zip\""));
+
+        // the job is forgotten once downloaded
+        mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void submitJobWithoutSpec() throws Exception {
+        String result = mockMvc.perform(post("http://test.com:1234/api/gen/jobs/clients/java")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+
+        String id = new ObjectMapper().readTree(result).get("id").asText();
+
+        String status = null;
+        for (int i = 0; i < 600 && !"FAILED".equals(status); i++) {
+            Thread.sleep(100);
+            status = new ObjectMapper().readTree(mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + id))
+                    .andReturn().getResponse().getContentAsString()).get("status").asText();
+        }
+        mockMvc.perform(get("http://test.com:1234/api/gen/jobs/" + id))
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.message").value("No OpenAPI specification was supplied"));
+        mockMvc.perform(get("http://test.com:1234/api/gen/download/" + id))
+                .andExpect(status().isNotFound());
+    }
 }
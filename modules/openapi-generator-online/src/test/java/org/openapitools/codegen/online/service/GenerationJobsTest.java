@@ -0,0 +1,126 @@
+package org.openapitools.codegen.online.service;
+
+import org.junit.jupiter.api.Test;
+import org.openapitools.codegen.online.model.JobStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GenerationJobsTest {
+
+    @Test
+    public void rejectsTheJobsOnceTheQueueIsFull() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 60, 60, Long.MAX_VALUE);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            GenerationJobs.Job running = jobs.submit("running", () -> {
+                await(release);
+                return new byte[]{1};
+            });
+            GenerationJobs.Job queued = jobs.submit("queued", () -> new byte[]{2});
+
+            ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> jobs.submit("rejected", () -> new byte[0]));
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatus());
+            assertEquals(JobStatus.Status.QUEUED, queued.getStatus());
+
+            release.countDown();
+            running.await();
+            queued.await();
+            assertEquals(JobStatus.Status.SUCCEEDED, running.getStatus());
+            assertArrayEquals(new byte[]{2}, jobs.download(queued.getId()).getArchive());
+            assertNotNull(jobs.get(running.getId()));
+
+            // the archives are downloaded once
+            assertNull(jobs.download(queued.getId()));
+            assertNull(jobs.get(queued.getId()));
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void reportsTheFailures() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 60, 60, Long.MAX_VALUE);
+        try {
+            GenerationJobs.Job job = jobs.submit("invalid", () -> {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No OpenAPI specification was supplied");
+            });
+            job.await();
+            assertEquals(JobStatus.Status.FAILED, job.getStatus());
+            assertEquals(HttpStatus.BAD_REQUEST, job.getFailure());
+            assertEquals("No OpenAPI specification was supplied", job.getMessage());
+            assertNull(jobs.download(job.getId()));
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void interruptsTheJobsOnTimeout() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 0, 60, Long.MAX_VALUE);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            GenerationJobs.Job job = jobs.submit("slow", () -> {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return new byte[0];
+            });
+            job.await();
+            assertEquals(JobStatus.Status.FAILED, job.getStatus());
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, job.getFailure());
+            interrupted.await();
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void evictsTheFinishedJobs() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 1, 60, 0, Long.MAX_VALUE);
+        try {
+            GenerationJobs.Job job = jobs.submit("expired", () -> new byte[0]);
+            job.await();
+            jobs.evictExpired();
+            assertNull(jobs.get(job.getId()));
+            assertNull(jobs.download(job.getId()));
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    @Test
+    public void dropsTheOldestArchivesOverTheMaximumSize() throws InterruptedException {
+        GenerationJobs jobs = new GenerationJobs(1, 3, 60, 60, 4);
+        try {
+            GenerationJobs.Job first = jobs.submit("first", () -> new byte[2]);
+            GenerationJobs.Job second = jobs.submit("second", () -> new byte[2]);
+            second.await();
+            assertEquals(4, jobs.getArchiveBytes());
+
+            GenerationJobs.Job third = jobs.submit("third", () -> new byte[3]);
+            third.await();
+            assertNull(jobs.get(first.getId()));
+            assertNull(jobs.get(second.getId()));
+            assertEquals(3, jobs.getArchiveBytes());
+
+            assertArrayEquals(new byte[3], jobs.download(third.getId()).getArchive());
+            assertEquals(0, jobs.getArchiveBytes());
+        } finally {
+            jobs.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
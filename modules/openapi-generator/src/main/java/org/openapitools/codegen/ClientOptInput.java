@@ -23,6 +23,8 @@ import lombok.Getter;
 import org.openapitools.codegen.api.TemplateDefinition;
 import org.openapitools.codegen.auth.AuthParser;
 import org.openapitools.codegen.config.GeneratorSettings;
+import org.openapitools.codegen.config.ParsedSpecCache;
+import org.openapitools.codegen.templating.OutputSink;
 
 import java.util.List;
 
@@ -33,6 +35,12 @@ public class ClientOptInput {
     private List<AuthorizationValue> auths;
     // not deprecated as this is added to match other functionality, we need to move to Context<?> instead of ClientOptInput.
     @Getter private List<TemplateDefinition> userDefinedTemplates;
+    // the metrics of the generation, including those recorded while parsing the specification
+    @Getter private GenerationMetrics metrics;
+    // receives the generated files in place of the file system, if set
+    @Getter private OutputSink outputSink;
+    // the cached parsing the specification was copied from, if any, sharing its normalization between generators
+    @Getter private ParsedSpecCache.ParsedSpec parsedSpec;
 
     public ClientOptInput openAPI(OpenAPI openAPI) {
         this.setOpenAPI(openAPI);
@@ -54,6 +62,27 @@ public class ClientOptInput {
         return this;
     }
 
+    public ClientOptInput metrics(GenerationMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    public ClientOptInput outputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+        return this;
+    }
+
+    /**
+     * Sets the cached parsing the specification was copied from, which must be set after the specification.
+     *
+     * @param parsedSpec The cached parsing, or null
+     * @return This input
+     */
+    public ClientOptInput parsedSpec(ParsedSpecCache.ParsedSpec parsedSpec) {
+        this.parsedSpec = parsedSpec;
+        return this;
+    }
+
     @Deprecated
     public ClientOptInput auth(String urlEncodedAuthString) {
         this.setAuth(urlEncodedAuthString);
@@ -123,6 +152,8 @@ public class ClientOptInput {
     @Deprecated
     public void setOpenAPI(OpenAPI openAPI) {
         this.openAPI = openAPI;
+        // another specification doesn't share the normalization of the cached one
+        this.parsedSpec = null;
         // TODO: ClientOptInputs needs to be retired
         if (this.config != null) {
             this.config.setOpenAPI(this.openAPI);
@@ -317,6 +317,8 @@ public interface CodegenConfig {
 
     void setEnablePostProcessFile(boolean isEnablePostProcessFile);
 
+    void setPostProcessingQueue(PostProcessingQueue postProcessingQueue);
+
     /**
      * Set the OpenAPI instance. This method needs to be called right after the instantiation of the Codegen class.
      *
@@ -332,6 +334,40 @@ public interface CodegenConfig {
 
     public void setEnableMinimalUpdate(boolean isEnableMinimalUpdate);
 
+    int getRenderWorkers();
+
+    void setRenderWorkers(int renderWorkers);
+
+    int getProcessWorkers();
+
+    void setProcessWorkers(int processWorkers);
+
+    /**
+     * Whether {@link #fromModel(String, Schema)} may run concurrently for several schemas, see
+     * {@link #getProcessWorkers()}. The schemas of the other generators are converted sequentially whatever the number
+     * of process workers.
+     *
+     * @return true if converting a schema doesn't write any state shared with the other conversions
+     */
+    boolean supportsParallelModels();
+
+    /**
+     * Whether {@link #fromOperation(String, String, Operation, List)} may run concurrently for several operations, see
+     * {@link #getProcessWorkers()}. The operations of the other generators are converted sequentially whatever the
+     * number of process workers.
+     *
+     * @return true if converting an operation doesn't write any state shared with the other conversions
+     */
+    boolean supportsParallelOperations();
+
+    boolean isIncrementalGeneration();
+
+    void setIncrementalGeneration(boolean incrementalGeneration);
+
+    boolean isReportMetrics();
+
+    void setReportMetrics(boolean reportMetrics);
+
     boolean isStrictSpecBehavior();
 
     void setStrictSpecBehavior(boolean strictSpecBehavior);
@@ -17,35 +17,61 @@
 
 package org.openapitools.codegen;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class CodegenConfigLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigLoader.class);
+
     /**
-     * Tries to load config class with SPI first, then with class name directly from classpath
+     * Tries to load config class with SPI first, then with class name directly from classpath.
+     * The generators of the {@link GeneratorIndex} are found without instantiating the other generators.
      *
      * @param name name of config, or full qualified class name in classpath
      * @return config class
      */
     public static CodegenConfig forName(String name) {
+        GeneratorIndex index = GeneratorIndex.getInstance();
+        GeneratorIndex.Entry entry = index.get(name);
+        if (entry != null) {
+            try {
+                return (CodegenConfig) Class.forName(entry.getClassName(), true, CodegenConfig.class.getClassLoader())
+                        .getDeclaredConstructor().newInstance();
+            } catch (Exception | LinkageError e) {
+                LOGGER.warn("Unable to load the indexed generator {}, looking it up with the service loader", entry, e);
+            }
+        }
+
         ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
 
-        StringBuilder availableConfigs = new StringBuilder();
+        Set<String> availableConfigs = new LinkedHashSet<>();
+        for (GeneratorIndex.Entry indexed : index.getEntries()) {
+            availableConfigs.add(indexed.getName());
+        }
 
-        for (CodegenConfig config : loader) {
+        for (CodegenConfig config : notIndexed(loader, index, entry)) {
             if (config.getName().equals(name)) {
                 return config;
             }
 
-            availableConfigs.append(config.getName()).append("\n");
+            availableConfigs.add(config.getName());
         }
 
         // else try to load directly
         try {
             return (CodegenConfig) Class.forName(name).getDeclaredConstructor().newInstance();
         } catch (Exception e) {
-            throw new GeneratorNotFoundException("Can't load config class with name '".concat(name) + "'\nAvailable:\n" + availableConfigs, e);
+            throw new GeneratorNotFoundException("Can't load config class with name '".concat(name) + "'\nAvailable:\n"
+                    + availableConfigs.stream().map(config -> config + "\n").collect(Collectors.joining()), e);
         }
     }
 
@@ -57,4 +83,42 @@ public class CodegenConfigLoader {
         }
         return output;
     }
+
+    /**
+     * Lists the name, type and stability of the available generators. Unlike {@link #getAll()}, only the generators
+     * missing from the {@link GeneratorIndex} are instantiated.
+     *
+     * @return The available generators
+     */
+    public static List<GeneratorIndex.Entry> getAllEntries() {
+        GeneratorIndex index = GeneratorIndex.getInstance();
+        Map<String, GeneratorIndex.Entry> entries = new LinkedHashMap<>();
+        for (GeneratorIndex.Entry entry : index.getEntries()) {
+            entries.put(entry.getName(), entry);
+        }
+        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
+        for (CodegenConfig config : notIndexed(loader, index, null)) {
+            entries.putIfAbsent(config.getName(), GeneratorIndex.entryOf(config));
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * Instantiates the generators of a service loader whose class isn't in the index, except if the indexed generator
+     * failed to load: in that case all the generators are instantiated.
+     */
+    private static List<CodegenConfig> notIndexed(ServiceLoader<CodegenConfig> loader, GeneratorIndex index, GeneratorIndex.Entry failed) {
+        if (failed != null || index.isEmpty()) {
+            List<CodegenConfig> all = new ArrayList<>();
+            loader.forEach(all::add);
+            return all;
+        }
+        Set<String> indexedClasses = index.getEntries().stream()
+                .map(GeneratorIndex.Entry::getClassName)
+                .collect(Collectors.toSet());
+        return loader.stream()
+                .filter(provider -> !indexedClasses.contains(provider.type().getName()))
+                .map(ServiceLoader.Provider::get)
+                .collect(Collectors.toList());
+    }
 }
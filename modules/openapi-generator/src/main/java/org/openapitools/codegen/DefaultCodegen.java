@@ -17,9 +17,6 @@
 
 package org.openapitools.codegen;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.Ticker;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableMap;
 import com.samskivert.mustache.Mustache;
@@ -44,12 +41,14 @@ import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.text.StringEscapeUtils;
 import org.openapitools.codegen.CodegenDiscriminator.MappedModel;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.examples.ExampleCache;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.openapitools.codegen.languages.PhpNextgenClientCodegen;
 import org.openapitools.codegen.languages.RustAxumServerCodegen;
@@ -67,7 +66,9 @@ import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.mustache.*;
 import org.openapitools.codegen.utils.ExamplesUtils;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.NameCache;
 import org.openapitools.codegen.utils.OneOfImplementorAdditionalData;
+import org.openapitools.codegen.utils.StronglyConnectedComponents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -78,8 +79,8 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -97,13 +98,12 @@ public class DefaultCodegen implements CodegenConfig {
 
     public static FeatureSet DefaultFeatureSet;
 
-    // A cache of sanitized words. The sanitizeName() method is invoked many times with the same
-    // arguments, this cache is used to optimized performance.
-    private static final Cache<SanitizeNameOptions, String> sanitizedNameCache;
     private static final String xSchemaTestExamplesKey = "x-schema-test-examples";
     private static final String xSchemaTestExamplesRefPrefix = "#/components/x-schema-test-examples/";
     protected static Schema falseSchema;
     protected static Schema trueSchema = new Schema();
+    // marks the references resolved to themselves in the schema caches, which can't hold null values
+    private static final Schema UNRESOLVED_SCHEMA = new Schema();
 
     static {
         DefaultFeatureSet = FeatureSet.newBuilder()
@@ -149,13 +149,6 @@ public class DefaultCodegen implements CodegenConfig {
                 )
                 .build();
 
-        int cacheSize = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_SIZE_PROPERTY, "500"));
-        int cacheExpiry = Integer.parseInt(GlobalSettings.getProperty(NAME_CACHE_EXPIRY_PROPERTY, "10"));
-        sanitizedNameCache = Caffeine.newBuilder()
-                .maximumSize(cacheSize)
-                .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
-                .ticker(Ticker.systemTicker())
-                .build();
         falseSchema = new Schema();
         falseSchema.setNot(new Schema());
     }
@@ -285,6 +278,8 @@ public class DefaultCodegen implements CodegenConfig {
     protected String ignoreFilePathOverride;
     // flag to indicate whether to use environment variable to post process file
     protected boolean enablePostProcessFile = false;
+    // set by the generator while generating, to run the post-processors of the generated files in batches
+    @Setter protected PostProcessingQueue postProcessingQueue;
     private TemplatingEngineAdapter templatingEngine = new MustacheEngineAdapter();
     // flag to indicate whether to use the utils.OneOfImplementorAdditionalData related logic
     protected boolean useOneOfInterfaces = false;
@@ -295,6 +290,18 @@ public class DefaultCodegen implements CodegenConfig {
     // flag to indicate whether to only update files whose contents have changed
     protected boolean enableMinimalUpdate = false;
 
+    // number of workers rendering model and api files concurrently, 1 renders all files on the generating thread
+    protected int renderWorkers = 1;
+
+    // number of workers converting the schemas to models and the operations concurrently, 1 converts them all on the generating thread
+    protected int processWorkers = 1;
+
+    // flag to indicate whether to only render the models and apis whose inputs have changed since the previous generation
+    protected boolean incrementalGeneration = false;
+
+    // flag to indicate whether to write a report of the metrics of the generation to the .openapi-generator directory
+    protected boolean reportMetrics = false;
+
     // acts strictly upon a spec, potentially modifying it to have consistent behavior across generators.
     protected boolean strictSpecBehavior = true;
     // flag to indicate whether enum value prefixes are removed
@@ -316,10 +323,11 @@ public class DefaultCodegen implements CodegenConfig {
     protected OpenAPI openAPI;
 
     // A cache to efficiently lookup a Schema instance based on the return value of `toModelName()`.
-    private Map<String, Schema> modelNameToSchemaCache;
+    private volatile Map<String, Schema> modelNameToSchemaCache;
 
-    // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    // A cache to efficiently lookup schema `toModelName()` based on the schema Key, synchronized as the models may be
+    // converted concurrently (see getProcessWorkers())
+    private final Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     protected boolean loadDeepObjectIntoItems = true;
 
@@ -714,13 +722,13 @@ public class DefaultCodegen implements CodegenConfig {
         final Map<String, List<CodegenProperty>> allVarsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getAllVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, allVarsDependencyMap));
+        setCircularReferencesOnProperties(models.keySet(), allVarsDependencyMap);
 
         // for vars
         final Map<String, List<CodegenProperty>> varsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, varsDependencyMap));
+        setCircularReferencesOnProperties(models.keySet(), varsDependencyMap);
 
         // for oneOf
         final Map<String, List<CodegenProperty>> oneOfDependencyMap = models.entrySet().stream()
@@ -728,7 +736,7 @@ public class DefaultCodegen implements CodegenConfig {
                         (entry.getValue().getComposedSchemas() != null && entry.getValue().getComposedSchemas().getOneOf() != null)
                                 ? entry.getValue().getComposedSchemas().getOneOf() : new ArrayList<CodegenProperty>())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, oneOfDependencyMap));
+        setCircularReferencesOnProperties(models.keySet(), oneOfDependencyMap);
     }
 
     private List<CodegenProperty> getModelDependencies(List<CodegenProperty> vars) {
@@ -743,35 +751,28 @@ public class DefaultCodegen implements CodegenConfig {
                 .collect(Collectors.toList());
     }
 
-    private void setCircularReferencesOnProperties(final String root,
+    /**
+     * Marks the properties which are part of a cycle of references: a property of a model refers to a model (or to
+     * the models of a container), which is circular if the model of the property can be reached from there, i.e. if
+     * both models are in the same strongly connected component of the dependency graph.
+     *
+     * @param roots         The names of the models, in the order the properties are marked in
+     * @param dependencyMap The properties of each model referring to other models
+     */
+    private void setCircularReferencesOnProperties(final Collection<String> roots,
                                                    final Map<String, List<CodegenProperty>> dependencyMap) {
-        dependencyMap.getOrDefault(root, new ArrayList<>())
-                .forEach(prop -> {
-                    final List<String> unvisited =
-                            Collections.singletonList(prop.isContainer ? prop.items.dataType : prop.dataType);
-                    prop.isCircularReference = isCircularReference(root,
-                            new HashSet<>(),
-                            new ArrayList<>(unvisited),
-                            dependencyMap);
-                });
-    }
-
-    private boolean isCircularReference(final String root,
-                                        final Set<String> visited,
-                                        final List<String> unvisited,
-                                        final Map<String, List<CodegenProperty>> dependencyMap) {
-        for (int i = 0; i < unvisited.size(); i++) {
-            final String next = unvisited.get(i);
-            if (!visited.contains(next)) {
-                if (next.equals(root)) {
-                    return true;
-                }
-                dependencyMap.getOrDefault(next, new ArrayList<>())
-                        .forEach(prop -> unvisited.add(prop.isContainer ? prop.items.dataType : prop.dataType));
-                visited.add(next);
-            }
-        }
-        return false;
+        final Map<String, List<String>> graph = new HashMap<>();
+        dependencyMap.forEach((name, props) -> graph.put(name, props.stream()
+                .map(DefaultCodegen::getDependencyName)
+                .collect(Collectors.toList())));
+        final StronglyConnectedComponents components = new StronglyConnectedComponents(graph);
+
+        roots.forEach(root -> dependencyMap.getOrDefault(root, Collections.emptyList())
+                .forEach(prop -> prop.isCircularReference = components.isSameComponent(root, getDependencyName(prop))));
+    }
+
+    private static String getDependencyName(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
     }
 
     // override with any special post-processing
@@ -949,6 +950,7 @@ public class DefaultCodegen implements CodegenConfig {
             LOGGER.warn(UNSUPPORTED_V310_SPEC_MSG);
         }
         this.openAPI = openAPI;
+        clearSchemaCaches();
         // Set global settings such that helper functions in ModelUtils can lookup the value
         // of the CLI option.
         ModelUtils.setDisallowAdditionalPropertiesIfNotPresent(getDisallowAdditionalPropertiesIfNotPresent());
@@ -2338,7 +2340,39 @@ public class DefaultCodegen implements CodegenConfig {
 
     @Override
     public Schema unaliasSchema(Schema schema) {
-        return ModelUtils.unaliasSchema(this.openAPI, schema, schemaMapping);
+        if (schema == null || StringUtils.isEmpty(schema.get$ref())) {
+            return ModelUtils.unaliasSchema(this.openAPI, schema, schemaMapping);
+        }
+        // the result only depends on the referenced schemas: either the reference itself or the schema it resolves to
+        validateSchemaCaches();
+        Schema unaliased = unaliasedSchemaCache.get(schema.get$ref());
+        if (unaliased == null) {
+            Schema resolved = ModelUtils.unaliasSchema(this.openAPI, schema, schemaMapping);
+            unaliased = resolved == schema ? UNRESOLVED_SCHEMA : resolved;
+            unaliasedSchemaCache.put(schema.get$ref(), unaliased);
+        }
+        return unaliased == UNRESOLVED_SCHEMA ? schema : unaliased;
+    }
+
+    /**
+     * Returns the schema referenced by a schema (see {@link ModelUtils#getReferencedSchema(OpenAPI, Schema)}), looked
+     * up once per reference.
+     *
+     * @param schema potentially containing a '$ref'
+     * @return schema without '$ref'
+     */
+    protected Schema getReferencedSchema(Schema schema) {
+        if (schema == null || StringUtils.isEmpty(schema.get$ref())) {
+            return schema;
+        }
+        validateSchemaCaches();
+        Schema referenced = referencedSchemaCache.get(schema.get$ref());
+        if (referenced == null) {
+            Schema resolved = ModelUtils.getReferencedSchema(this.openAPI, schema);
+            referenced = resolved == schema ? UNRESOLVED_SCHEMA : resolved;
+            referencedSchemaCache.put(schema.get$ref(), referenced);
+        }
+        return referenced == UNRESOLVED_SCHEMA ? schema : referenced;
     }
 
     private List<Map<String, Object>> unaliasExamples(Map<String, Example> examples){
@@ -2356,7 +2390,7 @@ public class DefaultCodegen implements CodegenConfig {
 
         if (ModelUtils.isRefToSchemaWithProperties(unaliasSchema.get$ref())) {
             // ref to schema's properties, e.g. #/components/schemas/Pet/properties/category
-            Schema refSchema = ModelUtils.getReferencedSchema(openAPI, unaliasSchema);
+            Schema refSchema = getReferencedSchema(unaliasSchema);
             if (refSchema != null) {
                 return getSingleSchemaType(refSchema);
             }
@@ -2625,24 +2659,90 @@ public class DefaultCodegen implements CodegenConfig {
         private boolean required;
         private boolean schemaIsFromAdditionalProperties;
 
+        // the schemas are compared by identity, rather than by deep comparisons of their subtrees, except the references
+        // (which may be repeated in many places of the specification): those are compared by value, after their $ref
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             NamedSchema that = (NamedSchema) o;
-            return Objects.equals(required, that.required) &&
+            return required == that.required &&
+                    schemaIsFromAdditionalProperties == that.schemaIsFromAdditionalProperties &&
                     Objects.equals(name, that.name) &&
-                    Objects.equals(schema, that.schema) &&
-                    Objects.equals(schemaIsFromAdditionalProperties, that.schemaIsFromAdditionalProperties);
+                    isSameSchema(schema, that.schema);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, schema, required, schemaIsFromAdditionalProperties);
+            Object schemaKey = schema.get$ref() != null ? schema.get$ref() : System.identityHashCode(schema);
+            return Objects.hash(name, schemaKey, required, schemaIsFromAdditionalProperties);
+        }
+
+        private static boolean isSameSchema(Schema schema, Schema other) {
+            return schema == other || (schema.get$ref() != null && schema.get$ref().equals(other.get$ref()) && schema.equals(other));
+        }
+    }
+
+    Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new ConcurrentHashMap<>();
+    // the schemas resolved from references, by $ref (see #unaliasSchema(Schema) and #getReferencedSchema(Schema))
+    private final Map<String, Schema> unaliasedSchemaCache = new ConcurrentHashMap<>();
+    private final Map<String, Schema> referencedSchemaCache = new ConcurrentHashMap<>();
+    // the serialized examples of the models, shared by the examples of the operations
+    private final ExampleCache exampleCache = new ExampleCache();
+    // the state the schema caches were filled in: the specification, the value of
+    // ModelUtils#getSchemaModificationCount(OpenAPI) for it and whether the aliases are generated as models
+    private volatile OpenAPI schemaCachesOpenAPI;
+    private volatile long schemaCachesModificationCount;
+    private volatile boolean schemaCachesGenerateAliasAsModel;
+
+    /**
+     * Clears the results cached by schema (see {@link #fromProperty(String, Schema)}, {@link #unaliasSchema(Schema)},
+     * {@link #getReferencedSchema(Schema)} and the examples of the operations) if the specification was replaced, if
+     * its schemas were updated in place (see {@link ModelUtils#schemasModified(OpenAPI)}) or if the generation of the
+     * aliases as models was toggled since. The schemas of other specifications being updated don't clear the caches.
+     */
+    private void validateSchemaCaches() {
+        long modificationCount = ModelUtils.getSchemaModificationCount(openAPI);
+        boolean generateAliasAsModel = ModelUtils.isGenerateAliasAsModel();
+        if (modificationCount != schemaCachesModificationCount || openAPI != schemaCachesOpenAPI
+                || generateAliasAsModel != schemaCachesGenerateAliasAsModel) {
+            clearSchemaCaches();
+            schemaCachesOpenAPI = openAPI;
+            schemaCachesModificationCount = modificationCount;
+            schemaCachesGenerateAliasAsModel = generateAliasAsModel;
         }
     }
 
-    Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new HashMap<>();
+    private void clearSchemaCaches() {
+        schemaCodegenPropertyCache.clear();
+        unaliasedSchemaCache.clear();
+        referencedSchemaCache.clear();
+        exampleCache.clear();
+    }
+
+    /**
+     * @param schema A schema
+     * @return Whether the schema is equal to the schema of the boolean value true, i.e. an empty schema. The deep
+     * comparison is only done for the schemas which may be empty.
+     */
+    protected static boolean isBooleanSchemaTrue(Schema schema) {
+        return schema == trueSchema || (isUntypedSchema(schema) && schema.getNot() == null && schema.equals(trueSchema));
+    }
+
+    /**
+     * @param schema A schema
+     * @return Whether the schema is equal to the schema of the boolean value false, i.e. an empty 'not' schema. The
+     * deep comparison is only done for the schemas which may be equal.
+     */
+    protected static boolean isBooleanSchemaFalse(Schema schema) {
+        return schema == falseSchema || (isUntypedSchema(schema) && schema.getNot() != null && schema.equals(falseSchema));
+    }
+
+    private static boolean isUntypedSchema(Schema schema) {
+        return schema.get$ref() == null && schema.getType() == null && schema.getTypes() == null
+                && schema.getProperties() == null && schema.getItems() == null && schema.getAllOf() == null
+                && schema.getAnyOf() == null && schema.getOneOf() == null;
+    }
 
     protected void updateModelForComposedSchema(CodegenModel m, Schema schema, Map<String, Schema> allDefinitions) {
         final Schema composed = schema;
@@ -3014,9 +3114,9 @@ public class DefaultCodegen implements CodegenConfig {
         Map<String, Schema> allDefinitions = ModelUtils.getSchemas(this.openAPI);
 
         CodegenModel m = CodegenModelFactory.newInstance(CodegenModelType.MODEL);
-        if (schema.equals(trueSchema)) {
+        if (isBooleanSchemaTrue(schema)) {
             m.setIsBooleanSchemaTrue(true);
-        } else if (schema.equals(falseSchema)) {
+        } else if (isBooleanSchemaFalse(schema)) {
             m.setIsBooleanSchemaFalse(true);
         }
         // unalias schema
@@ -3271,7 +3371,7 @@ public class DefaultCodegen implements CodegenConfig {
      * @param visitedSchemas     A set of visited schema names
      */
     private CodegenProperty discriminatorFound(String composedSchemaName, Schema sc, String discPropName, Set<String> visitedSchemas) {
-        Schema refSchema = ModelUtils.getReferencedSchema(openAPI, sc);
+        Schema refSchema = getReferencedSchema(sc);
         String schemaName = Optional.ofNullable(composedSchemaName)
                 .or(() -> Optional.ofNullable(refSchema.getName()))
                 .or(() -> Optional.ofNullable(sc.get$ref()).map(ModelUtils::getSimpleRef))
@@ -3283,7 +3383,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         if (refSchema.getProperties() != null && refSchema.getProperties().get(discPropName) != null) {
-            Schema discSchema = ModelUtils.getReferencedSchema(openAPI, (Schema) refSchema.getProperties().get(discPropName));
+            Schema discSchema = getReferencedSchema((Schema) refSchema.getProperties().get(discPropName));
             CodegenProperty cp = new CodegenProperty();
             if (ModelUtils.isStringSchema(discSchema)) {
                 cp.isString = true;
@@ -3371,7 +3471,7 @@ public class DefaultCodegen implements CodegenConfig {
      * @param visitedSchemas An array list of visited schemas
      */
     private Discriminator recursiveGetDiscriminator(Schema sc, ArrayList<Schema> visitedSchemas) {
-        Schema refSchema = ModelUtils.getReferencedSchema(openAPI, sc);
+        Schema refSchema = getReferencedSchema(sc);
         Discriminator foundDisc = refSchema.getDiscriminator();
         if (foundDisc != null) {
             return foundDisc;
@@ -3742,7 +3842,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         if (StringUtils.isNotBlank(schema.get$ref())) {
-            Schema interfaceSchema = ModelUtils.getReferencedSchema(this.openAPI, schema);
+            Schema interfaceSchema = getReferencedSchema(schema);
             addProperties(properties, required, interfaceSchema, visitedSchemas);
             return;
         }
@@ -3935,6 +4035,7 @@ public class DefaultCodegen implements CodegenConfig {
             return null;
         }
         LOGGER.debug("debugging fromProperty for {}: {}", name, p);
+        validateSchemaCaches();
         NamedSchema ns = new NamedSchema(name, p, required, schemaIsFromAdditionalProperties);
         CodegenProperty cpc = schemaCodegenPropertyCache.get(ns);
         if (cpc != null) {
@@ -3963,9 +4064,9 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         CodegenProperty property = CodegenModelFactory.newInstance(CodegenModelType.PROPERTY);
-        if (p.equals(trueSchema)) {
+        if (isBooleanSchemaTrue(p)) {
             property.setIsBooleanSchemaTrue(true);
-        } else if (p.equals(falseSchema)) {
+        } else if (isBooleanSchemaFalse(p)) {
             property.setIsBooleanSchemaFalse(true);
         }
 
@@ -4031,7 +4132,7 @@ public class DefaultCodegen implements CodegenConfig {
         if (p.getExtensions() != null && !p.getExtensions().isEmpty()) {
             property.getVendorExtensions().putAll(p.getExtensions());
         } else if (p.get$ref() != null) {
-            Schema referencedSchema = ModelUtils.getReferencedSchema(this.openAPI, p);
+            Schema referencedSchema = getReferencedSchema(p);
             if (referencedSchema.getExtensions() != null && !referencedSchema.getExtensions().isEmpty()) {
                 property.getVendorExtensions().putAll(referencedSchema.getExtensions());
             }
@@ -4060,7 +4161,7 @@ public class DefaultCodegen implements CodegenConfig {
             }
         }
 
-        Schema referencedSchema = ModelUtils.getReferencedSchema(this.openAPI, p);
+        Schema referencedSchema = getReferencedSchema(p);
 
         //Referenced enum case:
         if (referencedSchema != p && referencedSchema.getEnum() != null && !referencedSchema.getEnum().isEmpty()) {
@@ -4231,8 +4332,9 @@ public class DefaultCodegen implements CodegenConfig {
         property.defaultValueWithParam = toDefaultValueWithParam(name, p);
 
         LOGGER.debug("debugging from property return: {}", property);
-        schemaCodegenPropertyCache.put(ns, property);
-        return property;
+        // with several process workers, the property may have been converted concurrently: all share the first one
+        CodegenProperty cached = schemaCodegenPropertyCache.putIfAbsent(ns, property);
+        return cached != null ? cached : property;
     }
 
     /**
@@ -4637,32 +4739,35 @@ public class DefaultCodegen implements CodegenConfig {
 
         // check skipOperationExample, which can be set to true to avoid out of memory errors for large spec
         if (!isSkipOperationExample() && operation.getResponses() != null) {
-            // generate examples
-            ExampleGenerator generator = new ExampleGenerator(schemas, this.openAPI);
-            List<Map<String, String>> examples = new ArrayList<>();
-
-            for (String statusCode : operation.getResponses().keySet()) {
-                ApiResponse apiResponse = ModelUtils.getReferencedApiResponse(openAPI, operation.getResponses().get(statusCode));
-                Schema schema = unaliasSchema(ModelUtils.getSchemaFromResponse(openAPI, apiResponse));
-                if (schema == null) {
-                    // void response
-                    continue;
-                }
+            // generate examples, which read and update the schemas shared with the other operations
+            SchemaUpdates.run(() -> {
+                validateSchemaCaches();
+                ExampleGenerator generator = new ExampleGenerator(schemas, this.openAPI, exampleCache);
+                List<Map<String, String>> examples = new ArrayList<>();
+
+                for (String statusCode : operation.getResponses().keySet()) {
+                    ApiResponse apiResponse = ModelUtils.getReferencedApiResponse(openAPI, operation.getResponses().get(statusCode));
+                    Schema schema = unaliasSchema(ModelUtils.getSchemaFromResponse(openAPI, apiResponse));
+                    if (schema == null) {
+                        // void response
+                        continue;
+                    }
 
-                if (apiResponse.getContent() != null) {
-                    Set<String> producesInfo = new ConcurrentSkipListSet<>(apiResponse.getContent().keySet());
+                    if (apiResponse.getContent() != null) {
+                        Set<String> producesInfo = new ConcurrentSkipListSet<>(apiResponse.getContent().keySet());
 
-                    String exampleStatusCode = statusCode;
-                    if (exampleStatusCode.equals("default")) {
-                        exampleStatusCode = "200";
-                    }
-                    List<Map<String, String>> examplesForResponse = generator.generateFromResponseSchema(exampleStatusCode, schema, producesInfo);
-                    if (examplesForResponse != null) {
-                        examples.addAll(examplesForResponse);
+                        String exampleStatusCode = statusCode;
+                        if (exampleStatusCode.equals("default")) {
+                            exampleStatusCode = "200";
+                        }
+                        List<Map<String, String>> examplesForResponse = generator.generateFromResponseSchema(exampleStatusCode, schema, producesInfo);
+                        if (examplesForResponse != null) {
+                            examples.addAll(examplesForResponse);
+                        }
                     }
                 }
-            }
-            op.examples = examples;
+                op.examples = examples;
+            });
         }
 
         if (operation.getCallbacks() != null && !operation.getCallbacks().isEmpty()) {
@@ -4730,7 +4835,11 @@ public class DefaultCodegen implements CodegenConfig {
 
                     // add example
                     if (schemas != null && !isSkipOperationExample()) {
-                        op.requestBodyExamples = new ExampleGenerator(schemas, this.openAPI).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), bodyParam.baseType);
+                        String baseType = bodyParam.baseType;
+                        SchemaUpdates.run(() -> {
+                            validateSchemaCaches();
+                            op.requestBodyExamples = new ExampleGenerator(schemas, this.openAPI, exampleCache).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), baseType);
+                        });
                     }
                 }
             }
@@ -5428,7 +5537,7 @@ public class DefaultCodegen implements CodegenConfig {
         if (codegenParameter.isQueryParam && codegenParameter.isDeepObject && loadDeepObjectIntoItems) {
             Schema schema = parameterSchema;
             if (schema.get$ref() != null) {
-                schema = ModelUtils.getReferencedSchema(openAPI, schema);
+                schema = getReferencedSchema(schema);
             }
             codegenParameter.items = fromProperty(codegenParameter.paramName, schema, false);
             // https://swagger.io/docs/specification/serialization/
@@ -5463,7 +5572,7 @@ public class DefaultCodegen implements CodegenConfig {
     }
 
     private Schema getReferencedSchemaWhenNotEnum(Schema parameterSchema) {
-        Schema referencedSchema = ModelUtils.getReferencedSchema(openAPI, parameterSchema);
+        Schema referencedSchema = getReferencedSchema(parameterSchema);
         if (referencedSchema.getEnum() != null && !referencedSchema.getEnum().isEmpty()) {
             referencedSchema = parameterSchema;
         }
@@ -6101,7 +6210,7 @@ public class DefaultCodegen implements CodegenConfig {
             if (isAliasOfSimpleTypes(schema)) {
                 if (schema.getAllOf() != null && schema.getAllOf().size() == 1) { // allOf with a single item
                     Schema unaliasSchema = unaliasSchema(schema);
-                    unaliasSchema = ModelUtils.getReferencedSchema(this.openAPI, unaliasSchema);
+                    unaliasSchema = getReferencedSchema(unaliasSchema);
                     aliases.put(entry.getKey() /* schema name, e.g. Pet */, getPrimitiveType(unaliasSchema));
                 } else {
                     aliases.put(entry.getKey() /* schema name, e.g. Pet */, getPrimitiveType(schema));
@@ -6121,7 +6230,7 @@ public class DefaultCodegen implements CodegenConfig {
         if (schema.getAllOf() != null && schema.getAllOf().size() == 1
                 && schema.getAllOf().get(0) instanceof Schema) {
             schema = unaliasSchema((Schema) schema.getAllOf().get(0));
-            schema = ModelUtils.getReferencedSchema(this.openAPI, schema);
+            schema = getReferencedSchema(schema);
         }
 
         return (!ModelUtils.isObjectSchema(schema)
@@ -6549,7 +6658,8 @@ public class DefaultCodegen implements CodegenConfig {
 
         SanitizeNameOptions opts = new SanitizeNameOptions(name, removeCharRegEx, exceptionList);
 
-        return sanitizedNameCache.get(opts, sanitizeNameOptions -> {
+        // The sanitizeName() method is invoked many times with the same arguments, the names are cached to optimize performance.
+        return NameCache.current().get(NameCache.Kind.SANITIZE, opts, sanitizeNameOptions -> {
             String modifiable = sanitizeNameOptions.getName();
             List<String> exceptions = sanitizeNameOptions.getExceptions();
             // input[] => input
@@ -7088,7 +7198,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         Schema schema = ModelUtils.getSchemaFromRequestBody(requestBody);
-        return ModelUtils.getReferencedSchema(openAPI, schema) != null;
+        return getReferencedSchema(schema) != null;
     }
 
     private void addProducesInfo(ApiResponse inputResponse, CodegenOperation codegenOperation) {
@@ -7187,7 +7297,7 @@ public class DefaultCodegen implements CodegenConfig {
         List<CodegenParameter> parameters = new ArrayList<>();
         LOGGER.debug("debugging fromRequestBodyToFormParameters= {}", body);
         Schema schema = ModelUtils.getSchemaFromRequestBody(body);
-        schema = ModelUtils.getReferencedSchema(this.openAPI, schema);
+        schema = getReferencedSchema(schema);
 
         Schema original = null;
         // check if it's allOf (only 1 sub schema) with or without default/nullable/etc set in the top level
@@ -7439,7 +7549,7 @@ public class DefaultCodegen implements CodegenConfig {
     protected void addBodyModelSchema(CodegenParameter codegenParameter, String name, Schema schema, Set<String> imports, String bodyParameterName, boolean forceSimpleRef) {
         CodegenModel codegenModel = null;
         if (StringUtils.isNotBlank(name)) {
-            schema.setName(name);
+            SchemaUpdates.run(() -> schema.setName(name));
             codegenModel = fromModel(name, schema);
         }
         if (codegenModel != null) {
@@ -7860,7 +7970,7 @@ public class DefaultCodegen implements CodegenConfig {
         }
 
         Schema unaliasedSchema = unaliasSchema(schema);
-        schema = ModelUtils.getReferencedSchema(this.openAPI, schema);
+        schema = getReferencedSchema(schema);
 
         ModelUtils.syncValidationProperties(unaliasedSchema, codegenParameter);
         codegenParameter.setTypeProperties(unaliasedSchema, openAPI);
@@ -8253,6 +8363,21 @@ public class DefaultCodegen implements CodegenConfig {
         return false;
     }
 
+    /**
+     * Executes an external command for post processing a file, the file being passed as last argument. While
+     * generating, the command is executed in batches along with the other files post-processed by the same command.
+     *
+     * @param commandArr an array of commands and arguments. They will be concatenated with space and tokenized again.
+     * @param file       file to be processed
+     */
+    protected void executePostProcessor(String[] commandArr, File file) {
+        if (postProcessingQueue == null) {
+            executePostProcessor(ArrayUtils.add(commandArr, file.toString()));
+        } else {
+            postProcessingQueue.add(commandArr, file);
+        }
+    }
+
     /**
      * Boolean value indicating the state of the option for post-processing file using environment variables.
      *
@@ -8291,6 +8416,99 @@ public class DefaultCodegen implements CodegenConfig {
         this.enableMinimalUpdate = enableMinimalUpdate;
     }
 
+    /**
+     * Get the number of workers rendering model and api files concurrently
+     */
+    @Override
+    public int getRenderWorkers() {
+        return renderWorkers;
+    }
+
+    /**
+     * Set the number of workers rendering model and api files concurrently
+     *
+     * @param renderWorkers the number of workers, 1 to render all files on the generating thread
+     */
+    @Override
+    public void setRenderWorkers(int renderWorkers) {
+        this.renderWorkers = Math.max(1, renderWorkers);
+    }
+
+    /**
+     * Get the number of workers converting the schemas to models and the operations concurrently
+     */
+    @Override
+    public int getProcessWorkers() {
+        return processWorkers;
+    }
+
+    /**
+     * Set the number of workers converting the schemas to models and the operations concurrently, see
+     * {@link #fromModel(String, Schema)} and {@link #fromOperation(String, String, Operation, List)}
+     *
+     * @param processWorkers the number of workers, 1 to convert them all on the generating thread
+     */
+    @Override
+    public void setProcessWorkers(int processWorkers) {
+        this.processWorkers = Math.max(1, processWorkers);
+    }
+
+    /**
+     * Whether the schemas may be converted to models concurrently. False by default: the generators overriding
+     * {@link #fromModel(String, Schema)}, or the methods it calls, often collect state in fields or in the additional
+     * properties. A generator returns true once its conversions are known not to write any shared state.
+     */
+    @Override
+    public boolean supportsParallelModels() {
+        return false;
+    }
+
+    /**
+     * Whether the operations may be converted concurrently. False by default, for the same reasons as
+     * {@link #supportsParallelModels()}. The updates of the shared schemas made by this class while converting an
+     * operation, its examples and the naming of its body schema, are run in the order of the operations anyway.
+     */
+    @Override
+    public boolean supportsParallelOperations() {
+        return false;
+    }
+
+    /**
+     * Get the boolean value indicating the state of the option for incremental generation
+     */
+    @Override
+    public boolean isIncrementalGeneration() {
+        return incrementalGeneration;
+    }
+
+    /**
+     * Set the boolean value indicating the state of the option for incremental generation
+     *
+     * @param incrementalGeneration true to only render the models and apis whose inputs have changed
+     */
+    @Override
+    public void setIncrementalGeneration(boolean incrementalGeneration) {
+        this.incrementalGeneration = incrementalGeneration;
+    }
+
+    /**
+     * Get the boolean value indicating the state of the option for the metrics report
+     */
+    @Override
+    public boolean isReportMetrics() {
+        return reportMetrics;
+    }
+
+    /**
+     * Set the boolean value indicating the state of the option for the metrics report
+     *
+     * @param reportMetrics true to write a report of the metrics of the generation
+     */
+    @Override
+    public void setReportMetrics(boolean reportMetrics) {
+        this.reportMetrics = reportMetrics;
+    }
+
     /**
      * Indicates whether the codegen configuration should treat documents as strictly defined by the OpenAPI specification.
      *
@@ -17,6 +17,7 @@
 
 package org.openapitools.codegen;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.*;
 import io.swagger.v3.oas.models.info.Contact;
@@ -33,6 +34,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.api.*;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.ParsedSpecCache;
 import org.openapitools.codegen.ignore.CodegenIgnoreProcessor;
 import org.openapitools.codegen.meta.GeneratorMetadata;
 import org.openapitools.codegen.meta.Stability;
@@ -41,7 +43,10 @@ import org.openapitools.codegen.serializer.SerializerUtils;
 import org.openapitools.codegen.templating.CommonTemplateContentLocator;
 import org.openapitools.codegen.templating.GeneratorTemplateContentLocator;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
+import org.openapitools.codegen.templating.MustacheTemplateCache;
+import org.openapitools.codegen.templating.OutputSink;
 import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.openapitools.codegen.templating.mustache.LambdaState;
 import org.openapitools.codegen.utils.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,7 +60,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -93,6 +99,20 @@ public class DefaultGenerator implements Generator {
     @Getter protected TemplateProcessor templateProcessor = null;
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
+    // renders the model and api files concurrently, only set during generate() when config.getRenderWorkers() > 1
+    private ExecutorService renderExecutor;
+    // runs the post-processors of the generated files in batches, only set during generate() when post-processing is enabled
+    private PostProcessingQueue postProcessingQueue;
+    // the fingerprints of the models and apis, only set during generate() when incremental generation is enabled
+    private FingerprintStore fingerprints;
+    // receives the generated files in place of the file system, if set by the ClientOptInput
+    private OutputSink outputSink;
+    // the name caches of the current (or else the last) generate() call, cleared once it completes
+    private NameCache nameCache;
+    // the metrics of the generation, see getMetrics()
+    private GenerationMetrics metrics = new GenerationMetrics();
+    // the copy of the additional properties read through by the template data, see sharedAdditionalProperties()
+    private Map<String, Object> sharedAdditionalProperties;
     private String generatorCheck = "spring";
     private String templateCheck = "apiController.mustache";
 
@@ -112,6 +132,10 @@ public class DefaultGenerator implements Generator {
         this.opts = opts;
         this.openAPI = opts.getOpenAPI();
         this.config = opts.getConfig();
+        if (opts.getMetrics() != null) {
+            this.metrics = opts.getMetrics();
+        }
+        this.outputSink = opts.getOutputSink();
 
         List<TemplateDefinition> userFiles = opts.getUserDefinedTemplates();
         if (userFiles != null) {
@@ -132,11 +156,14 @@ public class DefaultGenerator implements Generator {
 
             TemplatePathLocator commonTemplateLocator = new CommonTemplateContentLocator();
             TemplatePathLocator generatorTemplateLocator = new GeneratorTemplateContentLocator(this.config);
-            this.templateProcessor = new TemplateManager(
+            TemplateManager templateManager = new TemplateManager(
                     templateManagerOptions,
                     templatingEngine,
                     new TemplatePathLocator[]{generatorTemplateLocator, commonTemplateLocator}
             );
+            templateManager.setMetrics(this.metrics);
+            templateManager.setOutputSink(this.outputSink);
+            this.templateProcessor = templateManager;
         }
 
         String ignoreFileLocation = this.config.getIgnoreFilePathOverride();
@@ -249,36 +276,38 @@ public class DefaultGenerator implements Generator {
         }
 
         config.processOpts();
+        if (outputSink != null && config.isEnablePostProcessFile()) {
+            // the post processors (e.g. formatters) update the files in the output directory, which isn't written to
+            LOGGER.warn("Skipping the post processing of the generated files (enablePostProcessFile), as they are written to an output sink ({}) rather than to the output directory.",
+                    outputSink.getClass().getSimpleName());
+            config.setEnablePostProcessFile(false);
+        }
         if (opts != null && opts.getGeneratorSettings() != null) {
             config.typeMapping().putAll(opts.getGeneratorSettings().getTypeMappings());
             config.importMapping().putAll(opts.getGeneratorSettings().getImportMappings());
         }
 
-        // normalize the spec
-        try {
-            if (config.getUseOpenapiNormalizer()) {
-                SemVer version = new SemVer(openAPI.getOpenapi());
-                if (version.atLeast("3.1.0")) {
-                    config.openapiNormalizer().put("NORMALIZE_31SPEC", "true");
-                }
-                OpenAPINormalizer openapiNormalizer = OpenAPINormalizer.createNormalizer(openAPI, config.openapiNormalizer());
-                openapiNormalizer.normalize();
+        if (config.getUseOpenapiNormalizer()) {
+            SemVer version = new SemVer(openAPI.getOpenapi());
+            if (version.atLeast("3.1.0")) {
+                config.openapiNormalizer().put("NORMALIZE_31SPEC", "true");
             }
-        } catch (Exception e) {
-            LOGGER.error("An exception occurred in OpenAPI Normalizer. Please report the issue via https://github.com/openapitools/openapi-generator/issues/new/: ");
-            e.printStackTrace();
         }
-
-        // resolve inline models
-        if (config.getUseInlineModelResolver()) {
-            InlineModelResolver inlineModelResolver = new InlineModelResolver();
-            inlineModelResolver.setInlineSchemaNameMapping(config.inlineSchemaNameMapping());
-            inlineModelResolver.setInlineSchemaOptions(config.inlineSchemaOption());
-
-            inlineModelResolver.flatten(openAPI);
+        ParsedSpecCache.ParsedSpec parsedSpec = opts != null ? opts.getParsedSpec() : null;
+        if (parsedSpec != null) {
+            // the generators of a batch sharing the spec and the settings normalize it once, then update their own copy
+            try (GenerationMetrics.Phase ignored = metrics.phase("prepare")) {
+                openAPI = parsedSpec.prepare(getNormalizationSettings(), this::normalize);
+            }
+        } else {
+            normalize(openAPI);
         }
 
-        config.preprocessOpenAPI(openAPI);
+        try (GenerationMetrics.Phase ignored = metrics.phase("preprocessOpenAPI")) {
+            config.preprocessOpenAPI(openAPI);
+        }
+        // the generators may update the schemas and the paths in place
+        ModelUtils.schemasModified(openAPI);
 
         // set OpenAPI to make these available to all methods
         config.setOpenAPI(openAPI);
@@ -307,6 +336,50 @@ public class DefaultGenerator implements Generator {
         }
     }
 
+    /**
+     * Normalizes the spec and resolves its inline models, depending on the settings of the generator.
+     *
+     * @param openAPI The spec, updated
+     */
+    private void normalize(OpenAPI openAPI) {
+        // normalize the spec
+        try (GenerationMetrics.Phase ignored = metrics.phase("normalize")) {
+            if (config.getUseOpenapiNormalizer()) {
+                OpenAPINormalizer openapiNormalizer = OpenAPINormalizer.createNormalizer(openAPI, config.openapiNormalizer());
+                openapiNormalizer.normalize();
+            }
+        } catch (Exception e) {
+            LOGGER.error("An exception occurred in OpenAPI Normalizer. Please report the issue via https://github.com/openapitools/openapi-generator/issues/new/: ");
+            e.printStackTrace();
+        }
+
+        // resolve inline models
+        if (config.getUseInlineModelResolver()) {
+            InlineModelResolver inlineModelResolver = new InlineModelResolver();
+            inlineModelResolver.setInlineSchemaNameMapping(config.inlineSchemaNameMapping());
+            inlineModelResolver.setInlineSchemaOptions(config.inlineSchemaOption());
+
+            try (GenerationMetrics.Phase ignored = metrics.phase("flatten")) {
+                inlineModelResolver.flatten(openAPI);
+            }
+        }
+    }
+
+    /**
+     * @return The settings {@link #normalize(OpenAPI)} depends on, as a key
+     */
+    private String getNormalizationSettings() {
+        return String.join("\n",
+                String.valueOf(config.getUseOpenapiNormalizer()),
+                String.valueOf(new TreeMap<>(config.openapiNormalizer())),
+                String.valueOf(config.getUseInlineModelResolver()),
+                String.valueOf(new TreeMap<>(config.inlineSchemaNameMapping())),
+                String.valueOf(new TreeMap<>(config.inlineSchemaOption())),
+                // the global settings read by the schema utilities
+                String.valueOf(ModelUtils.isGenerateAliasAsModel()),
+                String.valueOf(ModelUtils.isDisallowAdditionalPropertiesIfNotPresent()));
+    }
+
     private void configureOpenAPIInfo() {
         Info info = this.openAPI.getInfo();
         if (info == null) {
@@ -385,7 +458,7 @@ public class DefaultGenerator implements Generator {
             if (generateModelTests) {
                 // do not overwrite test file that already exists (regardless of config's skipOverwrite setting)
                 File modelTestFile = new File(filename);
-                if (modelTestFile.exists()) {
+                if (exists(modelTestFile)) {
                     this.templateProcessor.skip(modelTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                 } else {
                     File written = processTemplateToFile(models, templateName, filename, generateModelTests, CodegenConstants.MODEL_TESTS, config.modelTestFileFolder());
@@ -419,16 +492,33 @@ public class DefaultGenerator implements Generator {
         }
     }
 
-    private void generateModel(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+    /**
+     * Names the files of a model, by template. The names are unique among the models named before (see
+     * {@link CodegenConfig#modelFilename(String, String)}), so the models are named on the generating thread in the
+     * order of the models, before their files are rendered, possibly by the render workers.
+     */
+    private Map<String, String> modelFilenames(String modelName) {
+        Map<String, String> filenames = new LinkedHashMap<>();
         for (String templateName : config.modelTemplateFiles().keySet()) {
+            if (config.templateOutputDirs().containsKey(templateName)) {
+                String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
+                filenames.put(templateName, config.modelFilename(templateName, modelName, outputDir));
+            } else {
+                filenames.put(templateName, config.modelFilename(templateName, modelName));
+            }
+        }
+        return filenames;
+    }
+
+    private void generateModel(List<File> files, Map<String, Object> models, Map<String, String> filenames) throws IOException {
+        for (Map.Entry<String, String> filename : filenames.entrySet()) {
+            String templateName = filename.getKey();
             File written;
             if (config.templateOutputDirs().containsKey(templateName)) {
                 String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
-                String filename = config.modelFilename(templateName, modelName, outputDir);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS, outputDir);
+                written = processTemplateToFile(models, templateName, filename.getValue(), generateModels, CodegenConstants.MODELS, outputDir);
             } else {
-                String filename = config.modelFilename(templateName, modelName);
-                written = processTemplateToFile(models, templateName, filename, generateModels, CodegenConstants.MODELS);
+                written = processTemplateToFile(models, templateName, filename.getValue(), generateModels, CodegenConstants.MODELS);
             }
             if (written != null) {
                 files.add(written);
@@ -463,67 +553,81 @@ public class DefaultGenerator implements Generator {
                 getGeneratorPropertyDefaultSwitch(CodegenConstants.SKIP_FORM_MODEL, true);
 
         // process models only
-        for (String name : modelKeys) {
-            processedModels.add(name);
-            try {
-                //don't generate models that have an import mapping
-                if (config.schemaMapping().containsKey(name)) {
-                    LOGGER.info("Model {} not generated due to schema mapping", name);
-                    continue;
-                }
-
-                // don't generate models that are not used as object (e.g. form parameters)
-                if (unusedModels.contains(name)) {
-                    if (Boolean.FALSE.equals(skipFormModel)) {
-                        // if skipFormModel sets to true, still generate the model and log the result
-                        LOGGER.info("Model {} (marked as unused due to form parameters) is generated due to the global property `skipFormModel` set to false", name);
-                    } else {
-                        LOGGER.info("Model {} not generated since it's marked as unused (due to form parameters) and `skipFormModel` (global property) set to true (default)", name);
-                        // TODO: Should this be added to dryRun? If not, this seems like a weird place to return early from processing.
+        try (GenerationMetrics.Phase ignored = metrics.phase("processModels")) {
+            Map<String, Schema> modelSchemas = new LinkedHashMap<>();
+            for (String name : modelKeys) {
+                processedModels.add(name);
+                try {
+                    //don't generate models that have an import mapping
+                    if (config.schemaMapping().containsKey(name)) {
+                        LOGGER.info("Model {} not generated due to schema mapping", name);
                         continue;
                     }
-                }
 
-                Schema schema = ModelUtils.getSchemas(this.openAPI).get(name);
-
-                if (schema.getExtensions() != null && Boolean.TRUE.equals(schema.getExtensions().get("x-internal"))) {
-                    LOGGER.info("Model {} not generated since x-internal is set to true", name);
-                    continue;
-                } else if (ModelUtils.isFreeFormObject(schema, openAPI)) { // check to see if it's a free-form object
-                    if (!ModelUtils.shouldGenerateFreeFormObjectModel(name, config)) {
-                        LOGGER.info("Model {} not generated since it's a free-form object", name);
-                        continue;
-                    }
-                } else if (ModelUtils.isMapSchema(schema)) { // check to see if it's a "map" model
-                    if (!ModelUtils.shouldGenerateMapModel(schema)) {
-                        // schema without property, i.e. alias to map
-                        LOGGER.info("Model {} not generated since it's an alias to map (without property) and `generateAliasAsModel` is set to false (default)", name);
-                        continue;
+                    // don't generate models that are not used as object (e.g. form parameters)
+                    if (unusedModels.contains(name)) {
+                        if (Boolean.FALSE.equals(skipFormModel)) {
+                            // if skipFormModel sets to true, still generate the model and log the result
+                            LOGGER.info("Model {} (marked as unused due to form parameters) is generated due to the global property `skipFormModel` set to false", name);
+                        } else {
+                            LOGGER.info("Model {} not generated since it's marked as unused (due to form parameters) and `skipFormModel` (global property) set to true (default)", name);
+                            // TODO: Should this be added to dryRun? If not, this seems like a weird place to return early from processing.
+                            continue;
+                        }
                     }
-                } else if (ModelUtils.isArraySchema(schema)) { // check to see if it's an "array" model
-                    if (!ModelUtils.shouldGenerateArrayModel(schema)) {
-                        // schema without property, i.e. alias to array
-                        LOGGER.info("Model {} not generated since it's an alias to array (without property) and `generateAliasAsModel` is set to false (default)", name);
+
+                    Schema schema = ModelUtils.getSchemas(this.openAPI).get(name);
+
+                    if (schema.getExtensions() != null && Boolean.TRUE.equals(schema.getExtensions().get("x-internal"))) {
+                        LOGGER.info("Model {} not generated since x-internal is set to true", name);
                         continue;
+                    } else if (ModelUtils.isFreeFormObject(schema, openAPI)) { // check to see if it's a free-form object
+                        if (!ModelUtils.shouldGenerateFreeFormObjectModel(name, config)) {
+                            LOGGER.info("Model {} not generated since it's a free-form object", name);
+                            continue;
+                        }
+                    } else if (ModelUtils.isMapSchema(schema)) { // check to see if it's a "map" model
+                        if (!ModelUtils.shouldGenerateMapModel(schema)) {
+                            // schema without property, i.e. alias to map
+                            LOGGER.info("Model {} not generated since it's an alias to map (without property) and `generateAliasAsModel` is set to false (default)", name);
+                            continue;
+                        }
+                    } else if (ModelUtils.isArraySchema(schema)) { // check to see if it's an "array" model
+                        if (!ModelUtils.shouldGenerateArrayModel(schema)) {
+                            // schema without property, i.e. alias to array
+                            LOGGER.info("Model {} not generated since it's an alias to array (without property) and `generateAliasAsModel` is set to false (default)", name);
+                            continue;
+                        }
                     }
-                }
 
-                Map<String, Schema> schemaMap = new HashMap<>();
-                schemaMap.put(name, schema);
-                ModelsMap models = processModels(config, schemaMap);
-                models.put("classname", config.toModelName(name));
-                models.putAll(config.additionalProperties());
-                allProcessedModels.put(name, models);
-            } catch (Exception e) {
-                throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
+                    modelSchemas.put(name, schema);
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
+                }
+            }
+            Map<String, CodegenModel> convertedModels = convertModels(modelSchemas);
+            for (Map.Entry<String, Schema> modelSchema : modelSchemas.entrySet()) {
+                String name = modelSchema.getKey();
+                try {
+                    Map<String, Schema> schemaMap = new HashMap<>();
+                    schemaMap.put(name, modelSchema.getValue());
+                    ModelsMap models = processModels(config, schemaMap, convertedModels);
+                    models.put("classname", config.toModelName(name));
+                    models.putAllShared(sharedAdditionalProperties());
+                    allProcessedModels.put(name, models);
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not process model '" + name + "'" + ".Please make sure that your schema is correct!", e);
+                }
             }
         }
 
-        // loop through all models to update children models, isSelfReference, isCircularReference, etc
-        allProcessedModels = config.updateAllModels(allProcessedModels);
+        try (GenerationMetrics.Phase ignored = metrics.phase("postProcessAllModels")) {
+            // loop through all models to update children models, isSelfReference, isCircularReference, etc
+            allProcessedModels = config.updateAllModels(allProcessedModels);
 
-        // post process all processed models
-        allProcessedModels = config.postProcessAllModels(allProcessedModels);
+            // post process all processed models
+            allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        }
 
         if (generateRecursiveDependentModels) {
             for (ModelsMap modelsMap : allProcessedModels.values()) {
@@ -544,43 +648,64 @@ public class DefaultGenerator implements Generator {
         }
 
         // generate files based on processed models
-        for (String modelName : allProcessedModels.keySet()) {
-            ModelsMap models = allProcessedModels.get(modelName);
-            models.put("modelPackage", config.modelPackage());
-            try {
-                //don't generate models that have a schema mapping
-                if (config.schemaMapping().containsKey(modelName)) {
-                    continue;
-                }
+        try (GenerationMetrics.Phase ignored = metrics.phase("renderModels")) {
+            List<Future<List<File>>> renders = new ArrayList<>();
+            for (String modelName : allProcessedModels.keySet()) {
+                ModelsMap models = allProcessedModels.get(modelName);
+                models.put("modelPackage", config.modelPackage());
+                try {
+                    //don't generate models that have a schema mapping
+                    if (config.schemaMapping().containsKey(modelName)) {
+                        continue;
+                    }
 
-                // TODO revise below as we've already performed unaliasing so that the isAlias check may be removed
-                List<ModelMap> modelList = models.getModels();
-                if (modelList != null && !modelList.isEmpty()) {
-                    ModelMap modelTemplate = modelList.get(0);
-                    if (modelTemplate != null && modelTemplate.getModel() != null) {
-                        CodegenModel m = modelTemplate.getModel();
-                        if (m.isAlias) {
-                            // alias to number, string, enum, etc, which should not be generated as model
-                            // but aliases are still used to dereference models in some languages (such as in html2).
-                            aliasModels.add(modelTemplate);  // Store aliases in the separate list.
-                            continue;  // Don't create user-defined classes for aliases
+                    // TODO revise below as we've already performed unaliasing so that the isAlias check may be removed
+                    List<ModelMap> modelList = models.getModels();
+                    if (modelList != null && !modelList.isEmpty()) {
+                        ModelMap modelTemplate = modelList.get(0);
+                        if (modelTemplate != null && modelTemplate.getModel() != null) {
+                            CodegenModel m = modelTemplate.getModel();
+                            if (m.isAlias) {
+                                // alias to number, string, enum, etc, which should not be generated as model
+                                // but aliases are still used to dereference models in some languages (such as in html2).
+                                aliasModels.add(modelTemplate);  // Store aliases in the separate list.
+                                continue;  // Don't create user-defined classes for aliases
+                            }
                         }
+                        allModels.add(modelTemplate);
                     }
-                    allModels.add(modelTemplate);
-                }
 
-                // to generate model files
-                generateModel(files, models, modelName);
+                    Map<String, String> modelFilenames = modelFilenames(modelName);
+                    String fingerprint = fingerprints != null ? fingerprints.modelFingerprint(modelName) : null;
+                    if (fingerprint != null && fingerprints.isUpToDate(FingerprintStore.MODELS, modelName, fingerprint)) {
+                        renders.add(CompletableFuture.completedFuture(skipUnchanged(FingerprintStore.MODELS, modelName, fingerprint)));
+                        continue;
+                    }
 
-                // to generate model test files
-                generateModelTests(files, models, modelName);
+                    renders.add(submitRender(() -> {
+                        List<File> modelFiles = new ArrayList<>();
+                        try {
+                            // to generate model files
+                            generateModel(modelFiles, models, modelFilenames);
 
-                // to generate model documentation files
-                generateModelDocumentation(files, models, modelName);
+                            // to generate model test files
+                            generateModelTests(modelFiles, models, modelName);
 
-            } catch (Exception e) {
-                throw new RuntimeException("Could not generate model '" + modelName + "'", e);
+                            // to generate model documentation files
+                            generateModelDocumentation(modelFiles, models, modelName);
+                        } catch (Exception e) {
+                            throw new RuntimeException("Could not generate model '" + modelName + "'", e);
+                        }
+                        if (fingerprint != null) {
+                            fingerprints.record(FingerprintStore.MODELS, modelName, fingerprint, modelFiles);
+                        }
+                        return modelFiles;
+                    }));
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate model '" + modelName + "'", e);
+                }
             }
+            awaitRenders(files, renders);
         }
         if (GlobalSettings.getProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
@@ -660,7 +785,10 @@ public class DefaultGenerator implements Generator {
             LOGGER.info("Skipping generation of APIs.");
             return;
         }
-        Map<String, List<CodegenOperation>> paths = processPaths(this.openAPI.getPaths());
+        Map<String, List<CodegenOperation>> paths;
+        try (GenerationMetrics.Phase ignored = metrics.phase("processPaths")) {
+            paths = processPaths(this.openAPI.getPaths());
+        }
         Set<String> apisToGenerate = null;
         String apiNames = GlobalSettings.getProperty(CodegenConstants.APIS);
         if (apiNames != null && !apiNames.isEmpty()) {
@@ -675,149 +803,347 @@ public class DefaultGenerator implements Generator {
             }
             paths = updatedPaths;
         }
-        for (String tag : paths.keySet()) {
-            try {
-                List<CodegenOperation> ops = paths.get(tag);
-                if (!this.config.isSkipSortingOperations()) {
-                    // sort operations by operationId
-                    ops.sort((one, another) -> ObjectUtils.compare(one.operationId, another.operationId));
-                }
-                OperationsMap operation = processOperations(config, tag, ops, allModels);
-                URL url = URLPathUtils.getServerURL(openAPI, config.serverVariableOverrides());
-                operation.put("basePath", basePath);
-                operation.put("basePathWithoutHost", removeTrailingSlash(config.encodePath(url.getPath())));
-                operation.put("contextPath", contextPath);
-                operation.put("baseName", tag);
-                Optional.ofNullable(openAPI.getTags()).orElseGet(Collections::emptyList).stream()
-                        .map(Tag::getName)
-                        .filter(Objects::nonNull)
-                        .filter(tag::equalsIgnoreCase)
-                        .findFirst()
-                        .ifPresent(tagName -> operation.put("operationTagName", config.escapeText(tagName)));
-                operation.put("operationTagDescription", "");
-                Optional.ofNullable(openAPI.getTags()).orElseGet(Collections::emptyList).stream()
-                        .filter(t -> tag.equalsIgnoreCase(t.getName()))
-                        .map(Tag::getDescription)
-                        .filter(Objects::nonNull)
-                        .findFirst()
-                        .ifPresent(description -> operation.put("operationTagDescription", config.escapeText(description)));
-                Optional.ofNullable(config.additionalProperties().get("appVersion")).ifPresent(version -> operation.put("version", version));
-                operation.put("apiPackage", config.apiPackage());
-                operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
-                operation.put("classname", config.toApiName(tag));
-                operation.put("classVarName", config.toApiVarName(tag));
-                operation.put("importPath", config.toApiImport(tag));
-                operation.put("classFilename", config.toApiFilename(tag));
-                operation.put("strictSpecBehavior", config.isStrictSpecBehavior());
-                Optional.ofNullable(openAPI.getInfo()).map(Info::getLicense).ifPresent(license -> operation.put("license", license));
-                Optional.ofNullable(openAPI.getInfo()).map(Info::getContact).ifPresent(contact -> operation.put("contact", contact));
-
-                if (allModels == null || allModels.isEmpty()) {
-                    operation.put("hasModel", false);
-                } else {
-                    operation.put("hasModel", true);
-                }
+        try (GenerationMetrics.Phase renderPhase = metrics.phase("renderApis")) {
+            List<Future<List<File>>> renders = new ArrayList<>();
+            for (String tag : paths.keySet()) {
+                try {
+                    List<CodegenOperation> ops = paths.get(tag);
+                    if (!this.config.isSkipSortingOperations()) {
+                        // sort operations by operationId
+                        ops.sort((one, another) -> ObjectUtils.compare(one.operationId, another.operationId));
+                    }
+                    OperationsMap operation;
+                    try (GenerationMetrics.Phase ignored = metrics.phase("processOperations")) {
+                        operation = processOperations(config, tag, ops, allModels);
+                    }
+                    URL url = URLPathUtils.getServerURL(openAPI, config.serverVariableOverrides());
+                    operation.put("basePath", basePath);
+                    operation.put("basePathWithoutHost", removeTrailingSlash(config.encodePath(url.getPath())));
+                    operation.put("contextPath", contextPath);
+                    operation.put("baseName", tag);
+                    Optional.ofNullable(openAPI.getTags()).orElseGet(Collections::emptyList).stream()
+                            .map(Tag::getName)
+                            .filter(Objects::nonNull)
+                            .filter(tag::equalsIgnoreCase)
+                            .findFirst()
+                            .ifPresent(tagName -> operation.put("operationTagName", config.escapeText(tagName)));
+                    operation.put("operationTagDescription", "");
+                    Optional.ofNullable(openAPI.getTags()).orElseGet(Collections::emptyList).stream()
+                            .filter(t -> tag.equalsIgnoreCase(t.getName()))
+                            .map(Tag::getDescription)
+                            .filter(Objects::nonNull)
+                            .findFirst()
+                            .ifPresent(description -> operation.put("operationTagDescription", config.escapeText(description)));
+                    Optional.ofNullable(config.additionalProperties().get("appVersion")).ifPresent(version -> operation.put("version", version));
+                    operation.put("apiPackage", config.apiPackage());
+                    operation.put("modelPackage", config.modelPackage());
+                    operation.putAllShared(sharedAdditionalProperties());
+                    operation.put("classname", config.toApiName(tag));
+                    operation.put("classVarName", config.toApiVarName(tag));
+                    operation.put("importPath", config.toApiImport(tag));
+                    operation.put("classFilename", config.toApiFilename(tag));
+                    operation.put("strictSpecBehavior", config.isStrictSpecBehavior());
+                    Optional.ofNullable(openAPI.getInfo()).map(Info::getLicense).ifPresent(license -> operation.put("license", license));
+                    Optional.ofNullable(openAPI.getInfo()).map(Info::getContact).ifPresent(contact -> operation.put("contact", contact));
+
+                    if (allModels == null || allModels.isEmpty()) {
+                        operation.put("hasModel", false);
+                    } else {
+                        operation.put("hasModel", true);
+                    }
 
-                if (!config.vendorExtensions().isEmpty()) {
-                    operation.put("vendorExtensions", config.vendorExtensions());
-                }
+                    if (!config.vendorExtensions().isEmpty()) {
+                        operation.put("vendorExtensions", config.vendorExtensions());
+                    }
 
-                // process top-level x-group-parameters
-                if (config.vendorExtensions().containsKey("x-group-parameters")) {
-                    boolean isGroupParameters = Boolean.parseBoolean(config.vendorExtensions().get("x-group-parameters").toString());
+                    // process top-level x-group-parameters
+                    if (config.vendorExtensions().containsKey("x-group-parameters")) {
+                        boolean isGroupParameters = Boolean.parseBoolean(config.vendorExtensions().get("x-group-parameters").toString());
 
-                    OperationMap objectMap = operation.getOperations();
-                    List<CodegenOperation> operations = objectMap.getOperation();
-                    for (CodegenOperation op : operations) {
-                        if (isGroupParameters && !op.vendorExtensions.containsKey("x-group-parameters")) {
-                            op.vendorExtensions.put("x-group-parameters", Boolean.TRUE);
+                        OperationMap objectMap = operation.getOperations();
+                        List<CodegenOperation> operations = objectMap.getOperation();
+                        for (CodegenOperation op : operations) {
+                            if (isGroupParameters && !op.vendorExtensions.containsKey("x-group-parameters")) {
+                                op.vendorExtensions.put("x-group-parameters", Boolean.TRUE);
+                            }
                         }
                     }
-                }
 
-                // Pass sortParamsByRequiredFlag through to the Mustache template...
-                boolean sortParamsByRequiredFlag = true;
-                if (this.config.additionalProperties().containsKey(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG)) {
-                    sortParamsByRequiredFlag = Boolean.parseBoolean(this.config.additionalProperties().get(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG).toString());
-                }
-                operation.put("sortParamsByRequiredFlag", sortParamsByRequiredFlag);
+                    // Pass sortParamsByRequiredFlag through to the Mustache template...
+                    boolean sortParamsByRequiredFlag = true;
+                    if (this.config.additionalProperties().containsKey(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG)) {
+                        sortParamsByRequiredFlag = Boolean.parseBoolean(this.config.additionalProperties().get(CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG).toString());
+                    }
+                    operation.put("sortParamsByRequiredFlag", sortParamsByRequiredFlag);
 
-                /* consumes, produces are no longer defined in OAS3.0
-                processMimeTypes(swagger.getConsumes(), operation, "consumes");
-                processMimeTypes(swagger.getProduces(), operation, "produces");
-                */
+                    /* consumes, produces are no longer defined in OAS3.0
+                    processMimeTypes(swagger.getConsumes(), operation, "consumes");
+                    processMimeTypes(swagger.getProduces(), operation, "produces");
+                    */
 
-                allOperations.add(operation);
+                    allOperations.add(operation);
 
-                addAuthenticationSwitches(operation);
+                    addAuthenticationSwitches(operation);
 
-                for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
-                    if (config.templateOutputDirs().containsKey(templateName)) {
-                        String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
-                        String filename = config.apiFilename(templateName, tag, outputDir);
-                        // do not overwrite apiController file for spring server
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
-                    } else {
-                        String filename = config.apiFilename(templateName, tag);
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
+                    ApiFilenames apiFilenames = apiFilenames(tag);
+                    String fingerprint = fingerprints != null ? fingerprints.apiFingerprint(tag, ops, Boolean.TRUE.equals(operation.get("hasModel"))) : null;
+                    if (fingerprint != null && fingerprints.isUpToDate(FingerprintStore.APIS, tag, fingerprint)) {
+                        renders.add(CompletableFuture.completedFuture(skipUnchanged(FingerprintStore.APIS, tag, fingerprint)));
+                        continue;
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
+
+                    renders.add(submitRender(() -> {
+                        List<File> apiFiles = new ArrayList<>();
+                        try {
+                            generateApi(apiFiles, operation, apiFilenames);
+                        } catch (Exception e) {
+                            throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
                         }
-                    }
+                        if (fingerprint != null) {
+                            fingerprints.record(FingerprintStore.APIS, tag, fingerprint, apiFiles);
+                        }
+                        return apiFiles;
+                    }));
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
                 }
+            }
+            awaitRenders(files, renders);
+        }
+        if (GlobalSettings.getProperty("debugOperations") != null) {
+            LOGGER.info("############ Operation info ############");
+            Json.prettyPrint(allOperations);
+        }
 
-                // to generate api test files
-                for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                    String filename = config.apiTestFilename(templateName, tag);
-                    File apiTestFile = new File(filename);
-                    // do not overwrite test file that already exists
-                    if (apiTestFile.exists()) {
-                        this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
-                    } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
-                    }
+    }
+
+    /**
+     * Names the files of an api, by template. As the model files (see {@link #modelFilenames(String)}), the apis are
+     * named on the generating thread in the order of the apis, before their files are rendered.
+     */
+    private ApiFilenames apiFilenames(String tag) {
+        ApiFilenames filenames = new ApiFilenames();
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            if (config.templateOutputDirs().containsKey(templateName)) {
+                String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
+                filenames.apis.put(templateName, config.apiFilename(templateName, tag, outputDir));
+            } else {
+                filenames.apis.put(templateName, config.apiFilename(templateName, tag));
+            }
+        }
+        for (String templateName : config.apiTestTemplateFiles().keySet()) {
+            filenames.apiTests.put(templateName, config.apiTestFilename(templateName, tag));
+        }
+        for (String templateName : config.apiDocTemplateFiles().keySet()) {
+            filenames.apiDocs.put(templateName, config.apiDocFilename(templateName, tag));
+        }
+        return filenames;
+    }
+
+    /**
+     * The files of an api, by template.
+     */
+    private static final class ApiFilenames {
+        private final Map<String, String> apis = new LinkedHashMap<>();
+        private final Map<String, String> apiTests = new LinkedHashMap<>();
+        private final Map<String, String> apiDocs = new LinkedHashMap<>();
+    }
+
+    private void generateApi(List<File> files, OperationsMap operation, ApiFilenames filenames) throws IOException {
+        for (Map.Entry<String, String> apiFilename : filenames.apis.entrySet()) {
+            String templateName = apiFilename.getKey();
+            String filename = apiFilename.getValue();
+            File written = null;
+            if (config.templateOutputDirs().containsKey(templateName)) {
+                String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
+                // do not overwrite apiController file for spring server
+                if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                    written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
+                } else {
+                    LOGGER.info("Implementation file {} is not overwritten", filename);
                 }
+            } else {
+                if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                    written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
+                } else {
+                    LOGGER.info("Implementation file {} is not overwritten", filename);
+                }
+            }
+            if (written != null) {
+                files.add(written);
+                if (config.isEnablePostProcessFile() && !dryRun) {
+                    config.postProcessFile(written, "api");
+                }
+            }
+        }
 
-                // to generate api documentation files
-                for (String templateName : config.apiDocTemplateFiles().keySet()) {
-                    String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
+        // to generate api test files
+        for (Map.Entry<String, String> apiTestFilename : filenames.apiTests.entrySet()) {
+            String templateName = apiTestFilename.getKey();
+            String filename = apiTestFilename.getValue();
+            File apiTestFile = new File(filename);
+            // do not overwrite test file that already exists
+            if (exists(apiTestFile)) {
+                this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
+            } else {
+                File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
+                if (written != null) {
+                    files.add(written);
+                    if (config.isEnablePostProcessFile() && !dryRun) {
+                        config.postProcessFile(written, "api-test");
                     }
                 }
+            }
+        }
 
-            } catch (Exception e) {
-                throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
+        // to generate api documentation files
+        for (Map.Entry<String, String> apiDocFilename : filenames.apiDocs.entrySet()) {
+            String templateName = apiDocFilename.getKey();
+            String filename = apiDocFilename.getValue();
+            File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
+            if (written != null) {
+                files.add(written);
+                if (config.isEnablePostProcessFile() && !dryRun) {
+                    config.postProcessFile(written, "api-doc");
+                }
             }
         }
-        if (GlobalSettings.getProperty("debugOperations") != null) {
-            LOGGER.info("############ Operation info ############");
-            Json.prettyPrint(allOperations);
+    }
+
+    /**
+     * Skips the rendering of a model or api whose inputs didn't change since the previous generation.
+     *
+     * @param kind        {@link FingerprintStore#MODELS} or {@link FingerprintStore#APIS}
+     * @param name        The name of the model or api
+     * @param fingerprint The fingerprint of the model or api
+     * @return the files generated for the model or api by the previous generation
+     */
+    private List<File> skipUnchanged(String kind, String name, String fingerprint) {
+        List<File> previousFiles = fingerprints.getPreviousFiles(kind, name);
+        for (File file : previousFiles) {
+            this.templateProcessor.skip(file.toPath(), "Unchanged since the previous generation (incremental generation).");
+        }
+        fingerprints.record(kind, name, fingerprint, previousFiles);
+        return previousFiles;
+    }
+
+    /**
+     * @return The hit and miss statistics of the name caches of the current (or else the last) generator run, empty
+     * before the first run
+     */
+    public Map<NameCache.Kind, CacheStats> getNameCacheStats() {
+        return nameCache == null ? Collections.emptyMap() : nameCache.getStats();
+    }
+
+    /**
+     * Renders the files of a single model or api, on the render workers if enabled or else on the calling thread.
+     *
+     * @param render renders the files and returns the list of written files
+     * @return the pending list of written files, see {@link #awaitRenders(List, List)}
+     */
+    private Future<List<File>> submitRender(Callable<List<File>> render) throws Exception {
+        if (renderExecutor == null) {
+            return CompletableFuture.completedFuture(render.call());
+        }
+        NameCache runNameCache = nameCache;
+        return renderExecutor.submit(() -> {
+            try (NameCache.Scope ignored = runNameCache.activate()) {
+                return render.call();
+            }
+        });
+    }
+
+    /**
+     * Waits for the submitted renders, adding the written files in the order the renders were submitted so that the
+     * list of generated files doesn't depend on the number of render workers.
+     *
+     * @param files   The list tracking generated files
+     * @param renders The pending renders
+     */
+    private void awaitRenders(List<File> files, List<Future<List<File>>> renders) {
+        try {
+            for (Future<List<File>> render : renders) {
+                files.addAll(render.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while rendering files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            // no-op for completed renders, stops the remaining ones after a failure
+            renders.forEach(render -> render.cancel(true));
+        }
+    }
+
+    private void startRenderWorkers() {
+        int workers = config.getRenderWorkers();
+        if (workers > 1 && !dryRun) {
+            LOGGER.info("Rendering model and api files using {} workers", workers);
+            AtomicInteger counter = new AtomicInteger();
+            renderExecutor = Executors.newFixedThreadPool(workers, runnable -> {
+                Thread thread = new Thread(runnable, "openapi-generator-render-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private void startFingerprints() {
+        if (config.isIncrementalGeneration()) {
+            Map<String, Object> settings = new HashMap<>();
+            settings.put("generateModels", generateModels);
+            settings.put("generateModelTests", generateModelTests);
+            settings.put("generateModelDocumentation", generateModelDocumentation);
+            settings.put("generateApis", generateApis);
+            settings.put("generateApiTests", generateApiTests);
+            settings.put("generateApiDocumentation", generateApiDocumentation);
+            settings.put("enablePostProcessFile", config.isEnablePostProcessFile());
+            if (ignoreProcessor != null) {
+                // files excluded by the previous rules may now be included, or the other way around
+                List<String> rules = new ArrayList<>();
+                ignoreProcessor.getExclusionRules().forEach(rule -> rules.add("-" + rule.getDefinition()));
+                ignoreProcessor.getInclusionRules().forEach(rule -> rules.add("+" + rule.getDefinition()));
+                rules.removeIf(rule -> rule.length() == 1 || rule.charAt(1) == '#');
+                settings.put("ignoreRules", rules);
+            }
+            fingerprints = new FingerprintStore(config, openAPI, settings);
         }
+    }
+
+    private void writeFingerprints() {
+        if (fingerprints != null && generateMetadata) {
+            try {
+                fingerprints.write();
+            } catch (IOException e) {
+                LOGGER.warn("Failed to write the fingerprints used by the incremental generation.", e);
+            }
+        }
+    }
 
+    private void startPostProcessing() {
+        if (config.isEnablePostProcessFile() && !dryRun) {
+            postProcessingQueue = PostProcessingQueue.fromGlobalSettings();
+            config.setPostProcessingQueue(postProcessingQueue);
+        }
+    }
+
+    private void finishPostProcessing() {
+        if (postProcessingQueue != null) {
+            config.setPostProcessingQueue(null);
+            postProcessingQueue.finish();
+            postProcessingQueue = null;
+        }
+    }
+
+    private void stopRenderWorkers() {
+        if (renderExecutor != null) {
+            renderExecutor.shutdownNow();
+            renderExecutor = null;
+        }
     }
 
     void generateWebhooks(List<File> files, List<WebhooksMap> allWebhooks, List<ModelMap> allModels) {
@@ -867,7 +1193,7 @@ public class DefaultGenerator implements Generator {
                 Optional.ofNullable(config.additionalProperties().get("appVersion")).ifPresent(version -> operation.put("version", version));
                 operation.put("apiPackage", config.apiPackage());
                 operation.put("modelPackage", config.modelPackage());
-                operation.putAll(config.additionalProperties());
+                operation.putAllShared(sharedAdditionalProperties());
                 operation.put("classname", config.toApiName(tag));
                 operation.put("classVarName", config.toApiVarName(tag));
                 operation.put("importPath", config.toApiImport(tag));
@@ -947,7 +1273,7 @@ public class DefaultGenerator implements Generator {
                     String filename = config.apiTestFilename(templateName, tag);
                     File apiTestFile = new File(filename);
                     // do not overwrite test file that already exists
-                    if (apiTestFile.exists()) {
+                    if (exists(apiTestFile)) {
                         this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
                     } else {
                         File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
@@ -986,7 +1312,14 @@ public class DefaultGenerator implements Generator {
     // checking if apiController file is already existed for spring generator
     private boolean apiFilePreCheck(String filename, String generator, String templateName, String apiControllerTemplate) {
         File apiFile = new File(filename);
-        return !(apiFile.exists() && config.getName().equals(generator) && templateName.equals(apiControllerTemplate));
+        return !(exists(apiFile) && config.getName().equals(generator) && templateName.equals(apiControllerTemplate));
+    }
+
+    /**
+     * Determines whether a file was already generated, from the output sink if the files are written to one.
+     */
+    private boolean exists(File file) {
+        return outputSink != null ? outputSink.exists(file.toPath().toAbsolutePath().normalize()) : file.exists();
     }
 
     /*
@@ -1081,7 +1414,7 @@ public class DefaultGenerator implements Generator {
                         ? support.getDestinationFilename()
                         : outputFolder + File.separator + support.getDestinationFilename().replace('/', File.separatorChar);
 
-                if (!of.isDirectory()) {
+                if (outputSink == null && !of.isDirectory()) {
                     // check that its not a dryrun and the files in the directory aren't ignored before we make the directory
                     if (!dryRun && ignoreProcessor.allowsFile(new File(outputFilename)) && !of.mkdirs()) {
                         once(LOGGER).debug("Output directory {} not created. It {}.", outputFolder, of.exists() ? "already exists." : "may not have appropriate permissions.");
@@ -1115,7 +1448,7 @@ public class DefaultGenerator implements Generator {
             File ignoreFile = new File(ignoreFileNameTarget);
             if (generateMetadata) {
                 try {
-                    boolean shouldGenerate = !ignoreFile.exists();
+                    boolean shouldGenerate = !exists(ignoreFile);
                     if (shouldGenerate && supportingFilesToGenerate != null && !supportingFilesToGenerate.isEmpty()) {
                         shouldGenerate = supportingFilesToGenerate.contains(openapiGeneratorIgnore);
                     }
@@ -1137,13 +1470,25 @@ public class DefaultGenerator implements Generator {
         generateVersionMetadata(files);
     }
 
+    /**
+     * The template data of the models, apis and supporting files read through this copy of the additional properties
+     * rather than each holding its own. The copy is replaced whenever the generator updated the additional properties
+     * in the meantime, so each template data still sees them as they were when it was built.
+     *
+     * @return An unmodifiable copy of the additional properties
+     */
+    private Map<String, Object> sharedAdditionalProperties() {
+        sharedAdditionalProperties = LayeredMap.sharedCopy(sharedAdditionalProperties, config.additionalProperties());
+        return sharedAdditionalProperties;
+    }
+
     Map<String, Object> buildSupportFileBundle(List<OperationsMap> allOperations, List<ModelMap> allModels, List<ModelMap> aliasModels) {
         return this.buildSupportFileBundle(allOperations, allModels, aliasModels, null);
     }
 
     Map<String, Object> buildSupportFileBundle(List<OperationsMap> allOperations, List<ModelMap> allModels, List<ModelMap> aliasModels, List<WebhooksMap> allWebhooks) {
 
-        Map<String, Object> bundle = new HashMap<>(config.additionalProperties());
+        Map<String, Object> bundle = new LayeredMap(sharedAdditionalProperties());
         bundle.put("apiPackage", config.apiPackage());
 
         ApiInfoMap apis = new ApiInfoMap();
@@ -1258,6 +1603,51 @@ public class DefaultGenerator implements Generator {
             throw new RuntimeException("missing config!");
         }
 
+        MustacheTemplateCache templateCache = config.getTemplatingEngine() instanceof MustacheEngineAdapter ?
+                ((MustacheEngineAdapter) config.getTemplatingEngine()).getTemplateCache() : null;
+        long templateCacheHits = templateCache != null ? templateCache.getHitCount() : 0;
+        long templateCacheMisses = templateCache != null ? templateCache.getMissCount() : 0;
+
+        List<File> files;
+        nameCache = NameCache.forSpec(openAPI);
+        try (NameCache.Scope ignored = nameCache.activate()) {
+            files = generateFiles();
+        } finally {
+            LOGGER.debug("Name cache hits (of {} entries at most): {}", nameCache.getMaximumSize(), nameCache);
+            nameCache.clear();
+        }
+
+        nameCache.getStats().forEach((kind, stats) ->
+                metrics.recordCache("names." + kind.name().toLowerCase(Locale.ROOT), stats.hitCount(), stats.missCount()));
+        if (templateCache != null) {
+            // the cache is shared, the lookups of concurrent generations are included
+            metrics.recordCache("templates", templateCache.getHitCount() - templateCacheHits, templateCache.getMissCount() - templateCacheMisses);
+        }
+        writeMetrics();
+        return files;
+    }
+
+    /**
+     * @return The metrics of the generation, including those recorded while parsing the specification when the
+     * generator was configured by a {@link CodegenConfigurator}
+     */
+    public GenerationMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void writeMetrics() {
+        if (config.isReportMetrics() && !dryRun) {
+            File report = new File(config.getOutputDir() + File.separator + METADATA_DIR, GenerationMetrics.FILENAME);
+            try {
+                metrics.write(report);
+                LOGGER.info("Wrote the metrics of the generation to {}", report);
+            } catch (IOException e) {
+                LOGGER.warn("Failed to write the metrics of the generation.", e);
+            }
+        }
+    }
+
+    private List<File> generateFiles() {
         if (config.getGeneratorMetadata() == null) {
             LOGGER.warn("Generator '{}' is missing generator metadata!", config.getName());
         } else {
@@ -1275,10 +1665,14 @@ public class DefaultGenerator implements Generator {
             }
         }
 
-        configureGeneratorProperties();
-        configureOpenAPIInfo();
+        try (GenerationMetrics.Phase ignored = metrics.phase("configure")) {
+            configureGeneratorProperties();
+            configureOpenAPIInfo();
+        }
 
-        config.processOpenAPI(openAPI);
+        try (GenerationMetrics.Phase ignored = metrics.phase("processOpenAPI")) {
+            config.processOpenAPI(openAPI);
+        }
 
         processUserDefinedTemplates();
 
@@ -1290,70 +1684,117 @@ public class DefaultGenerator implements Generator {
         List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
         List<ModelMap> allModels = new ArrayList<>();
         List<ModelMap> aliasModels = new ArrayList<>();
-        generateModels(files, allModels, filteredSchemas, aliasModels);
         // apis
         List<OperationsMap> allOperations = new ArrayList<>();
-        generateApis(files, allOperations, allModels);
         // webhooks
         List<WebhooksMap> allWebhooks = new ArrayList<>();
-        generateWebhooks(files, allWebhooks, allModels);
-        // supporting files
-        Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
-        generateSupportingFiles(files, bundle);
+        startFingerprints();
+        startPostProcessing();
+        try {
+            startRenderWorkers();
+            try {
+                checkInterrupted();
+                try (GenerationMetrics.Phase ignored = metrics.phase("models")) {
+                    generateModels(files, allModels, filteredSchemas, aliasModels);
+                }
+                checkInterrupted();
+                try (GenerationMetrics.Phase ignored = metrics.phase("apis")) {
+                    generateApis(files, allOperations, allModels);
+                }
+            } finally {
+                stopRenderWorkers();
+            }
+            checkInterrupted();
+            try (GenerationMetrics.Phase ignored = metrics.phase("webhooks")) {
+                generateWebhooks(files, allWebhooks, allModels);
+            }
+            checkInterrupted();
+            // supporting files
+            try (GenerationMetrics.Phase ignored = metrics.phase("supportingFiles")) {
+                Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
+                generateSupportingFiles(files, bundle);
+            }
 
-        if (dryRun) {
-            boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
-            StringBuilder sb = new StringBuilder();
+            if (dryRun) {
+                boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
+                StringBuilder sb = new StringBuilder();
 
-            sb.append(System.lineSeparator()).append(System.lineSeparator());
-            sb.append("Dry Run Results:");
-            sb.append(System.lineSeparator()).append(System.lineSeparator());
+                sb.append(System.lineSeparator()).append(System.lineSeparator());
+                sb.append("Dry Run Results:");
+                sb.append(System.lineSeparator()).append(System.lineSeparator());
+
+                Map<String, DryRunStatus> dryRunStatusMap = ((DryRunTemplateManager) this.templateProcessor).getDryRunStatusMap();
+
+                dryRunStatusMap.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+                    DryRunStatus status = entry.getValue();
+                    try {
+                        status.appendTo(sb);
+                        sb.append(System.lineSeparator());
+                        if (verbose) {
+                            sb.append("  ")
+                                    .append(StringUtils.rightPad(status.getState().getDescription(), 20, "."))
+                                    .append(" ").append(status.getReason())
+                                    .append(System.lineSeparator());
+                        }
+                    } catch (IOException e) {
+                        LOGGER.debug("Unable to document dry run status for {}.", entry.getKey());
+                    }
+                });
 
-            Map<String, DryRunStatus> dryRunStatusMap = ((DryRunTemplateManager) this.templateProcessor).getDryRunStatusMap();
+                sb.append(System.lineSeparator()).append(System.lineSeparator());
+                sb.append("States:");
+                sb.append(System.lineSeparator()).append(System.lineSeparator());
 
-            dryRunStatusMap.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
-                DryRunStatus status = entry.getValue();
-                try {
-                    status.appendTo(sb);
-                    sb.append(System.lineSeparator());
-                    if (verbose) {
-                        sb.append("  ")
-                                .append(StringUtils.rightPad(status.getState().getDescription(), 20, "."))
-                                .append(" ").append(status.getReason())
-                                .append(System.lineSeparator());
-                    }
-                } catch (IOException e) {
-                    LOGGER.debug("Unable to document dry run status for {}.", entry.getKey());
+                for (DryRunStatus.State state : DryRunStatus.State.values()) {
+                    sb.append("  - ").append(state.getShortDisplay()).append(" ").append(state.getDescription()).append(System.lineSeparator());
                 }
-            });
 
-            sb.append(System.lineSeparator()).append(System.lineSeparator());
-            sb.append("States:");
-            sb.append(System.lineSeparator()).append(System.lineSeparator());
+                sb.append(System.lineSeparator());
 
-            for (DryRunStatus.State state : DryRunStatus.State.values()) {
-                sb.append("  - ").append(state.getShortDisplay()).append(" ").append(state.getDescription()).append(System.lineSeparator());
+                LOGGER.error(sb.toString());
+            } else {
+                // This exists here rather than in the method which generates supporting files to avoid accidentally adding files after this metadata.
+                checkInterrupted();
+                try (GenerationMetrics.Phase ignored = metrics.phase("metadata")) {
+                    if (generateSupportingFiles) {
+                        generateFilesMetadata(files);
+                    }
+                    writeFingerprints();
+                }
+                if (config.isEnableMinimalUpdate() && this.templateProcessor instanceof TemplateManager) {
+                    TemplateManager templateManager = (TemplateManager) this.templateProcessor;
+                    LOGGER.info("Wrote {} files, left {} unchanged files untouched", templateManager.getWrittenFileCount(), templateManager.getUnchangedFileCount());
+                }
             }
+            try (GenerationMetrics.Phase ignored = metrics.phase("postProcessing")) {
+                // wait for the post-processors of the generated files
+                finishPostProcessing();
 
-            sb.append(System.lineSeparator());
-
-            LOGGER.error(sb.toString());
-        } else {
-            // This exists here rather than in the method which generates supporting files to avoid accidentally adding files after this metadata.
-            if (generateSupportingFiles) {
-                generateFilesMetadata(files);
+                // post-process
+                config.postProcess();
             }
+        } finally {
+            // no-ops once the generation completed
+            finishPostProcessing();
+            fingerprints = null;
         }
 
-        // post-process
-        config.postProcess();
-
         // reset GlobalSettings, so that the running thread can be reused for another generator-run
         GlobalSettings.reset();
 
         return files;
     }
 
+    /**
+     * Stops the generation between two phases once the generating thread was interrupted (e.g. by the timeout of a job
+     * of the online service), rather than running the remaining phases.
+     */
+    private static void checkInterrupted() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new RuntimeException("Interrupted while generating files");
+        }
+    }
+
     private void processUserDefinedTemplates() {
         // TODO: initial behavior is "merge" user defined with built-in templates. consider offering user a "replace" option.
         if (userDefinedTemplates != null && !userDefinedTemplates.isEmpty()) {
@@ -1431,6 +1872,7 @@ public class DefaultGenerator implements Generator {
         return processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
     }
 
+    // guarded by itself, model and api files may be rendered concurrently
     private final Set<String> seenFiles = new HashSet<>();
 
     private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
@@ -1444,11 +1886,16 @@ public class DefaultGenerator implements Generator {
                     throw new RuntimeException(String.format(Locale.ROOT, "Target files must be generated within the output directory; absoluteTarget=%s outDir=%s", absoluteTarget, outDir));
                 }
 
-                if (seenFiles.stream().filter(f -> f.toLowerCase(Locale.ROOT).equals(absoluteTarget.toString().toLowerCase(Locale.ROOT))).findAny().isPresent()) {
-                    LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
+                synchronized (seenFiles) {
+                    if (seenFiles.stream().filter(f -> f.toLowerCase(Locale.ROOT).equals(absoluteTarget.toString().toLowerCase(Locale.ROOT))).findAny().isPresent()) {
+                        LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
+                    }
+                    seenFiles.add(absoluteTarget.toString());
+                }
+                // the stateful lambdas start each file afresh, whichever thread renders it
+                try (LambdaState.Scope ignored = LambdaState.open()) {
+                    return this.templateProcessor.write(templateData, templateName, target);
                 }
-                seenFiles.add(absoluteTarget.toString());
-                return this.templateProcessor.write(templateData, templateName, target);
             } else {
                 this.templateProcessor.skip(target.toPath(), String.format(Locale.ROOT, "Skipped by %s options supplied by user.", skippedByOption));
                 return null;
@@ -1460,48 +1907,50 @@ public class DefaultGenerator implements Generator {
     }
 
     public Map<String, List<CodegenOperation>> processPaths(Paths paths) {
-        Map<String, List<CodegenOperation>> ops = new TreeMap<>();
-        // when input file is not valid and doesn't contain any paths
-        if (paths == null) {
-            return ops;
-        }
-        for (Map.Entry<String, PathItem> pathsEntry : paths.entrySet()) {
-            String resourcePath = pathsEntry.getKey();
-            PathItem path = pathsEntry.getValue();
-            processOperation(resourcePath, "get", path.getGet(), ops, path);
-            processOperation(resourcePath, "head", path.getHead(), ops, path);
-            processOperation(resourcePath, "put", path.getPut(), ops, path);
-            processOperation(resourcePath, "post", path.getPost(), ops, path);
-            processOperation(resourcePath, "delete", path.getDelete(), ops, path);
-            processOperation(resourcePath, "patch", path.getPatch(), ops, path);
-            processOperation(resourcePath, "options", path.getOptions(), ops, path);
-            processOperation(resourcePath, "trace", path.getTrace(), ops, path);
-        }
-        return ops;
+        return processPathItems(paths);
     }
 
     public Map<String, List<CodegenOperation>> processWebhooks(Map<String, PathItem> webhooks) {
+        return processPathItems(webhooks);
+    }
+
+    private Map<String, List<CodegenOperation>> processPathItems(Map<String, PathItem> pathItems) {
         Map<String, List<CodegenOperation>> ops = new TreeMap<>();
         // when input file is not valid and doesn't contain any paths
-        if (webhooks == null) {
+        if (pathItems == null) {
             return ops;
         }
-        for (Map.Entry<String, PathItem> webhooksEntry : webhooks.entrySet()) {
-            String resourceKey = webhooksEntry.getKey();
-            PathItem path = webhooksEntry.getValue();
-            processOperation(resourceKey, "get", path.getGet(), ops, path);
-            processOperation(resourceKey, "head", path.getHead(), ops, path);
-            processOperation(resourceKey, "put", path.getPut(), ops, path);
-            processOperation(resourceKey, "post", path.getPost(), ops, path);
-            processOperation(resourceKey, "delete", path.getDelete(), ops, path);
-            processOperation(resourceKey, "patch", path.getPatch(), ops, path);
-            processOperation(resourceKey, "options", path.getOptions(), ops, path);
-            processOperation(resourceKey, "trace", path.getTrace(), ops, path);
+        List<OperationConversion> conversions = new ArrayList<>();
+        for (Map.Entry<String, PathItem> pathItemsEntry : pathItems.entrySet()) {
+            String resourcePath = pathItemsEntry.getKey();
+            PathItem path = pathItemsEntry.getValue();
+            prepareOperation(resourcePath, "get", path.getGet(), path, conversions);
+            prepareOperation(resourcePath, "head", path.getHead(), path, conversions);
+            prepareOperation(resourcePath, "put", path.getPut(), path, conversions);
+            prepareOperation(resourcePath, "post", path.getPost(), path, conversions);
+            prepareOperation(resourcePath, "delete", path.getDelete(), path, conversions);
+            prepareOperation(resourcePath, "patch", path.getPatch(), path, conversions);
+            prepareOperation(resourcePath, "options", path.getOptions(), path, conversions);
+            prepareOperation(resourcePath, "trace", path.getTrace(), path, conversions);
+        }
+        List<CodegenOperation> convertedOperations = convertOperations(conversions);
+        for (int i = 0; i < conversions.size(); i++) {
+            OperationConversion conversion = conversions.get(i);
+            try {
+                CodegenOperation codegenOperation = convertedOperations.isEmpty() ? convertOperation(conversion) : convertedOperations.get(i);
+                config.addOperationToGroup(config.sanitizeTag(conversion.tag.getName()), conversion.resourcePath, conversion.operation, codegenOperation, ops);
+            } catch (Exception ex) {
+                throw operationException(conversion, ex);
+            }
         }
         return ops;
     }
 
-    private void processOperation(String resourcePath, String httpMethod, Operation operation, Map<String, List<CodegenOperation>> operations, PathItem path) {
+    /**
+     * Resolves the tags of an operation and propagates the parameters of its path to it, then adds one conversion per
+     * tag to the ones to run, unless the operation is internal.
+     */
+    private void prepareOperation(String resourcePath, String httpMethod, Operation operation, PathItem path, List<OperationConversion> conversions) {
         if (operation == null) {
             return;
         }
@@ -1562,50 +2011,117 @@ public class DefaultGenerator implements Generator {
             }
         }
 
-        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
-        final List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
         for (Tag tag : tags) {
-            try {
-                if (operation.getExtensions() != null && Boolean.TRUE.equals(operation.getExtensions().get("x-internal"))) {
-                    // skip operation if x-internal sets to true
-                    LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
-                            httpMethod, resourcePath, operation.getOperationId());
-                } else {
-                    CodegenOperation codegenOperation = config.fromOperation(resourcePath, httpMethod, operation, path.getServers());
-                    codegenOperation.tags = new ArrayList<>(tags);
-                    config.addOperationToGroup(config.sanitizeTag(tag.getName()), resourcePath, operation, codegenOperation, operations);
+            if (operation.getExtensions() != null && Boolean.TRUE.equals(operation.getExtensions().get("x-internal"))) {
+                // skip operation if x-internal sets to true
+                LOGGER.info("Operation ({} {} - {}) not generated since x-internal is set to true",
+                        httpMethod, resourcePath, operation.getOperationId());
+            } else {
+                conversions.add(new OperationConversion(resourcePath, httpMethod, operation, path, tags, tag));
+            }
+        }
+    }
 
-                    List<SecurityRequirement> securities = operation.getSecurity();
-                    if (securities != null && securities.isEmpty()) {
-                        continue;
+    /**
+     * Converts the operations concurrently when there are several process workers and the generator supports it (see
+     * {@link CodegenConfig#getProcessWorkers()} and {@link CodegenConfig#supportsParallelOperations()}), the
+     * operations are then added to their groups in order by {@link #processPathItems(Map)}. Otherwise, each operation
+     * is converted right before it is added to its group instead.
+     * <p>
+     * The updates of the schemas shared by the operations (see {@link SchemaUpdates}) are queued by the workers, then
+     * run on the calling thread in the order of the operations.
+     *
+     * @param conversions The operations to convert, one per tag
+     * @return The converted operations, in the order of the conversions, empty when they are converted sequentially
+     */
+    private List<CodegenOperation> convertOperations(List<OperationConversion> conversions) {
+        int workers = config.supportsParallelOperations() ? Math.min(config.getProcessWorkers(), conversions.size()) : 1;
+        if (workers <= 1) {
+            return Collections.emptyList();
+        }
+        LOGGER.info("Converting {} operations using {} workers", conversions.size(), workers);
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-process-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        NameCache runNameCache = NameCache.current();
+        try {
+            List<List<Runnable>> updates = new ArrayList<>(conversions.size());
+            List<Future<CodegenOperation>> futures = new ArrayList<>(conversions.size());
+            for (OperationConversion conversion : conversions) {
+                List<Runnable> operationUpdates = new ArrayList<>();
+                updates.add(operationUpdates);
+                futures.add(executor.submit(() -> {
+                    try (NameCache.Scope ignored = runNameCache.activate()) {
+                        return SchemaUpdates.queue(() -> convertOperation(conversion), operationUpdates);
                     }
+                }));
+            }
+            List<CodegenOperation> operations = new ArrayList<>(conversions.size());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    operations.add(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    throw operationException(conversions.get(i), e.getCause());
+                }
+            }
+            for (int i = 0; i < updates.size(); i++) {
+                try {
+                    updates.get(i).forEach(Runnable::run);
+                } catch (RuntimeException e) {
+                    throw operationException(conversions.get(i), e);
+                }
+            }
+            return operations;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while converting the operations", e);
+        } finally {
+            // no-op once all the conversions completed, stops the remaining ones after a failure
+            executor.shutdownNow();
+        }
+    }
 
-                    Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
+    private CodegenOperation convertOperation(OperationConversion conversion) {
+        Operation operation = conversion.operation;
+        CodegenOperation codegenOperation = config.fromOperation(conversion.resourcePath, conversion.httpMethod, operation, conversion.path.getServers());
+        codegenOperation.tags = new ArrayList<>(conversion.tags);
 
-                    if (authMethods != null && !authMethods.isEmpty()) {
-                        List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
-                        codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, securities);
-                        codegenOperation.hasAuthMethods = true;
-                    } else {
-                        authMethods = getAuthMethods(globalSecurities, securitySchemes);
+        List<SecurityRequirement> securities = operation.getSecurity();
+        if (securities != null && securities.isEmpty()) {
+            return codegenOperation;
+        }
 
-                        if (authMethods != null && !authMethods.isEmpty()) {
-                            List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
-                            codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, globalSecurities);
-                            codegenOperation.hasAuthMethods = true;
-                        }
-                    }
-                }
-            } catch (Exception ex) {
-                String msg = "Could not process operation:\n" //
-                        + "  Tag: " + tag + "\n"//
-                        + "  Operation: " + operation.getOperationId() + "\n" //
-                        + "  Resource: " + httpMethod + " " + resourcePath + "\n"//
-                        + "  Schemas: " + openAPI.getComponents().getSchemas() + "\n"  //
-                        + "  Exception: " + ex.getMessage();
-                throw new RuntimeException(msg, ex);
+        final Map<String, SecurityScheme> securitySchemes = openAPI.getComponents() != null ? openAPI.getComponents().getSecuritySchemes() : null;
+        Map<String, SecurityScheme> authMethods = getAuthMethods(securities, securitySchemes);
+
+        if (authMethods != null && !authMethods.isEmpty()) {
+            List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
+            codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, securities);
+            codegenOperation.hasAuthMethods = true;
+        } else {
+            final List<SecurityRequirement> globalSecurities = openAPI.getSecurity();
+            authMethods = getAuthMethods(globalSecurities, securitySchemes);
+
+            if (authMethods != null && !authMethods.isEmpty()) {
+                List<CodegenSecurity> fullAuthMethods = config.fromSecurity(authMethods);
+                codegenOperation.authMethods = filterAuthMethods(fullAuthMethods, globalSecurities);
+                codegenOperation.hasAuthMethods = true;
             }
         }
+        return codegenOperation;
+    }
+
+    private RuntimeException operationException(OperationConversion conversion, Throwable ex) {
+        String msg = "Could not process operation:\n" //
+                + "  Tag: " + conversion.tag + "\n"//
+                + "  Operation: " + conversion.operation.getOperationId() + "\n" //
+                + "  Resource: " + conversion.httpMethod + " " + conversion.resourcePath + "\n"//
+                + "  Schemas: " + openAPI.getComponents().getSchemas() + "\n"  //
+                + "  Exception: " + ex.getMessage();
+        return new RuntimeException(msg, ex);
     }
 
     private static String generateParameterId(Parameter parameter) {
@@ -1740,7 +2256,54 @@ public class DefaultGenerator implements Generator {
         return result;
     }
 
-    private ModelsMap processModels(CodegenConfig config, Map<String, Schema> definitions) {
+    /**
+     * Converts the schemas to models concurrently when there are several process workers and the generator supports it
+     * (see {@link CodegenConfig#getProcessWorkers()} and {@link CodegenConfig#supportsParallelModels()}), the models
+     * are then processed in order by {@link #processModels(CodegenConfig, Map, Map)}. Otherwise, each schema is
+     * converted right before its model is processed instead.
+     *
+     * @param schemas The schemas of the models to generate, by name
+     * @return The converted models by schema name, empty when they are converted sequentially
+     */
+    private Map<String, CodegenModel> convertModels(Map<String, Schema> schemas) {
+        int workers = config.supportsParallelModels() ? Math.min(config.getProcessWorkers(), schemas.size()) : 1;
+        if (workers <= 1) {
+            return Collections.emptyMap();
+        }
+        LOGGER.info("Converting {} schemas to models using {} workers", schemas.size(), workers);
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-process-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        NameCache runNameCache = NameCache.current();
+        try {
+            Map<String, Future<CodegenModel>> conversions = new LinkedHashMap<>();
+            schemas.forEach((name, schema) -> conversions.put(name, executor.submit(() -> {
+                try (NameCache.Scope ignored = runNameCache.activate()) {
+                    return config.fromModel(name, schema);
+                }
+            })));
+            Map<String, CodegenModel> models = new HashMap<>();
+            for (Map.Entry<String, Future<CodegenModel>> conversion : conversions.entrySet()) {
+                try {
+                    models.put(conversion.getKey(), conversion.getValue().get());
+                } catch (ExecutionException e) {
+                    throw new RuntimeException("Could not process model '" + conversion.getKey() + "'" + ".Please make sure that your schema is correct!", e.getCause());
+                }
+            }
+            return models;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while converting the models", e);
+        } finally {
+            // no-op once all the conversions completed, stops the remaining ones after a failure
+            executor.shutdownNow();
+        }
+    }
+
+    private ModelsMap processModels(CodegenConfig config, Map<String, Schema> definitions, Map<String, CodegenModel> convertedModels) {
         ModelsMap objs = new ModelsMap();
         objs.put("package", config.modelPackage());
         List<ModelMap> modelMaps = new ArrayList<>();
@@ -1752,7 +2315,7 @@ public class DefaultGenerator implements Generator {
                 LOGGER.warn("Schema {} cannot be null in processModels", key);
                 continue;
             }
-            CodegenModel cm = config.fromModel(key, schema);
+            CodegenModel cm = convertedModels.containsKey(key) ? convertedModels.get(key) : config.fromModel(key, schema);
             ModelMap mo = new ModelMap();
             mo.setModel(cm);
             mo.put("importPath", config.toModelImport(cm.classname));
@@ -2024,4 +2587,24 @@ public class DefaultGenerator implements Generator {
         return StringUtils.removeEnd(value, "/");
     }
 
+    /**
+     * An operation to convert to a {@link CodegenOperation} for one of its tags.
+     */
+    private static class OperationConversion {
+        final String resourcePath;
+        final String httpMethod;
+        final Operation operation;
+        final PathItem path;
+        final List<Tag> tags;
+        final Tag tag;
+
+        OperationConversion(String resourcePath, String httpMethod, Operation operation, PathItem path, List<Tag> tags, Tag tag) {
+            this.resourcePath = resourcePath;
+            this.httpMethod = httpMethod;
+            this.operation = operation;
+            this.path = path;
+            this.tags = tags;
+            this.tag = tag;
+        }
+    }
 }
@@ -0,0 +1,515 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.utils.ImplementationVersion;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.SchemaReferenceIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tracks the fingerprints of the inputs of each model and API, along with the files generated from them, so that the
+ * files of the models and APIs whose inputs didn't change since the previous generation don't need to be rendered again.
+ * <p>
+ * The fingerprint of a model covers its schema, the schemas it depends on (referenced schemas and children) and the
+ * schemas referring to it (e.g. the composed schemas listing it, which change its interfaces), the fingerprint of an API covers its operations and the components they refer to. Both also cover the generator, its
+ * version and options, and the content of the user-defined templates. The fingerprints are persisted in
+ * {@code .openapi-generator/FINGERPRINTS} of the output directory.
+ */
+public class FingerprintStore {
+    public static final String FILENAME = "FINGERPRINTS";
+    public static final String MODELS = "models";
+    public static final String APIS = "apis";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FingerprintStore.class);
+    private static final int FORMAT_VERSION = 1;
+    // time dependent properties, which would otherwise change all fingerprints on every generation
+    private static final Set<String> IGNORED_PROPERTIES = Set.of("generatedDate", "generatedYear");
+    private static final String SCHEMAS_PREFIX = "#/components/schemas/";
+
+    private final CodegenConfig config;
+    private final OpenAPI openAPI;
+    private final Path outputDir;
+    private final Map<String, Object> settings;
+    private final Map<String, Map<String, Entry>> previous;
+    private final Map<String, Map<String, Entry>> current = new ConcurrentHashMap<>();
+    private final Map<String, String> schemaDigests = new ConcurrentHashMap<>();
+
+    private SchemaReferenceIndex referenceIndex;
+    private Map<String, Set<String>> mappingReferrers;
+    private String configDigest;
+    private String apiDigest;
+
+    /**
+     * Constructs a new instance of {@link FingerprintStore}, loading the fingerprints of the previous generation.
+     *
+     * @param config   The generator
+     * @param openAPI  The specification
+     * @param settings The settings of the generation affecting the generated files, beyond the generator options
+     */
+    public FingerprintStore(CodegenConfig config, OpenAPI openAPI, Map<String, Object> settings) {
+        this.config = config;
+        this.openAPI = openAPI;
+        this.outputDir = new File(config.getOutputDir()).getAbsoluteFile().toPath().normalize();
+        this.settings = new TreeMap<>(settings);
+        this.previous = load(getFile());
+    }
+
+    /**
+     * @return The file persisting the fingerprints
+     */
+    public File getFile() {
+        return outputDir.resolve(".openapi-generator").resolve(FILENAME).toFile();
+    }
+
+    /**
+     * Computes the fingerprint of a model.
+     *
+     * @param name The name of the model schema
+     * @return The fingerprint
+     */
+    public String modelFingerprint(String name) {
+        MessageDigest digest = newDigest();
+        update(digest, getConfigDigest());
+        updateSchemas(digest, schemaClosure(Collections.singleton(name)));
+        update(digest, "referrers");
+        updateSchemas(digest, referrers(name));
+        return hex(digest.digest());
+    }
+
+    /**
+     * Computes the fingerprint of an API.
+     *
+     * @param tag        The tag grouping the operations of the API
+     * @param operations The operations of the API
+     * @param hasModel   Whether any model is generated
+     * @return The fingerprint
+     */
+    public String apiFingerprint(String tag, List<CodegenOperation> operations, boolean hasModel) {
+        MessageDigest digest = newDigest();
+        update(digest, getConfigDigest());
+        update(digest, getApiDigest());
+        update(digest, tag + ":" + hasModel);
+
+        Set<String> schemas = new HashSet<>();
+        Set<String> components = new HashSet<>();
+        Deque<JsonNode> pending = new ArrayDeque<>();
+        List<CodegenOperation> sorted = new ArrayList<>(operations);
+        sorted.sort(Comparator.comparing((CodegenOperation o) -> String.valueOf(o.path)).thenComparing(o -> String.valueOf(o.httpMethod)));
+        for (CodegenOperation operation : sorted) {
+            PathItem pathItem = openAPI.getPaths() == null ? null : openAPI.getPaths().get(operation.path);
+            update(digest, operation.path + " " + operation.httpMethod);
+            if (pathItem == null || operation.httpMethod == null) {
+                // not declared in the paths (e.g. added by the generator), fall back to the generated operation
+                update(digest, operation.toString());
+                continue;
+            }
+            Operation declared = pathItem.readOperationsMap().get(PathItem.HttpMethod.valueOf(operation.httpMethod.toUpperCase(Locale.ROOT)));
+            pending.add(toTree(pathItem.getParameters()));
+            pending.add(toTree(pathItem.getServers()));
+            pending.add(toTree(declared));
+        }
+
+        // follow the references, to the other components and to the schemas
+        while (!pending.isEmpty()) {
+            JsonNode node = pending.poll();
+            update(digest, node.toString());
+            for (String ref : refs(node)) {
+                if (ref.startsWith(SCHEMAS_PREFIX)) {
+                    schemas.add(ModelUtils.getSimpleRef(ref));
+                } else if (ref.startsWith("#/components/") && components.add(ref)) {
+                    pending.add(toTree(component(ref)));
+                }
+            }
+        }
+        updateSchemas(digest, schemaClosure(schemas));
+        return hex(digest.digest());
+    }
+
+    /**
+     * Determines whether the files generated for a model or API during the previous generation are up-to-date.
+     *
+     * @param kind        {@link #MODELS} or {@link #APIS}
+     * @param name        The name of the model or API
+     * @param fingerprint The current fingerprint of the model or API
+     * @return true if the fingerprint didn't change and all the files generated during the previous generation exist
+     */
+    public boolean isUpToDate(String kind, String name, String fingerprint) {
+        Entry entry = previous.getOrDefault(kind, Collections.emptyMap()).get(name);
+        if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+            return false;
+        }
+        for (String file : entry.files) {
+            if (!outputDir.resolve(file).toFile().isFile()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param kind {@link #MODELS} or {@link #APIS}
+     * @param name The name of the model or API
+     * @return The files generated for the model or API during the previous generation
+     */
+    public List<File> getPreviousFiles(String kind, String name) {
+        Entry entry = previous.getOrDefault(kind, Collections.emptyMap()).get(name);
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+        return entry.files.stream().map(file -> outputDir.resolve(file).toFile()).collect(Collectors.toList());
+    }
+
+    /**
+     * Records the fingerprint of a model or API and the files generated from it, to be persisted by {@link #write()}.
+     *
+     * @param kind        {@link #MODELS} or {@link #APIS}
+     * @param name        The name of the model or API
+     * @param fingerprint The fingerprint of the model or API
+     * @param files       The files generated from the model or API
+     */
+    public void record(String kind, String name, String fingerprint, List<File> files) {
+        List<String> relativePaths = new ArrayList<>(files.size());
+        for (File file : files) {
+            relativePaths.add(outputDir.relativize(file.getAbsoluteFile().toPath().normalize()).toString().replace(File.separatorChar, '/'));
+        }
+        current.computeIfAbsent(kind, k -> new ConcurrentHashMap<>()).put(name, new Entry(fingerprint, relativePaths));
+    }
+
+    /**
+     * @return The number of models and APIs recorded during this generation
+     */
+    public int size() {
+        return current.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Persists the fingerprints recorded during this generation, replacing those of the previous generation.
+     *
+     * @throws IOException If the fingerprints can't be written
+     */
+    public void write() throws IOException {
+        ObjectNode root = Json.mapper().createObjectNode();
+        root.put("version", FORMAT_VERSION);
+        for (String kind : Arrays.asList(MODELS, APIS)) {
+            ObjectNode entries = root.putObject(kind);
+            new TreeMap<>(current.getOrDefault(kind, Collections.emptyMap())).forEach((name, entry) -> {
+                ObjectNode node = entries.putObject(name);
+                node.put("fingerprint", entry.fingerprint);
+                entry.files.forEach(node.putArray("files")::add);
+            });
+        }
+        File file = getFile();
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), Json.pretty(root).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, Map<String, Entry>> load(File file) {
+        Map<String, Map<String, Entry>> entries = new HashMap<>();
+        if (!file.isFile()) {
+            return entries;
+        }
+        try {
+            JsonNode root = Json.mapper().readTree(file);
+            if (root.path("version").asInt() != FORMAT_VERSION) {
+                LOGGER.info("Ignoring the fingerprints of {}, written by another version", file);
+                return entries;
+            }
+            for (String kind : Arrays.asList(MODELS, APIS)) {
+                Map<String, Entry> kindEntries = new HashMap<>();
+                root.path(kind).fields().forEachRemaining(field -> {
+                    List<String> files = new ArrayList<>();
+                    field.getValue().path("files").forEach(f -> files.add(f.asText()));
+                    kindEntries.put(field.getKey(), new Entry(field.getValue().path("fingerprint").asText(), files));
+                });
+                entries.put(kind, kindEntries);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read the fingerprints of the previous generation from {}, all files are generated", file, e);
+            entries.clear();
+        }
+        return entries;
+    }
+
+    /**
+     * @return The names of the schemas, along with the schemas they refer to and their children, transitively
+     */
+    private Set<String> schemaClosure(Collection<String> names) {
+        SchemaReferenceIndex index = getReferenceIndex();
+        Map<String, List<String>> children = index.getChildrenMap();
+        Set<String> closure = new TreeSet<>();
+        Deque<String> pending = new ArrayDeque<>(names);
+        while (!pending.isEmpty()) {
+            String name = pending.poll();
+            if (closure.add(name)) {
+                pending.addAll(index.getReferencedSchemas(name));
+                pending.addAll(children.getOrDefault(name, Collections.emptyList()));
+            }
+        }
+        return closure;
+    }
+
+    /**
+     * @return The names of the schemas referring to a schema, through a reference or a discriminator mapping
+     */
+    private Set<String> referrers(String name) {
+        Set<String> referrers = new TreeSet<>(getReferenceIndex().getReferrers(name));
+        referrers.addAll(getMappingReferrers().getOrDefault(name, Collections.emptySet()));
+        return referrers;
+    }
+
+    private synchronized Map<String, Set<String>> getMappingReferrers() {
+        if (mappingReferrers == null) {
+            mappingReferrers = new HashMap<>();
+            ModelUtils.getSchemas(openAPI).forEach((name, schema) -> {
+                if (schema != null && schema.getDiscriminator() != null && schema.getDiscriminator().getMapping() != null) {
+                    for (String value : schema.getDiscriminator().getMapping().values()) {
+                        // a mapping value is either a reference or the name of a schema
+                        String mapped = value.startsWith("#/") ? ModelUtils.getSimpleRef(value) : value;
+                        mappingReferrers.computeIfAbsent(mapped, k -> new HashSet<>()).add(name);
+                    }
+                }
+            });
+        }
+        return mappingReferrers;
+    }
+
+    private void updateSchemas(MessageDigest digest, Set<String> names) {
+        Map<String, io.swagger.v3.oas.models.media.Schema> schemas = ModelUtils.getSchemas(openAPI);
+        for (String name : names) {
+            update(digest, name + "=" + schemaDigests.computeIfAbsent(name, n -> digest(toTree(schemas.get(n)).toString())));
+        }
+    }
+
+    private synchronized SchemaReferenceIndex getReferenceIndex() {
+        if (referenceIndex == null) {
+            referenceIndex = new SchemaReferenceIndex(openAPI);
+        }
+        return referenceIndex;
+    }
+
+    /**
+     * @return The digest of the generator, its version and options, and the user-defined templates
+     */
+    private synchronized String getConfigDigest() {
+        if (configDigest == null) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("version=").append(ImplementationVersion.read()).append('\n');
+            sb.append("generator=").append(config.getName()).append('\n');
+            sb.append("library=").append(config.getLibrary()).append('\n');
+            sb.append("templateDir=").append(config.templateDir()).append('\n');
+            Map<String, Object> properties = new TreeMap<>(settings);
+            config.additionalProperties().forEach((key, value) -> {
+                if (!IGNORED_PROPERTIES.contains(key)) {
+                    properties.put("additionalProperties." + key, value);
+                }
+            });
+            properties.put("typeMapping", config.typeMapping());
+            properties.put("instantiationTypes", config.instantiationTypes());
+            properties.put("importMapping", config.importMapping());
+            properties.put("schemaMapping", config.schemaMapping());
+            properties.put("nameMapping", config.nameMapping());
+            properties.put("parameterNameMapping", config.parameterNameMapping());
+            properties.put("modelNameMapping", config.modelNameMapping());
+            properties.put("enumNameMapping", config.enumNameMapping());
+            properties.put("operationIdNameMapping", config.operationIdNameMapping());
+            properties.put("languageSpecificPrimitives", config.languageSpecificPrimitives());
+            properties.put("reservedWordsMappings", config.reservedWordsMappings());
+            properties.put("templateOutputDirs", config.templateOutputDirs());
+            properties.forEach((key, value) -> {
+                sb.append(key).append('=');
+                appendValue(sb, value);
+                sb.append('\n');
+            });
+            appendTemplates(sb);
+            configDigest = digest(sb.toString());
+        }
+        return configDigest;
+    }
+
+    /**
+     * @return The digest of the parts of the specification shared by all APIs
+     */
+    private synchronized String getApiDigest() {
+        if (apiDigest == null) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(toTree(openAPI.getInfo())).append('\n');
+            sb.append(toTree(openAPI.getServers())).append('\n');
+            sb.append(toTree(openAPI.getSecurity())).append('\n');
+            sb.append(toTree(openAPI.getTags())).append('\n');
+            sb.append(toTree(openAPI.getExternalDocs())).append('\n');
+            Components components = openAPI.getComponents();
+            sb.append(toTree(components == null ? null : components.getSecuritySchemes())).append('\n');
+            apiDigest = digest(sb.toString());
+        }
+        return apiDigest;
+    }
+
+    // the embedded templates are covered by the version, the user-defined ones by their content
+    private void appendTemplates(StringBuilder sb) {
+        String templateDir = config.templateDir();
+        if (templateDir == null || StringUtils.equals(templateDir, config.embeddedTemplateDir())) {
+            return;
+        }
+        Path root = new File(templateDir).toPath();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                sb.append("template ").append(root.relativize(path).toString().replace(File.separatorChar, '/'))
+                        .append('=').append(hex(newDigest().digest(Files.readAllBytes(path)))).append('\n');
+            }
+        } catch (IOException e) {
+            // can't tell whether the templates changed, let everything be generated
+            LOGGER.warn("Failed to read the templates of {}", templateDir, e);
+            sb.append(UUID.randomUUID());
+        }
+    }
+
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum) {
+            sb.append(value);
+        } else if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> sorted.put(String.valueOf(k), v));
+            sb.append('{');
+            sorted.forEach((k, v) -> {
+                sb.append(k).append('=');
+                appendValue(sb, v);
+                sb.append(',');
+            });
+            sb.append('}');
+        } else if (value instanceof Collection) {
+            List<String> values = new ArrayList<>();
+            for (Object item : (Collection<?>) value) {
+                StringBuilder itemBuilder = new StringBuilder();
+                appendValue(itemBuilder, item);
+                values.add(itemBuilder.toString());
+            }
+            if (value instanceof Set) {
+                // the iteration order of sets may vary between runs
+                Collections.sort(values);
+            }
+            sb.append(values);
+        } else {
+            // lambdas and other objects: only their type is significant, lambda class names vary between runs
+            sb.append('<').append(StringUtils.substringBefore(value.getClass().getName(), "$$Lambda")).append('>');
+        }
+    }
+
+    private Object component(String ref) {
+        Components components = openAPI.getComponents();
+        if (components == null) {
+            return null;
+        }
+        String[] parts = ref.substring("#/components/".length()).split("/", 2);
+        if (parts.length < 2) {
+            return null;
+        }
+        Map<String, Function<Components, Map<String, ?>>> types = Map.of(
+                "parameters", Components::getParameters,
+                "requestBodies", Components::getRequestBodies,
+                "responses", Components::getResponses,
+                "headers", Components::getHeaders,
+                "examples", Components::getExamples,
+                "links", Components::getLinks,
+                "callbacks", Components::getCallbacks,
+                "pathItems", Components::getPathItems);
+        Function<Components, Map<String, ?>> getter = types.get(parts[0]);
+        Map<String, ?> values = getter == null ? null : getter.apply(components);
+        return values == null ? null : values.get(parts[1]);
+    }
+
+    private static List<String> refs(JsonNode node) {
+        List<String> refs = new ArrayList<>();
+        Deque<JsonNode> pending = new ArrayDeque<>();
+        pending.add(node);
+        while (!pending.isEmpty()) {
+            JsonNode current = pending.poll();
+            JsonNode ref = current.get("$ref");
+            if (ref != null && ref.isTextual()) {
+                refs.add(ref.asText());
+            }
+            current.forEach(pending::add);
+        }
+        return refs;
+    }
+
+    private static JsonNode toTree(Object value) {
+        return value == null ? NullNode.getInstance() : Json.mapper().valueToTree(value);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String digest(String value) {
+        return hex(newDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format(Locale.ROOT, "%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final List<String> files;
+
+        private Entry(String fingerprint, List<String> files) {
+            this.fingerprint = fingerprint;
+            this.files = files;
+        }
+    }
+}
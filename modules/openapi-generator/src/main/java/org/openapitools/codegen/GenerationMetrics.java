@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import org.openapitools.codegen.utils.ImplementationVersion;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records where the time of a generation goes: the wall time, CPU time and allocated bytes of each phase, the files
+ * rendered per template and the hit rates of the caches. The metrics are always recorded, the report is only written
+ * (see {@link #write(File)}) when enabled by {@link CodegenConfig#isReportMetrics()}.
+ * <p>
+ * The CPU time and the allocated bytes of a phase are those of the thread running it. Files rendered by the render
+ * workers (see {@link CodegenConfig#getRenderWorkers()}) are accounted for in the metrics of their template.
+ */
+public class GenerationMetrics {
+    /**
+     * The name of the report, in the .openapi-generator directory of the output directory.
+     */
+    public static final String FILENAME = "METRICS.json";
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    // the thread MBean, if it tracks the memory allocated by the threads
+    private static final ObjectName THREADING = allocationTrackingThreading();
+
+    private final long createdAt = System.nanoTime();
+    // guarded by itself, in the order the phases were first started
+    private final Map<String, PhaseMetrics> phases = new LinkedHashMap<>();
+    // guarded by phases, the phases in progress, a nested phase of the same name being part of the outer one
+    private final Set<String> activePhases = new HashSet<>();
+    private final Map<String, TemplateMetrics> templates = new ConcurrentHashMap<>();
+    private final LongAdder writtenFiles = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    // guarded by itself
+    private final Map<String, CacheMetrics> caches = new LinkedHashMap<>();
+
+    /**
+     * Starts a phase, which ends once the returned instance is closed. A phase started several times (e.g. once per
+     * model) is reported once, with the total of its metrics.
+     *
+     * @param name The name of the phase
+     * @return The phase in progress
+     */
+    public Phase phase(String name) {
+        synchronized (phases) {
+            if (!activePhases.add(name)) {
+                return () -> {
+                };
+            }
+            phases.computeIfAbsent(name, k -> new PhaseMetrics());
+        }
+        long wallStart = System.nanoTime();
+        long cpuStart = currentThreadCpuTime();
+        long allocatedStart = currentThreadAllocatedBytes();
+        return () -> {
+            long wall = System.nanoTime() - wallStart;
+            long cpu = cpuStart < 0 ? -1 : currentThreadCpuTime() - cpuStart;
+            long allocated = allocatedStart < 0 ? -1 : currentThreadAllocatedBytes() - allocatedStart;
+            synchronized (phases) {
+                activePhases.remove(name);
+                phases.get(name).add(wall, cpu, allocated);
+            }
+        };
+    }
+
+    /**
+     * Records the rendering of a file.
+     *
+     * @param template The name of the template
+     * @param nanos    The time spent rendering the template, excluding the time spent writing the file
+     */
+    public void recordRender(String template, long nanos) {
+        TemplateMetrics metrics = templates.computeIfAbsent(template, k -> new TemplateMetrics());
+        metrics.files.increment();
+        metrics.nanos.add(nanos);
+    }
+
+    /**
+     * Records the writing of a file (or the check that its content is unchanged, see
+     * {@link CodegenConfig#isEnableMinimalUpdate()}).
+     *
+     * @param bytes The size of the file
+     * @param nanos The time spent writing the file
+     */
+    public void recordWrite(long bytes, long nanos) {
+        writtenFiles.increment();
+        writtenBytes.add(bytes);
+        writeNanos.add(nanos);
+    }
+
+    /**
+     * Records the hits and misses of a cache during the generation.
+     *
+     * @param name   The name of the cache
+     * @param hits   The number of lookups served from the cache
+     * @param misses The number of lookups which required the value to be computed
+     */
+    public void recordCache(String name, long hits, long misses) {
+        synchronized (caches) {
+            caches.put(name, new CacheMetrics(hits, misses));
+        }
+    }
+
+    /**
+     * @return The names of the phases recorded so far, in the order they were first started
+     */
+    public List<String> getPhaseNames() {
+        synchronized (phases) {
+            return new ArrayList<>(phases.keySet());
+        }
+    }
+
+    /**
+     * @param template The name of a template
+     * @return The number of files rendered from the template
+     */
+    public long getRenderedFileCount(String template) {
+        TemplateMetrics metrics = templates.get(template);
+        return metrics == null ? 0 : metrics.files.sum();
+    }
+
+    /**
+     * @return The report, as a JSON tree
+     */
+    public ObjectNode toJson() {
+        ObjectNode root = Json.mapper().createObjectNode();
+        root.put("generatorVersion", ImplementationVersion.read());
+        root.put("wallMillis", millis(System.nanoTime() - createdAt));
+
+        ObjectNode phasesNode = root.putObject("phases");
+        synchronized (phases) {
+            phases.forEach((name, metrics) -> {
+                ObjectNode node = phasesNode.putObject(name);
+                node.put("count", metrics.count);
+                node.put("wallMillis", millis(metrics.wallNanos));
+                if (metrics.cpuNanos >= 0) {
+                    node.put("cpuMillis", millis(metrics.cpuNanos));
+                }
+                if (metrics.allocatedBytes >= 0) {
+                    node.put("allocatedBytes", metrics.allocatedBytes);
+                }
+            });
+        }
+
+        ObjectNode templatesNode = root.putObject("templates");
+        new TreeMap<>(templates).forEach((name, metrics) -> {
+            ObjectNode node = templatesNode.putObject(name);
+            node.put("files", metrics.files.sum());
+            node.put("renderMillis", millis(metrics.nanos.sum()));
+        });
+
+        ObjectNode writesNode = root.putObject("writes");
+        writesNode.put("files", writtenFiles.sum());
+        writesNode.put("bytes", writtenBytes.sum());
+        writesNode.put("millis", millis(writeNanos.sum()));
+
+        ObjectNode cachesNode = root.putObject("caches");
+        synchronized (caches) {
+            caches.forEach((name, metrics) -> {
+                ObjectNode node = cachesNode.putObject(name);
+                node.put("hits", metrics.hits);
+                node.put("misses", metrics.misses);
+                long requests = metrics.hits + metrics.misses;
+                node.put("hitRate", requests == 0 ? 1.0 : Math.round(10000.0 * metrics.hits / requests) / 10000.0);
+            });
+        }
+        return root;
+    }
+
+    /**
+     * Writes the report.
+     *
+     * @param file The target of the report
+     * @throws IOException If the report can't be written
+     */
+    public void write(File file) throws IOException {
+        Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+        Files.write(file.toPath(), Json.pretty(toJson()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+    private static long currentThreadCpuTime() {
+        if (THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled()) {
+            return THREADS.getCurrentThreadCpuTime();
+        }
+        return -1;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (THREADING == null) {
+            return -1;
+        }
+        try {
+            // through the MBean server, the extended ThreadMXBean interface being specific to HotSpot based runtimes
+            return (Long) ManagementFactory.getPlatformMBeanServer().invoke(THREADING, "getThreadAllocatedBytes",
+                    new Object[]{Thread.currentThread().getId()}, new String[]{long.class.getName()});
+        } catch (JMException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static ObjectName allocationTrackingThreading() {
+        try {
+            ObjectName name = new ObjectName(ManagementFactory.THREAD_MXBEAN_NAME);
+            Object enabled = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "ThreadAllocatedMemoryEnabled");
+            return Boolean.TRUE.equals(enabled) ? name : null;
+        } catch (JMException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A phase in progress.
+     */
+    public interface Phase extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class PhaseMetrics {
+        private int count;
+        private long wallNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+
+        private void add(long wall, long cpu, long allocated) {
+            count++;
+            wallNanos += wall;
+            cpuNanos = cpu < 0 || cpuNanos < 0 ? -1 : cpuNanos + cpu;
+            allocatedBytes = allocated < 0 || allocatedBytes < 0 ? -1 : allocatedBytes + allocated;
+        }
+    }
+
+    private static final class TemplateMetrics {
+        private final LongAdder files = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+
+    private static final class CacheMetrics {
+        private final long hits;
+        private final long misses;
+
+        private CacheMetrics(long hits, long misses) {
+            this.hits = hits;
+            this.misses = misses;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.meta.Stability;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Index of the generators registered as {@link CodegenConfig} services, by name, so that a generator can be found, and
+ * the generators can be listed, without instantiating every registered generator.
+ * <p>
+ * The index is generated at build time (see {@link #main(String[])}) in {@value #RESOURCE}, one line per generator:
+ * its name, class name, type and stability, separated by tabs. The generators registered by other artifacts without
+ * an index are still found through the {@link ServiceLoader}.
+ */
+public class GeneratorIndex {
+    public static final String RESOURCE = "META-INF/openapi-generator/generators.idx";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GeneratorIndex.class);
+    private static final String SEPARATOR = "\t";
+
+    private static volatile GeneratorIndex instance;
+
+    private final Map<String, Entry> entries;
+
+    GeneratorIndex(Map<String, Entry> entries) {
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * @return The index of the generators of the class loader of {@link CodegenConfig}, loaded once
+     */
+    public static GeneratorIndex getInstance() {
+        GeneratorIndex index = instance;
+        if (index == null) {
+            synchronized (GeneratorIndex.class) {
+                index = instance;
+                if (index == null) {
+                    index = load(CodegenConfig.class.getClassLoader());
+                    instance = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Loads the index of the generators from all the {@value #RESOURCE} resources visible to a class loader.
+     *
+     * @param classLoader The class loader
+     * @return The index of the generators, empty if no index is found
+     */
+    static GeneratorIndex load(ClassLoader classLoader) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                try (InputStream in = url.openStream()) {
+                    read(in, entries);
+                } catch (IOException | IllegalArgumentException e) {
+                    LOGGER.warn("Unable to read the generator index {}", url, e);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to look up the generator indexes", e);
+        }
+        return new GeneratorIndex(entries);
+    }
+
+    static void read(InputStream in, Map<String, Entry> entries) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(SEPARATOR, -1);
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("Invalid generator index line: " + line);
+            }
+            Entry entry = new Entry(fields[0], fields[1],
+                    fields[2].isEmpty() ? null : CodegenType.valueOf(fields[2]),
+                    fields[3].isEmpty() ? null : Stability.forDescription(fields[3]));
+            // the first generator registered under a name wins, as with the ServiceLoader
+            entries.putIfAbsent(entry.getName(), entry);
+        }
+    }
+
+    static void write(Collection<Entry> entries, Writer writer) throws IOException {
+        writer.write("# generated at build time by " + GeneratorIndex.class.getName() + ", do not edit\n");
+        for (Entry entry : entries) {
+            writer.write(entry.getName() + SEPARATOR + entry.getClassName() + SEPARATOR
+                    + (entry.getTag() == null ? "" : entry.getTag().name()) + SEPARATOR
+                    + (entry.getStability() == null ? "" : entry.getStability().value()) + "\n");
+        }
+    }
+
+    static Entry entryOf(CodegenConfig config) {
+        GeneratorMetadata meta = config.getGeneratorMetadata();
+        return new Entry(config.getName(), config.getClass().getName(), config.getTag(), meta == null ? null : meta.getStability());
+    }
+
+    /**
+     * @param name The name of a generator
+     * @return The indexed generator with this name, or null
+     */
+    public Entry get(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * @return The indexed generators, in the order of their registration
+     */
+    public Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    /**
+     * @return Whether a generator is indexed
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Generates the index of the generators registered as {@link CodegenConfig} services in the class path.
+     *
+     * @param args The path of the index file
+     * @throws IOException if the index can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: GeneratorIndex <index file>");
+        }
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader())) {
+            entries.putIfAbsent(config.getName(), entryOf(config));
+        }
+        Path file = Paths.get(args[0]);
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            write(entries.values(), writer);
+        }
+        LOGGER.info("Indexed {} generators in {}", entries.size(), file);
+    }
+
+    /**
+     * A generator of the index: its name and class, and the metadata needed to list it.
+     */
+    public static class Entry {
+        private final String name;
+        private final String className;
+        private final CodegenType tag;
+        private final Stability stability;
+
+        public Entry(String name, String className, CodegenType tag, Stability stability) {
+            this.name = Objects.requireNonNull(name);
+            this.className = Objects.requireNonNull(className);
+            this.tag = tag;
+            this.stability = stability;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getClassName() {
+            return className;
+        }
+
+        public CodegenType getTag() {
+            return tag;
+        }
+
+        public Stability getStability() {
+            return stability;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Entry entry = (Entry) o;
+            return name.equals(entry.name) && className.equals(entry.className) && tag == entry.tag && stability == entry.stability;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, className, tag, stability);
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + className + ")";
+        }
+    }
+}
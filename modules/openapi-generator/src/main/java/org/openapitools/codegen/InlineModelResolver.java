@@ -17,11 +17,6 @@
 
 package org.openapitools.codegen;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.*;
 import io.swagger.v3.oas.models.PathItem.HttpMethod;
 import io.swagger.v3.oas.models.callbacks.Callback;
@@ -33,15 +28,18 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.SchemaFingerprint;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.*;
 
 public class InlineModelResolver {
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    // the generated schemas by the fingerprint of their structure when they were generated, the latest last
+    private Map<SchemaFingerprint, List<Map.Entry<String, Schema>>> generatedSignature = new HashMap<>();
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -49,18 +47,13 @@ public class InlineModelResolver {
     public boolean skipSchemaReuse = false; // skip reusing inline schema if set to true
     public Boolean refactorAllOfInlineSchemas = null; // refactor allOf inline schemas into $ref
 
-    // structure mapper sorts properties alphabetically on write to ensure models are
-    // serialized consistently for lookup of existing models
-    private static ObjectMapper structureMapper;
-
     // a set to keep track of names generated for inline schemas
     private Set<String> uniqueNames = new HashSet<>();
 
-    static {
-        structureMapper = Json.mapper().copy();
-        structureMapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
-        structureMapper.writer(new DefaultPrettyPrinter());
-    }
+    // the schema last fingerprinted by matchGenerated, and its fingerprint, as it is usually added right after,
+    // unchanged
+    private Schema fingerprinted;
+    private SchemaFingerprint fingerprint;
 
     final Logger LOGGER = LoggerFactory.getLogger(InlineModelResolver.class);
 
@@ -106,10 +99,14 @@ public class InlineModelResolver {
             this.openAPI.getComponents().setSchemas(new HashMap<String, Schema>());
         }
 
-        flattenPaths();
-        flattenWebhooks();
-        flattenComponents();
-        flattenComponentResponses();
+        try {
+            flattenPaths();
+            flattenWebhooks();
+            flattenComponents();
+            flattenComponentResponses();
+        } finally {
+            ModelUtils.schemasModified(this.openAPI);
+        }
     }
 
     /**
@@ -766,11 +763,16 @@ public class InlineModelResolver {
         }
 
         try {
-            String json = structureMapper.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
+            SchemaFingerprint signature = SchemaFingerprint.of(model);
+            fingerprinted = model;
+            fingerprint = signature;
+            List<Map.Entry<String, Schema>> generated = generatedSignature.getOrDefault(signature, Collections.emptyList());
+            for (int i = generated.size() - 1; i >= 0; i--) {
+                if (isSameStructure(model, generated.get(i).getValue(), signature)) {
+                    return generated.get(i).getKey();
+                }
             }
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             e.printStackTrace();
         }
 
@@ -778,14 +780,43 @@ public class InlineModelResolver {
     }
 
     private void addGenerated(String name, Schema model) {
+        if (skipSchemaReuse) { // the generated schemas are never reused
+            return;
+        }
+
         try {
-            String json = structureMapper.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
+            generatedSignature.computeIfAbsent(fingerprint(model), k -> new ArrayList<>(1))
+                    .add(new AbstractMap.SimpleImmutableEntry<>(name, model));
+        } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    private SchemaFingerprint fingerprint(Schema model) throws IOException {
+        SchemaFingerprint signature = model == fingerprinted ? fingerprint : SchemaFingerprint.of(model);
+        fingerprinted = null;
+        fingerprint = null;
+        return signature;
+    }
+
+    /**
+     * Tells whether a schema has the same structure as a generated schema with the same fingerprint.
+     * <p>
+     * The generated schemas may have been flattened since they were generated: they are compared with their structure
+     * at that time, i.e. by their fingerprint, unless they are unchanged and can be compared with the schema.
+     *
+     * @param model     the schema
+     * @param generated the generated schema
+     * @param signature the fingerprint of both the schema and the generated schema, when it was generated
+     * @return true if the generated schema can be reused for the schema
+     */
+    private boolean isSameStructure(Schema model, Schema generated, SchemaFingerprint signature) throws IOException {
+        if (model.equals(generated)) {
+            return true;
+        }
+        return !signature.equals(SchemaFingerprint.of(generated)) || SchemaFingerprint.sameStructure(model, generated);
+    }
+
     /**
      * Sanitizes the input so that it's valid name for a class or interface
      * <p>
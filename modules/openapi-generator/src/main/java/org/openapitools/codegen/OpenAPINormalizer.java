@@ -36,6 +36,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.openapitools.codegen.utils.ModelUtils.simplyOneOfAnyOfWithOnlyOneNonNullSubSchema;
@@ -48,6 +49,9 @@ public class OpenAPINormalizer {
 
     private TreeSet<String> anyTypeTreeSet = new TreeSet<>();
 
+    // the visited schemas of the walk in progress, for the rules which have no set of visited schemas
+    private Set<Schema> visitedSchemasInProgress;
+
     protected final Logger LOGGER = LoggerFactory.getLogger(OpenAPINormalizer.class);
 
     Set<String> ruleNames = new TreeSet<>();
@@ -357,11 +361,15 @@ public class OpenAPINormalizer {
             this.openAPI.getComponents().setSchemas(new HashMap<String, Schema>());
         }
 
-        normalizeInfo();
-        normalizePaths();
-        normalizeComponentsSecuritySchemes();
-        normalizeComponentsSchemas();
-        normalizeComponentsResponses();
+        try {
+            normalizeInfo();
+            normalizePaths();
+            normalizeComponentsSecuritySchemes();
+            normalizeComponentsSchemas();
+            normalizeComponentsResponses();
+        } finally {
+            ModelUtils.schemasModified(this.openAPI);
+        }
     }
 
     /**
@@ -486,7 +494,7 @@ public class OpenAPINormalizer {
             } else if (mediaType.getSchema() == null) {
                 continue;
             } else {
-                Schema newSchema = normalizeSchema(mediaType.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchema(mediaType.getSchema(), newVisitedSchemas());
                 mediaType.setSchema(newSchema);
             }
         }
@@ -534,7 +542,7 @@ public class OpenAPINormalizer {
             }
 
             if (parameter.getSchema() != null) {
-                Schema newSchema = normalizeSchema(parameter.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchema(parameter.getSchema(), newVisitedSchemas());
                 parameter.setSchema(newSchema);
             }
         }
@@ -580,7 +588,7 @@ public class OpenAPINormalizer {
 
         for (String headerKey : headers.keySet()) {
             Header h = headers.get(headerKey);
-            Schema updatedHeader = normalizeSchema(h.getSchema(), new HashSet<>());
+            Schema updatedHeader = normalizeSchema(h.getSchema(), newVisitedSchemas());
             h.setSchema(updatedHeader);
         }
     }
@@ -641,7 +649,7 @@ public class OpenAPINormalizer {
                 fixSelfReferenceSchema(schemaName, schema);
 
                 // normalize the schemas
-                schemas.put(schemaName, normalizeSchema(schema, new HashSet<>()));
+                schemas.put(schemaName, normalizeSchema(schema, newVisitedSchemas()));
             }
         }
     }
@@ -723,7 +731,8 @@ public class OpenAPINormalizer {
         markSchemaAsVisited(schema, visitedSchemas);
 
         if (ModelUtils.isArraySchema(schema)) { // array
-            Schema result = normalizeArraySchema(schema);
+            Schema array = schema;
+            Schema result = withVisitedSchemas(visitedSchemas, () -> normalizeArraySchema(array));
             normalizeSchema(result.getItems(), visitedSchemas);
             return result;
         } else if (schema.getAdditionalProperties() instanceof Schema) { // map
@@ -816,8 +825,61 @@ public class OpenAPINormalizer {
         }
     }
 
+    /**
+     * Normalizes a schema again, e.g. after a rule changed it into another kind of schema.
+     *
+     * @param schema         Schema
+     * @param visitedSchemas a set of visited schemas
+     * @return Schema
+     */
+    protected Schema renormalizeSchema(Schema schema, Set<Schema> visitedSchemas) {
+        if (schema != null) {
+            visitedSchemas.remove(schema);
+        }
+        return normalizeSchema(schema, visitedSchemas);
+    }
+
+    /**
+     * Creates the set of the schemas visited while walking a schema (e.g. the schema of a request body), which holds
+     * them by identity: they are updated while being walked, and distinct sub-schemas may be equal.
+     *
+     * @return an empty set of visited schemas
+     */
+    protected Set<Schema> newVisitedSchemas() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Runs a rule which has no set of visited schemas, but walks the schemas it changes (e.g.
+     * {@link #normalizeArraySchema(Schema)}), as part of the walk in progress.
+     *
+     * @param visitedSchemas the set of visited schemas of the walk in progress
+     * @param rule           the rule
+     * @return the result of the rule
+     */
+    private Schema withVisitedSchemas(Set<Schema> visitedSchemas, Supplier<Schema> rule) {
+        Set<Schema> previous = visitedSchemasInProgress;
+        visitedSchemasInProgress = visitedSchemas;
+        try {
+            return rule.get();
+        } finally {
+            visitedSchemasInProgress = previous;
+        }
+    }
+
+    /**
+     * @return the set of visited schemas of the walk in progress, or else a new one
+     */
+    private Set<Schema> visitedSchemasInProgress() {
+        return visitedSchemasInProgress != null ? visitedSchemasInProgress : newVisitedSchemas();
+    }
+
     protected Schema normalizeArraySchema(Schema schema) {
-        Schema result = processNormalize31Spec(schema, new HashSet<>());
+        return normalizeArraySchema(schema, visitedSchemasInProgress());
+    }
+
+    protected Schema normalizeArraySchema(Schema schema, Set<Schema> visitedSchemas) {
+        Schema result = processNormalize31Spec(schema, visitedSchemas);
         return processSetArraytoNullable(result);
     }
 
@@ -846,7 +908,7 @@ public class OpenAPINormalizer {
         }
         for (Map.Entry<String, Schema> propertiesEntry : properties.entrySet()) {
             Schema property = propertiesEntry.getValue();
-            Schema newProperty = normalizeSchema(property, new HashSet<>());
+            Schema newProperty = normalizeSchema(property, visitedSchemas);
             propertiesEntry.setValue(newProperty);
         }
     }
@@ -908,7 +970,8 @@ public class OpenAPINormalizer {
         }
 
         // process rule to refactor properties into allOf sub-schema
-        schema = processRefactorAllOfWithPropertiesOnly(schema);
+        Schema allOf = schema;
+        schema = withVisitedSchemas(visitedSchemas, () -> processRefactorAllOfWithPropertiesOnly(allOf));
 
         for (Object item : schema.getAllOf()) {
             if (!(item instanceof Schema)) {
@@ -946,7 +1009,7 @@ public class OpenAPINormalizer {
             }
         } else {
             // normalize it as it's no longer an oneOf
-            schema = normalizeSchema(schema, visitedSchemas);
+            schema = renormalizeSchema(schema, visitedSchemas);
         }
 
         return schema;
@@ -1485,7 +1548,7 @@ public class OpenAPINormalizer {
 
         // at this point the schema becomes a simple allOf (no properties) with an additional schema containing
         // the properties. Normalize it before returning.
-        return normalizeSchema(schema, new HashSet<>());
+        return renormalizeSchema(schema, visitedSchemasInProgress());
     }
 
     /**
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.apache.commons.io.IOUtils;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the external post-processors (formatters, linters, etc.) of the generated files in batches.
+ * <p>
+ * Files are grouped by post-processor command. Once a group reaches the batch size, the command is executed once with
+ * all the files of the group as trailing arguments, on a bounded pool of workers, so that post-processing overlaps
+ * with the generation of the remaining files. {@link #finish()} runs the remaining (partial) batches and waits for
+ * all of them to complete.
+ */
+public class PostProcessingQueue {
+    /**
+     * Set the maximum number of files passed to a single post-processor invocation. Defaults to 1, running the
+     * post-processor once per file as without a queue; larger batches are opt-in, as not every post-processor accepts
+     * several files.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "org.openapitools.codegen.postprocessing.batchsize";
+
+    /**
+     * Set the maximum number of post-processor invocations running concurrently.
+     */
+    public static final String WORKERS_PROPERTY = "org.openapitools.codegen.postprocessing.workers";
+
+    // keeps the command lines well below the limits of the common platforms
+    private static final int MAX_COMMAND_LENGTH = 30000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostProcessingQueue.class);
+
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final Map<List<String>, Batch> pending = new LinkedHashMap<>();
+    private final List<Future<?>> running = new ArrayList<>();
+
+    private final AtomicInteger fileCount = new AtomicInteger();
+    private final AtomicInteger batchCount = new AtomicInteger();
+    private final AtomicInteger failedBatchCount = new AtomicInteger();
+    private final AtomicLong processNanos = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private long elapsedNanos = -1;
+
+    /**
+     * Constructs a new instance of {@link PostProcessingQueue}
+     *
+     * @param batchSize The maximum number of files passed to a single post-processor invocation
+     * @param workers   The maximum number of post-processor invocations running concurrently
+     */
+    public PostProcessingQueue(int batchSize, int workers) {
+        this.batchSize = Math.max(1, batchSize);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-postprocess-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return A new instance, configured from the {@link #BATCH_SIZE_PROPERTY} and {@link #WORKERS_PROPERTY} global properties
+     */
+    public static PostProcessingQueue fromGlobalSettings() {
+        return new PostProcessingQueue(
+                positiveProperty(BATCH_SIZE_PROPERTY, 1),
+                positiveProperty(WORKERS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * @param name         The name of the global property
+     * @param defaultValue The value used when the property is not set or is not a positive integer
+     * @return The value of the property
+     */
+    static int positiveProperty(String name, int defaultValue) {
+        String value = GlobalSettings.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        LOGGER.warn("Ignoring the global property {}={}, which is not a positive integer; using {} instead.", name, value, defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Queues a file for post-processing.
+     *
+     * @param commandArr an array of commands and arguments. They will be concatenated with space and tokenized again,
+     *                   the files being appended as trailing arguments
+     * @param file       file to be processed
+     */
+    public synchronized void add(String[] commandArr, File file) {
+        if (elapsedNanos >= 0) {
+            throw new IllegalStateException("Post-processing of " + file + " requested after the post-processing completed.");
+        }
+        fileCount.incrementAndGet();
+
+        List<String> command = tokenize(String.join(" ", commandArr));
+        Batch batch = pending.computeIfAbsent(command, Batch::new);
+        if (!batch.files.isEmpty() && batch.length + file.getPath().length() + 1 > MAX_COMMAND_LENGTH) {
+            submit(pending.remove(command));
+            batch = pending.computeIfAbsent(command, Batch::new);
+        }
+        batch.add(file);
+        if (batch.files.size() >= batchSize) {
+            submit(pending.remove(command));
+        }
+    }
+
+    /**
+     * Runs the remaining batches and waits for all post-processors to complete.
+     *
+     * @return Whether all post-processors passed (true) or any failed (false)
+     */
+    public boolean finish() {
+        List<Future<?>> futures;
+        synchronized (this) {
+            if (elapsedNanos >= 0) {
+                return failedBatchCount.get() == 0;
+            }
+            pending.values().forEach(this::submit);
+            pending.clear();
+            futures = new ArrayList<>(running);
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failedBatchCount.incrementAndGet();
+                    LOGGER.error("Error running the post-processor. Exception: {}", e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            // Restore interrupted state
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            synchronized (this) {
+                elapsedNanos = System.nanoTime() - startNanos;
+            }
+        }
+
+        if (fileCount.get() > 0) {
+            LOGGER.info("Post-processed {} files in {} batches ({} failed), {} ms spent in post-processors, {} ms in total",
+                    fileCount.get(), batchCount.get(), failedBatchCount.get(), getProcessTimeMillis(), getElapsedTimeMillis());
+        }
+        return failedBatchCount.get() == 0;
+    }
+
+    /**
+     * @return The number of files queued for post-processing
+     */
+    public int getFileCount() {
+        return fileCount.get();
+    }
+
+    /**
+     * @return The number of post-processor invocations
+     */
+    public int getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * @return The number of post-processor invocations which failed
+     */
+    public int getFailedBatchCount() {
+        return failedBatchCount.get();
+    }
+
+    /**
+     * @return The cumulated run time of the post-processors, in milliseconds
+     */
+    public long getProcessTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(processNanos.get());
+    }
+
+    /**
+     * @return The time between the creation of this queue and the completion of all post-processors (or now, if not
+     * completed yet), in milliseconds
+     */
+    public synchronized long getElapsedTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos);
+    }
+
+    private void submit(Batch batch) {
+        batchCount.incrementAndGet();
+        running.add(executor.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                if (!execute(batch.command())) {
+                    failedBatchCount.incrementAndGet();
+                }
+            } finally {
+                processNanos.addAndGet(System.nanoTime() - start);
+            }
+        }));
+    }
+
+    private static boolean execute(List<String> command) {
+        String commandLine = String.join(" ", command);
+        try {
+            Process p = new ProcessBuilder(command)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            String errorOutput;
+            try (InputStream errorStream = p.getErrorStream()) {
+                // drained before waiting, so that a verbose post-processor doesn't block on a full pipe
+                errorOutput = IOUtils.toString(errorStream, StandardCharsets.UTF_8);
+            }
+            int exitValue = p.waitFor();
+            if (exitValue != 0) {
+                LOGGER.error("Error running the command ({}). Exit value: {}, Error output: {}", commandLine, exitValue, errorOutput);
+                return false;
+            }
+            LOGGER.info("Successfully executed: {}", commandLine);
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Error running the command ({}). Exception: {}", commandLine, e.getMessage());
+        } catch (InterruptedException e) {
+            LOGGER.error("Error running the command ({}). Exception: {}", commandLine, e.getMessage());
+            // Restore interrupted state
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    // tokenizes the command the same way Runtime.exec(String) does
+    private static List<String> tokenize(String command) {
+        List<String> tokens = new ArrayList<>();
+        StringTokenizer tokenizer = new StringTokenizer(command);
+        while (tokenizer.hasMoreTokens()) {
+            tokens.add(tokenizer.nextToken());
+        }
+        return tokens;
+    }
+
+    private static final class Batch {
+        private final List<String> prefix;
+        private final List<String> files = new ArrayList<>();
+        private int length;
+
+        private Batch(List<String> prefix) {
+            this.prefix = prefix;
+            this.length = String.join(" ", prefix).length();
+        }
+
+        private void add(File file) {
+            files.add(file.getPath());
+            length += file.getPath().length() + 1;
+        }
+
+        private List<String> command() {
+            List<String> command = new ArrayList<>(prefix);
+            command.addAll(files);
+            return command;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The updates of the schemas shared by the operations, made while converting an operation: the naming of the schema
+ * of its body and the examples, which store the example of a model in its schema. The examples of the operations
+ * converted afterwards read these names and examples.
+ * <p>
+ * When the operations are converted on the process workers (see {@link DefaultGenerator}), the updates are queued
+ * instead of being run on the worker, then run on the generating thread in the order of the operations, as they are
+ * when the operations are converted sequentially.
+ */
+final class SchemaUpdates {
+    private static final ThreadLocal<List<Runnable>> QUEUE = new ThreadLocal<>();
+
+    private SchemaUpdates() {
+    }
+
+    /**
+     * Runs an update, or queues it if the current thread converts an operation on a process worker.
+     *
+     * @param update The update of the shared schemas
+     */
+    static void run(Runnable update) {
+        List<Runnable> queue = QUEUE.get();
+        if (queue == null) {
+            update.run();
+        } else {
+            queue.add(update);
+        }
+    }
+
+    /**
+     * Runs a conversion, queueing the updates it makes.
+     *
+     * @param conversion The conversion of an operation
+     * @param updates    The queue of the updates, in the order they were made
+     * @param <T>        The type of the converted operation
+     * @return The converted operation
+     */
+    static <T> T queue(Supplier<T> conversion, List<Runnable> updates) {
+        List<Runnable> previous = QUEUE.get();
+        QUEUE.set(updates);
+        try {
+            return conversion.get();
+        } finally {
+            if (previous == null) {
+                QUEUE.remove();
+            } else {
+                QUEUE.set(previous);
+            }
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package org.openapitools.codegen;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.api.TemplateProcessor;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.templating.CommonTemplateContentLocator;
+import org.openapitools.codegen.templating.GeneratorTemplateContentLocator;
+import org.openapitools.codegen.templating.OutputSink;
 import org.openapitools.codegen.templating.TemplateManagerOptions;
 import org.openapitools.codegen.templating.TemplateNotFoundException;
 import org.slf4j.Logger;
@@ -13,23 +19,44 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Scanner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 /**
  * Manages the lookup, compilation, and writing of template files
  */
 public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
+    /**
+     * Set the maximum number of file digests remembered to detect unchanged files in minimal update mode.
+     */
+    public static final String FILE_DIGEST_CACHE_SIZE_PROPERTY = "org.openapitools.codegen.templating.filedigest.cachesize";
+
+    // modification times within this window of the time a digest was recorded may hide a later change of the file
+    private static final long RACY_MILLIS = 2000L;
+
+    // the digests of the files written (or found unchanged) by the previous generations of this JVM
+    private static final Cache<Path, FileDigest> FILE_DIGESTS = Caffeine.newBuilder()
+            .maximumSize(Long.parseLong(GlobalSettings.getProperty(FILE_DIGEST_CACHE_SIZE_PROPERTY, "50000")))
+            .build();
+
     private final TemplateManagerOptions options;
     private final TemplatingEngineAdapter engineAdapter;
     private final TemplatePathLocator[] templateLoaders;
+    private final AtomicInteger writtenFileCount = new AtomicInteger();
+    private final AtomicInteger unchangedFileCount = new AtomicInteger();
+    private GenerationMetrics metrics;
+    // receives the written files in place of the file system, if set
+    private OutputSink outputSink;
 
     private final Logger LOGGER = LoggerFactory.getLogger(TemplateManager.class);
 
@@ -49,6 +76,32 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         this.templateLoaders = templateLoaders;
     }
 
+    /**
+     * Sets the metrics recording the rendered and written files.
+     *
+     * @param metrics The metrics of the generation, or null to stop recording
+     */
+    public void setMetrics(GenerationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the sink receiving the written files in place of the file system. Minimal update only applies to the file
+     * system.
+     *
+     * @param outputSink The sink, or null to write the files to the file system
+     */
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    /**
+     * @return The sink receiving the written files in place of the file system, or null
+     */
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
     private String getFullTemplateFile(String name) {
         String template = Arrays.stream(this.templateLoaders)
                 .map(i -> i.getFullTemplatePath(name))
@@ -67,6 +120,27 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return template;
     }
 
+    /**
+     * Describes where this manager looks up templates from. Managers with an equal key resolve any template name to
+     * the same location, which allows compiled templates to be shared between them.
+     *
+     * @return The location key, or null if one of the template loaders can't be described
+     */
+    public String getTemplateLocationKey() {
+        StringBuilder key = new StringBuilder();
+        for (TemplatePathLocator loader : this.templateLoaders) {
+            if (loader.getClass() == GeneratorTemplateContentLocator.class) {
+                key.append(((GeneratorTemplateContentLocator) loader).getLocationKey());
+            } else if (loader.getClass() == CommonTemplateContentLocator.class) {
+                key.append(((CommonTemplateContentLocator) loader).getLocationKey());
+            } else {
+                return null;
+            }
+            key.append('\n');
+        }
+        return key.toString();
+    }
+
     /**
      * returns the template content by name
      *
@@ -164,7 +238,11 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
     public File write(Map<String, Object> data, String template, File target) throws IOException {
         if (this.engineAdapter.handlesFile(template)) {
             // Only pass files with valid endings through template engine
+            long start = System.nanoTime();
             String templateContent = this.engineAdapter.compileTemplate(this, data, template);
+            if (metrics != null) {
+                metrics.recordRender(template, System.nanoTime() - start);
+            }
             return writeToFile(target.getPath(), templateContent);
         } else {
             // Do a straight copy of the file if not listed as supported by the template engine.
@@ -214,36 +292,55 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
     public File writeToFile(String filename, byte[] contents) throws IOException {
         // Use Paths.get here to normalize path (for Windows file separator, space escaping on Linux/Mac, etc)
         File outputFile = Paths.get(filename).toFile();
+        long start = System.nanoTime();
 
-        if (this.options.isMinimalUpdate()) {
-            String tempFilename = filename + ".tmp";
-            File tempFile = null;
-            try {
-                tempFile = writeToFileRaw(tempFilename, contents);
-                if (!filesEqual(tempFile, outputFile)) {
-                    LOGGER.info("writing file {}", filename);
-                    Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    tempFile = null;
-                } else {
-                    LOGGER.info("skipping unchanged file {}", filename);
-                }
-            } finally {
-                if (tempFile != null && tempFile.exists()) {
-                    try {
-                        Files.delete(tempFile.toPath());
-                    } catch (Exception ex) {
-                        LOGGER.error("Error removing temporary file {}", tempFile, ex);
-                    }
-                }
+        if (this.outputSink != null) {
+            Path outputPath = outputFile.toPath().toAbsolutePath().normalize();
+            if (this.options.isSkipOverwrite() && this.outputSink.exists(outputPath)) {
+                LOGGER.info("skip overwrite of file {}", filename);
+                return outputFile;
+            }
+            LOGGER.info("writing file {}", filename);
+            this.outputSink.write(outputPath, contents);
+            writtenFileCount.incrementAndGet();
+        } else if (this.options.isMinimalUpdate()) {
+            Path outputPath = outputFile.toPath().toAbsolutePath().normalize();
+            byte[] digest = digest(contents);
+            if (isUnchanged(outputPath, contents, digest)) {
+                LOGGER.info("skipping unchanged file {}", filename);
+                unchangedFileCount.incrementAndGet();
+            } else {
+                LOGGER.info("writing file {}", filename);
+                writeAtomically(outputPath, contents);
+                remember(outputPath, digest);
+                writtenFileCount.incrementAndGet();
             }
         } else {
             LOGGER.info("writing file {}", filename);
             outputFile = writeToFileRaw(filename, contents);
+            writtenFileCount.incrementAndGet();
+        }
+        if (metrics != null) {
+            metrics.recordWrite(contents.length, System.nanoTime() - start);
         }
 
         return outputFile;
     }
 
+    /**
+     * @return The number of files written by this instance
+     */
+    public int getWrittenFileCount() {
+        return writtenFileCount.get();
+    }
+
+    /**
+     * @return The number of files left untouched by this instance in minimal update mode, their content being unchanged
+     */
+    public int getUnchangedFileCount() {
+        return unchangedFileCount.get();
+    }
+
     private File writeToFileRaw(String filename, byte[] contents) throws IOException {
         // Use Paths.get here to normalize path (for Windows file separator, space escaping on Linux/Mac, etc)
         File output = Paths.get(filename).toFile();
@@ -261,7 +358,115 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return output;
     }
 
-    private boolean filesEqual(File file1, File file2) throws IOException {
-        return file1.exists() && file2.exists() && Arrays.equals(Files.readAllBytes(file1.toPath()), Files.readAllBytes(file2.toPath()));
+    /**
+     * Determines whether a file already holds the given contents, from the digest recorded when the file was last
+     * written or compared if the file wasn't modified since then, or else by streaming the file.
+     */
+    private boolean isUnchanged(Path path, byte[] contents, byte[] digest) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (!attributes.isRegularFile() || attributes.size() != contents.length) {
+            return false;
+        }
+
+        FileDigest known = FILE_DIGESTS.getIfPresent(path);
+        if (known != null && known.isValidFor(attributes)) {
+            return MessageDigest.isEqual(known.digest, digest);
+        }
+
+        boolean unchanged;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            unchanged = IOUtils.contentEquals(in, new ByteArrayInputStream(contents));
+        }
+        if (unchanged) {
+            FILE_DIGESTS.put(path, new FileDigest(attributes, digest));
+        }
+        return unchanged;
+    }
+
+    private void remember(Path path, byte[] digest) {
+        try {
+            FILE_DIGESTS.put(path, new FileDigest(Files.readAttributes(path, BasicFileAttributes.class), digest));
+        } catch (IOException e) {
+            FILE_DIGESTS.invalidate(path);
+        }
+    }
+
+    /**
+     * Writes the contents to a temporary file of the target directory, then renames it, so that the target file is
+     * either left untouched or fully written. The file keeps the permissions of the target file it replaces (e.g. the
+     * exec bit of a script), a new file gets the default permissions of the new files.
+     */
+    private void writeAtomically(Path path, byte[] contents) throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tempFile = createTempFile(path);
+        try {
+            PosixFileAttributeView target = Files.getFileAttributeView(path, PosixFileAttributeView.class);
+            if (target != null && Files.exists(path)) {
+                Files.setPosixFilePermissions(tempFile, target.readAttributes().permissions());
+            }
+            Files.write(tempFile, contents);
+            try {
+                Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ex) {
+                LOGGER.error("Error removing temporary file {}", tempFile, ex);
+            }
+        }
+    }
+
+    private static Path createTempFile(Path path) throws IOException {
+        // Files.createTempFile restricts the file to its owner, Files.createFile applies the default permissions (umask)
+        while (true) {
+            Path tempFile = path.resolveSibling(path.getFileName() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // another name is tried
+            }
+        }
+    }
+
+    private static byte[] digest(byte[] contents) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(contents);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * The digest of the content of a file, valid as long as the size and last modification time of the file don't change.
+     */
+    private static final class FileDigest {
+        private final long size;
+        private final long lastModified;
+        private final long recordedAt = System.currentTimeMillis();
+        private final byte[] digest;
+
+        private FileDigest(BasicFileAttributes attributes, byte[] digest) {
+            this.size = attributes.size();
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+            this.digest = digest;
+        }
+
+        private boolean isValidFor(BasicFileAttributes attributes) {
+            // a file modified right before the digest was recorded may be modified again without its time changing
+            return size == attributes.size()
+                    && lastModified == attributes.lastModifiedTime().toMillis()
+                    && lastModified + RACY_MILLIS < recordedAt;
+        }
     }
 }
@@ -84,6 +84,10 @@ public class CodegenConfigurator {
     private String auth;
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
+    // parses the input spec once for several configurators, if set
+    private ParsedSpecCache specCache;
+    // the input spec parsed by the last call of toContext() from the cache
+    private ParsedSpecCache.ParsedSpec parsedSpec;
 
     public CodegenConfigurator() {
 
@@ -357,6 +361,26 @@ public class CodegenConfigurator {
         return this;
     }
 
+    public CodegenConfigurator setRenderWorkers(int renderWorkers) {
+        workflowSettingsBuilder.withRenderWorkers(renderWorkers);
+        return this;
+    }
+
+    public CodegenConfigurator setProcessWorkers(int processWorkers) {
+        workflowSettingsBuilder.withProcessWorkers(processWorkers);
+        return this;
+    }
+
+    public CodegenConfigurator setIncrementalGeneration(boolean incrementalGeneration) {
+        workflowSettingsBuilder.withIncrementalGeneration(incrementalGeneration);
+        return this;
+    }
+
+    public CodegenConfigurator setReportMetrics(boolean reportMetrics) {
+        workflowSettingsBuilder.withReportMetrics(reportMetrics);
+        return this;
+    }
+
     public CodegenConfigurator setEnablePostProcessFile(boolean enablePostProcessFile) {
         workflowSettingsBuilder.withEnablePostProcessFile(enablePostProcessFile);
         return this;
@@ -638,6 +662,17 @@ public class CodegenConfigurator {
         return this;
     }
 
+    /**
+     * Sets the cache of the parsed specifications, so that configurators of the same input spec parse it once.
+     *
+     * @param specCache The cache, or null to always parse the input spec
+     * @return This configurator
+     */
+    public CodegenConfigurator setSpecCache(ParsedSpecCache specCache) {
+        this.specCache = specCache;
+        return this;
+    }
+
     @SuppressWarnings("WeakerAccess")
     public Context<?> toContext() {
         Validate.notEmpty(generatorName, "generator name must be specified");
@@ -683,7 +718,10 @@ public class CodegenConfigurator {
         final List<AuthorizationValue> authorizationValues = AuthParser.parse(this.auth);
         ParseOptions options = new ParseOptions();
         options.setResolve(true);
-        SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+        parsedSpec = specCache != null ? specCache.parseLocation(inputSpec, authorizationValues, options) : null;
+        SwaggerParseResult result = parsedSpec != null
+                ? parsedSpec.toParseResult()
+                : new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
 
         // TODO: Move custom validations to a separate type as part of a "Workflow"
         Set<String> validationMessages = new HashSet<>(null != result.getMessages() ? result.getMessages() : new ArrayList<>());
@@ -741,7 +779,17 @@ public class CodegenConfigurator {
     }
 
     public ClientOptInput toClientOptInput() {
-        Context<?> context = toContext();
+        GenerationMetrics metrics = new GenerationMetrics();
+        Context<?> context;
+        long specCacheHits = specCache != null ? specCache.getHitCount() : 0;
+        long specCacheMisses = specCache != null ? specCache.getMissCount() : 0;
+        try (GenerationMetrics.Phase ignored = metrics.phase("parse")) {
+            context = toContext();
+        }
+        if (specCache != null) {
+            // the cache is shared, the lookups of concurrent configurators are included
+            metrics.recordCache(ParsedSpecCache.METRICS_NAME, specCache.getHitCount() - specCacheHits, specCache.getMissCount() - specCacheMisses);
+        }
         WorkflowSettings workflowSettings = context.getWorkflowSettings();
         GeneratorSettings generatorSettings = context.getGeneratorSettings();
 
@@ -762,6 +810,10 @@ public class CodegenConfigurator {
         config.setSkipOperationExample(workflowSettings.isSkipOperationExample());
         config.setEnablePostProcessFile(workflowSettings.isEnablePostProcessFile());
         config.setEnableMinimalUpdate(workflowSettings.isEnableMinimalUpdate());
+        config.setRenderWorkers(workflowSettings.getRenderWorkers());
+        config.setProcessWorkers(workflowSettings.getProcessWorkers());
+        config.setIncrementalGeneration(workflowSettings.isIncrementalGeneration());
+        config.setReportMetrics(workflowSettings.isReportMetrics());
         config.setStrictSpecBehavior(workflowSettings.isStrictSpecBehavior());
 
         TemplatingEngineAdapter templatingEngine = TemplatingEngineLoader.byIdentifier(workflowSettings.getTemplatingEngineName());
@@ -806,8 +858,10 @@ public class CodegenConfigurator {
         ClientOptInput input = new ClientOptInput()
                 .config(config)
                 .generatorSettings(generatorSettings)
-                .userDefinedTemplates(userDefinedTemplates);
+                .userDefinedTemplates(userDefinedTemplates)
+                .metrics(metrics);
 
-        return input.openAPI((OpenAPI) context.getSpecDocument());
+        return input.openAPI((OpenAPI) context.getSpecDocument())
+                .parsedSpec(parsedSpec);
     }
 }
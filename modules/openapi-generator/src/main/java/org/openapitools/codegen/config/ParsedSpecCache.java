@@ -0,0 +1,318 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.GenerationMetrics;
+import org.openapitools.codegen.utils.OpenAPICopier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of parsed specifications, keyed by the hash of their content, the parse options and the
+ * authorizations used to resolve their references. The same specification can then be generated several times
+ * (e.g. for several languages, or by several configurations of a batch) while being parsed once.
+ * <p>
+ * The cached specifications are never handed out: each lookup returns a deep copy (see {@link OpenAPICopier}), which
+ * the generation is free to update. Only the specifications given as content, or as the location of a local file, are
+ * cached: the content of remote locations isn't known before parsing them. The references of a specification to other
+ * files or to remote locations are resolved when it's first parsed: changes of the referenced documents are only seen
+ * once the entry expires, the specifications being parsed again at least once per time to live however often they are
+ * used.
+ * <p>
+ * The generators sharing a parsed specification and the same normalization settings also share its normalization,
+ * see {@link ParsedSpec#prepare}.
+ */
+public class ParsedSpecCache {
+    /**
+     * Set the maximum number of parsed specifications of the default cache.
+     */
+    public static final String SIZE_PROPERTY = "org.openapitools.codegen.speccache.size";
+    /**
+     * Set the number of seconds a parsed specification of the default cache is kept after it was parsed.
+     */
+    public static final String TTL_PROPERTY = "org.openapitools.codegen.speccache.ttl";
+    /**
+     * The name of the cache in the {@link GenerationMetrics}.
+     */
+    public static final String METRICS_NAME = "spec";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParsedSpecCache.class);
+
+    private static volatile ParsedSpecCache defaultCache;
+
+    private final Cache<String, ParsedSpec> cache;
+
+    /**
+     * Constructs a new instance of {@link ParsedSpecCache}.
+     *
+     * @param maximumSize The maximum number of parsed specifications
+     * @param ttl         The time a parsed specification is kept after it was parsed
+     */
+    public ParsedSpecCache(long maximumSize, Duration ttl) {
+        this(maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    ParsedSpecCache(long maximumSize, Duration ttl, Ticker ticker) {
+        // expiring after write rather than access, so that the references of a frequently used specification are
+        // resolved again from time to time
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return The cache shared by the generations of this JVM, sized by the {@value #SIZE_PROPERTY} (default: 16)
+     * and {@value #TTL_PROPERTY} (default: 600 seconds) settings
+     */
+    public static ParsedSpecCache getDefault() {
+        ParsedSpecCache instance = defaultCache;
+        if (instance == null) {
+            synchronized (ParsedSpecCache.class) {
+                instance = defaultCache;
+                if (instance == null) {
+                    instance = new ParsedSpecCache(
+                            Long.parseLong(GlobalSettings.getProperty(SIZE_PROPERTY, "16")),
+                            Duration.ofSeconds(Long.parseLong(GlobalSettings.getProperty(TTL_PROPERTY, "600"))));
+                    defaultCache = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Parses a specification given as content, or returns a copy of the specification parsed from the same content.
+     *
+     * @param contents            The content of the specification
+     * @param authorizationValues The authorizations used to resolve the references, or null
+     * @param options             The parse options
+     * @return The result of the parsing
+     */
+    public SwaggerParseResult readContents(String contents, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+        String key = key("contents", null, contents.getBytes(StandardCharsets.UTF_8), authorizationValues, options);
+        return read(key, () -> new OpenAPIParser().readContents(contents, authorizationValues, options));
+    }
+
+    /**
+     * Parses a specification given as location, or returns a copy of the specification parsed from the same local
+     * file content. The specifications of remote locations are always parsed.
+     *
+     * @param location            The location of the specification, a file or a URL
+     * @param authorizationValues The authorizations used to resolve the references, or null
+     * @param options             The parse options
+     * @return The result of the parsing
+     */
+    public SwaggerParseResult readLocation(String location, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+        return parseLocation(location, authorizationValues, options).toParseResult();
+    }
+
+    /**
+     * Parses a specification given as location, or returns the specification parsed from the same local file content.
+     * The specifications of remote locations are always parsed.
+     *
+     * @param location            The location of the specification, a file or a URL
+     * @param authorizationValues The authorizations used to resolve the references, or null
+     * @param options             The parse options
+     * @return The parsed specification, from which copies are made
+     */
+    public ParsedSpec parseLocation(String location, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+        Supplier<SwaggerParseResult> parser = () -> new OpenAPIParser().readLocation(location, authorizationValues, options);
+        Path file = localFile(location);
+        if (file == null) {
+            return new ParsedSpec(parser.get());
+        }
+        byte[] contents;
+        try {
+            contents = Files.readAllBytes(file);
+        } catch (IOException e) {
+            // let the parser report the error
+            return new ParsedSpec(parser.get());
+        }
+        return parse(key("location", file.toString(), contents, authorizationValues, options), parser);
+    }
+
+    private SwaggerParseResult read(String key, Supplier<SwaggerParseResult> parser) {
+        return parse(key, parser).toParseResult();
+    }
+
+    private ParsedSpec parse(String key, Supplier<SwaggerParseResult> parser) {
+        boolean[] parsed = new boolean[1];
+        ParsedSpec parsedSpec = cache.get(key, k -> {
+            parsed[0] = true;
+            return new ParsedSpec(parser.get());
+        });
+        LOGGER.debug("{} the parsed specification {}", parsed[0] ? "Cached" : "Reused", key);
+        return parsedSpec;
+    }
+
+    /**
+     * @return The number of lookups served from the cache
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * @return The number of lookups which required the specification to be parsed
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Discards all the parsed specifications.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static Path localFile(String location) {
+        if (location.contains("://") && !location.startsWith("file:")) {
+            return null;
+        }
+        try {
+            Path path = location.startsWith("file:") ? Paths.get(URI.create(location)) : Paths.get(location);
+            return Files.isRegularFile(path) ? path.toAbsolutePath().normalize() : null;
+        } catch (IllegalArgumentException | FileSystemNotFoundException e) {
+            // including the InvalidPathException
+            return null;
+        }
+    }
+
+    private static String key(String kind, String location, byte[] contents, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((kind + "\n" + location + "\n").getBytes(StandardCharsets.UTF_8));
+            // the options are a bean, its JSON serialization covers all its properties
+            digest.update(Json.mapper().writeValueAsBytes(options));
+            if (authorizationValues != null) {
+                for (AuthorizationValue auth : authorizationValues) {
+                    digest.update((auth.getKeyName() + "\n" + auth.getValue() + "\n" + auth.getType() + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            digest.update(contents);
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format(Locale.ROOT, "%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Unable to hash the specification", e);
+        }
+    }
+
+    /**
+     * The result of the parsing of a specification, never handed out: the generations get copies of it.
+     */
+    public static class ParsedSpec {
+        private final OpenAPI openAPI;
+        private final List<String> messages;
+        private final boolean openapi31;
+        // the specification prepared for the generators (e.g. normalized) by their settings, never handed out either
+        private final ConcurrentMap<String, CompletableFuture<OpenAPI>> prepared = new ConcurrentHashMap<>();
+
+        private ParsedSpec(SwaggerParseResult result) {
+            this.openAPI = result.getOpenAPI();
+            this.messages = result.getMessages() == null ? null : new ArrayList<>(result.getMessages());
+            this.openapi31 = result.isOpenapi31();
+        }
+
+        /**
+         * @return The result of the parsing, with a copy of the specification
+         */
+        public SwaggerParseResult toParseResult() {
+            SwaggerParseResult result = new SwaggerParseResult();
+            result.setOpenAPI(openAPI == null ? null : OpenAPICopier.copy(openAPI));
+            result.setMessages(messages == null ? null : new ArrayList<>(messages));
+            result.setOpenapi31(openapi31);
+            return result;
+        }
+
+        /**
+         * Prepares a copy of the specification once for all the generators sharing the same settings, and returns a
+         * copy of it. The generators with the same settings wait for the first one to prepare it, while those with other
+         * settings prepare their own copy concurrently. The preparation runs outside of the map of the prepared
+         * specifications, so it doesn't block the other settings and may prepare the specification itself. A failed
+         * preparation is attempted again by the next generator.
+         *
+         * @param settings    The settings the preparation depends on, as a key
+         * @param preparation Updates a copy of the specification
+         * @return A copy of the prepared specification
+         */
+        public OpenAPI prepare(String settings, Consumer<OpenAPI> preparation) {
+            CompletableFuture<OpenAPI> preparing = new CompletableFuture<>();
+            CompletableFuture<OpenAPI> preparedSpec = prepared.putIfAbsent(settings, preparing);
+            if (preparedSpec == null) {
+                preparedSpec = preparing;
+                try {
+                    OpenAPI copy = OpenAPICopier.copy(openAPI);
+                    preparation.accept(copy);
+                    preparing.complete(copy);
+                } catch (RuntimeException | Error e) {
+                    prepared.remove(settings, preparing);
+                    preparing.completeExceptionally(e);
+                    throw e;
+                }
+            }
+            try {
+                return OpenAPICopier.copy(preparedSpec.join());
+            } catch (CompletionException e) {
+                // the preparation of another generator failed, with the same error
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.examples;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The serialized examples of the models, shared by the {@link ExampleGenerator}s of a generation so that the example
+ * of a model referenced by many operations is serialized once.
+ * <p>
+ * An example is cached by model name and media type along with the object it was serialized from: the example kept
+ * in the schema of the model for JSON (see {@link ExampleGenerator}), the schema of the model for XML. It is reused as
+ * long as the model resolves to the same object, and for XML as long as the names and examples of the schemas read
+ * to build it are unchanged (the operations name the schemas of their bodies as they are converted). The examples of
+ * inline schemas, which have no name, are cached by the identity of the object they were serialized from.
+ * The cache holds at most {@code maxSize} examples, evicting the least recently used ones.
+ */
+public class ExampleCache {
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final Map<String, Entry> entries;
+
+    public ExampleCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ExampleCache(final int maxSize) {
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param name      The name of the model, or null for an inline schema
+     * @param mediaType The media type of the example
+     * @param source    The object the example would be serialized from
+     * @return The example serialized from this object, or {@code null} if it isn't cached (anymore)
+     */
+    String get(String name, String mediaType, Object source) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key(name, mediaType, source));
+        }
+        if (entry == null || entry.source != source || (entry.reads != null && entry.reads.changed())) {
+            return null;
+        }
+        return entry.example;
+    }
+
+    void put(String name, String mediaType, Object source, String example, Reads reads) {
+        synchronized (entries) {
+            entries.put(key(name, mediaType, source), new Entry(source, example, reads));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static String key(String name, String mediaType, Object source) {
+        if (name == null) {
+            // the entry still holds the source, told apart from another one of the same hash code
+            return mediaType + "#" + System.identityHashCode(source);
+        }
+        return mediaType + " " + name;
+    }
+
+    private static final class Entry {
+        private final Object source;
+        private final String example;
+        private final Reads reads;
+
+        private Entry(Object source, String example, Reads reads) {
+            this.source = source;
+            this.example = example;
+            this.reads = reads;
+        }
+    }
+
+    /**
+     * The names and examples of the schemas read while building an example.
+     */
+    static final class Reads {
+        private final Map<Schema, String> names = new IdentityHashMap<>();
+        private final Map<Schema, Object> examples = new IdentityHashMap<>();
+
+        void name(Schema schema) {
+            names.put(schema, schema.getName());
+        }
+
+        void example(Schema schema) {
+            examples.put(schema, schema.getExample());
+        }
+
+        private boolean changed() {
+            for (Map.Entry<Schema, String> name : names.entrySet()) {
+                if (!Objects.equals(name.getKey().getName(), name.getValue())) {
+                    return true;
+                }
+            }
+            for (Map.Entry<Schema, Object> example : examples.entrySet()) {
+                if (example.getKey().getExample() != example.getValue()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -50,10 +50,22 @@ public class ExampleGenerator {
     protected Map<String, Schema> examples;
     private OpenAPI openAPI;
     private Random random;
+    private final ExampleCache cache;
 
     public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI) {
+        this(examples, openAPI, null);
+    }
+
+    /**
+     * @param examples The schemas of the models, by name
+     * @param openAPI  The specification
+     * @param cache    The examples of the models serialized by the previous generators of the generation, or null to
+     *                 serialize them
+     */
+    public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI, ExampleCache cache) {
         this.examples = examples;
         this.openAPI = openAPI;
+        this.cache = cache;
         // use a fixed seed to make the "random" numbers reproducible.
         this.random = new Random("ExampleGenerator".hashCode());
         dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
@@ -112,14 +124,14 @@ public class ExampleGenerator {
                 Map<String, String> kv = new HashMap<>();
                 kv.put(CONTENT_TYPE, mediaType);
                 if (property != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
-                    String example = Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
+                    String example = toJsonExample(mediaType, property, processedModels);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_JSON);
                         output.add(kv);
                     }
                 } else if (property != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    String example = new XmlExampleGenerator(this.examples, cache).toXml(property);
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_XML);
@@ -158,7 +170,7 @@ public class ExampleGenerator {
                 if (modelName != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
                     final Schema schema = this.examples.get(modelName);
                     if (schema != null) {
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                        String example = toJsonExample(modelName, mediaType, schema, processedModels);
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -168,7 +180,7 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Schema schema = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.emptySet());
+                    String example = new XmlExampleGenerator(this.examples, cache).toXml(schema, 0, Collections.emptySet());
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_XML);
@@ -225,6 +237,41 @@ public class ExampleGenerator {
         return output;
     }
 
+    private String toJsonExample(String modelName, String mediaType, Schema schema, Set<String> processedModels) {
+        // once resolved, the example of a model is kept in its schema and returned as is
+        String example = cache == null ? null : cache.get(modelName, MIME_TYPE_JSON, schema.getExample());
+        if (example == null) {
+            Object resolved = resolveModelToExample(modelName, mediaType, schema, processedModels);
+            example = Json.pretty(resolved);
+            if (cache != null && resolved != null && resolved == schema.getExample() && example != null) {
+                cache.put(modelName, MIME_TYPE_JSON, resolved, example, null);
+            }
+        }
+        return example;
+    }
+
+    private String toJsonExample(String mediaType, Schema property, Set<String> processedModels) {
+        // an array of models repeats the example of the model
+        Schema items = ModelUtils.isArraySchema(property) && property.getExample() == null ? ModelUtils.getSchemaItems(property) : null;
+        if (cache == null || items == null || StringUtils.isEmpty(items.get$ref()) || items.getExample() != null) {
+            return Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
+        }
+        String modelName = ModelUtils.getSimpleRef(items.get$ref());
+        Schema schema = ModelUtils.getSchema(openAPI, modelName);
+        int arrayLength = Math.min(null == property.getMaxItems() ? 2 : property.getMaxItems(), 5);
+        String name = modelName + "[" + arrayLength + "]";
+        String example = schema == null ? null : cache.get(name, MIME_TYPE_JSON, schema.getExample());
+        if (example == null) {
+            Object resolved = resolvePropertyToExample("", mediaType, property, processedModels);
+            example = Json.pretty(resolved);
+            if (schema != null && schema.getExample() != null && example != null && resolved instanceof Object[]
+                    && Arrays.stream((Object[]) resolved).allMatch(item -> item == schema.getExample())) {
+                cache.put(name, MIME_TYPE_JSON, schema.getExample(), example, null);
+            }
+        }
+        return example;
+    }
+
     private Object resolvePropertyToExample(String propertyName, String mediaType, Schema property, Set<String> processedModels) {
         if (property == null) {
             LOGGER.error("Property schema shouldn't be null. Please report the issue to the openapi-generator team.");
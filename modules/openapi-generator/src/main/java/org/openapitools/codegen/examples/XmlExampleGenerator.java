@@ -33,13 +33,29 @@ public class XmlExampleGenerator {
     public static String CLOSE_TAG = ">";
     public static String TAG_END = "</";
     private static String EMPTY = "";
+    // the models nested deeper are left out of the cached examples, as the recursive ones, to bound their size
+    static final int MAX_MODEL_DEPTH = 16;
+    private static final String MIME_TYPE_XML = "application/xml";
     protected Map<String, Schema> examples;
+    private final ExampleCache cache;
+    // the names and examples read while building an example to cache, null otherwise
+    private ExampleCache.Reads reads;
 
     public XmlExampleGenerator(Map<String, Schema> examples) {
+        this(examples, null);
+    }
+
+    /**
+     * @param examples The schemas of the models, by name
+     * @param cache    The examples of the models serialized by the previous generators, or null to serialize them. The
+     *                 cached examples leave out the models nested more than {@value #MAX_MODEL_DEPTH} deep
+     */
+    public XmlExampleGenerator(Map<String, Schema> examples, ExampleCache cache) {
         this.examples = examples;
         if (examples == null) {
             this.examples = new HashMap<String, Schema>();
         }
+        this.cache = cache;
     }
 
     public String toXml(Schema schema) {
@@ -51,15 +67,37 @@ public class XmlExampleGenerator {
         if (StringUtils.isNotEmpty(schema.get$ref())) {
             Schema actualSchema = examples.get(schema.get$ref());
             if (actualSchema != null) {
-                return modelImplToXml(actualSchema, indent, path);
+                schema = actualSchema;
             }
         }
+        if (cache != null && reads == null && indent == 0 && path.isEmpty()) {
+            return cachedModelImplToXml(schema);
+        }
         return modelImplToXml(schema, indent, path);
     }
 
+    private String cachedModelImplToXml(Schema schema) {
+        // the inline schemas have no name, they are cached by identity
+        String name = schema.getName();
+        String xml = cache.get(name, MIME_TYPE_XML, schema);
+        if (xml == null) {
+            reads = new ExampleCache.Reads();
+            try {
+                xml = modelImplToXml(schema, 0, Collections.emptySet());
+                cache.put(name, MIME_TYPE_XML, schema, xml, reads);
+            } finally {
+                reads = null;
+            }
+        }
+        return xml;
+    }
+
     protected String modelImplToXml(Schema schema, int indent, Collection<String> path) {
+        if (reads != null) {
+            reads.name(schema);
+        }
         final String modelName = schema.getName();
-        if (path.contains(modelName)) {
+        if (path.contains(modelName) || (cache != null && path.size() >= MAX_MODEL_DEPTH)) {
             return EMPTY;
         }
         final Set<String> selfPath = new HashSet<String>(path);
@@ -179,6 +217,9 @@ public class XmlExampleGenerator {
      * @return Example String
      */
     protected String getExample(Schema schema) {
+        if (reads != null) {
+            reads.example(schema);
+        }
         if (schema.getExample() != null) {
             return schema.getExample().toString();
         } else if (ModelUtils.isDateTimeSchema(schema)) {
@@ -19,12 +19,16 @@ package org.openapitools.codegen.ignore;
 
 import org.openapitools.codegen.ignore.rules.DirectoryRule;
 import org.openapitools.codegen.ignore.rules.Rule;
+import org.openapitools.codegen.ignore.rules.RuleMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -40,9 +44,13 @@ public class CodegenIgnoreProcessor {
     private final Logger LOGGER = LoggerFactory.getLogger(CodegenIgnoreProcessor.class);
 
     private File ignoreFile = null;
+    private URI baseDirectory = null;
+    private String baseDirectoryPath = null;
 
     private List<Rule> exclusionRules = new ArrayList<>();
     private List<Rule> inclusionRules = new ArrayList<>();
+    // the rules compiled once for all the evaluated files, null if they must be evaluated in turn
+    private RuleMatcher ruleMatcher = null;
 
     /**
      * Loads the default ignore file (.openapi-generator-ignore) from the specified path.
@@ -84,6 +92,8 @@ public class CodegenIgnoreProcessor {
             try {
                 loadCodegenRules(targetIgnoreFile);
                 this.ignoreFile = targetIgnoreFile;
+                this.baseDirectory = targetIgnoreFile.getAbsoluteFile().getParentFile().toURI();
+                this.baseDirectoryPath = targetIgnoreFile.getAbsoluteFile().getParentFile().getPath() + File.separator;
             } catch (IOException e) {
                 LOGGER.error(String.format(Locale.ROOT, "Could not process %s.", targetIgnoreFile.getName()), e.getMessage());
             }
@@ -133,6 +143,7 @@ public class CodegenIgnoreProcessor {
                 }
             }
         }
+        ruleMatcher = RuleMatcher.compile(exclusionRules, inclusionRules);
     }
 
     /**
@@ -145,17 +156,62 @@ public class CodegenIgnoreProcessor {
     public boolean allowsFile(final File targetFile) {
         if (this.ignoreFile == null) return true;
 
-        File file = new File(this.ignoreFile.getAbsoluteFile().getParentFile().toURI().relativize(targetFile.toURI()).getPath());
-        boolean directoryExcluded = false;
-        boolean exclude = false;
         if (exclusionRules.size() == 0 && inclusionRules.size() == 0) {
             return true;
         }
 
+        File file = relativize(targetFile);
+        if (ruleMatcher != null) {
+            Path path = FileSystems.getDefault().getPath(file.getPath());
+            // the paths outside the base directory are left absolute
+            if (path.getRoot() == null) {
+                return ruleMatcher.allows(file.getPath(), path);
+            }
+        }
+        return evaluateRules(file.getPath());
+    }
+
+    private File relativize(final File targetFile) {
+        // the files within the base directory, avoiding the URIs (which query the file system) when their path has
+        // no segment to normalize
+        String path = targetFile.getAbsolutePath();
+        if (path.startsWith(baseDirectoryPath)) {
+            String relativePath = path.substring(baseDirectoryPath.length());
+            if (!hasDotSegment(relativePath)) {
+                return new File(relativePath);
+            }
+        }
+        return new File(this.baseDirectory.relativize(targetFile.toURI()).getPath());
+    }
+
+    private static boolean hasDotSegment(String path) {
+        for (int start = 0; start < path.length(); ) {
+            int end = path.indexOf(File.separatorChar, start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (path.startsWith(".", start) && (end - start == 1 || (end - start == 2 && path.charAt(start + 1) == '.'))) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Evaluates each exclusion rule, then each inclusion rule if the file is excluded.
+     *
+     * @param relativePath The path of the file relative to the ignore file.
+     * @return {@code false} if the file is excluded, otherwise {@code true}.
+     */
+    boolean evaluateRules(final String relativePath) {
+        boolean directoryExcluded = false;
+        boolean exclude = false;
+
         // NOTE: We *must* process all exclusion rules
         for (int i = 0; i < exclusionRules.size(); i++) {
             Rule current = exclusionRules.get(i);
-            Rule.Operation op = current.evaluate(file.getPath());
+            Rule.Operation op = current.evaluate(relativePath);
 
             switch (op) {
                 case EXCLUDE:
@@ -181,7 +237,7 @@ public class CodegenIgnoreProcessor {
             // Only need to process inclusion rules if we've been excluded
             for (int i = 0; exclude && i < inclusionRules.size(); i++) {
                 Rule current = inclusionRules.get(i);
-                Rule.Operation op = current.evaluate(file.getPath());
+                Rule.Operation op = current.evaluate(relativePath);
 
                 // At this point exclude=true means the file should be ignored.
                 // op == INCLUDE means we have to flip that flag.
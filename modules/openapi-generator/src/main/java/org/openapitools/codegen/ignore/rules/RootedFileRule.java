@@ -27,6 +27,7 @@ import java.util.regex.Pattern;
 public class RootedFileRule extends Rule {
     private String definedFilename = null;
     private String definedExtension = null;
+    private volatile Pattern definedFilenamePattern = null;
 
     RootedFileRule(List<Part> syntax, String definition) {
         super(syntax, definition);
@@ -36,6 +37,19 @@ public class RootedFileRule extends Rule {
         definedExtension = getExtensionPart(definition, separatorIndex);
     }
 
+    private Pattern getDefinedFilenamePattern() {
+        // compiled on first use, once for all the evaluated files
+        if (definedFilenamePattern == null) {
+            // TODO: Evaluate any other escape requirements here.
+            definedFilenamePattern = Pattern.compile(
+                    definedFilename
+                            .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
+                            .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
+            );
+        }
+        return definedFilenamePattern;
+    }
+
     private String getFilenamePart(final String input, int stopIndex) {
         return input.substring('/' == input.charAt(0) ? 1 : 0, stopIndex > 0 ? stopIndex : input.length());
     }
@@ -58,13 +72,7 @@ public class RootedFileRule extends Rule {
             boolean extensionMatches = definedExtension.equals(extension) || definedExtension.equals(IgnoreLineParser.Token.MATCH_ANY.getPattern());
 
             if (extensionMatches && definedFilename.contains(IgnoreLineParser.Token.MATCH_ANY.getPattern())) {
-                // TODO: Evaluate any other escape requirements here.
-                Pattern regex = Pattern.compile(
-                        definedFilename
-                                .replaceAll(Pattern.quote("."), "\\\\Q.\\\\E")
-                                .replaceAll(Pattern.quote("*"), ".*?") // non-greedy match on 0+ any character
-                );
-                return regex.matcher(filename).matches();
+                return getDefinedFilenamePattern().matcher(filename).matches();
             }
 
             return extensionMatches && definedFilename.equals(filename);
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.ignore.rules;
+
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The rules of an ignore file compiled once to evaluate many files, giving the same decisions as evaluating each
+ * exclusion rule then each inclusion rule in turn.
+ * <p>
+ * The rules are split by what their decision depends on:
+ * <ul>
+ * <li>a directory rule ({@code foo/}) matches a file when it matches its directory or one of the parents of that
+ * directory, so it is evaluated once per directory;</li>
+ * <li>a file rule without wildcards ({@code src/Foo.java}) is looked up by path;</li>
+ * <li>a file rule whose wildcards don't span its last path separator ({@code docs/*.md}, {@code **}{@code /*.log}) is
+ * split into a pattern of directories, evaluated once per directory, and a pattern of file names;</li>
+ * <li>the other rules (rooted rules, groups, escapes) are evaluated for each file.</li>
+ * </ul>
+ * The decisions of the directories are memoized, so that the files of a directory only evaluate their file names
+ * against the few rules which may match them.
+ * The decisions don't depend on the order of the rules: a file is excluded when an exclusion rule matches it, unless
+ * an inclusion rule matches it too, which must be a directory rule if the file was excluded by a directory rule.
+ */
+public final class RuleMatcher {
+
+    private static final int EXCLUDED = 1;
+    private static final int DIRECTORY_EXCLUDED = 2;
+    private static final int INCLUDED = 4;
+    private static final int DIRECTORY_INCLUDED = 8;
+
+    private static final String GLOB_SPECIAL_CHARACTERS = "*?[]{}\\";
+
+    private final FileSystem fileSystem = FileSystems.getDefault();
+
+    private final List<DirectoryPattern> directoryPatterns = new ArrayList<>();
+    private final Map<Path, Integer> literalFiles = new HashMap<>();
+    private final List<FilePattern> filePatterns = new ArrayList<>();
+    private final List<Rule> otherRules = new ArrayList<>();
+
+    private final Directory root;
+    private final Map<Path, Directory> directories = new ConcurrentHashMap<>();
+
+    private RuleMatcher() {
+        root = new Directory(0, new boolean[0], new ArrayList<>());
+    }
+
+    /**
+     * Compiles the rules of an ignore file.
+     *
+     * @param exclusionRules The exclusion rules.
+     * @param inclusionRules The inclusion (negated) rules.
+     * @return The compiled rules, or {@code null} if some rules must be evaluated in order (see {@link EverythingRule}).
+     */
+    public static RuleMatcher compile(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        RuleMatcher matcher = new RuleMatcher();
+        for (Rule rule : exclusionRules) {
+            if (!matcher.add(rule)) {
+                return null;
+            }
+        }
+        for (Rule rule : inclusionRules) {
+            if (!matcher.add(rule)) {
+                return null;
+            }
+        }
+
+        for (FilePattern pattern : matcher.filePatterns) {
+            if (pattern.directoryMatcher == null) {
+                matcher.root.filePatterns.add(pattern);
+            }
+        }
+        return matcher;
+    }
+
+    private boolean add(Rule rule) {
+        int flags = getFlags(rule);
+        if (rule instanceof InvalidRule) {
+            // never matches
+            return true;
+        } else if (rule instanceof DirectoryRule) {
+            String pattern = rule.getPattern();
+            // "foo/" matches the contents of the directories matched by "foo", it never matches a file itself
+            if (pattern.endsWith("/") && isCompilable(pattern.substring(0, pattern.length() - 1))) {
+                directoryPatterns.add(new DirectoryPattern(flags, getPathMatcher(pattern.substring(0, pattern.length() - 1))));
+            } else {
+                otherRules.add(rule);
+            }
+            return true;
+        } else if (rule instanceof FileRule) {
+            String pattern = rule.getPattern();
+            if (!containsAny(pattern, GLOB_SPECIAL_CHARACTERS) && pattern.equals(fileSystem.getPath(pattern).toString())) {
+                literalFiles.merge(fileSystem.getPath(pattern), flags, (a, b) -> a | b);
+                return true;
+            }
+
+            // the wildcards of the file name can't match a path separator, so the separator before the file name
+            // is the last one of the pattern
+            int separatorIndex = pattern.lastIndexOf('/');
+            String filePattern = pattern.substring(separatorIndex + 1);
+            if (!containsAny(pattern, "{}\\") && !filePattern.contains("**") && isCompilable(filePattern)
+                    && (separatorIndex < 0 || isCompilable(pattern.substring(0, separatorIndex)))) {
+                filePatterns.add(new FilePattern(flags,
+                        separatorIndex < 0 ? null : getPathMatcher(pattern.substring(0, separatorIndex)),
+                        getPathMatcher(filePattern)));
+            } else {
+                otherRules.add(rule);
+            }
+            return true;
+        } else if (rule instanceof RootedFileRule) {
+            otherRules.add(rule);
+            return true;
+        }
+        // e.g. an EverythingRule, which stops the evaluation of the next rules
+        return false;
+    }
+
+    /**
+     * Determines whether a file is allowed by the rules.
+     *
+     * @param relativePath The path of the file relative to the ignore file, as evaluated by the rules.
+     * @param path         The same path. It must not have a root.
+     * @return {@code false} if the rules exclude the file, otherwise {@code true}.
+     */
+    public boolean allows(String relativePath, Path path) {
+        Directory directory = getDirectory(path.getParent());
+        int flags = directory.flags;
+        if ((flags & DIRECTORY_EXCLUDED) != 0 && (flags & DIRECTORY_INCLUDED) == 0) {
+            // only a directory rule could include it again
+            return false;
+        }
+
+        if (!literalFiles.isEmpty()) {
+            flags |= literalFiles.getOrDefault(path, 0);
+        }
+        if (!directory.filePatterns.isEmpty()) {
+            Path fileName = path.getFileName();
+            for (FilePattern pattern : directory.filePatterns) {
+                if (pattern.fileNameMatcher.matches(fileName)) {
+                    flags |= pattern.flags;
+                }
+            }
+        }
+        for (Rule rule : otherRules) {
+            if (rule instanceof FileRule ? ((FileRule) rule).matches(path) : Boolean.TRUE.equals(rule.matches(relativePath))) {
+                flags |= getFlags(rule);
+            }
+        }
+
+        if ((flags & EXCLUDED) == 0) {
+            return true;
+        }
+        return (flags & ((flags & DIRECTORY_EXCLUDED) != 0 ? DIRECTORY_INCLUDED : INCLUDED)) != 0;
+    }
+
+    private Directory getDirectory(Path path) {
+        if (path == null) {
+            return root;
+        }
+        Directory directory = directories.get(path);
+        if (directory == null) {
+            Directory parent = getDirectory(path.getParent());
+
+            int flags = 0;
+            boolean[] matched = new boolean[directoryPatterns.size()];
+            for (int i = 0; i < matched.length; i++) {
+                DirectoryPattern pattern = directoryPatterns.get(i);
+                // the rule matches the contents of this directory or of one of its parents
+                matched[i] = (i < parent.matched.length && parent.matched[i]) || pattern.matcher.matches(path);
+                if (matched[i]) {
+                    flags |= pattern.flags;
+                }
+            }
+            List<FilePattern> candidates = new ArrayList<>();
+            for (FilePattern pattern : filePatterns) {
+                if (pattern.directoryMatcher != null && pattern.directoryMatcher.matches(path)) {
+                    candidates.add(pattern);
+                }
+            }
+
+            directory = new Directory(flags, matched, candidates);
+            Directory existing = directories.putIfAbsent(path, directory);
+            if (existing != null) {
+                directory = existing;
+            }
+        }
+        return directory;
+    }
+
+    private PathMatcher getPathMatcher(String pattern) {
+        return fileSystem.getPathMatcher("glob:" + pattern);
+    }
+
+    private boolean isCompilable(String pattern) {
+        if (pattern.isEmpty() || pattern.startsWith("/")) {
+            return false;
+        }
+        try {
+            getPathMatcher(pattern);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean containsAny(String value, String characters) {
+        for (int i = 0; i < value.length(); i++) {
+            if (characters.indexOf(value.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int getFlags(Rule rule) {
+        if (Boolean.TRUE.equals(rule.getNegated())) {
+            return rule instanceof DirectoryRule ? INCLUDED | DIRECTORY_INCLUDED : INCLUDED;
+        }
+        return rule instanceof DirectoryRule ? EXCLUDED | DIRECTORY_EXCLUDED : EXCLUDED;
+    }
+
+    private static final class DirectoryPattern {
+        private final int flags;
+        private final PathMatcher matcher;
+
+        private DirectoryPattern(int flags, PathMatcher matcher) {
+            this.flags = flags;
+            this.matcher = matcher;
+        }
+    }
+
+    private static final class FilePattern {
+        private final int flags;
+        private final PathMatcher directoryMatcher;
+        private final PathMatcher fileNameMatcher;
+
+        private FilePattern(int flags, PathMatcher directoryMatcher, PathMatcher fileNameMatcher) {
+            this.flags = flags;
+            this.directoryMatcher = directoryMatcher;
+            this.fileNameMatcher = fileNameMatcher;
+        }
+    }
+
+    /**
+     * The decisions of a directory: the flags of the directory rules matching it or one of its parents, and the file
+     * patterns whose directory pattern matches it.
+     */
+    private static final class Directory {
+        private final int flags;
+        private final boolean[] matched;
+        private final List<FilePattern> filePatterns;
+
+        private Directory(int flags, boolean[] matched, List<FilePattern> filePatterns) {
+            this.flags = flags;
+            this.matched = matched;
+            this.filePatterns = filePatterns;
+        }
+    }
+}
@@ -1059,8 +1059,8 @@ abstract public class AbstractAdaCodegen extends DefaultCodegen implements Codeg
             if (StringUtils.isEmpty(commandPrefix)) {
                 commandPrefix = "gnatpp";
             }
-            String[] commandArr = new String[]{commandPrefix, "--no-compact", "--quiet", file.toString()};
-            this.executePostProcessor(commandArr);
+            String[] commandArr = new String[]{commandPrefix, "--no-compact", "--quiet"};
+            this.executePostProcessor(commandArr, file);
         }
     }
 
@@ -113,7 +113,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegen {
     protected Set<String> propertySpecialKeywords = new HashSet<>(Arrays.asList("ToString", "ToJson", "GetHashCode", "Equals", "ShouldSerializeToString"));
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private final Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     public AbstractCSharpCodegen() {
         super();
@@ -1951,7 +1951,7 @@ public abstract class AbstractCSharpCodegen extends DefaultCodegen {
 
         // only process files with .cs extension
         if ("cs".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{csharpPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{csharpPostProcessFile}, file);
         }
     }
 
@@ -343,7 +343,7 @@ abstract public class AbstractCppCodegen extends DefaultCodegen implements Codeg
         }
         // only process files with cpp extension
         if ("cpp".equals(FilenameUtils.getExtension(file.toString())) || "h".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{cppPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{cppPostProcessFile}, file);
         }
     }
 
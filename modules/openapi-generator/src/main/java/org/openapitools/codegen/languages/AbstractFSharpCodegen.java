@@ -1049,7 +1049,7 @@ public abstract class AbstractFSharpCodegen extends DefaultCodegen implements Co
 
         // only process files with .fs extension
         if ("fs".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{fsharpPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{fsharpPostProcessFile}, file);
         }
     }
 
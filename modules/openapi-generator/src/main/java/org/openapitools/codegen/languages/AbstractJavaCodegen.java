@@ -200,7 +200,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
      */
     @Getter @Setter
     protected boolean useBeanValidation = false;
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     public AbstractJavaCodegen() {
         super();
@@ -2321,7 +2321,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegen implements Code
 
         // only process files with java extension
         if ("java".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{javaPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{javaPostProcessFile}, file);
         }
     }
 
@@ -81,7 +81,7 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegen implements Co
     // ref: https://kotlinlang.org/api/latest/jvm/stdlib/kotlin.collections/-hash-map/
     protected Set<String> propertyAdditionalKeywords = new HashSet<>(Arrays.asList("entries", "keys", "size", "values"));
 
-    private final Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private final Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
     @Getter @Setter
     protected List<String> additionalModelTypeAnnotations = new LinkedList<>();
 
@@ -977,7 +977,7 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegen implements Co
 
         // only process files with kt extension
         if ("kt".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{kotlinPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{kotlinPostProcessFile}, file);
         }
     }
 
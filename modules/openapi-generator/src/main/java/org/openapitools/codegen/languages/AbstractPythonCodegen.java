@@ -55,7 +55,7 @@ public abstract class AbstractPythonCodegen extends DefaultCodegen implements Co
     protected String mapNumberTo = "Union[StrictFloat, StrictInt]";
     protected Map<Character, String> regexModifiers;
 
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
     // map of set (model imports)
     private HashMap<String, HashSet<String>> circularImports = new HashMap<>();
     // map of codegen models
@@ -334,7 +334,7 @@ public abstract class AbstractPythonCodegen extends DefaultCodegen implements Co
 
         // only process files with py extension
         if ("py".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{pythonPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{pythonPostProcessFile}, file);
         }
     }
 
@@ -53,7 +53,7 @@ public abstract class AbstractPythonPydanticV1Codegen extends DefaultCodegen imp
     protected String mapNumberTo = "Union[StrictFloat, StrictInt]";
     protected Map<Character, String> regexModifiers;
 
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
     // map of set (model imports)
     private HashMap<String, HashSet<String>> circularImports = new HashMap<>();
     // map of codegen models
@@ -308,7 +308,7 @@ public abstract class AbstractPythonPydanticV1Codegen extends DefaultCodegen imp
 
         // only process files with py extension
         if ("py".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{pythonPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{pythonPostProcessFile}, file);
         }
     }
 
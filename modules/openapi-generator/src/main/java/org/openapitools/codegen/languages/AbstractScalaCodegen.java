@@ -560,7 +560,7 @@ public abstract class AbstractScalaCodegen extends DefaultCodegen {
 
         // only process files with scala extension
         if ("scala".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{scalaPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{scalaPostProcessFile}, file);
         }
     }
 
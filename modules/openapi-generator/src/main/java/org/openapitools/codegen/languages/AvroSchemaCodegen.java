@@ -211,7 +211,7 @@ public class AvroSchemaCodegen extends DefaultCodegen implements CodegenConfig {
         }
         // only process files with avsc extension
         if ("avsc".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{avroPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{avroPostProcessFile}, file);
         }
     }
 
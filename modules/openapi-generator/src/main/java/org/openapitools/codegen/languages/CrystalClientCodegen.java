@@ -898,7 +898,7 @@ public class CrystalClientCodegen extends DefaultCodegen {
         }
         // only process files with cr extension
         if ("cr".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{crystalPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{crystalPostProcessFile}, file);
         }
     }
 
@@ -62,7 +62,7 @@ public class GoClientCodegen extends AbstractGoCodegen {
     @Setter protected boolean useOneOfDiscriminatorLookup = false; // use oneOf discriminator's mapping for model lookup
 
     // A cache to efficiently lookup schema `toModelName()` based on the schema Key
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     public GoClientCodegen() {
         super();
@@ -443,6 +443,16 @@ public class GoClientCodegen extends AbstractGoCodegen {
         return super.toDefaultValue(p);
     }
 
+    @Override
+    public boolean supportsParallelModels() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsParallelOperations() {
+        return true;
+    }
+
     @Override
     public CodegenProperty fromProperty(String name, Schema p, boolean required) {
         CodegenProperty prop = super.fromProperty(name, p, required);
@@ -708,7 +708,7 @@ public class HaskellServantCodegen extends DefaultCodegen implements CodegenConf
 
         // only process files with hs extension
         if ("hs".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{haskellPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{haskellPostProcessFile}, file);
         }
     }
 
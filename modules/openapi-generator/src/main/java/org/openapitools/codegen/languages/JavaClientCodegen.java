@@ -1024,6 +1024,16 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         }
     }
 
+    @Override
+    public boolean supportsParallelModels() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsParallelOperations() {
+        return true;
+    }
+
     @Override
     public CodegenModel fromModel(String name, Schema model) {
         CodegenModel codegenModel = super.fromModel(name, model);
@@ -1170,7 +1170,7 @@ public class JavascriptApolloClientCodegen extends DefaultCodegen implements Cod
 
         // only process files with js extension
         if ("js".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{jsPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{jsPostProcessFile}, file);
         }
     }
 
@@ -1203,7 +1203,7 @@ public class JavascriptClientCodegen extends DefaultCodegen implements CodegenCo
 
         // only process files with js extension
         if ("js".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{jsPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{jsPostProcessFile}, file);
         }
     }
 
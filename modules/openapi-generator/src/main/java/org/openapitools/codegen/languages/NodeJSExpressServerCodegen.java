@@ -435,7 +435,7 @@ public class NodeJSExpressServerCodegen extends DefaultCodegen implements Codege
 
         // only process files with js extension
         if ("js".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{jsPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{jsPostProcessFile}, file);
         }
     }
 
@@ -807,7 +807,7 @@ public class OCamlClientCodegen extends DefaultCodegen implements CodegenConfig
         }
         // only process files with ml or mli extension
         if ("ml".equals(FilenameUtils.getExtension(file.toString())) || "mli".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{ocamlPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{ocamlPostProcessFile}, file);
         }
     }
 
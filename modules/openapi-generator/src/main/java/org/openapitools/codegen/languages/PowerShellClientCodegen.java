@@ -69,7 +69,7 @@ public class PowerShellClientCodegen extends DefaultCodegen implements CodegenCo
     protected String modelsCmdletVerb = "Initialize";
     protected boolean useClassNameInModelsExamples = true;
 
-    private Map<String, String> schemaKeyToModelNameCache = new HashMap<>();
+    private Map<String, String> schemaKeyToModelNameCache = Collections.synchronizedMap(new HashMap<>());
 
     /**
      * Constructs an instance of `PowerShellClientCodegen`.
@@ -1472,7 +1472,7 @@ public class PowerShellClientCodegen extends DefaultCodegen implements CodegenCo
 
         // only process files with ps extension
         if ("ps".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{powershellPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{powershellPostProcessFile}, file);
         }
 
     }
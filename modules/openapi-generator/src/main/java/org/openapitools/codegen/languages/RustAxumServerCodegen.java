@@ -1021,14 +1021,14 @@ public class RustAxumServerCodegen extends AbstractRustCodegen implements Codege
         String cmd = System.getenv("RUST_POST_PROCESS_FILE");
         if (StringUtils.isEmpty(cmd)) {
             cmd = "rustfmt";
-            command = new String[]{cmd, "--edition", "2021", fileName};
+            command = new String[]{cmd, "--edition", "2021"};
         } else {
-            command = new String[]{cmd, fileName};
+            command = new String[]{cmd};
         }
 
         // only process files with .rs extension
         if ("rs".equals(FilenameUtils.getExtension(fileName))) {
-            this.executePostProcessor(command);
+            this.executePostProcessor(command, file);
         }
     }
 
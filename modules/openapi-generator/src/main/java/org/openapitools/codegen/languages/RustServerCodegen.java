@@ -1113,6 +1113,12 @@ public class RustServerCodegen extends AbstractRustCodegen implements CodegenCon
         }
     }
 
+    @Override
+    public boolean supportsParallelModels() {
+        // the xml names of the models are collected in fromModel, and read by the models converted after them
+        return false;
+    }
+
     @Override
     public CodegenModel fromModel(String name, Schema model) {
         LOGGER.trace("Creating model from schema: {}", model);
@@ -1575,7 +1581,7 @@ public class RustServerCodegen extends AbstractRustCodegen implements CodegenCon
 
         // only process files with .rs extension
         if ("rs".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{commandPrefix, file.toString()});
+            this.executePostProcessor(new String[]{commandPrefix}, file);
         }
     }
 
@@ -967,6 +967,11 @@ public class SpringCodegen extends AbstractJavaCodegen
         }
     }
 
+    @Override
+    public boolean supportsParallelModels() {
+        return true;
+    }
+
     @Override
     public CodegenModel fromModel(String name, Schema model) {
         CodegenModel codegenModel = super.fromModel(name, model);
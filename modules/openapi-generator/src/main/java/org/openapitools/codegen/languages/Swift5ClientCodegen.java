@@ -1207,7 +1207,7 @@ public class Swift5ClientCodegen extends DefaultCodegen implements CodegenConfig
         }
         // only process files with swift extension
         if ("swift".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{swiftPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{swiftPostProcessFile}, file);
         }
     }
 
@@ -705,7 +705,7 @@ public class SwiftCombineClientCodegen extends DefaultCodegen implements Codegen
         }
         // only process files with swift extension
         if ("swift".equals(FilenameUtils.getExtension(file.toString()))) {
-            this.executePostProcessor(new String[]{swiftPostProcessFile, file.toString()});
+            this.executePostProcessor(new String[]{swiftPostProcessFile}, file);
         }
     }
 
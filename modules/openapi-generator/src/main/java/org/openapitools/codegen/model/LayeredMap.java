@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.model;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Template data reading through a shared, unmodifiable layer of entries (e.g. the additional properties of the
+ * generator) instead of holding a copy of them. Its own entries take precedence over the shared ones.
+ * <p>
+ * The lookups ({@link #get}, {@link #containsKey}, {@link #getOrDefault}), which is how the template engines resolve
+ * the variables, and the updates ({@link #put}, {@link #putAll}) never copy the shared entries. The other operations,
+ * e.g. iterating over the entries or removing one, first copy the shared entries which aren't overridden, after which
+ * the map behaves as a plain {@link HashMap}.
+ */
+public class LayeredMap extends HashMap<String, Object> {
+    // the shared entries, or null once copied
+    private Map<String, Object> layer;
+
+    public LayeredMap() {
+    }
+
+    /**
+     * @param shared The shared entries, which mustn't be updated anymore (see {@link #sharedCopy})
+     */
+    public LayeredMap(Map<String, Object> shared) {
+        this.layer = shared;
+    }
+
+    /**
+     * Equivalent to {@link #putAll} with entries which aren't updated anymore, only read through.
+     *
+     * @param shared The shared entries, which mustn't be updated anymore (see {@link #sharedCopy})
+     */
+    public void putAllShared(Map<String, Object> shared) {
+        flatten();
+        // the shared entries override the existing ones
+        super.keySet().removeIf(shared::containsKey);
+        layer = shared;
+    }
+
+    /**
+     * Returns an unmodifiable copy of a map to share between several {@link LayeredMap}, or the previous copy when the
+     * map still has the same entries: comparing them doesn't allocate anything, unlike copying them.
+     *
+     * @param previousCopy The previous copy of the map, or null
+     * @param map          The map
+     * @return The previous copy if still equivalent, compared by identity of the values, or a new copy
+     */
+    public static Map<String, Object> sharedCopy(Map<String, Object> previousCopy, Map<String, Object> map) {
+        if (previousCopy != null && previousCopy.size() == map.size()) {
+            boolean same = true;
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                Object value = previousCopy.get(entry.getKey());
+                if (value != entry.getValue() || value == null && !previousCopy.containsKey(entry.getKey())) {
+                    same = false;
+                    break;
+                }
+            }
+            if (same) {
+                return previousCopy;
+            }
+        }
+        return Collections.unmodifiableMap(new HashMap<>(map));
+    }
+
+    private void flatten() {
+        Map<String, Object> shared = layer;
+        if (shared != null) {
+            layer = null;
+            shared.forEach((key, value) -> {
+                if (!super.containsKey(key)) {
+                    super.put(key, value);
+                }
+            });
+        }
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = super.get(key);
+        if (value != null || layer == null || super.containsKey(key)) {
+            return value;
+        }
+        return layer.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return super.containsKey(key) || layer != null && layer.containsKey(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return containsKey(key) ? get(key) : defaultValue;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (layer == null || super.containsKey(key)) {
+            return super.put(key, value);
+        }
+        super.put(key, value);
+        return layer.get(key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return super.isEmpty() && (layer == null || layer.isEmpty());
+    }
+
+    @Override
+    public int size() {
+        flatten();
+        return super.size();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        flatten();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        flatten();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        flatten();
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        flatten();
+        return super.entrySet();
+    }
+
+    @Override
+    public Object remove(Object key) {
+        flatten();
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        flatten();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public void clear() {
+        layer = null;
+        super.clear();
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        flatten();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        flatten();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        flatten();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        flatten();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        flatten();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        flatten();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        flatten();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        flatten();
+        super.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        flatten();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object clone() {
+        flatten();
+        return super.clone();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.config.GlobalSettings;
+
+/**
+ * Remembers which templates exist on the classpath, as the classpath doesn't change during the lifetime of the JVM.
+ */
+final class ClasspathTemplateIndex {
+    /**
+     * Set the maximum number of template locations remembered by the index.
+     */
+    static final String INDEX_SIZE_PROPERTY = "org.openapitools.codegen.templating.classpathindex.cachesize";
+
+    private static final Cache<String, Boolean> EXISTS = Caffeine.newBuilder()
+            .maximumSize(Long.parseLong(GlobalSettings.getProperty(INDEX_SIZE_PROPERTY, "20000")))
+            .build();
+
+    private ClasspathTemplateIndex() {
+    }
+
+    /**
+     * Determines whether a template exists on the classpath.
+     *
+     * @param name The location of the template, relative to the classpath root
+     * @return true if the template is a classpath resource
+     */
+    static boolean exists(String name) {
+        return EXISTS.get(TemplateManager.getCPResourcePath(name),
+                path -> ClasspathTemplateIndex.class.getClassLoader().getResource(path) != null);
+    }
+}
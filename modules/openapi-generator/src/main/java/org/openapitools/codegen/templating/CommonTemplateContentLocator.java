@@ -1,11 +1,9 @@
 package org.openapitools.codegen.templating;
 
 import org.apache.commons.lang3.StringUtils;
-import org.openapitools.codegen.TemplateManager;
 import org.openapitools.codegen.api.TemplatePathLocator;
 
 import java.io.File;
-import java.net.URL;
 
 /**
  * Locates generator-agnostic templates from a common built-in location.
@@ -29,6 +27,15 @@ public class CommonTemplateContentLocator implements TemplatePathLocator {
         this.resourceLocation = resourceLocation;
     }
 
+    /**
+     * Describes the location this locator looks up templates from.
+     *
+     * @return A key which is equal for locators resolving any template name to the same location
+     */
+    public String getLocationKey() {
+        return resourceLocation;
+    }
+
     /**
      * Get the full path to a relative template file.
      *
@@ -40,8 +47,7 @@ public class CommonTemplateContentLocator implements TemplatePathLocator {
         if (StringUtils.isNotEmpty(relativeTemplateFile)) {
             String loc = this.resourceLocation + File.separator + relativeTemplateFile;
 
-            URL url = this.getClass().getClassLoader().getResource(TemplateManager.getCPResourcePath(loc));
-            if (url != null) {
+            if (ClasspathTemplateIndex.exists(loc)) {
                 return loc;
             }
         }
@@ -2,17 +2,36 @@ package org.openapitools.codegen.templating;
 
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CodegenConfig;
-import org.openapitools.codegen.TemplateManager;
 import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.config.GlobalSettings;
 
 import java.io.File;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Locates templates according to {@link CodegenConfig} settings.
+ * <p>
+ * Lookups are memoized: the user-defined template directory is probed once per template for the lifetime of this
+ * locator (i.e. a generator run), and the embedded templates once per JVM. Set the {@link #WATCH_TEMPLATE_DIR_PROPERTY}
+ * global property to pick up templates added to or removed from the template directory while the locator is in use.
  */
 public class GeneratorTemplateContentLocator implements TemplatePathLocator {
+    /**
+     * Set to true to always look up templates from the user-defined template directory on the file system rather than
+     * relying on the memoized lookups.
+     */
+    public static final String WATCH_TEMPLATE_DIR_PROPERTY = "org.openapitools.codegen.templating.templatedir.watch";
+
     private final CodegenConfig codegenConfig;
+    private final boolean watchTemplateDir;
+
+    // resolved template paths (empty if not found) and file system lookups, for the locations described by locationKey
+    private final Map<String, Optional<String>> resolvedPaths = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> existingFiles = new ConcurrentHashMap<>();
+    private volatile String locationKey;
 
     /**
      * Constructs a new instance of {@link GeneratorTemplateContentLocator} for the provided {@link CodegenConfig}
@@ -21,6 +40,7 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
      */
     public GeneratorTemplateContentLocator(CodegenConfig codegenConfig) {
         this.codegenConfig = codegenConfig;
+        this.watchTemplateDir = Boolean.parseBoolean(GlobalSettings.getProperty(WATCH_TEMPLATE_DIR_PROPERTY, "false"));
     }
 
     private String buildLibraryFilePath(String dir, String library, String file) {
@@ -38,7 +58,26 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
     }
 
     private boolean classpathTemplateExists(String name) {
-        return this.getClass().getClassLoader().getResource(TemplateManager.getCPResourcePath(name)) != null;
+        return ClasspathTemplateIndex.exists(name);
+    }
+
+    private boolean fileTemplateExists(String name) {
+        if (watchTemplateDir) {
+            return new File(name).exists();
+        }
+        return existingFiles.computeIfAbsent(name, file -> new File(file).exists());
+    }
+
+    /**
+     * Describes the locations this locator looks up templates from.
+     *
+     * @return A key which is equal for locators resolving any template name to the same location
+     */
+    public String getLocationKey() {
+        return String.join(File.pathSeparator,
+                String.valueOf(codegenConfig.templateDir()),
+                String.valueOf(codegenConfig.embeddedTemplateDir()),
+                String.valueOf(codegenConfig.getLibrary()));
     }
 
     /**
@@ -57,6 +96,22 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
      */
     @Override
     public String getFullTemplatePath(String relativeTemplateFile) {
+        if (relativeTemplateFile == null || watchTemplateDir) {
+            return resolveTemplatePath(relativeTemplateFile);
+        }
+
+        // the generator's settings may still change (e.g. while processing its options), forget what was resolved for previous settings
+        String currentLocationKey = getLocationKey();
+        if (!currentLocationKey.equals(locationKey)) {
+            resolvedPaths.clear();
+            existingFiles.clear();
+            locationKey = currentLocationKey;
+        }
+        return resolvedPaths.computeIfAbsent(relativeTemplateFile, name -> Optional.ofNullable(resolveTemplatePath(name)))
+                .orElse(null);
+    }
+
+    private String resolveTemplatePath(String relativeTemplateFile) {
         CodegenConfig config = this.codegenConfig;
 
         //check the supplied template library folder for the file
@@ -66,7 +121,7 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
             final String libTemplateFile = buildLibraryFilePath(config.templateDir(), library, relativeTemplateFile);
             // looks for user-defined file or classpath
             // supports template dir which refers to local file system or custom path in classpath as defined by templateDir
-            if (new File(libTemplateFile).exists() || classpathTemplateExists(libTemplateFile)) {
+            if (fileTemplateExists(libTemplateFile) || classpathTemplateExists(libTemplateFile)) {
                 return libTemplateFile;
             }
         }
@@ -76,7 +131,7 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
         final String template = config.templateDir() + File.separator + relativeTemplateFile;
         // looks for user-defined file or classpath
         // supports template dir which refers to local file system or custom path in classpath as defined by templateDir
-        if (new File(template).exists() || classpathTemplateExists(template)) {
+        if (fileTemplateExists(template) || classpathTemplateExists(template)) {
             return template;
         }
 
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps the written files in memory, by path.
+ */
+public class InMemoryOutputSink implements OutputSink {
+    private final Map<Path, byte[]> files = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void write(Path path, byte[] contents) {
+        files.put(path, contents);
+    }
+
+    @Override
+    public boolean exists(Path path) {
+        return files.containsKey(path);
+    }
+
+    /**
+     * @return The contents of the written files, by path, sorted by path
+     */
+    public Map<Path, byte[]> getFiles() {
+        return Collections.unmodifiableMap(files);
+    }
+}
@@ -21,6 +21,7 @@ import com.samskivert.mustache.Template;
 import lombok.Getter;
 import lombok.Setter;
 import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.TemplateManager;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
 import org.slf4j.Logger;
@@ -51,6 +52,12 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
     @Getter @Setter
     Mustache.Compiler compiler = Mustache.compiler();
 
+    /**
+     * The cache of compiled templates, shared by all adapters by default. Set to null to compile templates on every call.
+     */
+    @Getter @Setter
+    MustacheTemplateCache templateCache = MustacheTemplateCache.getShared();
+
     /**
      * Compiles a template into a string
      *
@@ -62,10 +69,6 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
      */
     @Override
     public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile) throws IOException {
-        Template tmpl = compiler
-                .withLoader(name -> findTemplate(executor, name))
-                .defaultValue("")
-                .compile(executor.getFullTemplateContents(templateFile));
         StringWriter out = new StringWriter();
 
         // the value of bundle[MUSTACHE_PARENT_CONTEXT] is used a parent content in mustache.
@@ -77,7 +80,18 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
             // avoid NPE
             parent = new Object();
         }
-        tmpl.execute(bundle, parent, out);
+
+        // compiled templates can only be shared when we know where the executor looks up the templates (and their partials)
+        String scope = executor instanceof TemplateManager ? ((TemplateManager) executor).getTemplateLocationKey() : null;
+        if (templateCache != null && scope != null) {
+            templateCache.execute(executor, scope, compiler.defaultValue(""), templateFile, bundle, parent, out);
+        } else {
+            Template tmpl = compiler
+                    .withLoader(name -> findTemplate(executor, name))
+                    .defaultValue("")
+                    .compile(executor.getFullTemplateContents(templateFile));
+            tmpl.execute(bundle, parent, out);
+        }
         return out.toString();
     }
 
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.MustacheException;
+import com.samskivert.mustache.Template;
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.config.GlobalSettings;
+
+import java.io.File;
+import java.io.Writer;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A cache of compiled JMustache {@link Template}s, keyed by the resolved template path.
+ * <p>
+ * Partials are compiled once and shared by every template including them. Entries are additionally keyed by the
+ * template location scope (see {@link TemplateManager#getTemplateLocationKey()}) and by the compiler settings, so
+ * a single instance can safely be shared by all generator runs within a JVM. Templates read from the file system
+ * (i.e. user-defined templates) are recompiled once their last modification time changes.
+ */
+public class MustacheTemplateCache {
+    /**
+     * Set the maximum number of compiled templates held by the shared cache.
+     */
+    public static final String TEMPLATE_CACHE_SIZE_PROPERTY = "org.openapitools.codegen.templating.templatecache.cachesize";
+
+    private static final String EXTENSION = "mustache";
+
+    private static final MustacheTemplateCache SHARED = new MustacheTemplateCache(
+            Long.parseLong(GlobalSettings.getProperty(TEMPLATE_CACHE_SIZE_PROPERTY, "2000")));
+
+    // the executor of the render in progress on the current thread, used to resolve partials loaded lazily by JMustache
+    private static final ThreadLocal<TemplatingExecutor> CURRENT_EXECUTOR = new ThreadLocal<>();
+
+    private final Cache<Key, Entry> cache;
+
+    /**
+     * Constructs a new instance of {@link MustacheTemplateCache}
+     *
+     * @param maximumSize The maximum number of compiled templates to hold
+     */
+    public MustacheTemplateCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return The cache instance shared by all {@link MustacheEngineAdapter}s of this JVM
+     */
+    public static MustacheTemplateCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Looks up (compiling it if required) and executes a template.
+     *
+     * @param executor      From where we can fetch the templates content
+     * @param scope         The template location scope, all templates must resolve identically for an equal scope
+     * @param compiler      The compiler used for templates which aren't cached yet
+     * @param templateFile  The name of the template (e.g. model.mustache )
+     * @param context       The context of the template
+     * @param parentContext The parent context of the template
+     * @param out           The target of the rendered template
+     */
+    public void execute(TemplatingExecutor executor, String scope, Mustache.Compiler compiler, String templateFile,
+                        Object context, Object parentContext, Writer out) {
+        TemplatingExecutor previous = CURRENT_EXECUTOR.get();
+        CURRENT_EXECUTOR.set(executor);
+        try {
+            Template tmpl = getEntry(executor, new Settings(compiler), scope, templateFile).template;
+            tmpl.execute(context, parentContext, out);
+        } finally {
+            if (previous == null) {
+                CURRENT_EXECUTOR.remove();
+            } else {
+                CURRENT_EXECUTOR.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return The number of lookups (including partials) served by an already compiled template
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * @return The number of lookups (including partials) which required the template to be compiled
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * @return The approximate number of compiled templates currently held
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Discards all compiled templates.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private Entry getEntry(TemplatingExecutor executor, Settings settings, String scope, String templateFile) {
+        String path = executor.getFullTemplatePath(templateFile).toString();
+        Key key = new Key(scope, settings, path);
+
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null && !entry.isUpToDate(Collections.newSetFromMap(new IdentityHashMap<>()))) {
+            cache.invalidate(key);
+            entry = null;
+        }
+        if (entry == null) {
+            // compiled outside the cache's lock, partials are loaded lazily and may themselves be compiled concurrently
+            entry = new Entry(path);
+            CachingCompiler compiler = new CachingCompiler(settings, scope, entry);
+            entry.template = compiler.compile(executor.getFullTemplateContents(templateFile));
+            Entry existing = cache.asMap().putIfAbsent(key, entry);
+            if (existing != null) {
+                entry = existing;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * A compiled template, along with the last modification time of its source (if read from the file system) and the
+     * partials it includes.
+     */
+    private static final class Entry {
+        private final File file;
+        private final long lastModified;
+        private final List<Entry> partials = new CopyOnWriteArrayList<>();
+        private Template template;
+
+        private Entry(String path) {
+            if (!ClasspathTemplateIndex.exists(path)) {
+                this.file = new File(path);
+                this.lastModified = this.file.lastModified();
+            } else {
+                this.file = null;
+                this.lastModified = 0L;
+            }
+        }
+
+        private boolean isUpToDate(Set<Entry> visited) {
+            if (!visited.add(this)) {
+                return true;
+            }
+            if (file != null && file.lastModified() != lastModified) {
+                return false;
+            }
+            for (Entry partial : partials) {
+                if (!partial.isUpToDate(visited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The settings of a {@link Mustache.Compiler} affecting the compiled template.
+     */
+    private static final class Settings {
+        private final boolean standardsMode;
+        private final boolean strictSections;
+        private final String nullValue;
+        private final boolean missingIsNull;
+        private final boolean emptyStringIsFalse;
+        private final boolean zeroIsFalse;
+        private final Mustache.Formatter formatter;
+        private final Mustache.Escaper escaper;
+        private final Mustache.Collector collector;
+        private final Mustache.Compiler source;
+
+        private Settings(Mustache.Compiler compiler) {
+            this.standardsMode = compiler.standardsMode;
+            this.strictSections = compiler.strictSections;
+            this.nullValue = compiler.nullValue;
+            this.missingIsNull = compiler.missingIsNull;
+            this.emptyStringIsFalse = compiler.emptyStringIsFalse;
+            this.zeroIsFalse = compiler.zeroIsFalse;
+            this.formatter = compiler.formatter;
+            this.escaper = compiler.escaper;
+            this.collector = compiler.collector;
+            // the (default) delimiters aren't part of the key, none of the generators changes them
+            this.source = compiler;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Settings that = (Settings) o;
+            // formatters and escapers may hold state, they are compared by identity; a new collector is created per compiler
+            return standardsMode == that.standardsMode &&
+                    strictSections == that.strictSections &&
+                    missingIsNull == that.missingIsNull &&
+                    emptyStringIsFalse == that.emptyStringIsFalse &&
+                    zeroIsFalse == that.zeroIsFalse &&
+                    Objects.equals(nullValue, that.nullValue) &&
+                    formatter == that.formatter &&
+                    escaper == that.escaper &&
+                    collector.getClass() == that.collector.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(standardsMode, strictSections, nullValue, missingIsNull, emptyStringIsFalse, zeroIsFalse,
+                    System.identityHashCode(formatter), System.identityHashCode(escaper), collector.getClass());
+        }
+    }
+
+    private static final class Key {
+        private final String scope;
+        private final Settings settings;
+        private final String path;
+
+        private Key(String scope, Settings settings, String path) {
+            this.scope = scope;
+            this.settings = settings;
+            this.path = path;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return scope.equals(key.scope) && settings.equals(key.settings) && path.equals(key.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, settings, path);
+        }
+    }
+
+    /**
+     * A compiler resolving partials through the cache rather than compiling them for every including template.
+     */
+    private final class CachingCompiler extends Mustache.Compiler {
+        private final Settings settings;
+        private final String scope;
+        private final Entry owner;
+
+        private CachingCompiler(Settings settings, String scope, Entry owner) {
+            super(settings.standardsMode, settings.strictSections, settings.nullValue, settings.missingIsNull,
+                    settings.emptyStringIsFalse, settings.zeroIsFalse, settings.formatter, settings.escaper,
+                    name -> {
+                        throw new TemplateNotFoundException(name);
+                    },
+                    settings.collector, settings.source.delims);
+            this.settings = settings;
+            this.scope = scope;
+            this.owner = owner;
+        }
+
+        @Override
+        public Template loadTemplate(String name) throws MustacheException {
+            TemplatingExecutor executor = CURRENT_EXECUTOR.get();
+            if (executor == null) {
+                throw new IllegalStateException("Partial " + name + " loaded outside of a template execution.");
+            }
+
+            Entry partial;
+            try {
+                partial = getEntry(executor, settings, scope, name + "." + EXTENSION);
+            } catch (TemplateNotFoundException exception) {
+                throw new TemplateNotFoundException(name, exception);
+            }
+            owner.partials.add(partial);
+            return partial.template;
+        }
+    }
+}
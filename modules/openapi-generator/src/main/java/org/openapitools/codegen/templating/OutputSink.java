@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Receives the files written by a {@link org.openapitools.codegen.TemplateManager} in place of the file system, e.g.
+ * to keep them in memory or to stream them to an archive.
+ * <p>
+ * The paths are absolute and normalized. Implementations must support concurrent writes, as model and API files may
+ * be rendered in parallel.
+ */
+public interface OutputSink {
+    /**
+     * Writes a file.
+     *
+     * @param path     The path of the file
+     * @param contents The contents of the file
+     * @throws IOException If the file can't be written
+     */
+    void write(Path path, byte[] contents) throws IOException;
+
+    /**
+     * Determines whether a file was written, in place of checking whether the file exists in the file system.
+     *
+     * @param path The path of the file
+     * @return Whether the file was written
+     */
+    boolean exists(Path path);
+}
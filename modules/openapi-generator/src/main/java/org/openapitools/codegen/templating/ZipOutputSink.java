@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Archives the written files in a ZIP file. The entries are named after the paths of the files relative to a root
+ * directory, which the files must be located in.
+ * <p>
+ * Each file is compressed into the archive as it's written, in the order the files are first written, so that the
+ * contents of the files aren't held in memory. A file written more than once (e.g. by a generator rendering several
+ * templates to the same file) is archived once, with its last contents, as it would be in the file system: only the
+ * contents of these files are kept, and replace the archived ones when the archive is completed by {@link #close()}.
+ */
+public class ZipOutputSink implements OutputSink, Closeable {
+    private final Path root;
+    private final Path archive;
+    // guarded by this, created on the first write
+    private ZipOutputStream zip;
+    // guarded by this, the archived files
+    private final Set<Path> written = new HashSet<>();
+    // guarded by this, the last contents of the files written again, by entry name
+    private final Map<String, byte[]> rewritten = new HashMap<>();
+    private boolean closed;
+
+    /**
+     * Constructs a new instance of {@link ZipOutputSink}.
+     *
+     * @param root    The directory the entries are relative to
+     * @param archive The ZIP file written, replaced if it exists
+     */
+    public ZipOutputSink(Path root, Path archive) {
+        this.root = root.toAbsolutePath().normalize();
+        this.archive = archive;
+    }
+
+    @Override
+    public void write(Path path, byte[] contents) throws IOException {
+        Path normalized = path.toAbsolutePath().normalize();
+        if (!normalized.startsWith(root)) {
+            throw new IOException("File " + path + " is outside of the archived directory " + root);
+        }
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("File " + path + " is written after the archive was completed");
+            }
+            if (!written.add(normalized)) {
+                rewritten.put(entryName(normalized), contents);
+                return;
+            }
+            ZipOutputStream out = open();
+            out.putNextEntry(new ZipEntry(entryName(normalized)));
+            out.write(contents);
+            out.closeEntry();
+        }
+    }
+
+    @Override
+    public synchronized boolean exists(Path path) {
+        return written.contains(path.toAbsolutePath().normalize());
+    }
+
+    private ZipOutputStream open() throws IOException {
+        if (zip == null) {
+            zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archive)));
+        }
+        return zip;
+    }
+
+    /**
+     * Completes the archive.
+     *
+     * @throws IOException If the archive can't be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        open().close();
+        if (!rewritten.isEmpty()) {
+            replaceRewrittenFiles();
+        }
+        written.clear();
+        rewritten.clear();
+    }
+
+    private void replaceRewrittenFiles() throws IOException {
+        Path replaced = Files.createTempFile(archive.toAbsolutePath().getParent(), "openapi-generator-", ".zip");
+        try {
+            try (ZipFile archived = new ZipFile(archive.toFile());
+                 ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(replaced)))) {
+                Enumeration<? extends ZipEntry> entries = archived.entries();
+                while (entries.hasMoreElements()) {
+                    String name = entries.nextElement().getName();
+                    out.putNextEntry(new ZipEntry(name));
+                    byte[] contents = rewritten.get(name);
+                    if (contents != null) {
+                        out.write(contents);
+                    } else {
+                        try (InputStream in = archived.getInputStream(archived.getEntry(name))) {
+                            in.transferTo(out);
+                        }
+                    }
+                    out.closeEntry();
+                }
+            }
+            Files.move(replaced, archive, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(replaced);
+        }
+    }
+
+    private String entryName(Path path) {
+        StringBuilder name = new StringBuilder();
+        for (Path element : root.relativize(path)) {
+            if (name.length() > 0) {
+                name.append('/');
+            }
+            name.append(element);
+        }
+        return name.toString();
+    }
+}
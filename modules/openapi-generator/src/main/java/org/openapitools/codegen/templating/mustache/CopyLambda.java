@@ -38,6 +38,13 @@ import java.io.Writer;
 public class CopyLambda implements Mustache.Lambda {
     public static class CopyContent {
         public String content;
+
+        /**
+         * @return The content holding the text copied in the file being rendered, see {@link LambdaState}
+         */
+        CopyContent current() {
+            return LambdaState.of(this, CopyContent::new);
+        }
     }
 
     public CopyContent copyContent;
@@ -85,6 +92,6 @@ public class CopyLambda implements Mustache.Lambda {
             content = content.substring(0, content.length() - 1);
         }
 
-        this.copyContent.content = content;
+        this.copyContent.current().content = content;
     }
 }
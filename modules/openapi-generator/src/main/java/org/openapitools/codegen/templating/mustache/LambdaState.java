@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating.mustache;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The state of the stateful lambdas (e.g. the text copied by a {@link CopyLambda}) while a file is rendered.
+ * <p>
+ * The generator opens a state for each file it renders (see {@link #open()}), so that the lambdas start each file
+ * afresh, whichever thread renders it and whichever files this thread rendered before. Outside of it (e.g. when a
+ * template is rendered on its own), the lambdas keep their state in their own fields.
+ */
+public final class LambdaState {
+    private static final ThreadLocal<LambdaState> CURRENT = new ThreadLocal<>();
+
+    // by lambda (or shared content), compared by identity as a generator may register equal lambdas
+    private final Map<Object, Object> states = new IdentityHashMap<>();
+
+    private LambdaState() {
+    }
+
+    /**
+     * Opens a new state on the calling thread, until the returned scope is closed.
+     *
+     * @return The scope, restoring the previous state of the calling thread once closed
+     */
+    public static Scope open() {
+        LambdaState previous = CURRENT.get();
+        CURRENT.set(new LambdaState());
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Looks up the state of a lambda in the current state.
+     *
+     * @param owner   The lambda, holding its state itself outside of a state
+     * @param initial Creates the initial state of the lambda
+     * @param <T>     The type of the state
+     * @return The state of the lambda in the current state, or the owner if there is no current state
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T of(T owner, Supplier<T> initial) {
+        LambdaState current = CURRENT.get();
+        if (current == null) {
+            return owner;
+        }
+        return (T) current.states.computeIfAbsent(owner, key -> initial.get());
+    }
+
+    /**
+     * The state of the lambdas on a thread.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
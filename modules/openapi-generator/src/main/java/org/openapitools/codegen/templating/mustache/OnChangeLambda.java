@@ -29,11 +29,13 @@ public class OnChangeLambda implements Mustache.Lambda {
 
     @Override
     public void execute(Template.Fragment frag, Writer out) throws IOException {
+        // the last value of the file being rendered, see LambdaState
+        OnChangeLambda state = LambdaState.of(this, OnChangeLambda::new);
         String curVal = frag.execute();
-        LOGGER.debug("[lastVal={}, curVal={}]", lastVal, curVal);
-        if (curVal != null && !curVal.equals(lastVal)) {
+        LOGGER.debug("[lastVal={}, curVal={}]", state.lastVal, curVal);
+        if (curVal != null && !curVal.equals(state.lastVal)) {
             out.write(curVal);
-            lastVal = curVal;
+            state.lastVal = curVal;
         }
     }
 }
@@ -47,14 +47,15 @@ public class PasteLambda implements Mustache.Lambda {
 
     @Override
     public void execute(Fragment fragment, Writer writer) throws IOException {
-        String content = this.copyContent.content;
+        CopyContent current = this.copyContent.current();
+        String content = current.content;
 
         if (content == null) {
             return;
         }
 
         if (this.clear) {
-            this.copyContent.content = null;
+            current.content = null;
         }
 
         writer.write(content);
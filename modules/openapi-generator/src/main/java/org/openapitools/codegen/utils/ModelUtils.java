@@ -19,6 +19,8 @@ package org.openapitools.codegen.utils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -54,6 +56,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import static org.openapitools.codegen.utils.OnceLogger.once;
@@ -79,11 +82,41 @@ public class ModelUtils {
     private static final ObjectMapper JSON_MAPPER;
     private static final ObjectMapper YAML_MAPPER;
 
+    // the modification counts and the reference indexes of the specifications, held by identity until the
+    // specification is no longer used
+    private static final Cache<OpenAPI, SchemaState> SCHEMA_STATES = Caffeine.newBuilder().weakKeys().build();
+
     static {
         JSON_MAPPER = ObjectMapperFactory.createJson();
         YAML_MAPPER = ObjectMapperFactory.createYaml();
     }
 
+    /**
+     * Records that the schemas of a specification were updated in place (e.g. by the {@link org.openapitools.codegen.OpenAPINormalizer}
+     * or the {@link org.openapitools.codegen.InlineModelResolver}), invalidating the results cached by schema identity
+     * or by reference (see {@link org.openapitools.codegen.DefaultCodegen#fromProperty(String, Schema)}).
+     * Only the results cached for this specification are invalidated.
+     *
+     * @param openAPI specification
+     */
+    public static void schemasModified(OpenAPI openAPI) {
+        if (openAPI != null) {
+            getSchemaState(openAPI).modificationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param openAPI specification
+     * @return The number of times the schemas of the specification were updated in place, see {@link #schemasModified(OpenAPI)}
+     */
+    public static long getSchemaModificationCount(OpenAPI openAPI) {
+        return openAPI == null ? 0 : getSchemaState(openAPI).modificationCount.get();
+    }
+
+    private static SchemaState getSchemaState(OpenAPI openAPI) {
+        return SCHEMA_STATES.get(openAPI, k -> new SchemaState());
+    }
+
     public static boolean isDisallowAdditionalPropertiesIfNotPresent() {
         return Boolean.parseBoolean(GlobalSettings.getProperty(disallowAdditionalPropertiesIfNotPresent, "true"));
     }
@@ -134,24 +167,7 @@ public class ModelUtils {
      * @return schemas a list of used schemas
      */
     public static List<String> getAllUsedSchemas(OpenAPI openAPI) {
-        Map<String, List<String>> childrenMap = getChildrenMap(openAPI);
-        List<String> allUsedSchemas = new ArrayList<String>();
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if (!allUsedSchemas.contains(ref)) {
-                    allUsedSchemas.add(ref);
-                }
-                if (childrenMap.containsKey(ref)) {
-                    for (String child : childrenMap.get(ref)) {
-                        if (!allUsedSchemas.contains(child)) {
-                            allUsedSchemas.add(child);
-                        }
-                    }
-                }
-            }
-        });
-        return allUsedSchemas;
+        return getSchemaReferenceIndex(openAPI).getAllUsedSchemas();
     }
 
     /**
@@ -161,35 +177,10 @@ public class ModelUtils {
      * @return schemas a list of unused schemas
      */
     public static List<String> getUnusedSchemas(OpenAPI openAPI) {
-        final Map<String, List<String>> childrenMap;
-        Map<String, List<String>> tmpChildrenMap;
-        try {
-            tmpChildrenMap = getChildrenMap(openAPI);
-        } catch (NullPointerException npe) {
-            // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
-            // the stream used in getChildrenMap will raise an NPE. Rather than modify getChildrenMap which is used by getAllUsedSchemas,
-            // we'll catch here as a workaround for this edge case.
-            tmpChildrenMap = new HashMap<>();
-        }
-
-        childrenMap = tmpChildrenMap;
-        List<String> unusedSchemas = new ArrayList<String>();
-
-        if (openAPI != null) {
-            Map<String, Schema> schemas = getSchemas(openAPI);
-            unusedSchemas.addAll(schemas.keySet());
-
-            visitOpenAPI(openAPI, (s, t) -> {
-                if (s.get$ref() != null) {
-                    String ref = getSimpleRef(s.get$ref());
-                    unusedSchemas.remove(ref);
-                    if (childrenMap.containsKey(ref)) {
-                        unusedSchemas.removeAll(childrenMap.get(ref));
-                    }
-                }
-            });
+        if (openAPI == null) {
+            return new ArrayList<>();
         }
-        return unusedSchemas;
+        return getSchemaReferenceIndex(openAPI).getUnusedSchemas();
     }
 
     /**
@@ -199,21 +190,57 @@ public class ModelUtils {
      * @return schemas a list of schemas
      */
     public static List<String> getSchemasUsedOnlyInFormParam(OpenAPI openAPI) {
-        List<String> schemasUsedInFormParam = new ArrayList<String>();
-        List<String> schemasUsedInOtherCases = new ArrayList<String>();
-
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s != null && s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if ("application/x-www-form-urlencoded".equalsIgnoreCase(t) ||
-                        "multipart/form-data".equalsIgnoreCase(t)) {
-                    schemasUsedInFormParam.add(ref);
-                } else {
-                    schemasUsedInOtherCases.add(ref);
-                }
-            }
-        });
-        return schemasUsedInFormParam.stream().filter(n -> !schemasUsedInOtherCases.contains(n)).collect(Collectors.toList());
+        return getSchemaReferenceIndex(openAPI).getSchemasUsedOnlyInFormParam();
+    }
+
+    /**
+     * Return the index of the references to the schemas of a specification, shared by the queries on the
+     * specification. The index is built again once the schemas of the specification were updated in place (see
+     * {@link #schemasModified(OpenAPI)}), or once schemas or paths were added or removed.
+     *
+     * @param openAPI specification
+     * @return the index of the references to the schemas
+     */
+    public static SchemaReferenceIndex getSchemaReferenceIndex(OpenAPI openAPI) {
+        if (openAPI == null) {
+            return new SchemaReferenceIndex(null);
+        }
+        SchemaState state = getSchemaState(openAPI);
+        long modificationCount = state.modificationCount.get();
+        int schemaCount = getSchemas(openAPI).size();
+        int pathCount = openAPI.getPaths() == null ? 0 : openAPI.getPaths().size();
+        IndexedSpec indexed = state.indexed;
+        if (indexed == null || indexed.modificationCount != modificationCount
+                || indexed.schemaCount != schemaCount || indexed.pathCount != pathCount) {
+            indexed = new IndexedSpec(new SchemaReferenceIndex(openAPI), modificationCount, schemaCount, pathCount);
+            state.indexed = indexed;
+        }
+        return indexed.index;
+    }
+
+    /**
+     * The number of times the schemas of a specification were updated in place, and the last index of its references.
+     */
+    private static final class SchemaState {
+        private final AtomicLong modificationCount = new AtomicLong();
+        private volatile IndexedSpec indexed;
+    }
+
+    /**
+     * The index of the references of a specification, with the state of the specification it was built in.
+     */
+    private static final class IndexedSpec {
+        private final SchemaReferenceIndex index;
+        private final long modificationCount;
+        private final int schemaCount;
+        private final int pathCount;
+
+        private IndexedSpec(SchemaReferenceIndex index, long modificationCount, int schemaCount, int pathCount) {
+            this.index = index;
+            this.modificationCount = modificationCount;
+            this.schemaCount = schemaCount;
+            this.pathCount = pathCount;
+        }
     }
 
     /**
@@ -225,9 +252,9 @@ public class ModelUtils {
      * @param openAPI specification
      * @param visitor functional interface (can be defined as a lambda) called each time a schema is found.
      */
-    private static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
+    static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
         Map<String, PathItem> paths = openAPI.getPaths();
-        List<String> visitedSchemas = new ArrayList<>();
+        Set<String> visitedSchemas = new HashSet<>();
 
         if (paths != null) {
             for (PathItem path : paths.values()) {
@@ -236,7 +263,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         List<Operation> allOperations = pathItem.readOperations();
         if (allOperations != null) {
             for (Operation operation : allOperations) {
@@ -286,7 +313,7 @@ public class ModelUtils {
     }
 
     private static void visitParameters(OpenAPI openAPI, List<Parameter> parameters, OpenAPISchemaVisitor visitor,
-                                        List<String> visitedSchemas) {
+                                        Set<String> visitedSchemas) {
         if (parameters != null) {
             for (Parameter p : parameters) {
                 Parameter parameter = getReferencedParameter(openAPI, p);
@@ -302,7 +329,7 @@ public class ModelUtils {
         }
     }
 
-    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
+    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, Set<String> visitedSchemas) {
         if (content != null) {
             for (Entry<String, MediaType> e : content.entrySet()) {
                 if (e.getValue().getSchema() != null) {
@@ -321,10 +348,10 @@ public class ModelUtils {
      * @param openAPI        the OpenAPI document that contains schema objects.
      * @param schema         the root schema object to be visited.
      * @param mimeType       the mime type. TODO: does not seem to be used in a meaningful way.
-     * @param visitedSchemas the list of referenced schemas that have been visited.
+     * @param visitedSchemas the set of referenced schemas that have been visited.
      * @param visitor        the visitor function which is invoked for every visited schema.
      */
-    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, List<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
+    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, Set<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
         if (schema == null) {
             return;
         }
@@ -332,8 +359,7 @@ public class ModelUtils {
         visitor.visit(schema, mimeType);
         if (schema.get$ref() != null) {
             String ref = getSimpleRef(schema.get$ref());
-            if (!visitedSchemas.contains(ref)) {
-                visitedSchemas.add(ref);
+            if (visitedSchemas.add(ref)) {
                 Schema referencedSchema = getSchemas(openAPI).get(ref);
                 if (referencedSchema != null) {
                     visitSchema(openAPI, referencedSchema, mimeType, visitedSchemas, visitor);
@@ -1070,7 +1096,7 @@ public class ModelUtils {
      */
     public static List<Schema> getAllSchemas(OpenAPI openAPI) {
         List<Schema> allSchemas = new ArrayList<Schema>();
-        List<String> refSchemas = new ArrayList<String>();
+        Set<String> refSchemas = new HashSet<>();
         getSchemas(openAPI).forEach((key, schema) -> {
             // Invoke visitSchema to recursively visit all schema objects, included inlined and composed schemas.
             // Use the OpenAPISchemaVisitor visitor function
@@ -1502,13 +1528,16 @@ public class ModelUtils {
     public static Map<String, List<String>> getChildrenMap(OpenAPI openAPI) {
         Map<String, Schema> allSchemas = getSchemas(openAPI);
 
-        Map<String, List<Entry<String, Schema>>> groupedByParent = allSchemas.entrySet().stream()
-                .filter(entry -> isComposedSchema(entry.getValue()))
-                .filter(entry -> getParentName((Schema) entry.getValue(), allSchemas) != null)
-                .collect(Collectors.groupingBy(entry -> getParentName((Schema) entry.getValue(), allSchemas)));
-
-        return groupedByParent.entrySet().stream()
-                .collect(Collectors.toMap(entry -> entry.getKey(), entry -> entry.getValue().stream().map(e -> e.getKey()).collect(Collectors.toList())));
+        Map<String, List<String>> childrenMap = new HashMap<>();
+        for (Entry<String, Schema> entry : allSchemas.entrySet()) {
+            if (isComposedSchema(entry.getValue())) {
+                String parentName = getParentName(entry.getValue(), allSchemas);
+                if (parentName != null) {
+                    childrenMap.computeIfAbsent(parentName, k -> new ArrayList<>()).add(entry.getKey());
+                }
+            }
+        }
+        return childrenMap;
     }
 
     /**
@@ -2380,7 +2409,7 @@ public class ModelUtils {
 
 
     @FunctionalInterface
-    private interface OpenAPISchemaVisitor {
+    interface OpenAPISchemaVisitor {
 
         void visit(Schema schema, String mimeType);
     }
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.config.GlobalSettings;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The caches of the computed names (camelized, underscored, escaped and sanitized words).
+ * <p>
+ * A generator run installs its own instance (see {@link #forSpec(OpenAPI)} and {@link #activate()}) on the threads
+ * working on it, sized after the specification and without any time based expiry, so that the names computed while
+ * processing the models are still cached when the apis and supporting files are processed. Concurrent runs (e.g. in
+ * the online service or a batch generation) each use their own instance. Outside a generator run, the names are
+ * cached by a small shared instance whose entries expire, see {@link StringUtils#NAME_CACHE_SIZE_PROPERTY} and
+ * {@link StringUtils#NAME_CACHE_EXPIRY_PROPERTY}.
+ */
+public final class NameCache {
+    /**
+     * Set the maximum size (entry count) of each of the name caches of a generator run.
+     */
+    public static final String MAX_SIZE_PROPERTY = "org.openapitools.codegen.utils.namecache.maxsize";
+
+    // the minimum size of the caches of a generator run, small specs still compute names for the supporting files
+    private static final long MINIMUM_SIZE = 1000L;
+    // the cached entries per schema, property, operation or parameter: names are computed with several options
+    // (e.g. camelized with and without a lowercase first letter) and for several purposes (e.g. model and file names)
+    private static final long ENTRIES_PER_NAME = 8L;
+
+    private static final ThreadLocal<NameCache> CURRENT = new ThreadLocal<>();
+
+    private static final NameCache SHARED = new NameCache(
+            Long.parseLong(GlobalSettings.getProperty(StringUtils.NAME_CACHE_SIZE_PROPERTY, "200")),
+            Long.parseLong(GlobalSettings.getProperty(StringUtils.NAME_CACHE_EXPIRY_PROPERTY, "5")));
+
+    /**
+     * The kinds of computed names.
+     */
+    public enum Kind {
+        CAMELIZE, UNDERSCORE, ESCAPE, SANITIZE
+    }
+
+    private final long maximumSize;
+    private final Map<Kind, Cache<Object, String>> caches = new EnumMap<>(Kind.class);
+
+    /**
+     * Constructs a new instance of {@link NameCache}, whose entries don't expire.
+     *
+     * @param maximumSize The maximum number of entries of each of the caches
+     */
+    public NameCache(long maximumSize) {
+        this(maximumSize, 0L);
+    }
+
+    private NameCache(long maximumSize, long expiryInSeconds) {
+        this.maximumSize = maximumSize;
+        for (Kind kind : Kind.values()) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .recordStats();
+            if (expiryInSeconds > 0) {
+                builder.expireAfterAccess(expiryInSeconds, TimeUnit.SECONDS).ticker(Ticker.systemTicker());
+            }
+            caches.put(kind, builder.build());
+        }
+    }
+
+    /**
+     * Creates the name caches of a generator run, sized after the number of schemas, properties, operations and
+     * parameters of the specification.
+     *
+     * @param openAPI The specification to generate
+     * @return The name caches
+     */
+    public static NameCache forSpec(OpenAPI openAPI) {
+        long maximumSize = Long.parseLong(GlobalSettings.getProperty(MAX_SIZE_PROPERTY, "1000000"));
+        long size = Math.max(MINIMUM_SIZE, ENTRIES_PER_NAME * countNames(openAPI));
+        return new NameCache(Math.min(size, maximumSize));
+    }
+
+    /**
+     * @return The name caches of the generator run in progress on the current thread, or else the shared ones
+     */
+    public static NameCache current() {
+        NameCache current = CURRENT.get();
+        return current == null ? SHARED : current;
+    }
+
+    /**
+     * Makes these the current name caches of the calling thread, until the returned scope is closed.
+     *
+     * @return The scope, restoring the previous name caches of the calling thread once closed
+     */
+    public Scope activate() {
+        NameCache previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Looks up (computing it if required) a name.
+     *
+     * @param kind            The kind of the name
+     * @param key             The input of the computation
+     * @param mappingFunction Computes the name
+     * @param <K>             The type of the input
+     * @return The name
+     */
+    @SuppressWarnings("unchecked")
+    public <K> String get(Kind kind, K key, Function<K, String> mappingFunction) {
+        return caches.get(kind).get(key, k -> mappingFunction.apply((K) k));
+    }
+
+    /**
+     * @return The maximum number of entries of each of the caches
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return The hit and miss statistics of each of the caches, kept when the caches are cleared
+     */
+    public Map<Kind, CacheStats> getStats() {
+        Map<Kind, CacheStats> stats = new EnumMap<>(Kind.class);
+        caches.forEach((kind, cache) -> stats.put(kind, cache.stats()));
+        return stats;
+    }
+
+    /**
+     * Discards all cached names.
+     */
+    public void clear() {
+        caches.values().forEach(Cache::invalidateAll);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ");
+        getStats().forEach((kind, stats) -> joiner.add(String.format(Locale.ROOT, "%s %d/%d (%.1f%%)",
+                kind.name().toLowerCase(Locale.ROOT), stats.hitCount(), stats.requestCount(), stats.hitRate() * 100)));
+        return joiner.toString();
+    }
+
+    private static long countNames(OpenAPI openAPI) {
+        long count = 0;
+        for (Schema<?> schema : ModelUtils.getSchemas(openAPI).values()) {
+            count += 1 + countProperties(schema);
+            for (List<Schema> composed : Arrays.asList(schema.getAllOf(), schema.getAnyOf(), schema.getOneOf())) {
+                if (composed != null) {
+                    for (Schema<?> item : composed) {
+                        count += countProperties(item);
+                    }
+                }
+            }
+        }
+        if (openAPI.getPaths() != null) {
+            for (PathItem path : openAPI.getPaths().values()) {
+                if (path.getParameters() != null) {
+                    count += path.getParameters().size();
+                }
+                for (Operation operation : path.readOperations()) {
+                    count += 1 + (operation.getParameters() == null ? 0 : operation.getParameters().size());
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int countProperties(Schema<?> schema) {
+        return schema == null || schema.getProperties() == null ? 0 : schema.getProperties().size();
+    }
+
+    /**
+     * The activation of name caches on a thread.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deep copies the object graph of a specification, so that a parsed specification can be handed out several times
+ * while each generation updates its own copy (e.g. in the {@link org.openapitools.codegen.OpenAPINormalizer}).
+ * <p>
+ * The classes of the swagger models are kept, and objects shared in the original graph (e.g. the schemas shared by
+ * the resolution of the references) are shared in the copy too. A serialization round trip isn't used as it doesn't
+ * preserve the classes of the schemas, nor the flags set by the parser.
+ */
+public class OpenAPICopier {
+    private static final String SWAGGER_MODELS_PACKAGE = "io.swagger.v3.oas.models";
+    // the properties of the copied classes which can be read and written, in the alphabetical order so that the flags
+    // are copied after the values setting them (e.g. the exampleSetFlag of a schema after its example)
+    private static final Map<Class<?>, List<PropertyDescriptor>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private OpenAPICopier() {
+    }
+
+    /**
+     * Deep copies a specification.
+     *
+     * @param openAPI The specification
+     * @return The copy of the specification
+     */
+    public static OpenAPI copy(OpenAPI openAPI) {
+        return (OpenAPI) new OpenAPICopier().copyValue(openAPI);
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+        if (value instanceof JsonNode) {
+            copy = ((JsonNode) value).deepCopy();
+            copies.put(value, copy);
+        } else if (value instanceof Date) {
+            copy = ((Date) value).clone();
+            copies.put(value, copy);
+        } else if (value.getClass().getName().startsWith(SWAGGER_MODELS_PACKAGE)) {
+            copy = copyModel(value);
+        } else if (value instanceof Map) {
+            copy = copyMap((Map<?, ?>) value);
+        } else if (value instanceof Collection) {
+            copy = copyCollection((Collection<?>) value);
+        } else {
+            // other values (e.g. the examples deserialized as custom types) aren't updated by the generators, so are shared
+            copy = value;
+        }
+        return copy;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum || value instanceof UUID
+                || value instanceof java.net.URI || value instanceof java.time.temporal.TemporalAccessor
+                // the binary examples aren't updated by the generators, and are compared by identity by the schemas
+                || value instanceof byte[];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object copyModel(Object value) {
+        Object copy = newInstance(value.getClass());
+        copies.put(value, copy);
+        // some models are maps themselves (e.g. Paths or ApiResponses), their entries are copied first to keep their order
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                ((Map) copy).put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+            }
+        }
+        try {
+            for (PropertyDescriptor property : properties(value.getClass())) {
+                Object propertyValue = property.getReadMethod().invoke(value);
+                // the unset properties aren't written, some setters add entries (e.g. the default of the ApiResponses)
+                if (propertyValue != null || property.getReadMethod().invoke(copy) != null) {
+                    property.getWriteMethod().invoke(copy, copyValue(propertyValue));
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to copy a " + value.getClass().getName(), e);
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object copyMap(Map<?, ?> value) {
+        Map copy;
+        if (value instanceof TreeMap) {
+            copy = new TreeMap(((TreeMap) value).comparator());
+        } else if (value instanceof LinkedHashMap || !(value instanceof HashMap)) {
+            // the unmodifiable maps are copied as modifiable ones, keeping their order
+            copy = new LinkedHashMap();
+        } else {
+            copy = new HashMap();
+        }
+        copies.put(value, copy);
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            copy.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object copyCollection(Collection<?> value) {
+        Collection copy;
+        if (value instanceof TreeSet) {
+            copy = new TreeSet(((TreeSet) value).comparator());
+        } else if (value instanceof LinkedHashSet) {
+            copy = new LinkedHashSet();
+        } else if (value instanceof Set) {
+            copy = new HashSet();
+        } else {
+            copy = new ArrayList();
+        }
+        copies.put(value, copy);
+        for (Object element : value) {
+            copy.add(copyValue(element));
+        }
+        return copy;
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to copy a " + type.getName(), e);
+        }
+    }
+
+    private static List<PropertyDescriptor> properties(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, t -> {
+            List<PropertyDescriptor> properties = new ArrayList<>();
+            try {
+                // the properties of the JDK classes some models extend (e.g. LinkedHashMap) are copied through their interface
+                Class<?> stopClass = t.getSuperclass();
+                while (stopClass != null && !stopClass.getName().startsWith("java.")) {
+                    stopClass = stopClass.getSuperclass();
+                }
+                for (PropertyDescriptor property : Introspector.getBeanInfo(t, stopClass).getPropertyDescriptors()) {
+                    if (property.getReadMethod() != null && property.getWriteMethod() != null) {
+                        properties.add(property);
+                    }
+                }
+                // the required properties of a schema are filtered by its properties once they are set
+                properties.sort(Comparator.comparing(property -> !"required".equals(property.getName())));
+            } catch (IntrospectionException e) {
+                throw new IllegalArgumentException("Unable to copy a " + t.getName(), e);
+            }
+            return properties;
+        });
+    }
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.ExternalDocumentation;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.XML;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A 128-bit digest of the structure of a schema.
+ * <p>
+ * The digest is computed by walking the schema and hashing (MurmurHash3, x64 128-bit variant) the attributes which
+ * are part of its canonical JSON form, i.e. its OpenAPI 3.0 serialization, as the inline schemas with the same
+ * canonical form used to be recognized. Two schemas with the same canonical form have the same fingerprint (unless
+ * they hold values of different types serialized the same way); schemas with the same fingerprint are very likely,
+ * but not guaranteed, to have the same canonical form, see {@link #sameStructure(Schema, Schema)} to tell them apart.
+ */
+public final class SchemaFingerprint {
+    // the maximum depth of the walked schemas (far deeper than the actual schemas), to fail on the schemas referencing
+    // themselves as their serialization does, rather than overflowing the stack
+    private static final int MAX_DEPTH = 256;
+
+    // structure mapper sorts properties alphabetically on write to ensure schemas are
+    // serialized consistently
+    private static final ObjectWriter STRUCTURE_WRITER;
+
+    static {
+        ObjectMapper structureMapper = Json.mapper().copy();
+        structureMapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+        STRUCTURE_WRITER = structureMapper.writer();
+    }
+
+    private final long high;
+    private final long low;
+
+    private SchemaFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Computes the fingerprint of a schema.
+     *
+     * @param schema The schema
+     * @return The fingerprint of the canonical form of the schema
+     * @throws IOException If the schema is nested too deeply, e.g. references itself
+     */
+    public static SchemaFingerprint of(Schema schema) throws IOException {
+        Hasher hasher = new Hasher();
+        hasher.schema(schema, 0);
+        return hasher.fingerprint();
+    }
+
+    /**
+     * Tells whether two schemas have the same canonical form, e.g. after finding that they have the same fingerprint.
+     *
+     * @param schema The first schema
+     * @param other  The second schema
+     * @return true if the canonical forms of the schemas are identical
+     * @throws IOException If one of the schemas can't be serialized
+     */
+    public static boolean sameStructure(Schema schema, Schema other) throws IOException {
+        return schema == other
+                || Arrays.equals(STRUCTURE_WRITER.writeValueAsBytes(schema), STRUCTURE_WRITER.writeValueAsBytes(other));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SchemaFingerprint that = (SchemaFingerprint) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%016x%016x", high, low);
+    }
+
+    /**
+     * Hashes the attributes of a schema, each one tagged, as a sequence of 64-bit words.
+     */
+    private static final class Hasher {
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        // the tags of the values
+        private static final int NULL = 1;
+        private static final int STRING = 2;
+        private static final int NUMBER = 3;
+        private static final int BOOLEAN = 4;
+        private static final int SCHEMA = 5;
+        private static final int MAP = 6;
+        private static final int LIST = 7;
+        private static final int BYTES = 8;
+        private static final int JSON = 9;
+        private static final int OTHER = 10;
+        private static final int END = 11;
+        // the tags of the attributes, after those of the values
+        private static final int TITLE = 16;
+        private static final int MULTIPLE_OF = 17;
+        private static final int MAXIMUM = 18;
+        private static final int EXCLUSIVE_MAXIMUM = 19;
+        private static final int MINIMUM = 20;
+        private static final int EXCLUSIVE_MINIMUM = 21;
+        private static final int MAX_LENGTH = 22;
+        private static final int MIN_LENGTH = 23;
+        private static final int PATTERN = 24;
+        private static final int MAX_ITEMS = 25;
+        private static final int MIN_ITEMS = 26;
+        private static final int UNIQUE_ITEMS = 27;
+        private static final int MAX_PROPERTIES = 28;
+        private static final int MIN_PROPERTIES = 29;
+        private static final int REQUIRED = 30;
+        private static final int TYPE = 31;
+        private static final int NOT = 32;
+        private static final int PROPERTIES = 33;
+        private static final int ADDITIONAL_PROPERTIES = 34;
+        private static final int DESCRIPTION = 35;
+        private static final int FORMAT = 36;
+        private static final int REF = 37;
+        private static final int NULLABLE = 38;
+        private static final int READ_ONLY = 39;
+        private static final int WRITE_ONLY = 40;
+        private static final int EXAMPLE = 41;
+        private static final int EXTERNAL_DOCS = 42;
+        private static final int DEPRECATED = 43;
+        private static final int XML = 44;
+        private static final int EXTENSIONS = 45;
+        private static final int ENUM = 46;
+        private static final int DISCRIMINATOR = 47;
+        private static final int ALL_OF = 48;
+        private static final int ANY_OF = 49;
+        private static final int ONE_OF = 50;
+        private static final int ITEMS = 51;
+        private static final int DEFAULT = 52;
+        private static final int VOCABULARY = 53;
+        private static final int DYNAMIC_ANCHOR = 54;
+
+        private long h1;
+        private long h2;
+        private long pending;
+        private boolean hasPending;
+        private long length;
+
+        void schema(Schema<?> schema, int depth) throws IOException {
+            if (depth > MAX_DEPTH) {
+                throw new IOException("Schema nested more than " + MAX_DEPTH + " levels deep");
+            }
+            int next = depth + 1;
+            put(SCHEMA);
+            if (!StringUtils.isBlank(schema.get$ref())) {
+                // the other attributes of a reference aren't serialized
+                attribute(REF, schema.get$ref());
+                put(END);
+                return;
+            }
+            attribute(TITLE, schema.getTitle());
+            attribute(MULTIPLE_OF, schema.getMultipleOf(), next);
+            attribute(MAXIMUM, schema.getMaximum(), next);
+            attribute(EXCLUSIVE_MAXIMUM, schema.getExclusiveMaximum(), next);
+            attribute(MINIMUM, schema.getMinimum(), next);
+            attribute(EXCLUSIVE_MINIMUM, schema.getExclusiveMinimum(), next);
+            attribute(MAX_LENGTH, schema.getMaxLength(), next);
+            attribute(MIN_LENGTH, schema.getMinLength(), next);
+            attribute(PATTERN, schema.getPattern());
+            attribute(MAX_ITEMS, schema.getMaxItems(), next);
+            attribute(MIN_ITEMS, schema.getMinItems(), next);
+            attribute(UNIQUE_ITEMS, schema.getUniqueItems(), next);
+            attribute(MAX_PROPERTIES, schema.getMaxProperties(), next);
+            attribute(MIN_PROPERTIES, schema.getMinProperties(), next);
+            attribute(REQUIRED, schema.getRequired(), next);
+            attribute(TYPE, schema.getType());
+            attribute(NOT, schema.getNot(), next);
+            attribute(PROPERTIES, schema.getProperties(), next);
+            attribute(ADDITIONAL_PROPERTIES, schema.getAdditionalProperties(), next);
+            attribute(DESCRIPTION, schema.getDescription());
+            attribute(FORMAT, schema.getFormat());
+            attribute(REF, schema.get$ref());
+            attribute(NULLABLE, schema.getNullable(), next);
+            attribute(READ_ONLY, schema.getReadOnly(), next);
+            attribute(WRITE_ONLY, schema.getWriteOnly(), next);
+            if (schema.getExample() != null || schema.getExampleSetFlag()) {
+                // an example explicitly set to null is serialized
+                attribute(EXAMPLE, schema.getExample(), next);
+            }
+            ExternalDocumentation externalDocs = schema.getExternalDocs();
+            if (externalDocs != null) {
+                put(EXTERNAL_DOCS);
+                string(externalDocs.getDescription());
+                string(externalDocs.getUrl());
+                extensions(externalDocs.getExtensions(), next);
+            }
+            attribute(DEPRECATED, schema.getDeprecated(), next);
+            XML xml = schema.getXml();
+            if (xml != null) {
+                put(XML);
+                string(xml.getName());
+                string(xml.getNamespace());
+                string(xml.getPrefix());
+                value(xml.getAttribute(), next);
+                value(xml.getWrapped(), next);
+                extensions(xml.getExtensions(), next);
+            }
+            extensions(schema.getExtensions(), next);
+            attribute(ENUM, schema.getEnum(), next);
+            Discriminator discriminator = schema.getDiscriminator();
+            if (discriminator != null) {
+                put(DISCRIMINATOR);
+                string(discriminator.getPropertyName());
+                value(discriminator.getMapping(), next);
+                extensions(discriminator.getExtensions(), next);
+            }
+            attribute(ALL_OF, schema.getAllOf(), next);
+            attribute(ANY_OF, schema.getAnyOf(), next);
+            attribute(ONE_OF, schema.getOneOf(), next);
+            attribute(ITEMS, schema.getItems(), next);
+            attribute(DEFAULT, schema.getDefault(), next);
+            attribute(VOCABULARY, schema.get$vocabulary());
+            attribute(DYNAMIC_ANCHOR, schema.get$dynamicAnchor());
+            put(END);
+        }
+
+        private void attribute(int tag, String value) {
+            if (value != null) {
+                put(tag);
+                string(value);
+            }
+        }
+
+        private void attribute(int tag, Object value, int depth) throws IOException {
+            if (value != null || tag == EXAMPLE) {
+                put(tag);
+                value(value, depth);
+            }
+        }
+
+        // the extensions are serialized as the other attributes, none when empty
+        private void extensions(Map<String, Object> extensions, int depth) throws IOException {
+            if (extensions != null && !extensions.isEmpty()) {
+                attribute(EXTENSIONS, extensions, depth);
+            }
+        }
+
+        private void value(Object value, int depth) throws IOException {
+            if (value == null) {
+                put(NULL);
+            } else if (value instanceof String) {
+                string((String) value);
+            } else if (value instanceof BigDecimal) {
+                // as the structure mapper writes them
+                put(NUMBER);
+                chars(((BigDecimal) value).toPlainString());
+            } else if (value instanceof Number) {
+                put(NUMBER);
+                chars(value.toString());
+            } else if (value instanceof Boolean) {
+                put(BOOLEAN);
+                put((Boolean) value ? 1 : 0);
+            } else if (value instanceof Schema) {
+                schema((Schema<?>) value, depth);
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                put(MAP);
+                put(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    chars(String.valueOf(entry.getKey()));
+                    value(entry.getValue(), depth);
+                }
+            } else if (value instanceof Collection) {
+                Collection<?> collection = (Collection<?>) value;
+                put(LIST);
+                put(collection.size());
+                if (collection instanceof List) {
+                    List<?> list = (List<?>) collection;
+                    for (int i = 0; i < list.size(); i++) {
+                        value(list.get(i), depth);
+                    }
+                } else {
+                    for (Object item : collection) {
+                        value(item, depth);
+                    }
+                }
+            } else if (value instanceof byte[]) {
+                byte[] bytes = (byte[]) value;
+                put(BYTES);
+                put(bytes.length);
+                for (byte b : bytes) {
+                    put(b);
+                }
+            } else if (value instanceof JsonNode) {
+                node((JsonNode) value, depth);
+            } else {
+                put(OTHER);
+                chars(value.getClass().getName());
+                chars(value.toString());
+            }
+        }
+
+        // the parsed values (e.g. the examples) as the equivalent values
+        private void node(JsonNode node, int depth) throws IOException {
+            if (node.isNull() || node.isMissingNode()) {
+                put(NULL);
+            } else if (node.isTextual()) {
+                string(node.textValue());
+            } else if (node.isBigDecimal()) {
+                value(node.decimalValue(), depth);
+            } else if (node.isNumber()) {
+                put(NUMBER);
+                chars(node.asText());
+            } else if (node.isBoolean()) {
+                put(BOOLEAN);
+                put(node.booleanValue() ? 1 : 0);
+            } else if (node.isObject()) {
+                put(MAP);
+                put(node.size());
+                for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    chars(field.getKey());
+                    node(field.getValue(), depth);
+                }
+            } else if (node.isArray()) {
+                put(LIST);
+                put(node.size());
+                for (JsonNode item : node) {
+                    node(item, depth);
+                }
+            } else {
+                put(JSON);
+                chars(node.toString());
+            }
+        }
+
+        private void string(String value) {
+            if (value == null) {
+                put(NULL);
+            } else {
+                put(STRING);
+                chars(value);
+            }
+        }
+
+        // the length, then the characters by four
+        private void chars(String value) {
+            int length = value.length();
+            put(length);
+            int i = 0;
+            for (; i + 4 <= length; i += 4) {
+                put(value.charAt(i)
+                        | (long) value.charAt(i + 1) << 16
+                        | (long) value.charAt(i + 2) << 32
+                        | (long) value.charAt(i + 3) << 48);
+            }
+            if (i < length) {
+                long word = 0;
+                for (int shift = 0; i < length; i++, shift += 16) {
+                    word |= (long) value.charAt(i) << shift;
+                }
+                put(word);
+            }
+        }
+
+        // the words are mixed by pairs, as the blocks of 16 bytes of MurmurHash3
+        private void put(long word) {
+            length += 8;
+            if (!hasPending) {
+                pending = word;
+                hasPending = true;
+                return;
+            }
+            hasPending = false;
+
+            h1 ^= mixK1(pending);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(word);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        SchemaFingerprint fingerprint() {
+            if (hasPending) {
+                h1 ^= mixK1(pending);
+            }
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix(h1);
+            h2 = fmix(h2);
+            h1 += h2;
+            h2 += h1;
+            return new SchemaFingerprint(h1, h2);
+        }
+
+        private static long mixK1(long k1) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            return k1 * C2;
+        }
+
+        private static long mixK2(long k2) {
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            return k2 * C1;
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.*;
+
+/**
+ * An index of the references to the schemas of the 'components/schemas' section of an OpenAPI specification.
+ * <p>
+ * The paths of the specification are traversed once, on construction; the references between the component schemas
+ * and the children of the composed schemas are computed on first use. All queries are then answered from hash based
+ * lookups, rather than from scans of the specification. The index is a snapshot: it doesn't reflect changes made to
+ * the specification after its construction. The index of a specification is shared by the queries of
+ * {@link ModelUtils} (see {@link ModelUtils#getSchemaReferenceIndex(OpenAPI)}), possibly from several threads.
+ */
+public class SchemaReferenceIndex {
+    private static final Set<String> FORM_MEDIA_TYPES = Set.of("application/x-www-form-urlencoded", "multipart/form-data");
+
+    private final OpenAPI openAPI;
+
+    // the schemas referenced from the paths (directly or through other schemas), in the order of the traversal
+    private final Map<String, Set<String>> mediaTypesByRef = new LinkedHashMap<>();
+    // every reference found in a form, including duplicates, as reported by getSchemasUsedOnlyInFormParam
+    private final List<String> formRefs = new ArrayList<>();
+    private final Set<String> nonFormRefs = new HashSet<>();
+
+    private Map<String, List<String>> childrenMap;
+    private NullPointerException childrenMapFailure;
+    private Map<String, Set<String>> referencedSchemas;
+    private Map<String, Set<String>> referrers;
+
+    /**
+     * Constructs a new instance of {@link SchemaReferenceIndex}, traversing all paths of the specification.
+     *
+     * @param openAPI specification
+     */
+    public SchemaReferenceIndex(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+        ModelUtils.visitOpenAPI(openAPI, (s, t) -> {
+            if (s != null && s.get$ref() != null) {
+                String ref = ModelUtils.getSimpleRef(s.get$ref());
+                mediaTypesByRef.computeIfAbsent(ref, k -> new LinkedHashSet<>()).add(t);
+                if (t != null && FORM_MEDIA_TYPES.contains(t.toLowerCase(Locale.ROOT))) {
+                    formRefs.add(ref);
+                } else {
+                    nonFormRefs.add(ref);
+                }
+            }
+        });
+    }
+
+    /**
+     * Return the list of all schemas in the 'components/schemas' section used in the openAPI specification, each
+     * referenced schema being followed by its children.
+     *
+     * @return schemas a list of used schemas
+     * @see ModelUtils#getAllUsedSchemas(OpenAPI)
+     */
+    public List<String> getAllUsedSchemas() {
+        Map<String, List<String>> children = getChildrenMap();
+        if (childrenMapFailure != null) {
+            // reported to the callers of getAllUsedSchemas, unlike those of getUnusedSchemas
+            throw childrenMapFailure;
+        }
+        Set<String> allUsedSchemas = new LinkedHashSet<>();
+        for (String ref : mediaTypesByRef.keySet()) {
+            allUsedSchemas.add(ref);
+            allUsedSchemas.addAll(children.getOrDefault(ref, Collections.emptyList()));
+        }
+        return new ArrayList<>(allUsedSchemas);
+    }
+
+    /**
+     * Return the list of unused schemas in the 'components/schemas' section, in the order of their declaration.
+     *
+     * @return schemas a list of unused schemas
+     * @see ModelUtils#getUnusedSchemas(OpenAPI)
+     */
+    public List<String> getUnusedSchemas() {
+        Map<String, List<String>> children = getChildrenMap();
+        Set<String> usedSchemas = new HashSet<>();
+        for (String ref : mediaTypesByRef.keySet()) {
+            usedSchemas.add(ref);
+            usedSchemas.addAll(children.getOrDefault(ref, Collections.emptyList()));
+        }
+
+        List<String> unusedSchemas = new ArrayList<>();
+        for (String name : ModelUtils.getSchemas(openAPI).keySet()) {
+            if (!usedSchemas.contains(name)) {
+                unusedSchemas.add(name);
+            }
+        }
+        return unusedSchemas;
+    }
+
+    /**
+     * Return the list of schemas in the 'components/schemas' used only in a 'application/x-www-form-urlencoded' or
+     * 'multipart/form-data' mime type.
+     *
+     * @return schemas a list of schemas
+     * @see ModelUtils#getSchemasUsedOnlyInFormParam(OpenAPI)
+     */
+    public List<String> getSchemasUsedOnlyInFormParam() {
+        List<String> schemas = new ArrayList<>();
+        for (String ref : formRefs) {
+            if (!nonFormRefs.contains(ref)) {
+                schemas.add(ref);
+            }
+        }
+        return schemas;
+    }
+
+    /**
+     * @param name name of the schema
+     * @return whether the schema is referenced from the paths of the specification, directly or through other schemas
+     */
+    public boolean isUsed(String name) {
+        return mediaTypesByRef.containsKey(name);
+    }
+
+    /**
+     * @param name name of the schema
+     * @return the media types in which the schema is used, null standing for the usages outside of a content (e.g. a
+     * query parameter)
+     */
+    public Set<String> getMediaTypes(String name) {
+        return Collections.unmodifiableSet(mediaTypesByRef.getOrDefault(name, Collections.emptySet()));
+    }
+
+    /**
+     * Return the children of the composed schemas, see {@link ModelUtils#getChildrenMap(OpenAPI)}. The map is empty
+     * when the children can't be determined.
+     *
+     * @return a map of the parent schema names to the names of their children
+     */
+    public synchronized Map<String, List<String>> getChildrenMap() {
+        if (childrenMap == null && childrenMapFailure == null) {
+            try {
+                childrenMap = ModelUtils.getChildrenMap(openAPI);
+            } catch (NullPointerException npe) {
+                // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced
+                // schemas, getParentName raises an NPE.
+                childrenMapFailure = npe;
+            }
+        }
+        return childrenMap == null ? Collections.emptyMap() : Collections.unmodifiableMap(childrenMap);
+    }
+
+    /**
+     * @param name name of the schema in the 'components/schemas' section
+     * @return the names of the component schemas the schema refers to, directly or through its inline schemas
+     */
+    public Set<String> getReferencedSchemas(String name) {
+        buildComponentGraph();
+        return Collections.unmodifiableSet(referencedSchemas.getOrDefault(name, Collections.emptySet()));
+    }
+
+    /**
+     * @param name name of the schema in the 'components/schemas' section
+     * @return the names of the component schemas referring to the schema, directly or through their inline schemas
+     */
+    public Set<String> getReferrers(String name) {
+        buildComponentGraph();
+        return Collections.unmodifiableSet(referrers.getOrDefault(name, Collections.emptySet()));
+    }
+
+    private synchronized void buildComponentGraph() {
+        if (referencedSchemas != null) {
+            return;
+        }
+        Map<String, Set<String>> referenced = new LinkedHashMap<>();
+        Map<String, Set<String>> referring = new HashMap<>();
+        for (Map.Entry<String, Schema> entry : ModelUtils.getSchemas(openAPI).entrySet()) {
+            Set<String> refs = new LinkedHashSet<>();
+            collectRefs(entry.getValue(), refs, Collections.newSetFromMap(new IdentityHashMap<>()));
+            referenced.put(entry.getKey(), refs);
+            for (String ref : refs) {
+                referring.computeIfAbsent(ref, k -> new LinkedHashSet<>()).add(entry.getKey());
+            }
+        }
+        referrers = referring;
+        referencedSchemas = referenced;
+    }
+
+    // collects the references of a schema and of its inline schemas, without following the references
+    private static void collectRefs(Schema<?> schema, Set<String> refs, Set<Schema<?>> visited) {
+        if (schema == null || !visited.add(schema)) {
+            return;
+        }
+        if (schema.get$ref() != null) {
+            refs.add(ModelUtils.getSimpleRef(schema.get$ref()));
+            return;
+        }
+        if (schema.getProperties() != null) {
+            for (Schema<?> property : schema.getProperties().values()) {
+                collectRefs(property, refs, visited);
+            }
+        }
+        collectRefs(schema.getItems(), refs, visited);
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            collectRefs((Schema<?>) schema.getAdditionalProperties(), refs, visited);
+        }
+        collectRefs(schema.getNot(), refs, visited);
+        for (List<Schema> composed : Arrays.asList(schema.getAllOf(), schema.getAnyOf(), schema.getOneOf())) {
+            if (composed != null) {
+                for (Schema<?> item : composed) {
+                    collectRefs(item, refs, visited);
+                }
+            }
+        }
+    }
+}
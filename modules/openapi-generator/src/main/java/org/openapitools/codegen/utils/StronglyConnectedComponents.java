@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import java.util.*;
+
+/**
+ * The strongly connected components of a directed graph, e.g. the models of a specification and the models their
+ * properties refer to. Two vertices are in the same component if, and only if, each can be reached from the other:
+ * an edge is part of a cycle if, and only if, both its ends are in the same component.
+ * <p>
+ * The components are computed in a single traversal of the graph (Tarjan's algorithm), iteratively so that long chains
+ * of references don't overflow the stack.
+ */
+public final class StronglyConnectedComponents {
+    private final Map<String, Vertex> vertices = new HashMap<>();
+    private int componentCount;
+
+    /**
+     * Computes the strongly connected components of a graph.
+     *
+     * @param graph The successors of each vertex. Successors which aren't keys of the map are vertices without any
+     *              successor.
+     */
+    public StronglyConnectedComponents(Map<String, ? extends Collection<String>> graph) {
+        Deque<Vertex> stack = new ArrayDeque<>();
+        Deque<Frame> frames = new ArrayDeque<>();
+        int counter = 0;
+        for (String start : graph.keySet()) {
+            if (vertices.containsKey(start)) {
+                continue;
+            }
+            Vertex root = new Vertex(counter++);
+            vertices.put(start, root);
+            stack.push(root);
+            frames.push(new Frame(root, successors(graph, start)));
+            while (!frames.isEmpty()) {
+                Frame frame = frames.peek();
+                if (frame.successors.hasNext()) {
+                    String next = frame.successors.next();
+                    Vertex successor = vertices.get(next);
+                    if (successor == null) {
+                        successor = new Vertex(counter++);
+                        vertices.put(next, successor);
+                        stack.push(successor);
+                        frames.push(new Frame(successor, successors(graph, next)));
+                    } else if (successor.onStack) {
+                        frame.vertex.lowLink = Math.min(frame.vertex.lowLink, successor.index);
+                    }
+                    continue;
+                }
+                frames.pop();
+                Vertex vertex = frame.vertex;
+                if (vertex.lowLink == vertex.index) {
+                    // the vertex is the root of a component, made of the vertices above it on the stack
+                    Vertex member;
+                    do {
+                        member = stack.pop();
+                        member.onStack = false;
+                        member.component = componentCount;
+                    } while (member != vertex);
+                    componentCount++;
+                }
+                if (!frames.isEmpty()) {
+                    Vertex parent = frames.peek().vertex;
+                    parent.lowLink = Math.min(parent.lowLink, vertex.lowLink);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param from A vertex
+     * @param to   Another (or the same) vertex
+     * @return Whether both vertices are in the same component, i.e. whether each can be reached from the other. A
+     * vertex is always in its own component, even if it isn't part of the graph.
+     */
+    public boolean isSameComponent(String from, String to) {
+        if (Objects.equals(from, to)) {
+            return true;
+        }
+        Vertex fromVertex = vertices.get(from);
+        Vertex toVertex = vertices.get(to);
+        return fromVertex != null && toVertex != null && fromVertex.component == toVertex.component;
+    }
+
+    /**
+     * @return The number of components, counting the vertices which aren't part of any cycle as components of their own
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    private static Iterator<String> successors(Map<String, ? extends Collection<String>> graph, String vertex) {
+        Collection<String> successors = graph.get(vertex);
+        return successors == null ? Collections.emptyIterator() : successors.iterator();
+    }
+
+    private static final class Vertex {
+        private final int index;
+        private int lowLink;
+        private boolean onStack = true;
+        private int component = -1;
+
+        private Vertex(int index) {
+            this.index = index;
+            this.lowLink = index;
+        }
+    }
+
+    private static final class Frame {
+        private final Vertex vertex;
+        private final Iterator<String> successors;
+
+        private Frame(Vertex vertex, Iterator<String> successors) {
+            this.vertex = vertex;
+            this.successors = successors;
+        }
+    }
+}
@@ -3,20 +3,24 @@ package org.openapitools.codegen.validations.oas;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Paths;
-import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
-import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.SemVer;
 import org.openapitools.codegen.validation.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A validator which evaluates an OpenAPI 3.x specification document
  */
 public class OpenApiEvaluator implements Validator<OpenAPI> {
     private RuleConfiguration ruleConfiguration;
+    private int workers = 1;
+    private boolean failFast;
+    private RuleTimings ruleTimings = new RuleTimings();
 
     /**
      * Constructs a new instance of {@link OpenApiEvaluator} with applied rules.
@@ -27,6 +31,35 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
         this.ruleConfiguration = ruleConfiguration;
     }
 
+    /**
+     * Sets the number of threads evaluating the rules. The schemas, operations, security schemes and parameters are
+     * each split into as many shards, the results of the shards being merged in the order of the document whatever
+     * the number of workers.
+     *
+     * @param workers the number of workers, 1 to evaluate all the rules on the calling thread
+     */
+    public void setWorkers(int workers) {
+        this.workers = Math.max(1, workers);
+    }
+
+    /**
+     * Sets whether to stop the evaluation at the first rule failing with the level of {@link Severity#ERROR}. The
+     * result then holds the validations of the objects up to this one in the order of the document, as evaluated
+     * serially.
+     *
+     * @param failFast {@code true} to stop at the first error
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+
+    /**
+     * @return The time spent in each rule by the last validation
+     */
+    public RuleTimings getRuleTimings() {
+        return ruleTimings;
+    }
+
     /**
      * Validates input, resulting in a instance of {@link ValidationResult} which provides details on all validations performed (success, error, warning).
      *
@@ -36,6 +69,8 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
     @Override
     public ValidationResult validate(OpenAPI specification) {
         ValidationResult validationResult = new ValidationResult();
+        RuleTimings timings = new RuleTimings();
+        ruleTimings = timings;
         if (specification == null) return validationResult;
 
         OpenApiParameterValidations parameterValidations = new OpenApiParameterValidations(ruleConfiguration);
@@ -45,17 +80,22 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
 
         if (ruleConfiguration.isEnableUnusedSchemasRecommendation()) {
             ValidationRule unusedSchema = ValidationRule.create(Severity.WARNING, "Unused schema", "A schema was determined to be unused.", s -> ValidationRule.Pass.empty());
-            ModelUtils.getUnusedSchemas(specification).forEach(schemaName -> validationResult.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+            long start = System.nanoTime();
+            ValidationResult unusedSchemas = new ValidationResult();
+            ModelUtils.getUnusedSchemas(specification).forEach(schemaName -> unusedSchemas.addResult(Validated.invalid(unusedSchema, "Unused model: " + schemaName)));
+            validationResult.consume(unusedSchemas);
+            timings.record(unusedSchema, System.nanoTime() - start);
         }
 
         // Get list of all schemas under /components/schemas, including nested schemas defined inline and composed schema.
         // The validators must be able to validate every schema defined in the OAS document.
-        List<Schema> schemas = ModelUtils.getAllSchemas(specification);
-        schemas.forEach(schema -> {
-            SchemaWrapper wrapper = new SchemaWrapper(specification, schema);
-            validationResult.consume(schemaValidations.validate(wrapper));
-        });
+        List<SchemaWrapper> schemas = new ArrayList<>();
+        if (schemaValidations.size() > 0) {
+            SemVer version = parseVersion(specification);
+            ModelUtils.getAllSchemas(specification).forEach(schema -> schemas.add(new SchemaWrapper(specification, schema, version)));
+        }
 
+        List<OperationWrapper> operations = new ArrayList<>();
         List<Parameter> parameters = new ArrayList<>(50);
 
         Paths paths = specification.getPaths();
@@ -72,21 +112,17 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
                             parameters.addAll(op.getParameters());
                         }
 
-                        OperationWrapper wrapper = new OperationWrapper(specification, op, httpMethod);
-                        validationResult.consume(operationValidations.validate(wrapper));
+                        operations.add(new OperationWrapper(specification, op, httpMethod));
                     }
                 });
             });
         }
 
+        List<SecuritySchemeWrapper> securitySchemes = new ArrayList<>();
         Components components = specification.getComponents();
         if (components != null) {
-            Map<String, SecurityScheme> securitySchemes = components.getSecuritySchemes();
-            if (securitySchemes != null && !securitySchemes.isEmpty()) {
-                securitySchemes.values().forEach(securityScheme -> {
-                    SecuritySchemeWrapper wrapper = new SecuritySchemeWrapper(specification, securityScheme);
-                    validationResult.consume(securitySchemeValidations.validate(wrapper));
-                });
+            if (components.getSecuritySchemes() != null) {
+                components.getSecuritySchemes().values().forEach(securityScheme -> securitySchemes.add(new SecuritySchemeWrapper(specification, securityScheme)));
             }
 
             if (components.getParameters() != null) {
@@ -94,11 +130,18 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
             }
         }
 
-        parameters.forEach(parameter -> {
-            parameter = ModelUtils.getReferencedParameter(specification, parameter);
-            ParameterWrapper wrapper = new ParameterWrapper(specification, parameter);
-            validationResult.consume(parameterValidations.validate(wrapper));
-        });
+        List<ParameterWrapper> referencedParameters = new ArrayList<>(parameters.size());
+        parameters.forEach(parameter -> referencedParameters.add(new ParameterWrapper(specification, ModelUtils.getReferencedParameter(specification, parameter))));
+
+        List<Family<?>> families = Arrays.asList(
+                new Family<>(schemaValidations, schemas),
+                new Family<>(operationValidations, operations),
+                new Family<>(securitySchemeValidations, securitySchemes),
+                new Family<>(parameterValidations, referencedParameters));
+        if (evaluate(families, workers, failFast, timings, validationResult)) {
+            // stopped at the first error
+            return validationResult;
+        }
 
         List<Tag> tags = specification.getTags();
         if (tags != null && tags.size() > 1) {
@@ -123,4 +166,148 @@ public class OpenApiEvaluator implements Validator<OpenAPI> {
 
         return validationResult;
     }
+
+    private static SemVer parseVersion(OpenAPI specification) {
+        try {
+            return new SemVer(specification.getOpenapi());
+        } catch (RuntimeException e) {
+            // left to the rules reading it
+            return null;
+        }
+    }
+
+    /**
+     * Evaluates the rules of each family on its objects, on as many threads as workers.
+     * <p>
+     * The objects of each family are split into contiguous shards, one per worker, whose results are merged in the
+     * order of the families then of the objects. With fail fast, a shard stops at its first error as well as at any
+     * object following an error found by another shard: the objects before the first error in this order are then
+     * all evaluated, and the results are merged up to this error, as if the objects had been evaluated serially.
+     *
+     * @param families The families to evaluate, in order
+     * @param workers  The number of workers
+     * @param failFast Whether to stop at the first error
+     * @param timings  The timings of the rules
+     * @param result   The result to merge the validations into
+     * @return {@code true} if the evaluation stopped at an error
+     */
+    static boolean evaluate(List<Family<?>> families, int workers, boolean failFast, RuleTimings timings, ValidationResult result) {
+        // the index of the first object with an error, in the order of the families then of the objects
+        AtomicInteger firstError = new AtomicInteger(Integer.MAX_VALUE);
+        List<Shard<?>> shards = new ArrayList<>();
+        int offset = 0;
+        for (Family<?> family : families) {
+            int size = family.validations.size() > 0 ? family.inputs.size() : 0;
+            int shardSize = Math.max(1, (size + workers - 1) / workers);
+            for (int from = 0; from < size; from += shardSize) {
+                shards.add(new Shard<>(family, offset, from, Math.min(size, from + shardSize), failFast, timings, firstError));
+            }
+            offset += size;
+        }
+
+        workers = Math.min(workers, shards.size());
+        if (workers <= 1) {
+            for (Shard<?> shard : shards) {
+                result.consume(shard.call());
+                if (firstError.get() != Integer.MAX_VALUE) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-validate-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<ValidationResult>> futures = new ArrayList<>(shards.size());
+            for (Shard<?> shard : shards) {
+                futures.add(executor.submit(shard));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    result.consume(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    } else if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+                if (shards.get(i).contains(firstError.get())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while validating the specification", e);
+        } finally {
+            // no-op once all the shards completed, stops the remaining ones after a failure
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The objects evaluated by the same rules, e.g. the schemas.
+     */
+    static final class Family<TInput> {
+        private final OpenApiValidations<TInput> validations;
+        private final List<TInput> inputs;
+
+        Family(OpenApiValidations<TInput> validations, List<TInput> inputs) {
+            this.validations = validations;
+            this.inputs = inputs;
+        }
+    }
+
+    private static final class Shard<TInput> implements Callable<ValidationResult> {
+        private final Family<TInput> family;
+        private final int offset;
+        private final int from;
+        private final int to;
+        private final boolean failFast;
+        private final RuleTimings timings;
+        private final AtomicInteger firstError;
+
+        private Shard(Family<TInput> family, int offset, int from, int to, boolean failFast, RuleTimings timings, AtomicInteger firstError) {
+            this.family = family;
+            this.offset = offset;
+            this.from = from;
+            this.to = to;
+            this.failFast = failFast;
+            this.timings = timings;
+            this.firstError = firstError;
+        }
+
+        private boolean contains(int index) {
+            return index >= offset + from && index < offset + to;
+        }
+
+        @Override
+        public ValidationResult call() {
+            ValidationResult result = new ValidationResult();
+            long[] evaluations = new long[family.validations.size()];
+            long[] nanos = new long[family.validations.size()];
+            for (int i = from; i < to; i++) {
+                int index = offset + i;
+                if (failFast && index > firstError.get()) {
+                    break;
+                }
+                ValidationResult validated = family.validations.validate(family.inputs.get(i), evaluations, nanos, failFast);
+                result.consume(validated);
+                if (failFast && !validated.getErrors().isEmpty()) {
+                    firstError.accumulateAndGet(index, Math::min);
+                    break;
+                }
+            }
+            family.validations.recordTimings(timings, evaluations, nanos);
+            return result;
+        }
+    }
 }
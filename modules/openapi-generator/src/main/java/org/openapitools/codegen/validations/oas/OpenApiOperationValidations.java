@@ -3,18 +3,15 @@ package org.openapitools.codegen.validations.oas;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import org.apache.commons.lang3.StringUtils;
-import org.openapitools.codegen.validation.GenericValidator;
 import org.openapitools.codegen.validation.ValidationRule;
 
-import java.util.ArrayList;
 import java.util.Locale;
 
 /**
  * A standalone instance for evaluating rule and recommendations related to OAS {@link io.swagger.v3.oas.models.Operation}
  */
-class OpenApiOperationValidations extends GenericValidator<OperationWrapper> {
+class OpenApiOperationValidations extends OpenApiValidations<OperationWrapper> {
     OpenApiOperationValidations(RuleConfiguration ruleConfiguration) {
-        super(new ArrayList<>());
         if (ruleConfiguration.isEnableRecommendations()) {
             if (ruleConfiguration.isEnableApiRequestUriWithBodyRecommendation()) {
                 rules.add(ValidationRule.warn(
@@ -3,18 +3,15 @@ package org.openapitools.codegen.validations.oas;
 import io.swagger.v3.oas.models.parameters.HeaderParameter;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import org.apache.commons.lang3.StringUtils;
-import org.openapitools.codegen.validation.GenericValidator;
 import org.openapitools.codegen.validation.ValidationRule;
 
-import java.util.ArrayList;
 import java.util.Locale;
 
 /**
  * A standalone instance for evaluating rules and recommendations related to OAS {@link Parameter}
  */
-class OpenApiParameterValidations extends GenericValidator<ParameterWrapper> {
+class OpenApiParameterValidations extends OpenApiValidations<ParameterWrapper> {
     OpenApiParameterValidations(RuleConfiguration ruleConfiguration) {
-        super(new ArrayList<>());
         if (ruleConfiguration.isEnableRecommendations()) {
             if (ruleConfiguration.isEnableApacheNginxUnderscoreRecommendation()) {
                 rules.add(ValidationRule.warn(
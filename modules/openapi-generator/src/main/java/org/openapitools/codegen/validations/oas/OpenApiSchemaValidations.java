@@ -3,7 +3,6 @@ package org.openapitools.codegen.validations.oas;
 import io.swagger.v3.oas.models.media.Schema;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.SemVer;
-import org.openapitools.codegen.validation.GenericValidator;
 import org.openapitools.codegen.validation.ValidationRule;
 
 import java.util.*;
@@ -11,9 +10,11 @@ import java.util.*;
 /**
  * A standalone instance for evaluating rules and recommendations related to OAS {@link Schema}
  */
-class OpenApiSchemaValidations extends GenericValidator<SchemaWrapper> {
+class OpenApiSchemaValidations extends OpenApiValidations<SchemaWrapper> {
+    private static final SemVer OAS_3_0 = new SemVer("3.0");
+    private static final SemVer OAS_3_1 = new SemVer("3.1");
+
     OpenApiSchemaValidations(RuleConfiguration ruleConfiguration) {
-        super(new ArrayList<>());
         if (ruleConfiguration.isEnableRecommendations()) {
             if (ruleConfiguration.isEnableOneOfWithPropertiesRecommendation()) {
                 rules.add(ValidationRule.warn(
@@ -91,8 +92,8 @@ class OpenApiSchemaValidations extends GenericValidator<SchemaWrapper> {
         Schema schema = schemaWrapper.getSchema();
         ValidationRule.Result result = ValidationRule.Pass.empty();
         if (schemaWrapper.getOpenAPI() != null) {
-            SemVer version = new SemVer(schemaWrapper.getOpenAPI().getOpenapi());
-            if (version.atLeast("3.0") && version.compareTo(new SemVer("3.1")) < 0) {
+            SemVer version = schemaWrapper.getVersion();
+            if (version.compareTo(OAS_3_0) >= 0 && version.compareTo(OAS_3_1) < 0) {
                 // OAS spec is 3.0.x
                 if (ModelUtils.isNullType(schema)) {
                     result = new ValidationRule.Fail();
@@ -122,8 +123,8 @@ class OpenApiSchemaValidations extends GenericValidator<SchemaWrapper> {
         Schema schema = schemaWrapper.getSchema();
         ValidationRule.Result result = ValidationRule.Pass.empty();
         if (schemaWrapper.getOpenAPI() != null) {
-            SemVer version = new SemVer(schemaWrapper.getOpenAPI().getOpenapi());
-            if (version.atLeast("3.1")) {
+            SemVer version = schemaWrapper.getVersion();
+            if (version.compareTo(OAS_3_1) >= 0) {
                 if (ModelUtils.isNullable(schema)) {
                     result = new ValidationRule.Fail();
                     String name = schema.getName();
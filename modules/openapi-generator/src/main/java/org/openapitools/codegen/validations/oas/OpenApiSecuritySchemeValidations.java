@@ -2,18 +2,15 @@ package org.openapitools.codegen.validations.oas;
 
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.apache.commons.lang3.StringUtils;
-import org.openapitools.codegen.validation.GenericValidator;
 import org.openapitools.codegen.validation.ValidationRule;
 
-import java.util.ArrayList;
 import java.util.Locale;
 
 /**
  * A standalone instance for evaluating rules and recommendations related to OAS {@link SecurityScheme}
  */
-class OpenApiSecuritySchemeValidations extends GenericValidator<SecuritySchemeWrapper> {
+class OpenApiSecuritySchemeValidations extends OpenApiValidations<SecuritySchemeWrapper> {
     OpenApiSecuritySchemeValidations(RuleConfiguration ruleConfiguration) {
-        super(new ArrayList<>());
         if (ruleConfiguration.isEnableRecommendations()) {
             if (ruleConfiguration.isEnableApacheNginxUnderscoreRecommendation()) {
                 rules.add(ValidationRule.warn(
@@ -0,0 +1,72 @@
+package org.openapitools.codegen.validations.oas;
+
+import org.openapitools.codegen.validation.GenericValidator;
+import org.openapitools.codegen.validation.Severity;
+import org.openapitools.codegen.validation.ValidationResult;
+import org.openapitools.codegen.validation.ValidationRule;
+import org.openapitools.codegen.validation.Validated;
+
+import java.util.ArrayList;
+
+/**
+ * The rules evaluated by the {@link OpenApiEvaluator} on one kind of OAS object.
+ *
+ * @param <TInput> The wrapper of the OAS object
+ */
+abstract class OpenApiValidations<TInput> extends GenericValidator<TInput> {
+    OpenApiValidations() {
+        super(new ArrayList<>());
+    }
+
+    /**
+     * Validates input as {@link #validate(Object)} does, adding the time spent in each rule to the timings of the
+     * caller, in the order of the rules (see {@link #recordTimings(RuleTimings, long[], long[])}).
+     *
+     * @param input       The object instance to be validated.
+     * @param evaluations The number of evaluations of each rule.
+     * @param nanos       The time spent in each rule.
+     * @param failFast    Whether to stop at the first rule failing with the level of {@link Severity#ERROR}.
+     * @return A {@link ValidationResult} which details the success, error, and warning validation results.
+     */
+    ValidationResult validate(TInput input, long[] evaluations, long[] nanos, boolean failFast) {
+        ValidationResult result = new ValidationResult();
+        for (int i = 0; i < rules.size(); i++) {
+            ValidationRule rule = rules.get(i);
+            long start = System.nanoTime();
+            ValidationRule.Result attempt = rule.evaluate(input);
+            nanos[i] += System.nanoTime() - start;
+            evaluations[i]++;
+            if (attempt.passed()) {
+                result.addResult(Validated.valid(rule));
+            } else {
+                result.addResult(Validated.invalid(rule, rule.getFailureMessage(), attempt.getDetails()));
+                if (failFast && rule.getSeverity() == Severity.ERROR) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The number of rules.
+     */
+    int size() {
+        return rules.size();
+    }
+
+    /**
+     * Adds the time spent in each rule by a caller of {@link #validate(Object, long[], long[], boolean)}.
+     *
+     * @param timings     The timings of the rules.
+     * @param evaluations The number of evaluations of each rule.
+     * @param nanos       The time spent in each rule.
+     */
+    void recordTimings(RuleTimings timings, long[] evaluations, long[] nanos) {
+        for (int i = 0; i < rules.size(); i++) {
+            if (evaluations[i] > 0) {
+                timings.record(rules.get(i), evaluations[i], nanos[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.openapitools.codegen.validations.oas;
+
+import org.openapitools.codegen.validation.ValidationRule;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The time spent in each rule by an {@link OpenApiEvaluator}, summed over the objects it evaluated and the workers
+ * evaluating them. The rules are reported by description, a check made on several kinds of objects (e.g. the header
+ * names of the parameters and of the security schemes) being reported once.
+ */
+public class RuleTimings {
+    // by name, the same check being made by the rules of several kinds of objects
+    private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+
+    /**
+     * Records an evaluation of a rule.
+     *
+     * @param rule  The rule evaluated
+     * @param nanos The time spent evaluating it
+     */
+    void record(ValidationRule rule, long nanos) {
+        record(rule, 1, nanos);
+    }
+
+    /**
+     * Records the evaluations of a rule.
+     *
+     * @param rule        The rule evaluated
+     * @param evaluations The number of evaluations
+     * @param nanos       The time spent in these evaluations
+     */
+    void record(ValidationRule rule, long evaluations, long nanos) {
+        Timing timing = timings.computeIfAbsent(name(rule), Timing::new);
+        timing.evaluations.add(evaluations);
+        timing.nanos.add(nanos);
+    }
+
+    /**
+     * @return The timings of the rules evaluated, the most expensive first
+     */
+    public List<Timing> getTimings() {
+        List<Timing> sorted = new ArrayList<>(timings.values());
+        sorted.sort(Comparator.comparingLong(Timing::getNanos).reversed()
+                .thenComparing(Timing::getRule));
+        return sorted;
+    }
+
+    private static String name(ValidationRule rule) {
+        // the rules created by ValidationRule.error have no description
+        return String.valueOf(rule.getDescription() != null ? rule.getDescription() : rule.getFailureMessage());
+    }
+
+    /**
+     * The time spent in a rule.
+     */
+    public static final class Timing {
+        private final String rule;
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private Timing(String rule) {
+            this.rule = rule;
+        }
+
+        /**
+         * @return The description of the rule, or its failure message if it has none
+         */
+        public String getRule() {
+            return rule;
+        }
+
+        /**
+         * @return The number of objects the rule evaluated
+         */
+        public long getEvaluations() {
+            return evaluations.sum();
+        }
+
+        /**
+         * @return The time spent in the rule, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos.sum();
+        }
+    }
+}
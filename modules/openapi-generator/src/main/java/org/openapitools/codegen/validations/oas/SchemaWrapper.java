@@ -3,6 +3,7 @@ package org.openapitools.codegen.validations.oas;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 import lombok.Getter;
+import org.openapitools.codegen.utils.SemVer;
 
 /**
  * Encapsulates an OAS schema.
@@ -16,6 +17,7 @@ public class SchemaWrapper {
      * @return the OAS schema
      */
     @Getter private Schema schema;
+    private SemVer version;
 
     /**
      * Constructs a new instance of {@link SchemaWrapper}
@@ -28,6 +30,19 @@ public class SchemaWrapper {
         this.schema = schema;
     }
 
+    /**
+     * Constructs a new instance of {@link SchemaWrapper}
+     *
+     * @param specification The OAS specification
+     * @param schema        The OAS schema
+     * @param version       The version of the OAS specification, shared by the schemas of the specification, or
+     *                      {@code null} to parse it when read
+     */
+    SchemaWrapper(OpenAPI specification, Schema schema, SemVer version) {
+        this(specification, schema);
+        this.version = version;
+    }
+
     /**
      * Returns the OpenAPI specification.
      *
@@ -36,4 +51,16 @@ public class SchemaWrapper {
     public OpenAPI getOpenAPI() {
         return specification;
     }
+
+    /**
+     * Returns the version of the OpenAPI specification.
+     *
+     * @return The version of the OpenAPI specification.
+     */
+    SemVer getVersion() {
+        if (version == null) {
+            version = new SemVer(specification.getOpenapi());
+        }
+        return version;
+    }
 }
@@ -2439,6 +2439,47 @@ public class DefaultCodegenTest {
         assertEquals(codegen.toApiName(""), "DefaultApi");
     }
 
+    @Test
+    public void testSchemaCachesAreKeyedByIdentityAndReference() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        final DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+
+        final Schema inline = new ObjectSchema().addProperty("name", new StringSchema());
+        final CodegenProperty property = codegen.fromProperty("inline", inline);
+        assertSame(codegen.fromProperty("inline", inline), property);
+        // an equal, but distinct, schema isn't compared with the cached ones
+        assertNotSame(codegen.fromProperty("inline", new ObjectSchema().addProperty("name", new StringSchema())), property);
+        // references are compared by value
+        final CodegenProperty pet = codegen.fromProperty("pet", new Schema().$ref("#/components/schemas/Pet"));
+        assertSame(codegen.fromProperty("pet", new Schema().$ref("#/components/schemas/Pet")), pet);
+
+        // the schemas of another specification being updated in place
+        ModelUtils.schemasModified(TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml"));
+        assertSame(codegen.fromProperty("inline", inline), property);
+
+        // the schemas being updated in place, e.g. by the normalizer or the inline model resolver
+        ModelUtils.schemasModified(openAPI);
+        assertNotSame(codegen.fromProperty("inline", inline), property);
+
+        final Schema category = new Schema().$ref("#/components/schemas/Category");
+        assertSame(codegen.unaliasSchema(category), ModelUtils.unaliasSchema(openAPI, category));
+        assertSame(codegen.unaliasSchema(category), category);
+        assertSame(codegen.getReferencedSchema(category), openAPI.getComponents().getSchemas().get("Category"));
+        assertSame(codegen.getReferencedSchema(inline), inline);
+    }
+
+    @Test
+    public void testBooleanSchemas() {
+        assertTrue(DefaultCodegen.isBooleanSchemaTrue(new Schema()));
+        assertFalse(DefaultCodegen.isBooleanSchemaTrue(new Schema().description("not empty")));
+        assertFalse(DefaultCodegen.isBooleanSchemaTrue(new StringSchema()));
+        assertFalse(DefaultCodegen.isBooleanSchemaTrue(new Schema().not(new Schema())));
+        assertTrue(DefaultCodegen.isBooleanSchemaFalse(new Schema().not(new Schema())));
+        assertFalse(DefaultCodegen.isBooleanSchemaFalse(new Schema()));
+        assertFalse(DefaultCodegen.isBooleanSchemaFalse(new ObjectSchema().not(new Schema())));
+    }
+
     @Test
     public void testCircularReferencesDetection() {
         // given
@@ -2490,6 +2531,40 @@ public class DefaultCodegenTest {
         Assertions.assertFalse(roundCOut.isCircularReference);
     }
 
+    @Test
+    public void testCircularReferencesDetectionThroughContainersAndSelfReferences() {
+        DefaultCodegen codegen = new DefaultCodegen();
+        final CodegenProperty nodeChildren = new CodegenProperty();
+        nodeChildren.baseName = "children";
+        nodeChildren.dataType = "List<Node>";
+        nodeChildren.isContainer = true;
+        nodeChildren.items = new CodegenProperty();
+        nodeChildren.items.dataType = "Node";
+        final CodegenProperty nodeTree = new CodegenProperty();
+        nodeTree.baseName = "tree";
+        nodeTree.dataType = "Tree";
+        final CodegenProperty treeRoot = new CodegenProperty();
+        treeRoot.baseName = "root";
+        treeRoot.dataType = "Node";
+        final CodegenProperty treeName = new CodegenProperty();
+        treeName.baseName = "name";
+        treeName.dataType = "String";
+        final CodegenModel nodeModel = new CodegenModel();
+        nodeModel.setAllVars(Arrays.asList(nodeChildren, nodeTree));
+        final CodegenModel treeModel = new CodegenModel();
+        treeModel.setAllVars(Arrays.asList(treeRoot, treeName));
+        final Map<String, CodegenModel> models = new HashMap<>();
+        models.put("Node", nodeModel);
+        models.put("Tree", treeModel);
+
+        codegen.setCircularReferences(models);
+
+        Assertions.assertTrue(nodeChildren.isCircularReference);
+        Assertions.assertTrue(nodeTree.isCircularReference);
+        Assertions.assertTrue(treeRoot.isCircularReference);
+        Assertions.assertFalse(treeName.isCircularReference);
+    }
+
     @Test
     public void testUseOneOfInterfaces() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/composed-oneof.yaml");
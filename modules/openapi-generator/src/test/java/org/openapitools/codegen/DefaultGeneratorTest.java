@@ -1,5 +1,8 @@
 package org.openapitools.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -11,12 +14,19 @@ import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+import org.apache.commons.io.FileUtils;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.languages.RustServerCodegen;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.OperationsMap;
+import org.openapitools.codegen.templating.InMemoryOutputSink;
 import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.utils.NameCache;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 
 import java.io.File;
@@ -26,6 +36,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 public class DefaultGeneratorTest {
 
@@ -398,6 +410,72 @@ public class DefaultGeneratorTest {
         Assert.assertEquals(defaultList.get(3).allParams.size(), 1);
     }
 
+    @Test
+    public void testProcessPathsWithSeveralProcessWorkers() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Map<String, List<String>> sequential = processPetstorePaths(new ParallelOperationsCodegen(threads), 1);
+        Assert.assertEquals(threads, Set.of(Thread.currentThread()));
+
+        threads.clear();
+        ParallelOperationsCodegen config = new ParallelOperationsCodegen(threads);
+        Map<String, List<String>> parallel = processPetstorePaths(config, 4);
+        Assert.assertFalse(threads.contains(Thread.currentThread()));
+        // the body schemas are named on the calling thread once the operations are converted
+        Assert.assertFalse(config.schemasNamedByWorkers);
+
+        Assert.assertEquals(parallel, sequential);
+        Assert.assertTrue(parallel.get("Pet").get(0).startsWith("updatePet PUT /pet "));
+        Assert.assertTrue(parallel.get("Pet").get(1).startsWith("addPet POST /pet "));
+
+        // converted on the calling thread by the generators not supporting it
+        Assert.assertEquals(processPetstorePaths(new DefaultCodegen(), 4), sequential);
+    }
+
+    private static Map<String, List<String>> processPetstorePaths(DefaultCodegen config, int processWorkers) {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml");
+        ClientOptInput opts = new ClientOptInput();
+        opts.openAPI(openAPI);
+        config.setProcessWorkers(processWorkers);
+        opts.config(config);
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.opts(opts);
+        Map<String, List<String>> operations = new LinkedHashMap<>();
+        generator.processPaths(openAPI.getPaths()).forEach((tag, ops) -> operations.put(tag, ops.stream()
+                .map(op -> op.operationId + " " + op.httpMethod + " " + op.path + " " + op.examples + " " + op.requestBodyExamples)
+                .collect(Collectors.toList())));
+        // the schemas named by the conversions
+        operations.put("schemas", ModelUtils.getSchemas(openAPI).entrySet().stream()
+                .map(schema -> schema.getKey() + " " + schema.getValue().getName())
+                .collect(Collectors.toList()));
+        return operations;
+    }
+
+    private static class ParallelOperationsCodegen extends DefaultCodegen {
+        private final Set<Thread> threads;
+        private volatile boolean schemasNamedByWorkers;
+
+        private ParallelOperationsCodegen(Set<Thread> threads) {
+            this.threads = threads;
+        }
+
+        @Override
+        public boolean supportsParallelOperations() {
+            return true;
+        }
+
+        @Override
+        public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, List<Server> servers) {
+            threads.add(Thread.currentThread());
+            CodegenOperation codegenOperation = super.fromOperation(path, httpMethod, operation, servers);
+            if (Thread.currentThread().getName().startsWith("openapi-generator-process-")
+                    && ModelUtils.getSchemas(openAPI).values().stream().anyMatch(schema -> schema.getName() != null)) {
+                schemasNamedByWorkers = true;
+            }
+            return codegenOperation;
+        }
+    }
+
     @Test
     public void testRefModelValidationProperties() {
         OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/2_0/refAliasedPrimitiveWithValidation.yml");
@@ -970,4 +1048,298 @@ public class DefaultGeneratorTest {
         }
     }
 
+    // the output directories of the tests below, deleted after each test
+    private final List<Path> tempDirectories = new ArrayList<>();
+
+    @AfterMethod
+    public void deleteTempDirectories() throws IOException {
+        for (Path directory : tempDirectories) {
+            FileUtils.deleteDirectory(directory.toFile());
+        }
+        tempDirectories.clear();
+    }
+
+    private Path tempDirectory(String prefix) throws IOException {
+        Path directory = Files.createTempDirectory(prefix);
+        tempDirectories.add(directory);
+        return directory;
+    }
+
+    @Test
+    public void testParallelRenderingMatchesSequentialRendering() throws IOException {
+        Path sequential = tempDirectory("test-sequential");
+        Path parallel = tempDirectory("test-parallel");
+        List<File> sequentialFiles = generatePetstore(sequential, 1);
+        List<File> parallelFiles = generatePetstore(parallel, 4);
+
+        assertSameFiles(sequential, sequentialFiles, parallel, parallelFiles);
+    }
+
+    @Test
+    public void testParallelRenderingNamesTheFilesInDocumentOrder() throws IOException {
+        // the names only differing by case get suffixed file names, by the order the models and apis are named in
+        String spec = "src/test/resources/3_0/case-insensitive-names.yaml";
+        Path sequential = tempDirectory("test-sequential");
+        Path parallel = tempDirectory("test-parallel");
+        List<File> sequentialFiles = generatePetstore(sequential, spec, 1, 1);
+        List<File> parallelFiles = generatePetstore(parallel, spec, 4, 1);
+
+        assertSameFiles(sequential, sequentialFiles, parallel, parallelFiles);
+    }
+
+    @Test
+    public void testOutputSinkSkipsThePostProcessing() {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setEnablePostProcessFile(true)
+                .setOutputDir(new File("build", "post-processed").getAbsolutePath());
+        ClientOptInput input = configurator.toClientOptInput();
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        input.outputSink(sink);
+
+        new DefaultGenerator(false).opts(input).generate();
+
+        Assert.assertFalse(input.getConfig().isEnablePostProcessFile());
+        Assert.assertFalse(sink.getFiles().isEmpty());
+        Assert.assertFalse(new File("build", "post-processed").exists());
+    }
+
+    @Test
+    public void testInterruptedGenerationStopsBetweenPhases() {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setOutputDir(new File("build", "interrupted").getAbsolutePath());
+        ClientOptInput input = configurator.toClientOptInput();
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        input.outputSink(sink);
+
+        Thread.currentThread().interrupt();
+        try {
+            Assert.assertThrows(RuntimeException.class, () -> new DefaultGenerator(false).opts(input).generate());
+        } finally {
+            Thread.interrupted();
+        }
+        Assert.assertTrue(sink.getFiles().isEmpty());
+    }
+
+    @Test
+    public void testParallelModelProcessingMatchesSequentialProcessing() throws IOException {
+        Path sequential = tempDirectory("test-sequential");
+        Path parallel = tempDirectory("test-parallel");
+        String spec = "src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml";
+        List<File> sequentialFiles = generatePetstore(sequential, spec, 1, 1);
+        List<File> parallelFiles = generatePetstore(parallel, spec, 1, 4);
+
+        assertSameFiles(sequential, sequentialFiles, parallel, parallelFiles);
+    }
+
+    @Test
+    public void testParallelModelProcessingWithXmlNames() throws IOException {
+        String spec = "src/test/resources/3_0/rust-server/xml-names-v3.yaml";
+        Assert.assertFalse(new RustServerCodegen().supportsParallelModels());
+        Assert.assertTrue(new JavaClientCodegen().supportsParallelModels());
+        for (String generatorName : new String[]{"rust-server", "java"}) {
+            Path sequential = tempDirectory("test-sequential");
+            Path parallel = tempDirectory("test-parallel");
+            List<File> sequentialFiles = generateAliasesAsModels(sequential, generatorName, spec, 1);
+            List<File> parallelFiles = generateAliasesAsModels(parallel, generatorName, spec, 4);
+
+            assertSameFiles(sequential, sequentialFiles, parallel, parallelFiles);
+        }
+    }
+
+    private List<File> generateAliasesAsModels(Path target, String generatorName, String spec, int processWorkers) {
+        try {
+            // the wrapped arrays are generated as models
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName(generatorName)
+                    .setInputSpec(spec)
+                    .setGenerateAliasAsModel(true)
+                    .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true)
+                    .setProcessWorkers(processWorkers)
+                    .setOutputDir(target.toAbsolutePath().toString());
+
+            return new DefaultGenerator(false).opts(configurator.toClientOptInput()).generate();
+        } finally {
+            ModelUtils.setGenerateAliasAsModel(false);
+        }
+    }
+
+    private void assertSameFiles(Path expected, List<File> expectedFiles, Path actual, List<File> actualFiles) throws IOException {
+        Assert.assertEquals(relativize(actual, actualFiles), relativize(expected, expectedFiles));
+        for (File file : expectedFiles) {
+            if (file.isFile()) {
+                Path relative = expected.relativize(file.toPath());
+                Assert.assertEquals(Files.readAllBytes(actual.resolve(relative)), Files.readAllBytes(file.toPath()), relative.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testNameCachesAreScopedToTheRun() throws IOException {
+        Path target = tempDirectory("test-namecache");
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setRenderWorkers(2)
+                .setOutputDir(target.toAbsolutePath().toString());
+
+        DefaultGenerator generator = new DefaultGenerator(false);
+        Assert.assertTrue(generator.getNameCacheStats().isEmpty());
+        NameCache shared = NameCache.current();
+        generator.opts(configurator.toClientOptInput()).generate();
+
+        Assert.assertSame(NameCache.current(), shared);
+        CacheStats camelize = generator.getNameCacheStats().get(NameCache.Kind.CAMELIZE);
+        Assert.assertTrue(camelize.hitCount() > 0);
+        Assert.assertTrue(camelize.missCount() > 0);
+    }
+
+    @Test
+    public void testMetricsReport() throws IOException {
+        Path target = tempDirectory("test-metrics");
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setReportMetrics(true)
+                .setOutputDir(target.toAbsolutePath().toString());
+
+        DefaultGenerator generator = new DefaultGenerator(false);
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODEL_TESTS, "false");
+        generator.setGeneratorPropertyDefault(CodegenConstants.API_TESTS, "false");
+        List<File> files = generator.opts(configurator.toClientOptInput()).generate();
+
+        GenerationMetrics metrics = generator.getMetrics();
+        Assert.assertTrue(metrics.getPhaseNames().containsAll(Arrays.asList(
+                "parse", "configure", "normalize", "flatten", "processOpenAPI", "models", "processModels",
+                "postProcessAllModels", "renderModels", "apis", "processPaths", "renderApis", "supportingFiles",
+                "postProcessing")), metrics.getPhaseNames().toString());
+        Assert.assertEquals(metrics.getRenderedFileCount("model.mustache"), 6);
+        Assert.assertEquals(metrics.getRenderedFileCount("api.mustache"), 3);
+
+        File report = target.resolve(".openapi-generator").resolve(GenerationMetrics.FILENAME).toFile();
+        Assert.assertTrue(report.isFile());
+        Assert.assertFalse(files.contains(report));
+        JsonNode json = Json.mapper().readTree(report);
+        Assert.assertTrue(json.get("phases").has("renderModels"));
+        Assert.assertEquals(json.get("templates").get("model.mustache").get("files").asInt(), 6);
+        Assert.assertTrue(json.get("writes").get("files").asInt() >= files.size() - 1);
+        Assert.assertTrue(json.get("caches").has("names.camelize"));
+        Assert.assertTrue(json.get("caches").has("templates"));
+    }
+
+    @Test
+    public void testIncrementalGenerationOnlyRendersChangedModelsAndApis() throws IOException {
+        Path target = tempDirectory("test-incremental");
+        Path spec = target.resolve("petstore.yaml");
+        String petstore = Files.readString(java.nio.file.Paths.get("src/test/resources/3_0/petstore.yaml"));
+        Files.writeString(spec, petstore);
+        Path output = target.resolve("output");
+
+        List<File> initialFiles = generateIncrementally(spec, output);
+        Assert.assertTrue(output.resolve(".openapi-generator/FINGERPRINTS").toFile().isFile());
+        for (File file : initialFiles) {
+            Assert.assertTrue(file.setLastModified(0L), file.toString());
+        }
+
+        // the ignore file is only generated once
+        List<Path> expectedFiles = relativize(output, initialFiles);
+        expectedFiles.remove(java.nio.file.Paths.get(".openapi-generator-ignore"));
+
+        // same inputs, nothing is rendered again
+        List<File> unchangedFiles = generateIncrementally(spec, output);
+        Assert.assertEquals(relativize(output, unchangedFiles), expectedFiles);
+        String modelDir = "src/main/java/org/openapitools/client/model/";
+        String apiDir = "src/main/java/org/openapitools/client/api/";
+        Assert.assertEquals(output.resolve(modelDir + "Tag.java").toFile().lastModified(), 0L);
+        Assert.assertEquals(output.resolve(apiDir + "PetApi.java").toFile().lastModified(), 0L);
+
+        // Tag changed: Tag, Pet (referencing Tag) and PetApi (referencing Pet) are rendered again
+        Files.writeString(spec, petstore.replace(
+                "      title: Pet Tag\n      description: A tag for a pet\n",
+                "      title: Pet Tag\n      description: A label for a pet\n"));
+        List<File> changedFiles = generateIncrementally(spec, output);
+        Assert.assertEquals(relativize(output, changedFiles), expectedFiles);
+        Assert.assertNotEquals(output.resolve(modelDir + "Tag.java").toFile().lastModified(), 0L);
+        Assert.assertNotEquals(output.resolve(modelDir + "Pet.java").toFile().lastModified(), 0L);
+        Assert.assertNotEquals(output.resolve(apiDir + "PetApi.java").toFile().lastModified(), 0L);
+        Assert.assertEquals(output.resolve(modelDir + "Category.java").toFile().lastModified(), 0L);
+        Assert.assertEquals(output.resolve(modelDir + "Order.java").toFile().lastModified(), 0L);
+        Assert.assertEquals(output.resolve(apiDir + "StoreApi.java").toFile().lastModified(), 0L);
+        TestUtils.assertFileContains(output.resolve(modelDir + "Tag.java"), "A label for a pet");
+
+        // a deleted file is generated again
+        Files.delete(output.resolve(modelDir + "Order.java"));
+        generateIncrementally(spec, output);
+        Assert.assertTrue(output.resolve(modelDir + "Order.java").toFile().isFile());
+    }
+
+    @Test
+    public void testIncrementalGenerationRendersTheModelsOfANewParent() throws IOException {
+        Path target = tempDirectory("test-incremental");
+        Path spec = target.resolve("petstore.yaml");
+        String petstore = Files.readString(java.nio.file.Paths.get("src/test/resources/3_0/petstore.yaml"));
+        Files.writeString(spec, petstore);
+        Path output = target.resolve("output");
+
+        for (File file : generateIncrementally(spec, output)) {
+            Assert.assertTrue(file.setLastModified(0L), file.toString());
+        }
+
+        // a new composed schema listing Category and Tag, whose own schemas are unchanged
+        Files.writeString(spec, petstore.replace("  schemas:\n", "  schemas:\n"
+                + "    Label:\n"
+                + "      oneOf:\n"
+                + "        - $ref: '#/components/schemas/Category'\n"
+                + "        - $ref: '#/components/schemas/Tag'\n"));
+        generateIncrementally(spec, output);
+        String modelDir = "src/main/java/org/openapitools/client/model/";
+        Assert.assertTrue(output.resolve(modelDir + "Label.java").toFile().isFile());
+        Assert.assertNotEquals(output.resolve(modelDir + "Category.java").toFile().lastModified(), 0L);
+        Assert.assertNotEquals(output.resolve(modelDir + "Tag.java").toFile().lastModified(), 0L);
+        Assert.assertEquals(output.resolve(modelDir + "Order.java").toFile().lastModified(), 0L);
+        Assert.assertEquals(output.resolve(modelDir + "Pet.java").toFile().lastModified(), 0L);
+    }
+
+    private List<File> generateIncrementally(Path spec, Path target) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec(spec.toString())
+                .setIncrementalGeneration(true)
+                .setOutputDir(target.toAbsolutePath().toString());
+
+        DefaultGenerator generator = new DefaultGenerator(false);
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODEL_TESTS, "false");
+        generator.setGeneratorPropertyDefault(CodegenConstants.API_TESTS, "false");
+        return generator.opts(configurator.toClientOptInput()).generate();
+    }
+
+    private List<File> generatePetstore(Path target, int renderWorkers) {
+        return generatePetstore(target, "src/test/resources/3_0/petstore.yaml", renderWorkers, 1);
+    }
+
+    private List<File> generatePetstore(Path target, String spec, int renderWorkers, int processWorkers) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec(spec)
+                .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true)
+                .setRenderWorkers(renderWorkers)
+                .setProcessWorkers(processWorkers)
+                .setOutputDir(target.toAbsolutePath().toString());
+
+        DefaultGenerator generator = new DefaultGenerator(false);
+        generator.setGeneratorPropertyDefault(CodegenConstants.MODEL_TESTS, "true");
+        generator.setGeneratorPropertyDefault(CodegenConstants.API_TESTS, "true");
+        return generator.opts(configurator.toClientOptInput()).generate();
+    }
+
+    private List<Path> relativize(Path root, List<File> files) {
+        List<Path> paths = new ArrayList<>();
+        for (File file : files) {
+            paths.add(root.relativize(file.toPath()));
+        }
+        return paths;
+    }
 }
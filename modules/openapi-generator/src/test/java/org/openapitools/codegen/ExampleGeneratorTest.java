@@ -1,13 +1,21 @@
 package org.openapitools.codegen;
 
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openapitools.codegen.examples.ExampleCache;
 import org.openapitools.codegen.examples.ExampleGenerator;
+import org.openapitools.codegen.examples.XmlExampleGenerator;
 import org.testng.annotations.Test;
 
 import java.util.*;
 
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
 
 public class ExampleGeneratorTest {
     @Test
@@ -325,4 +333,87 @@ public class ExampleGeneratorTest {
         assertEquals(String.format(Locale.ROOT, "{%n  \"example_schema_property\" : \"example schema property value\"%n}"), examples.get(0).get("example"));
         assertEquals("200", examples.get(0).get("statusCode"));
     }
+
+    @Test
+    public void generateWithCacheSerializesModelOnce() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/example_generator_test.yaml");
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        schemas.forEach((name, schema) -> schema.setName(name));
+        List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+        ExampleCache cache = new ExampleCache();
+
+        List<Map<String, String>> examples = new ExampleGenerator(schemas, openAPI).generate(null, mediaTypes, "ExampleSchema");
+        List<Map<String, String>> cachedExamples = new ExampleGenerator(schemas, openAPI, cache).generate(null, mediaTypes, "ExampleSchema");
+
+        assertEquals(examples, cachedExamples);
+        assertEquals(2, cache.size());
+        assertEquals(examples, new ExampleGenerator(schemas, openAPI, cache).generate(null, mediaTypes, "ExampleSchema"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void generateWithCacheFollowsRenamedSchemas() {
+        Schema<?> tag = new ObjectSchema().addProperty("label", new StringSchema()).name("Tag");
+        Schema<?> pet = new ObjectSchema().addProperty("tag", new Schema<>().$ref("#/components/schemas/Tag")).name("Pet");
+        OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Pet", pet).addSchemas("Tag", tag));
+        List<String> mediaTypes = Collections.singletonList("application/xml");
+        ExampleCache cache = new ExampleCache();
+
+        String example = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI, cache)
+                .generate(null, mediaTypes, "Pet").get(0).get("example");
+        assertTrue(example, example.contains("<Tag>"));
+
+        tag.setName("Label");
+        example = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI, cache)
+                .generate(null, mediaTypes, "Pet").get(0).get("example");
+        assertTrue(example, example.contains("<Label>"));
+    }
+
+    @Test
+    public void generateWithBoundedCache() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/example_generator_test.yaml");
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        ExampleCache cache = new ExampleCache(1);
+
+        new ExampleGenerator(schemas, openAPI, cache).generate(null, null, "ExampleSchema");
+        new ExampleGenerator(schemas, openAPI, cache).generate(null, null, "ExampleAllOfSchema");
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void xmlExampleLeavesOutDeeplyNestedModels() {
+        Map<String, Schema> schemas = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            Schema<?> schema = new ObjectSchema().addProperty("name", new StringSchema()).name("Model" + i);
+            schema.addProperty("next", new Schema<>().$ref("#/components/schemas/Model" + (i + 1)));
+            schemas.put("Model" + i, schema);
+        }
+
+        Schema<?> model = new Schema<>().$ref("#/components/schemas/Model0");
+        String example = new XmlExampleGenerator(schemas, new ExampleCache()).toXml(model);
+
+        assertTrue(example.contains("<Model15>"));
+        assertFalse(example.contains("<Model16>"));
+        // only the cached examples are bounded
+        assertTrue(new XmlExampleGenerator(schemas).toXml(model).contains("<Model19>"));
+    }
+
+    @Test
+    public void xmlExampleCachesTheUnnamedSchemasByIdentity() {
+        Map<String, Schema> schemas = new HashMap<>();
+        schemas.put("First", new ObjectSchema().addProperty("first", new StringSchema()));
+        schemas.put("Second", new ObjectSchema().addProperty("second", new StringSchema()));
+        Schema<?> first = new Schema<>().$ref("First");
+        ExampleCache cache = new ExampleCache();
+
+        String firstExample = new XmlExampleGenerator(schemas, cache).toXml(first);
+        String secondExample = new XmlExampleGenerator(schemas, cache).toXml(new Schema<>().$ref("Second"));
+
+        assertTrue(firstExample, firstExample.contains("<first>"));
+        assertTrue(secondExample, secondExample.contains("<second>"));
+        assertEquals(2, cache.size());
+        assertEquals(firstExample, new XmlExampleGenerator(schemas, cache).toXml(first));
+        assertEquals(2, cache.size());
+    }
 }
@@ -0,0 +1,71 @@
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.testng.Assert.*;
+
+public class GenerationMetricsTest {
+
+    @Test
+    public void recordsPhases() {
+        GenerationMetrics metrics = new GenerationMetrics();
+        try (GenerationMetrics.Phase outer = metrics.phase("models")) {
+            for (int i = 0; i < 3; i++) {
+                try (GenerationMetrics.Phase inner = metrics.phase("processModels")) {
+                    // a nested phase of the same name is part of the outer one
+                    try (GenerationMetrics.Phase nested = metrics.phase("processModels")) {
+                        assertNotNull(nested);
+                    }
+                }
+            }
+        }
+        try (GenerationMetrics.Phase again = metrics.phase("models")) {
+            assertNotNull(again);
+        }
+
+        assertEquals(metrics.getPhaseNames(), Arrays.asList("models", "processModels"));
+        ObjectNode report = metrics.toJson();
+        assertEquals(report.get("phases").get("models").get("count").asInt(), 2);
+        assertEquals(report.get("phases").get("processModels").get("count").asInt(), 3);
+        assertTrue(report.get("phases").get("models").get("wallMillis").asDouble() >= 0);
+    }
+
+    @Test
+    public void recordsTemplatesWritesAndCaches() throws IOException {
+        GenerationMetrics metrics = new GenerationMetrics();
+        metrics.recordRender("model.mustache", 2_000_000);
+        metrics.recordRender("model.mustache", 1_000_000);
+        metrics.recordRender("api.mustache", 500_000);
+        metrics.recordWrite(100, 1_000);
+        metrics.recordWrite(50, 1_000);
+        metrics.recordCache("names.camelize", 3, 1);
+
+        assertEquals(metrics.getRenderedFileCount("model.mustache"), 2);
+        assertEquals(metrics.getRenderedFileCount("README.mustache"), 0);
+
+        Path target = Files.createTempDirectory("test-metrics");
+        try {
+            File report = target.resolve(".openapi-generator").resolve(GenerationMetrics.FILENAME).toFile();
+            metrics.write(report);
+
+            JsonNode json = Json.mapper().readTree(report);
+            assertEquals(json.get("templates").get("model.mustache").get("files").asInt(), 2);
+            assertEquals(json.get("templates").get("model.mustache").get("renderMillis").asDouble(), 3.0);
+            assertEquals(json.get("templates").get("api.mustache").get("files").asInt(), 1);
+            assertEquals(json.get("writes").get("files").asInt(), 2);
+            assertEquals(json.get("writes").get("bytes").asInt(), 150);
+            assertEquals(json.get("caches").get("names.camelize").get("hitRate").asDouble(), 0.75);
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.meta.Stability;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+public class GeneratorIndexTest {
+
+    @Test
+    public void writesAndReadsTheIndex() throws IOException {
+        List<GeneratorIndex.Entry> entries = Arrays.asList(
+                new GeneratorIndex.Entry("java", "org.openapitools.codegen.languages.JavaClientCodegen", CodegenType.CLIENT, Stability.STABLE),
+                new GeneratorIndex.Entry("custom", "com.example.CustomCodegen", null, null));
+        StringWriter writer = new StringWriter();
+        GeneratorIndex.write(entries, writer);
+
+        Map<String, GeneratorIndex.Entry> read = new LinkedHashMap<>();
+        GeneratorIndex.read(new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8)), read);
+        assertEquals(new ArrayList<>(read.values()), entries);
+
+        // the first generator registered under a name wins
+        GeneratorIndex.read(new ByteArrayInputStream("java\tcom.example.Java\tSERVER\tbeta\n".getBytes(StandardCharsets.UTF_8)), read);
+        assertEquals(read.get("java").getClassName(), "org.openapitools.codegen.languages.JavaClientCodegen");
+    }
+
+    @Test
+    public void indexesTheRegisteredGenerators() {
+        // the index is generated in the process-classes phase
+        GeneratorIndex index = GeneratorIndex.getInstance();
+        assertFalse(index.isEmpty());
+
+        List<GeneratorIndex.Entry> expected = CodegenConfigLoader.getAll().stream()
+                .map(GeneratorIndex::entryOf)
+                .collect(Collectors.toList());
+        assertEquals(new ArrayList<>(index.getEntries()), expected);
+        assertEquals(CodegenConfigLoader.getAllEntries(), expected);
+    }
+
+    @Test
+    public void loadsTheIndexedGenerators() {
+        CodegenConfig config = CodegenConfigLoader.forName("java");
+        assertTrue(config instanceof JavaClientCodegen);
+        assertEquals(config.getName(), "java");
+
+        // generators can still be loaded by class name
+        assertTrue(CodegenConfigLoader.forName(JavaClientCodegen.class.getName()) instanceof JavaClientCodegen);
+
+        GeneratorNotFoundException e = expectThrows(GeneratorNotFoundException.class, () -> CodegenConfigLoader.forName("unknown"));
+        assertTrue(e.getMessage().contains("\njava\n"));
+    }
+}
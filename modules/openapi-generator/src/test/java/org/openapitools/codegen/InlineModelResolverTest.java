@@ -175,6 +175,41 @@ public class InlineModelResolverTest {
         assertNull(duplicateAddress);
     }
 
+    @Test
+    public void resolveInlineModelsWithSameStructure() {
+        OpenAPI openapi = new OpenAPI();
+        openapi.setComponents(new Components());
+        openapi.getComponents().addSchemas("User", new ObjectSchema()
+                .addProperty("address", new ObjectSchema()
+                        .addProperty("street", new StringSchema())
+                        .addProperty("location", new ObjectSchema()
+                                .addProperty("latitude", new NumberSchema())
+                                .addProperty("longitude", new NumberSchema()))));
+        openapi.getComponents().addSchemas("AnotherUser", new ObjectSchema()
+                .addProperty("address", new ObjectSchema()
+                        .addProperty("street", new StringSchema())
+                        .addProperty("location", new ObjectSchema()
+                                .addProperty("latitude", new NumberSchema())
+                                .addProperty("longitude", new NumberSchema()))));
+        openapi.getComponents().addSchemas("ThirdUser", new ObjectSchema()
+                .addProperty("address", new ObjectSchema()
+                        .addProperty("street", new StringSchema().maxLength(100))
+                        .addProperty("location", new ObjectSchema()
+                                .addProperty("latitude", new NumberSchema())
+                                .addProperty("longitude", new NumberSchema()))));
+
+        new InlineModelResolver().flatten(openapi);
+
+        // the address of User is flattened once generated, it's still reused for the addresses with the same structure
+        Schema address = (Schema) openapi.getComponents().getSchemas().get("User").getProperties().get("address");
+        assertEquals("#/components/schemas/User_address", address.get$ref());
+        Schema anotherAddress = (Schema) openapi.getComponents().getSchemas().get("AnotherUser").getProperties().get("address");
+        assertEquals("#/components/schemas/User_address", anotherAddress.get$ref());
+        Schema thirdAddress = (Schema) openapi.getComponents().getSchemas().get("ThirdUser").getProperties().get("address");
+        assertEquals("#/components/schemas/ThirdUser_address", thirdAddress.get$ref());
+        assertNull(openapi.getComponents().getSchemas().get("AnotherUser_address"));
+    }
+
     @Test
     public void resolveInlineModel2DifferentInnerModelsWithSameTitle() {
         OpenAPI openapi = new OpenAPI();
@@ -1035,6 +1035,59 @@ public class OpenAPINormalizerTest {
         assertEquals(requiredProperties.getRequired(), null);
     }
 
+    @Test
+    public void testRefactorAllOfWithPropertiesOnlyNormalizesItsResult() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/allOf_extension_parent.yaml");
+        Schema schema = new ComposedSchema()
+                .addAllOfItem(new Schema<>().$ref("#/components/schemas/Parent"))
+                .addProperty("tags", new ArraySchema().items(new StringSchema()));
+        Map<String, String> options = new HashMap<>();
+        options.put("REFACTOR_ALLOF_WITH_PROPERTIES_ONLY", "true");
+        options.put("SET_CONTAINER_TO_NULLABLE", "array");
+        OpenAPINormalizer openAPINormalizer = new OpenAPINormalizer(openAPI, options);
+
+        Schema refactored = openAPINormalizer.processRefactorAllOfWithPropertiesOnly(schema);
+
+        assertEquals(refactored.getAllOf().size(), 2);
+        assertTrue(((Schema) ((Schema) refactored.getAllOf().get(1)).getProperties().get("tags")).getNullable());
+    }
+
+    @Test
+    public void testNormalizerClassOverridingTheArrayAndAllOfRules() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/allOf_extension_parent.yaml");
+        openAPI.getComponents().addSchemas("Tags", new ArraySchema().items(new StringSchema()));
+        Map<String, String> inputRules = Map.of(
+                "NORMALIZER_CLASS", RecordingNormalizer.class.getName(),
+                "REFACTOR_ALLOF_WITH_PROPERTIES_ONLY", "true"
+        );
+        RecordingNormalizer openAPINormalizer = (RecordingNormalizer) OpenAPINormalizer.createNormalizer(openAPI, inputRules);
+        openAPINormalizer.normalize();
+
+        assertTrue(openAPINormalizer.arrays.contains(openAPI.getComponents().getSchemas().get("Tags")));
+        assertTrue(openAPINormalizer.allOfs.contains(openAPI.getComponents().getSchemas().get("allOfWithProperties")));
+    }
+
+    public static class RecordingNormalizer extends OpenAPINormalizer {
+        final List<Schema> arrays = new ArrayList<>();
+        final List<Schema> allOfs = new ArrayList<>();
+
+        public RecordingNormalizer(OpenAPI openAPI, Map<String, String> inputRules) {
+            super(openAPI, inputRules);
+        }
+
+        @Override
+        protected Schema normalizeArraySchema(Schema schema) {
+            arrays.add(schema);
+            return super.normalizeArraySchema(schema);
+        }
+
+        @Override
+        protected Schema processRefactorAllOfWithPropertiesOnly(Schema schema) {
+            allOfs.add(schema);
+            return super.processRefactorAllOfWithPropertiesOnly(schema);
+        }
+    }
+
     public static class RemoveRequiredNormalizer extends OpenAPINormalizer {
 
         public RemoveRequiredNormalizer(OpenAPI openAPI, Map<String, String> inputRules) {
@@ -0,0 +1,93 @@
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.config.GlobalSettings;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.*;
+
+public class PostProcessingQueueTest {
+    private Path target;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        if (System.getProperty("os.name").contains("Windows")) {
+            throw new SkipException("Post-processors are unix commands");
+        }
+        target = Files.createTempDirectory("test-postprocessing");
+        target.toFile().deleteOnExit();
+    }
+
+    private File file(String name) {
+        File file = target.resolve(name).toFile();
+        file.deleteOnExit();
+        return file;
+    }
+
+    @Test
+    public void runsPostProcessorsInBatches() {
+        PostProcessingQueue queue = new PostProcessingQueue(2, 2);
+        for (int i = 0; i < 5; i++) {
+            queue.add(new String[]{"touch"}, file("model" + i));
+        }
+        queue.add(new String[]{"touch -c"}, file("api"));
+
+        assertTrue(queue.finish());
+        assertEquals(queue.getFileCount(), 6);
+        // 3 batches for "touch", 1 for "touch -c"
+        assertEquals(queue.getBatchCount(), 4);
+        assertEquals(queue.getFailedBatchCount(), 0);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(file("model" + i).exists());
+        }
+        assertFalse(file("api").exists());
+    }
+
+    @Test
+    public void reportsFailedPostProcessors() {
+        PostProcessingQueue queue = new PostProcessingQueue(10, 1);
+        queue.add(new String[]{"binary_does_not_exist"}, file("model"));
+        queue.add(new String[]{"touch"}, file("api"));
+
+        assertFalse(queue.finish());
+        assertEquals(queue.getBatchCount(), 2);
+        assertEquals(queue.getFailedBatchCount(), 1);
+        assertTrue(file("api").exists());
+        assertThrows(IllegalStateException.class, () -> queue.add(new String[]{"touch"}, file("late")));
+    }
+
+    @Test
+    public void executesDirectlyWithoutQueue() {
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.executePostProcessor(new String[]{"touch"}, file("direct"));
+        assertTrue(file("direct").exists());
+
+        PostProcessingQueue queue = new PostProcessingQueue(10, 1);
+        codegen.setPostProcessingQueue(queue);
+        codegen.executePostProcessor(new String[]{"touch"}, file("queued"));
+        assertFalse(file("queued").exists());
+        assertTrue(queue.finish());
+        assertTrue(file("queued").exists());
+    }
+
+    @Test
+    public void fallsBackOnInvalidGlobalProperties() {
+        try {
+            assertEquals(PostProcessingQueue.positiveProperty(PostProcessingQueue.BATCH_SIZE_PROPERTY, 1), 1);
+            GlobalSettings.setProperty(PostProcessingQueue.BATCH_SIZE_PROPERTY, "50");
+            assertEquals(PostProcessingQueue.positiveProperty(PostProcessingQueue.BATCH_SIZE_PROPERTY, 1), 50);
+            GlobalSettings.setProperty(PostProcessingQueue.BATCH_SIZE_PROPERTY, "many");
+            assertEquals(PostProcessingQueue.positiveProperty(PostProcessingQueue.BATCH_SIZE_PROPERTY, 1), 1);
+            GlobalSettings.setProperty(PostProcessingQueue.BATCH_SIZE_PROPERTY, "0");
+            assertEquals(PostProcessingQueue.positiveProperty(PostProcessingQueue.BATCH_SIZE_PROPERTY, 1), 1);
+        } finally {
+            GlobalSettings.reset();
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package org.openapitools.codegen;
 
+import org.apache.commons.io.FileUtils;
 import org.openapitools.codegen.api.TemplatePathLocator;
 import org.openapitools.codegen.templating.HandlebarsEngineAdapter;
+import org.openapitools.codegen.templating.InMemoryOutputSink;
 import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.openapitools.codegen.templating.ZipOutputSink;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 import java.io.File;
@@ -13,9 +17,17 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.testng.Assert.*;
 
@@ -186,6 +198,58 @@ public class TemplateManagerTest {
         }
     }
 
+    @Test
+    public void minimalUpdateCountsWrittenAndUnchangedFiles() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(true, false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+
+        Path target = Files.createTempDirectory("test-templatemanager");
+        try {
+            File output = new File(new File(target.toFile(), "nested"), "simple.txt");
+            manager.writeToFile(output.getPath(), "first");
+            manager.writeToFile(output.getPath(), "first");
+            assertEquals(manager.getWrittenFileCount(), 1);
+            assertEquals(manager.getUnchangedFileCount(), 1);
+
+            // same size, different contents
+            manager.writeToFile(output.getPath(), "fires");
+            assertEquals(manager.getWrittenFileCount(), 2);
+            assertEquals(manager.getUnchangedFileCount(), 1);
+            assertEquals(Files.readAllLines(output.toPath()).get(0), "fires");
+
+            // no temporary file left behind
+            assertEquals(output.getParentFile().list(), new String[]{"simple.txt"});
+        } finally {
+            FileUtils.deleteDirectory(target.toFile());
+        }
+    }
+
+    @Test
+    public void minimalUpdateKeepsFilePermissions() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(true, false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+
+        Path target = Files.createTempDirectory("test-templatemanager");
+        try {
+            if (Files.getFileAttributeView(target, PosixFileAttributeView.class) == null) {
+                throw new SkipException("POSIX file permissions are not supported");
+            }
+            // a new file gets the default permissions, as if it was written directly
+            Path reference = Files.createFile(target.resolve("reference.txt"));
+            Path script = target.resolve("gradlew");
+            manager.writeToFile(script.toString(), "#!/bin/sh");
+            assertEquals(Files.getPosixFilePermissions(script), Files.getPosixFilePermissions(reference));
+
+            Set<PosixFilePermission> executable = PosixFilePermissions.fromString("rwxr-x---");
+            Files.setPosixFilePermissions(script, executable);
+            manager.writeToFile(script.toString(), "#!/bin/bash");
+            assertEquals(Files.readAllLines(script).get(0), "#!/bin/bash");
+            assertEquals(Files.getPosixFilePermissions(script), executable);
+        } finally {
+            FileUtils.deleteDirectory(target.toFile());
+        }
+    }
+
     @Test
     public void overwritesWhenSkipOverwriteFalse() throws IOException {
         TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
@@ -248,4 +312,85 @@ public class TemplateManagerTest {
             target.toFile().delete();
         }
     }
+
+    @Test
+    public void writeToOutputSink() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, true);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+        InMemoryOutputSink sink = new InMemoryOutputSink();
+        manager.setOutputSink(sink);
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Jack");
+        data.put("age", 42);
+
+        Path target = Files.createTempDirectory("test-templatemanager").resolve("output");
+        File output = target.resolve("simple.txt").toFile();
+        manager.write(data, "simple.mustache", output);
+        // skipOverwrite applies to the files of the sink
+        manager.writeToFile(output.getPath(), "overwritten");
+
+        assertFalse(output.exists());
+        assertFalse(target.toFile().exists());
+        assertEquals(sink.getFiles().keySet(), Collections.singleton(output.toPath().toAbsolutePath().normalize()));
+        assertEquals(new String(sink.getFiles().values().iterator().next(), StandardCharsets.UTF_8), "Jack and 42");
+        assertEquals(manager.getWrittenFileCount(), 1);
+        target.getParent().toFile().delete();
+    }
+
+    @Test
+    public void writeToZipOutputSink() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(false, false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{locator});
+        Path archive = Files.createTempFile("test-archive", ".zip");
+        archive.toFile().deleteOnExit();
+        Path root = Paths.get("build").toAbsolutePath();
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "Jack");
+        data.put("age", 42);
+
+        try (ZipOutputSink sink = new ZipOutputSink(root, archive)) {
+            manager.setOutputSink(sink);
+            manager.write(data, "simple.mustache", root.resolve("client/simple.txt").toFile());
+            manager.writeToFile(root.resolve("client/docs/README.md").toString(), "# README");
+            assertTrue(sink.exists(root.resolve("client/docs/../simple.txt")));
+            assertThrows(IOException.class, () -> manager.writeToFile(root.resolveSibling("other.txt").toString(), "outside"));
+        }
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(archive))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("client/simple.txt", "Jack and 42");
+        expected.put("client/docs/README.md", "# README");
+        assertEquals(entries, expected);
+        assertFalse(root.resolve("client").toFile().exists());
+    }
+
+    @Test
+    public void zipOutputSinkKeepsTheLastContentsOfAFile() throws IOException {
+        Path archive = Files.createTempFile("test-archive", ".zip");
+        archive.toFile().deleteOnExit();
+        Path root = Paths.get("build").toAbsolutePath();
+
+        try (ZipOutputSink sink = new ZipOutputSink(root, archive)) {
+            sink.write(root.resolve("client/README.md"), "first".getBytes(StandardCharsets.UTF_8));
+            sink.write(root.resolve("client/simple.txt"), "simple".getBytes(StandardCharsets.UTF_8));
+            sink.write(root.resolve("client/docs/../README.md"), "second".getBytes(StandardCharsets.UTF_8));
+            sink.write(root.resolve("client/README.md"), "third".getBytes(StandardCharsets.UTF_8));
+        }
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(archive))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("client/README.md", "third");
+        expected.put("client/simple.txt", "simple");
+        assertEquals(entries, expected);
+    }
 }
@@ -0,0 +1,198 @@
+package org.openapitools.codegen.config;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.openapitools.codegen.ClientOptInput;
+import org.openapitools.codegen.DefaultGenerator;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+public class ParsedSpecCacheTest {
+    private static final String PETSTORE = "src/test/resources/3_0/petstore.yaml";
+
+    private static ParseOptions parseOptions() {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        return options;
+    }
+
+    @Test
+    public void returnsCopiesOfTheCachedSpecification() throws IOException {
+        String contents = new String(Files.readAllBytes(Paths.get(PETSTORE)), StandardCharsets.UTF_8);
+        ParsedSpecCache cache = new ParsedSpecCache(4, Duration.ofMinutes(1));
+        OpenAPI first = cache.readContents(contents, null, parseOptions()).getOpenAPI();
+        OpenAPI second = cache.readContents(contents, null, parseOptions()).getOpenAPI();
+        assertEquals(cache.getMissCount(), 1);
+        assertEquals(cache.getHitCount(), 1);
+
+        OpenAPI parsed = new OpenAPIParser().readContents(contents, null, parseOptions()).getOpenAPI();
+        assertNotSame(first, second);
+        assertEquals(first, parsed);
+        assertEquals(second, parsed);
+
+        // the copies are updated independently
+        Schema<?> pet = first.getComponents().getSchemas().get("Pet");
+        pet.setDescription("updated");
+        pet.getProperties().remove("name");
+        OpenAPI third = cache.readContents(contents, null, parseOptions()).getOpenAPI();
+        assertEquals(third, parsed);
+        assertNotEquals(third, first);
+
+        // other contents or options are parsed
+        cache.readContents(contents + "\n# changed\n", null, parseOptions());
+        ParseOptions flatten = parseOptions();
+        flatten.setFlatten(true);
+        cache.readContents(contents, null, flatten);
+        assertEquals(cache.getMissCount(), 3);
+        assertEquals(cache.getHitCount(), 2);
+    }
+
+    @Test
+    public void parsesTheSpecificationAgainOnceExpired() throws IOException {
+        String contents = new String(Files.readAllBytes(Paths.get(PETSTORE)), StandardCharsets.UTF_8);
+        AtomicLong nanos = new AtomicLong();
+        ParsedSpecCache cache = new ParsedSpecCache(4, Duration.ofMinutes(1), nanos::get);
+        cache.readContents(contents, null, parseOptions());
+        nanos.addAndGet(Duration.ofSeconds(40).toNanos());
+        cache.readContents(contents, null, parseOptions());
+        assertEquals(cache.getMissCount(), 1);
+
+        // expired although used in the meantime
+        nanos.addAndGet(Duration.ofSeconds(40).toNanos());
+        cache.readContents(contents, null, parseOptions());
+        assertEquals(cache.getMissCount(), 2);
+        assertEquals(cache.getHitCount(), 1);
+    }
+
+    @Test
+    public void cachesTheLocalFilesByContent() throws IOException {
+        Path spec = Files.createTempFile("spec", ".yaml");
+        spec.toFile().deleteOnExit();
+        Files.copy(Paths.get(PETSTORE), spec, StandardCopyOption.REPLACE_EXISTING);
+        ParsedSpecCache cache = new ParsedSpecCache(4, Duration.ofMinutes(1));
+
+        OpenAPI first = cache.readLocation(spec.toString(), null, parseOptions()).getOpenAPI();
+        OpenAPI second = cache.readLocation(spec.toFile().toURI().toString(), null, parseOptions()).getOpenAPI();
+        assertEquals(second, first);
+        assertEquals(cache.getMissCount(), 1);
+        assertEquals(cache.getHitCount(), 1);
+
+        // an updated file is parsed again
+        Files.write(spec, "\n# changed\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        cache.readLocation(spec.toString(), null, parseOptions());
+        assertEquals(cache.getMissCount(), 2);
+
+        // missing files and remote locations aren't cached
+        String missing = new File(spec.toFile().getParentFile(), "missing.yaml").getPath();
+        assertNull(cache.readLocation(missing, null, parseOptions()).getOpenAPI());
+        assertEquals(cache.getMissCount(), 2);
+    }
+
+    @Test
+    public void parsesTheInputSpecOfTheConfiguratorsOnce() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+        ParsedSpecCache cache = new ParsedSpecCache(4, Duration.ofMinutes(1));
+
+        ClientOptInput java = new CodegenConfigurator().setGeneratorName("java").setInputSpec(PETSTORE)
+                .setOutputDir(output.getAbsolutePath()).setSpecCache(cache).toClientOptInput();
+        ClientOptInput kotlin = new CodegenConfigurator().setGeneratorName("kotlin").setInputSpec(PETSTORE)
+                .setOutputDir(output.getAbsolutePath()).setSpecCache(cache).toClientOptInput();
+
+        assertNotSame(kotlin.getOpenAPI(), java.getOpenAPI());
+        assertEquals(java.getMetrics().toJson().at("/caches/spec/misses").asLong(), 1);
+        assertEquals(kotlin.getMetrics().toJson().at("/caches/spec/hits").asLong(), 1);
+        assertEquals(kotlin.getMetrics().toJson().at("/caches/spec/misses").asLong(), 0);
+    }
+
+    @Test
+    public void preparesTheSpecificationOncePerSettings() throws IOException {
+        String contents = new String(Files.readAllBytes(Paths.get(PETSTORE)), StandardCharsets.UTF_8);
+        ParsedSpecCache cache = new ParsedSpecCache(4, Duration.ofMinutes(1));
+        ParsedSpecCache.ParsedSpec parsedSpec = cache.parseLocation(PETSTORE, null, parseOptions());
+        AtomicInteger preparations = new AtomicInteger();
+        Consumer<OpenAPI> preparation = openAPI -> {
+            preparations.incrementAndGet();
+            openAPI.getComponents().getSchemas().get("Pet").setDescription("prepared");
+        };
+
+        OpenAPI first = parsedSpec.prepare("settings", preparation);
+        OpenAPI second = parsedSpec.prepare("settings", preparation);
+        assertEquals(preparations.get(), 1);
+        assertNotSame(second, first);
+        assertEquals(second, first);
+        assertEquals(first.getComponents().getSchemas().get("Pet").getDescription(), "prepared");
+
+        // the copies are updated independently, and other settings are prepared again
+        first.getComponents().getSchemas().remove("Pet");
+        assertTrue(parsedSpec.prepare("settings", preparation).getComponents().getSchemas().containsKey("Pet"));
+        parsedSpec.prepare("other settings", preparation);
+        assertEquals(preparations.get(), 2);
+
+        // the parsed specification isn't prepared
+        assertEquals(parsedSpec.toParseResult().getOpenAPI(), new OpenAPIParser().readContents(contents, null, parseOptions()).getOpenAPI());
+    }
+
+    @Test
+    public void preparesOtherSettingsWhilePreparing() {
+        ParsedSpecCache cache = new ParsedSpecCache(4, Duration.ofMinutes(1));
+        ParsedSpecCache.ParsedSpec parsedSpec = cache.parseLocation(PETSTORE, null, parseOptions());
+        AtomicInteger failures = new AtomicInteger();
+
+        // the preparations run outside of the map, so that a preparation may prepare other settings
+        OpenAPI prepared = parsedSpec.prepare("settings", openAPI -> {
+            OpenAPI other = parsedSpec.prepare("other settings", o -> o.getInfo().setTitle("other"));
+            openAPI.getInfo().setTitle(other.getInfo().getTitle() + " and prepared");
+        });
+        assertEquals(prepared.getInfo().getTitle(), "other and prepared");
+
+        // a failed preparation is attempted again
+        Consumer<OpenAPI> failing = openAPI -> {
+            if (failures.incrementAndGet() == 1) {
+                throw new IllegalStateException("failed");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> parsedSpec.prepare("failing settings", failing));
+        assertNotNull(parsedSpec.prepare("failing settings", failing));
+        assertEquals(failures.get(), 2);
+    }
+
+    @Test
+    public void normalizesTheInputSpecOfTheGeneratorsOnce() throws IOException {
+        File output = Files.createTempDirectory("test").toFile();
+        output.deleteOnExit();
+        ParsedSpecCache cache = new ParsedSpecCache(4, Duration.ofMinutes(1));
+        String spec = "src/test/resources/3_0/petstore-with-fake-endpoints-models-for-testing.yaml";
+
+        ClientOptInput first = new CodegenConfigurator().setGeneratorName("java").setInputSpec(spec)
+                .setOutputDir(new File(output, "first").getAbsolutePath()).setSpecCache(cache).toClientOptInput();
+        ClientOptInput second = new CodegenConfigurator().setGeneratorName("java").setInputSpec(spec)
+                .setOutputDir(new File(output, "second").getAbsolutePath()).setSpecCache(cache).toClientOptInput();
+        List<File> firstFiles = new DefaultGenerator(true).opts(first).generate();
+        List<File> secondFiles = new DefaultGenerator(true).opts(second).generate();
+
+        assertTrue(first.getMetrics().getPhaseNames().contains("flatten"));
+        assertFalse(second.getMetrics().getPhaseNames().contains("flatten"));
+        // the same files are generated, e.g. for the inline schemas
+        assertEquals(secondFiles.stream().map(File::getName).sorted().collect(Collectors.toList()),
+                firstFiles.stream().map(File::getName).sorted().collect(Collectors.toList()));
+    }
+}
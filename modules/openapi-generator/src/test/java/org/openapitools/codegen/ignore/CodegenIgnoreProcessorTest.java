@@ -0,0 +1,102 @@
+package org.openapitools.codegen.ignore;
+
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class CodegenIgnoreProcessorTest {
+
+    private static final List<String> RULES = Arrays.asList(
+            "# a comment",
+            "README.md",
+            "docs/Pet.md",
+            "*.log",
+            "**/*.bak",
+            "docs/*.md",
+            "src/**/internal/*.java",
+            "**/test/**",
+            "/build.sh",
+            "/*.cfg",
+            "generated/",
+            "**/tmp/",
+            "a*/cache/",
+            "{x,y}/file.txt",
+            "**/ISSUE_1234.*",
+            "!docs/Tag.md",
+            "!keep.log",
+            "!generated/keep/",
+            "!**/api/Keep.java",
+            "..invalid"
+    );
+
+    private static final List<String> FILES = Arrays.asList(
+            "README.md", "src/README.md", "docs/README.md", "docs/Pet.md", "docs/Tag.md", "docs/Order.md", "docs/nested/Order.md",
+            "app.log", "keep.log", "logs/app.log", "a.bak", "src/a.bak", "src/main/b.bak",
+            "src/main/java/internal/Foo.java", "src/internal/Foo.java", "src/main/internal/Foo.kt",
+            "test/Foo.java", "src/test/Foo.java", "src/test/nested/Foo.java", "build.sh", "src/build.sh",
+            "app.cfg", "conf/app.cfg", "generated/Foo.java", "generated/keep/Foo.java", "generated/api/Keep.java",
+            "src/generated/Foo.java", "tmp/Foo.java", "src/tmp/Foo.java", "src/tmp/nested/Foo.java",
+            "abc/cache/Foo.java", "abc/nested/cache/Foo.java", "b/cache/Foo.java", "x/file.txt", "y/file.txt",
+            "z/file.txt", "ISSUE_1234.log", "src/ISSUE_1234.log", "src/api/Keep.java", "src/api/Other.java",
+            "Main.java"
+    );
+
+    @Test
+    public void compiledRulesGiveSameDecisionsAsEvaluatingEachRule() throws IOException {
+        File directory = ignoreDirectory(RULES);
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(directory.getPath());
+
+        for (String path : FILES) {
+            File file = new File(directory, path);
+            assertEquals(processor.allowsFile(file), processor.evaluateRules(path), path);
+        }
+    }
+
+    @Test
+    public void excludesFiles() throws IOException {
+        File directory = ignoreDirectory(RULES);
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(directory.getPath());
+
+        assertFalse(processor.allowsFile(new File(directory, "README.md")));
+        assertTrue(processor.allowsFile(new File(directory, "src/README.md")));
+        assertFalse(processor.allowsFile(new File(directory, "docs/Order.md")));
+        assertTrue(processor.allowsFile(new File(directory, "docs/Tag.md")));
+        assertFalse(processor.allowsFile(new File(directory, "app.log")));
+        assertTrue(processor.allowsFile(new File(directory, "keep.log")));
+        assertFalse(processor.allowsFile(new File(directory, "src/main/b.bak")));
+        assertFalse(processor.allowsFile(new File(directory, "src/tmp/nested/Foo.java")));
+        assertFalse(processor.allowsFile(new File(directory, "build.sh")));
+        assertTrue(processor.allowsFile(new File(directory, "src/build.sh")));
+        // a directory rule can include again the contents of an excluded directory
+        assertFalse(processor.allowsFile(new File(directory, "generated/Foo.java")));
+        assertTrue(processor.allowsFile(new File(directory, "generated/keep/Foo.java")));
+        // but a file rule can't
+        assertFalse(processor.allowsFile(new File(directory, "generated/api/Keep.java")));
+        assertTrue(processor.allowsFile(new File(directory, "Main.java")));
+        assertFalse(processor.allowsFile(new File(directory, "src/../README.md")));
+        assertFalse(processor.allowsFile(new File(directory, "./docs/Order.md")));
+    }
+
+    @Test
+    public void evaluatesFilesOutsideOfTheBaseDirectory() throws IOException {
+        CodegenIgnoreProcessor processor = new CodegenIgnoreProcessor(ignoreDirectory(RULES).getPath());
+
+        File file = new File(Files.createTempDirectory("other").toFile(), "README.md");
+
+        // the paths outside of the base directory are evaluated as absolute paths
+        assertEquals(processor.allowsFile(file), processor.evaluateRules(file.toURI().getPath()));
+    }
+
+    private static File ignoreDirectory(List<String> rules) throws IOException {
+        File directory = Files.createTempDirectory("ignore").toFile();
+        Files.write(new File(directory, ".openapi-generator-ignore").toPath(), rules, StandardCharsets.UTF_8);
+        return directory;
+    }
+}
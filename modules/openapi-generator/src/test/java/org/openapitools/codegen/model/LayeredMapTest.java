@@ -0,0 +1,85 @@
+package org.openapitools.codegen.model;
+
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+public class LayeredMapTest {
+
+    private static Map<String, Object> shared() {
+        Map<String, Object> shared = new HashMap<>();
+        shared.put("apiPackage", "org.openapitools.client.api");
+        shared.put("classname", "Shared");
+        shared.put("nullable", null);
+        return LayeredMap.sharedCopy(null, shared);
+    }
+
+    @Test
+    public void readsThroughTheSharedEntries() {
+        ModelsMap models = new ModelsMap();
+        models.put("classname", "Pet");
+        models.put("models", "models");
+        models.putAllShared(shared());
+
+        // as with putAll, the shared entries override the existing ones, but not the later ones
+        assertEquals(models.get("classname"), "Shared");
+        assertEquals(models.put("classname", "Pet"), "Shared");
+        assertEquals(models.get("classname"), "Pet");
+        assertEquals(models.get("models"), "models");
+        assertEquals(models.get("apiPackage"), "org.openapitools.client.api");
+        assertTrue(models.containsKey("nullable"));
+        assertEquals(models.getOrDefault("nullable", "default"), null);
+        assertEquals(models.getOrDefault("missing", "default"), "default");
+        assertFalse(models.isEmpty());
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("classname", "Pet");
+        expected.put("models", "models");
+        expected.put("apiPackage", "org.openapitools.client.api");
+        expected.put("nullable", null);
+        assertEquals(models, expected);
+        assertEquals(new HashMap<>(models), expected);
+        assertEquals(models.size(), 4);
+    }
+
+    @Test
+    public void copiesTheSharedEntriesOnlyWhenUpdated() {
+        Map<String, Object> shared = shared();
+        LayeredMap first = new LayeredMap(shared);
+        LayeredMap second = new LayeredMap(shared);
+
+        assertEquals(first.remove("apiPackage"), "org.openapitools.client.api");
+        assertFalse(first.containsKey("apiPackage"));
+        first.computeIfPresent("classname", (key, value) -> value + "Updated");
+        assertEquals(first.get("classname"), "SharedUpdated");
+
+        assertEquals(second.get("apiPackage"), "org.openapitools.client.api");
+        assertEquals(second.get("classname"), "Shared");
+        assertEquals(shared.size(), 3);
+        assertThrows(UnsupportedOperationException.class, () -> shared.put("classname", "Pet"));
+    }
+
+    @Test
+    public void sharesTheCopyUntilTheMapIsUpdated() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("appName", "petstore");
+        map.put("nullable", null);
+
+        Map<String, Object> copy = LayeredMap.sharedCopy(null, map);
+        assertEquals(copy, map);
+        assertSame(LayeredMap.sharedCopy(copy, map), copy);
+
+        map.put("appName", "other");
+        Map<String, Object> updated = LayeredMap.sharedCopy(copy, map);
+        assertNotSame(updated, copy);
+        assertEquals(updated.get("appName"), "other");
+        assertEquals(copy.get("appName"), "petstore");
+
+        map.remove("nullable");
+        map.put("other", null);
+        assertNotSame(LayeredMap.sharedCopy(updated, map), updated);
+    }
+}
@@ -0,0 +1,83 @@
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.DefaultCodegen;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class GeneratorTemplateContentLocatorTest {
+    private Path templateDir;
+    private DefaultCodegen config;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        templateDir = Files.createTempDirectory("test-templatelocator");
+        templateDir.toFile().deleteOnExit();
+
+        config = new JavaClientCodegen();
+        config.setTemplateDir(templateDir.toString());
+        config.setLibrary("webclient");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        GlobalSettings.reset();
+    }
+
+    private String write(String name) throws IOException {
+        File file = templateDir.resolve(name).toFile();
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), "{{name}}".getBytes(StandardCharsets.UTF_8));
+        file.deleteOnExit();
+        file.getParentFile().deleteOnExit();
+        return file.getPath();
+    }
+
+    @Test
+    public void resolvesTemplatesByPrecedence() throws IOException {
+        String userLibraryTemplate = write("libraries/webclient/api.mustache");
+        String userTemplate = write("model.mustache");
+        GeneratorTemplateContentLocator locator = new GeneratorTemplateContentLocator(config);
+
+        assertEquals(locator.getFullTemplatePath("api.mustache"), userLibraryTemplate);
+        assertEquals(locator.getFullTemplatePath("model.mustache"), userTemplate);
+        assertEquals(locator.getFullTemplatePath("ApiClient.mustache"), "Java/libraries/webclient/ApiClient.mustache".replace('/', File.separatorChar));
+        assertEquals(locator.getFullTemplatePath("JavaTimeFormatter.mustache"), "Java" + File.separator + "JavaTimeFormatter.mustache");
+        assertNull(locator.getFullTemplatePath("does_not_exist.mustache"));
+    }
+
+    @Test
+    public void memoizesLookupsForUnchangedSettings() throws IOException {
+        GeneratorTemplateContentLocator locator = new GeneratorTemplateContentLocator(config);
+        assertEquals(locator.getFullTemplatePath("JavaTimeFormatter.mustache"), "Java" + File.separator + "JavaTimeFormatter.mustache");
+
+        // templates added to the template directory aren't seen by the locator ...
+        write("JavaTimeFormatter.mustache");
+        assertEquals(locator.getFullTemplatePath("JavaTimeFormatter.mustache"), "Java" + File.separator + "JavaTimeFormatter.mustache");
+
+        // ... unless the generator's settings change
+        config.setLibrary("native");
+        assertEquals(locator.getFullTemplatePath("JavaTimeFormatter.mustache"), templateDir.resolve("JavaTimeFormatter.mustache").toString());
+    }
+
+    @Test
+    public void watchesTemplateDirectory() throws IOException {
+        GlobalSettings.setProperty(GeneratorTemplateContentLocator.WATCH_TEMPLATE_DIR_PROPERTY, "true");
+        GeneratorTemplateContentLocator locator = new GeneratorTemplateContentLocator(config);
+        assertEquals(locator.getFullTemplatePath("JavaTimeFormatter.mustache"), "Java" + File.separator + "JavaTimeFormatter.mustache");
+
+        String userTemplate = write("JavaTimeFormatter.mustache");
+        assertEquals(locator.getFullTemplatePath("JavaTimeFormatter.mustache"), userTemplate);
+    }
+}
@@ -0,0 +1,111 @@
+package org.openapitools.codegen.templating;
+
+import org.openapitools.codegen.DefaultCodegen;
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class MustacheTemplateCacheTest {
+    private Path templateDir;
+    private MustacheTemplateCache cache;
+    private MustacheEngineAdapter adapter;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        templateDir = Files.createTempDirectory("test-templatecache");
+        templateDir.toFile().deleteOnExit();
+        write("main.mustache", "{{>part}}!");
+        write("other.mustache", "[{{>part}}]");
+        write("part.mustache", "Hello {{name}}");
+
+        cache = new MustacheTemplateCache(100);
+        adapter = new MustacheEngineAdapter();
+        adapter.setTemplateCache(cache);
+    }
+
+    private void write(String name, String contents) throws IOException {
+        File file = templateDir.resolve(name).toFile();
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+        file.deleteOnExit();
+    }
+
+    private TemplateManager newManager(String dir) {
+        DefaultCodegen config = new DefaultCodegen();
+        config.setTemplateDir(dir);
+        return new TemplateManager(new TemplateManagerOptions(false, false), adapter,
+                new TemplatePathLocator[]{new GeneratorTemplateContentLocator(config), new CommonTemplateContentLocator()});
+    }
+
+    private Map<String, Object> bundle(String name) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", name);
+        return data;
+    }
+
+    @Test
+    public void compilesTemplatesAndPartialsOnce() throws IOException {
+        TemplateManager manager = newManager(templateDir.toString());
+
+        assertEquals(adapter.compileTemplate(manager, bundle("a"), "main.mustache"), "Hello a!");
+        assertEquals(cache.getMissCount(), 2);
+
+        assertEquals(adapter.compileTemplate(manager, bundle("b"), "main.mustache"), "Hello b!");
+        assertEquals(adapter.compileTemplate(newManager(templateDir.toString()), bundle("c"), "main.mustache"), "Hello c!");
+        assertEquals(cache.getMissCount(), 2);
+        assertEquals(cache.getHitCount(), 2);
+
+        // the partial is shared with other templates including it
+        assertEquals(adapter.compileTemplate(manager, bundle("d"), "other.mustache"), "[Hello d]");
+        assertEquals(cache.getMissCount(), 3);
+        assertEquals(cache.getHitCount(), 3);
+        assertEquals(cache.size(), 3);
+    }
+
+    @Test
+    public void recompilesModifiedUserTemplates() throws IOException {
+        TemplateManager manager = newManager(templateDir.toString());
+        assertEquals(adapter.compileTemplate(manager, bundle("a"), "main.mustache"), "Hello a!");
+
+        File part = templateDir.resolve("part.mustache").toFile();
+        write("part.mustache", "Bye {{name}}");
+        part.setLastModified(part.lastModified() + 2000);
+
+        assertEquals(adapter.compileTemplate(manager, bundle("a"), "main.mustache"), "Bye a!");
+    }
+
+    @Test
+    public void doesNotShareTemplatesAcrossLocations() throws IOException {
+        Path otherDir = Files.createTempDirectory("test-templatecache");
+        otherDir.toFile().deleteOnExit();
+        Files.write(otherDir.resolve("main.mustache"), "{{>part}}?".getBytes(StandardCharsets.UTF_8));
+        Files.write(otherDir.resolve("part.mustache"), "Hi {{name}}".getBytes(StandardCharsets.UTF_8));
+        otherDir.resolve("main.mustache").toFile().deleteOnExit();
+        otherDir.resolve("part.mustache").toFile().deleteOnExit();
+
+        assertEquals(adapter.compileTemplate(newManager(templateDir.toString()), bundle("a"), "main.mustache"), "Hello a!");
+        assertEquals(adapter.compileTemplate(newManager(otherDir.toString()), bundle("a"), "main.mustache"), "Hi a?");
+    }
+
+    @Test
+    public void compilesUncachedForUnknownLocators() throws IOException {
+        TemplatePathLocator locator = name -> templateDir.resolve(name).toString();
+        TemplateManager manager = new TemplateManager(new TemplateManagerOptions(false, false), adapter, new TemplatePathLocator[]{locator});
+
+        assertNull(manager.getTemplateLocationKey());
+        assertEquals(adapter.compileTemplate(manager, bundle("a"), "main.mustache"), "Hello a!");
+        assertEquals(cache.getMissCount(), 0);
+        assertEquals(cache.size(), 0);
+    }
+}
@@ -5,6 +5,7 @@ import org.mockito.MockitoAnnotations;
 import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.templating.mustache.CopyLambda.CopyContent;
 import org.openapitools.codegen.templating.mustache.CopyLambda.WhiteSpaceStrategy;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -62,4 +63,22 @@ public class CopyPasteLambdaTest extends LambdaTest {
         test("foo", "{{#copy}}    \nfoo\n    {{/copy}}{{#paste}}{{/paste}}", ctx);
         test("foo", "{{#copy}}\n\n    foo    \n{{/copy}}{{#paste}}{{/paste}}", ctx);
     }
+
+    @Test
+    public void copiedTextIsKeptPerFile() {
+        final CopyContent copyContent = new CopyContent();
+        Map<String, Object> ctx = context("copy", new CopyLambda(copyContent, WhiteSpaceStrategy.None, WhiteSpaceStrategy.None));
+        ctx.put("paste", new PasteLambda(copyContent, false));
+        test("", "{{#copy}}foo{{/copy}}", ctx);
+        Assert.assertEquals(copyContent.content, "foo");
+
+        try (LambdaState.Scope ignored = LambdaState.open()) {
+            test("", "{{#paste}}{{/paste}}", ctx);
+            test("bar", "{{#copy}}bar{{/copy}}{{#paste}}{{/paste}}", ctx);
+        }
+        try (LambdaState.Scope ignored = LambdaState.open()) {
+            test("", "{{#paste}}{{/paste}}", ctx);
+        }
+        test("foo", "{{#paste}}{{/paste}}", ctx);
+    }
 }
@@ -39,4 +39,20 @@ public class OnChangeLambdaTest extends LambdaTest {
         test("First", "{{#onchange}}First{{/onchange}}", ctx);
     }
 
+    @Test
+    public void lastValueIsKeptPerFileTest() {
+        // Given
+        test("First", "{{#onchange}}First{{/onchange}}", ctx);
+
+        // When & Then
+        try (LambdaState.Scope ignored = LambdaState.open()) {
+            test("First", "{{#onchange}}First{{/onchange}}", ctx);
+            test("", "{{#onchange}}First{{/onchange}}", ctx);
+        }
+        try (LambdaState.Scope ignored = LambdaState.open()) {
+            test("First", "{{#onchange}}First{{/onchange}}", ctx);
+        }
+        test("", "{{#onchange}}First{{/onchange}}", ctx);
+    }
+
 }
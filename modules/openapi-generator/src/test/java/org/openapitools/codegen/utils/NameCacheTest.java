@@ -0,0 +1,78 @@
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openapitools.codegen.TestUtils;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.*;
+
+import static org.testng.Assert.*;
+
+public class NameCacheTest {
+
+    @Test
+    public void sizesCachesAfterTheSpec() {
+        assertEquals(NameCache.forSpec(new OpenAPI()).getMaximumSize(), 1000L);
+
+        final OpenAPI petstore = TestUtils.parseFlattenSpec("src/test/resources/3_0/petstore.yaml");
+        final OpenAPI large = new OpenAPI().components(new Components());
+        for (int i = 0; i < 200; i++) {
+            final int index = i;
+            petstore.getComponents().getSchemas().forEach((name, schema) -> large.getComponents().addSchemas(name + index, schema));
+        }
+        assertTrue(NameCache.forSpec(large).getMaximumSize() > 1000L);
+    }
+
+    @Test
+    public void activatesCachesOnTheCallingThread() {
+        NameCache nameCache = new NameCache(100);
+        assertNotSame(NameCache.current(), nameCache);
+
+        try (NameCache.Scope ignored = nameCache.activate()) {
+            assertSame(NameCache.current(), nameCache);
+            StringUtils.camelize("some_name");
+            StringUtils.camelize("some_name");
+            StringUtils.underscore("SomeName");
+        }
+
+        assertNotSame(NameCache.current(), nameCache);
+        assertEquals(nameCache.getStats().get(NameCache.Kind.CAMELIZE).hitCount(), 1L);
+        assertEquals(nameCache.getStats().get(NameCache.Kind.CAMELIZE).missCount(), 1L);
+        assertEquals(nameCache.getStats().get(NameCache.Kind.UNDERSCORE).missCount(), 1L);
+
+        nameCache.clear();
+        assertEquals(nameCache.getStats().get(NameCache.Kind.CAMELIZE).hitCount(), 1L);
+    }
+
+    @Test
+    public void isolatesConcurrentRuns() throws Exception {
+        NameCache first = new NameCache(100);
+        NameCache second = new NameCache(100);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch latch = new CountDownLatch(2);
+            Future<?> a = executor.submit(() -> run(first, latch));
+            Future<?> b = executor.submit(() -> run(second, latch));
+            a.get(10, TimeUnit.SECONDS);
+            b.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(first.getStats().get(NameCache.Kind.CAMELIZE).missCount(), 1L);
+        assertEquals(first.getStats().get(NameCache.Kind.CAMELIZE).hitCount(), 1L);
+        assertEquals(second.getStats().get(NameCache.Kind.CAMELIZE).missCount(), 1L);
+        assertEquals(second.getStats().get(NameCache.Kind.CAMELIZE).hitCount(), 1L);
+    }
+
+    private static Void run(NameCache nameCache, CountDownLatch latch) throws InterruptedException {
+        try (NameCache.Scope ignored = nameCache.activate()) {
+            StringUtils.camelize("shared_name");
+            latch.countDown();
+            latch.await(10, TimeUnit.SECONDS);
+            StringUtils.camelize("shared_name");
+        }
+        return null;
+    }
+}
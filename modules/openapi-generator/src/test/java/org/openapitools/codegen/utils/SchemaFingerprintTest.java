@@ -0,0 +1,87 @@
+package org.openapitools.codegen.utils;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.swagger.v3.oas.models.media.*;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.*;
+
+public class SchemaFingerprintTest {
+
+    @Test
+    public void sameCanonicalFormHasSameFingerprint() throws IOException {
+        assertSameFingerprint(address(), address());
+        assertSameFingerprint(address(), new Schema<>().type("object")
+                .addProperty("street", new StringSchema())
+                .addProperty("city", new StringSchema()));
+        // the other attributes of a reference aren't serialized
+        assertSameFingerprint(new Schema<>().$ref("#/components/schemas/Pet"),
+                new Schema<>().$ref("#/components/schemas/Pet").description("the pet"));
+        // nor the empty extensions
+        assertSameFingerprint(address(), address().extensions(Collections.emptyMap()));
+        assertSameFingerprint(new IntegerSchema().maximum(new BigDecimal("2E+2")),
+                new IntegerSchema().maximum(new BigDecimal("200")));
+        assertSameFingerprint(new Schema<>().example(IntNode.valueOf(3)), new Schema<>().example(3L));
+        assertSameFingerprint(new ArraySchema().items(new IntegerSchema()).example(Arrays.asList(0, 1)),
+                new ArraySchema().items(new IntegerSchema())
+                        .example(JsonNodeFactory.instance.arrayNode().add(0).add(1)));
+    }
+
+    @Test
+    public void differentCanonicalFormHasDifferentFingerprint() throws IOException {
+        assertDifferentFingerprint(address(), address().addProperty("apartment", new StringSchema()));
+        assertDifferentFingerprint(address(), new ObjectSchema()
+                .addProperty("city", new StringSchema())
+                .addProperty("street", new StringSchema()));
+        assertDifferentFingerprint(address(), address().addRequiredItem("street"));
+        assertDifferentFingerprint(address(), address().nullable(false));
+        assertDifferentFingerprint(new IntegerSchema().maximum(BigDecimal.TEN),
+                new IntegerSchema().maximum(BigDecimal.ONE));
+        assertDifferentFingerprint(new StringSchema()._enum(Arrays.asList("a", "b")),
+                new StringSchema()._enum(Arrays.asList("b", "a")));
+        assertDifferentFingerprint(new StringSchema().example("1"), new StringSchema().example(null));
+        assertDifferentFingerprint(new Schema<>().example("1"), new Schema<>().example(1));
+        assertDifferentFingerprint(new Schema<>().$ref("#/components/schemas/Pet"),
+                new Schema<>().$ref("#/components/schemas/Tag"));
+    }
+
+    @Test
+    public void comparesStructure() throws IOException {
+        Schema<?> address = address();
+
+        assertTrue(SchemaFingerprint.sameStructure(address, address));
+        assertTrue(SchemaFingerprint.sameStructure(address, address()));
+        assertFalse(SchemaFingerprint.sameStructure(address, address().maxProperties(2)));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void failsOnSelfReferencingSchema() throws IOException {
+        Schema<?> node = new ObjectSchema();
+        node.addProperty("next", node);
+
+        SchemaFingerprint.of(node);
+    }
+
+    private static Schema<?> address() {
+        return new ObjectSchema()
+                .addProperty("street", new StringSchema())
+                .addProperty("city", new StringSchema());
+    }
+
+    private static void assertSameFingerprint(Schema<?> schema, Schema<?> other) throws IOException {
+        assertEquals(SchemaFingerprint.of(schema), SchemaFingerprint.of(other));
+        assertEquals(SchemaFingerprint.of(schema).toString(), SchemaFingerprint.of(other).toString());
+        assertTrue(SchemaFingerprint.sameStructure(schema, other));
+    }
+
+    private static void assertDifferentFingerprint(Schema<?> schema, Schema<?> other) throws IOException {
+        assertNotEquals(SchemaFingerprint.of(schema), SchemaFingerprint.of(other));
+        assertFalse(SchemaFingerprint.sameStructure(schema, other));
+    }
+}
@@ -0,0 +1,73 @@
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import org.openapitools.codegen.TestUtils;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.testng.Assert.*;
+
+public class SchemaReferenceIndexTest {
+
+    @Test
+    public void answersTheSameAsModelUtils() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SchemaReferenceIndex index = new SchemaReferenceIndex(openAPI);
+
+        assertEquals(index.getAllUsedSchemas(), ModelUtils.getAllUsedSchemas(openAPI));
+        assertEquals(index.getUnusedSchemas(), ModelUtils.getUnusedSchemas(openAPI));
+        assertEquals(index.getSchemasUsedOnlyInFormParam(), ModelUtils.getSchemasUsedOnlyInFormParam(openAPI));
+        assertEquals(index.getChildrenMap(), ModelUtils.getChildrenMap(openAPI));
+    }
+
+    @Test
+    public void indexesMediaTypes() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SchemaReferenceIndex index = new SchemaReferenceIndex(openAPI);
+
+        assertTrue(index.isUsed("SomeObjShared"));
+        assertEquals(index.getMediaTypes("SomeObjShared"),
+                new LinkedHashSet<>(Arrays.asList("application/json", "application/x-www-form-urlencoded")));
+        assertFalse(index.isUsed("UnusedObj1"));
+        assertEquals(index.getMediaTypes("UnusedObj1"), Collections.emptySet());
+    }
+
+    @Test
+    public void indexesReferencesBetweenSchemas() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SchemaReferenceIndex index = new SchemaReferenceIndex(openAPI);
+
+        assertEquals(index.getReferencedSchemas("SomeArrayObj12"), Collections.singleton("ArrayItem12"));
+        assertEquals(index.getReferrers("ArrayItem12"), Collections.singleton("SomeArrayObj12"));
+        assertEquals(index.getReferencedSchemas("ArrayItem12"), Collections.emptySet());
+        assertEquals(index.getReferrers("SomeArrayObj12"), Collections.emptySet());
+    }
+
+    @Test
+    public void sharesTheIndexOfASpecUntilItsSchemasChange() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SchemaReferenceIndex index = ModelUtils.getSchemaReferenceIndex(openAPI);
+
+        assertSame(ModelUtils.getSchemaReferenceIndex(openAPI), index);
+        assertNotSame(ModelUtils.getSchemaReferenceIndex(TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml")), index);
+
+        // the schemas of another specification being updated in place
+        ModelUtils.schemasModified(TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml"));
+        assertSame(ModelUtils.getSchemaReferenceIndex(openAPI), index);
+
+        // the references being updated in place, without adding or removing schemas
+        openAPI.getComponents().getSchemas().get("SomeArrayObj12").getItems().set$ref("#/components/schemas/SomeObj1");
+        ModelUtils.schemasModified(openAPI);
+        SchemaReferenceIndex rebuilt = ModelUtils.getSchemaReferenceIndex(openAPI);
+        assertNotSame(rebuilt, index);
+        assertEquals(rebuilt.getReferencedSchemas("SomeArrayObj12"), Collections.singleton("SomeObj1"));
+
+        openAPI.getComponents().addSchemas("AddedObj", new ObjectSchema());
+        assertNotSame(ModelUtils.getSchemaReferenceIndex(openAPI), rebuilt);
+        assertTrue(ModelUtils.getUnusedSchemas(openAPI).contains("AddedObj"));
+    }
+}
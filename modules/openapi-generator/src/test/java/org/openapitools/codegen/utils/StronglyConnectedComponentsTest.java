@@ -0,0 +1,86 @@
+package org.openapitools.codegen.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class StronglyConnectedComponentsTest {
+
+    @Test
+    public void findsCycles() {
+        Map<String, List<String>> graph = new LinkedHashMap<>();
+        graph.put("Inbound", List.of("RoundA"));
+        graph.put("RoundA", List.of("RoundB"));
+        graph.put("RoundB", List.of("RoundC"));
+        graph.put("RoundC", List.of("RoundA", "Outbound"));
+        graph.put("Self", List.of("Self", "string"));
+
+        StronglyConnectedComponents components = new StronglyConnectedComponents(graph);
+
+        assertTrue(components.isSameComponent("RoundA", "RoundC"));
+        assertTrue(components.isSameComponent("RoundC", "RoundB"));
+        assertFalse(components.isSameComponent("Inbound", "RoundA"));
+        assertFalse(components.isSameComponent("RoundC", "Outbound"));
+        assertTrue(components.isSameComponent("Self", "Self"));
+        assertFalse(components.isSameComponent("Self", "string"));
+        assertTrue(components.isSameComponent("Unknown", "Unknown"));
+        assertFalse(components.isSameComponent("Unknown", "RoundA"));
+        // Inbound, {RoundA, RoundB, RoundC}, Outbound, Self, string
+        assertEquals(components.getComponentCount(), 5);
+    }
+
+    @Test
+    public void matchesReachability() {
+        Random random = new Random(42);
+        Map<String, List<String>> graph = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            List<String> successors = new ArrayList<>();
+            for (int j = random.nextInt(3); j > 0; j--) {
+                successors.add("Model" + random.nextInt(250));
+            }
+            graph.put("Model" + i, successors);
+        }
+
+        StronglyConnectedComponents components = new StronglyConnectedComponents(graph);
+
+        for (int i = 0; i < 250; i++) {
+            for (int j = 0; j < 250; j++) {
+                String from = "Model" + i;
+                String to = "Model" + j;
+                boolean expected = i == j || (isReachable(graph, from, to) && isReachable(graph, to, from));
+                assertEquals(components.isSameComponent(from, to), expected, from + " -> " + to);
+            }
+        }
+    }
+
+    @Test
+    public void handlesLongChains() {
+        Map<String, List<String>> graph = new HashMap<>();
+        int length = 100_000;
+        for (int i = 0; i < length; i++) {
+            graph.put("Model" + i, List.of("Model" + ((i + 1) % length)));
+        }
+
+        StronglyConnectedComponents components = new StronglyConnectedComponents(graph);
+
+        assertEquals(components.getComponentCount(), 1);
+        assertTrue(components.isSameComponent("Model0", "Model" + (length - 1)));
+    }
+
+    private static boolean isReachable(Map<String, List<String>> graph, String from, String to) {
+        Set<String> visited = new HashSet<>();
+        Deque<String> queue = new ArrayDeque<>(List.of(from));
+        while (!queue.isEmpty()) {
+            String next = queue.poll();
+            if (next.equals(to)) {
+                return true;
+            }
+            if (visited.add(next)) {
+                queue.addAll(graph.getOrDefault(next, List.of()));
+            }
+        }
+        return false;
+    }
+}
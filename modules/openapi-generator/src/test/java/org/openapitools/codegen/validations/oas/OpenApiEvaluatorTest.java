@@ -0,0 +1,132 @@
+package org.openapitools.codegen.validations.oas;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.*;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.openapitools.codegen.utils.ModelUtils;
+import org.openapitools.codegen.validation.*;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class OpenApiEvaluatorTest {
+
+    @Test
+    public void testWorkersGiveSameResults() {
+        OpenAPI openAPI = openAPI(200);
+        OpenApiEvaluator serial = new OpenApiEvaluator(new RuleConfiguration());
+        OpenApiEvaluator parallel = new OpenApiEvaluator(new RuleConfiguration());
+        parallel.setWorkers(4);
+
+        List<String> expected = describe(serial.validate(openAPI));
+        Assert.assertTrue(expected.contains("invalid Unused schema: Unused model: Unused0"));
+        Assert.assertTrue(expected.contains("invalid API GET/HEAD defined with request body: "
+                + "While technically allowed, GET/HEAD with request body may indicate programming error, and is considered an anti-pattern."
+                + " (GET getModel0 contains a request body and is considered an anti-pattern.)"));
+        Assert.assertEquals(describe(parallel.validate(openAPI)), expected);
+    }
+
+    @Test
+    public void testRuleTimings() {
+        OpenAPI openAPI = openAPI(200);
+        OpenApiEvaluator evaluator = new OpenApiEvaluator(new RuleConfiguration());
+        evaluator.setWorkers(4);
+        evaluator.validate(openAPI);
+
+        Map<String, Long> evaluations = evaluator.getRuleTimings().getTimings().stream()
+                .collect(Collectors.toMap(RuleTimings.Timing::getRule, RuleTimings.Timing::getEvaluations));
+        Assert.assertEquals(evaluations.get("Schema defines properties alongside oneOf."), Long.valueOf(ModelUtils.getAllSchemas(openAPI).size()));
+        Assert.assertEquals(evaluations.get("API GET/HEAD defined with request body"), Long.valueOf(200));
+        Assert.assertEquals(evaluations.get(ValidationConstants.ApacheNginxUnderscoreDescription), Long.valueOf(200));
+        Assert.assertEquals(evaluations.get("Unused schema"), Long.valueOf(1));
+
+        evaluator.validate(null);
+        Assert.assertTrue(evaluator.getRuleTimings().getTimings().isEmpty());
+    }
+
+    @Test
+    public void testFailFastStopsAtFirstErrorInDocumentOrder() {
+        OpenApiValidations<Integer> validations = new OpenApiValidations<Integer>() {
+            {
+                rules.add(ValidationRule.warn("even", "odd number", (Function<Integer, ValidationRule.Result>) i ->
+                        i % 2 == 0 ? ValidationRule.Pass.empty() : new ValidationRule.Fail(String.valueOf(i))));
+                rules.add(ValidationRule.error("too large", (Function<Integer, ValidationRule.Result>) i ->
+                        i < 137 && i != 250 ? ValidationRule.Pass.empty() : new ValidationRule.Fail(String.valueOf(i))));
+                rules.add(ValidationRule.warn("positive", "not positive", (Function<Integer, ValidationRule.Result>) i ->
+                        i > 0 ? ValidationRule.Pass.empty() : new ValidationRule.Fail(String.valueOf(i))));
+            }
+        };
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            first.add(i);
+            second.add(100 + i);
+        }
+        List<OpenApiEvaluator.Family<?>> families = new ArrayList<>();
+        families.add(new OpenApiEvaluator.Family<>(validations, first));
+        families.add(new OpenApiEvaluator.Family<>(validations, second));
+        families.add(new OpenApiEvaluator.Family<>(validations, List.of(250)));
+
+        ValidationResult serial = new ValidationResult();
+        Assert.assertTrue(OpenApiEvaluator.evaluate(families, 1, true, new RuleTimings(), serial));
+        Assert.assertEquals(serial.getErrors().size(), 1);
+        Assert.assertEquals(serial.getErrors().get(0).getDetails(), "137");
+        // the warning of 137 is kept, not the rule following the error
+        Assert.assertEquals(serial.getWarnings().get(serial.getWarnings().size() - 1).getDetails(), "137");
+        Assert.assertEquals(serial.getAll().size(), 137 * 3 + 2);
+
+        for (int workers : new int[]{2, 4, 16}) {
+            ValidationResult parallel = new ValidationResult();
+            Assert.assertTrue(OpenApiEvaluator.evaluate(families, workers, true, new RuleTimings(), parallel));
+            Assert.assertEquals(describe(parallel), describe(serial));
+        }
+
+        ValidationResult all = new ValidationResult();
+        Assert.assertFalse(OpenApiEvaluator.evaluate(families, 4, false, new RuleTimings(), all));
+        Assert.assertEquals(all.getErrors().size(), 64);
+        Assert.assertEquals(all.getAll().size(), 201 * 3);
+    }
+
+    private static OpenAPI openAPI(int count) {
+        Components components = new Components();
+        Paths paths = new Paths();
+        for (int i = 0; i < count; i++) {
+            components.addSchemas("Model" + i, new ObjectSchema()
+                    .addProperty("id", new IntegerSchema())
+                    .addProperty("tags", new ArraySchema().items(new StringSchema())));
+            components.addSchemas("Unused" + i, new ComposedSchema()
+                    .addOneOfItem(new StringSchema())
+                    .addProperty("name", new StringSchema()));
+            components.addParameters("Header" + i, new HeaderParameter().name("X_Header_" + i).schema(new StringSchema()));
+            paths.addPathItem("/models/" + i, new PathItem().get(new Operation()
+                    .operationId("getModel" + i)
+                    .requestBody(new RequestBody().content(new Content().addMediaType("application/json",
+                            new MediaType().schema(new Schema<>().$ref("#/components/schemas/Model" + i)))))
+                    .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")))));
+        }
+        return new OpenAPI().openapi("3.0.1").components(components).paths(paths);
+    }
+
+    private static List<String> describe(ValidationResult result) {
+        return result.getAll().stream().map(validated -> {
+            if (validated instanceof Invalid) {
+                Invalid invalid = (Invalid) validated;
+                return "invalid " + invalid.getRule().getDescription() + ": " + invalid.getMessage()
+                        + (invalid.getDetails() != null ? " (" + invalid.getDetails() + ")" : "");
+            }
+            return "valid " + ((Valid) validated).getRule().getDescription();
+        }).collect(Collectors.toList());
+    }
+}